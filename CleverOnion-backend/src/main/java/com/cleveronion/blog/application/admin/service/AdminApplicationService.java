@@ -1,6 +1,8 @@
 package com.cleveronion.blog.application.admin.service;
 
+import cn.dev33.satoken.session.SaSession;
 import cn.dev33.satoken.stp.StpUtil;
+import com.cleveronion.blog.application.auth.service.AuthApplicationService;
 import com.cleveronion.blog.application.user.service.UserQueryService;
 import com.cleveronion.blog.domain.user.aggregate.UserAggregate;
 import com.cleveronion.blog.domain.user.valueobject.UserId;
@@ -35,6 +37,9 @@ public class AdminApplicationService {
     /**
      * 检查当前登录用户是否为管理员
      * 
+     * <p>优先使用登录时写入会话的 GitHub ID，配合内存中的管理员集合判断，不查询用户；
+     * 会话中没有 GitHub ID 时（如旧会话）回退到查询用户并回填会话
+     * 
      * @return true如果当前用户是管理员，false否则
      */
     @Transactional(readOnly = true)
@@ -52,18 +57,23 @@ public class AdminApplicationService {
             
             logger.debug("检查用户是否为管理员，用户ID: {}", userId);
             
-            // 根据用户ID查找用户信息
-            UserId userIdVO = UserId.of(userId);
-            Optional<UserAggregate> userOptional = userApplicationService.findById(userIdVO);
+            SaSession session = StpUtil.getSession();
+            Long githubId = session.getModel(AuthApplicationService.SESSION_KEY_GITHUB_ID, Long.class);
             
-            if (userOptional.isEmpty()) {
-                logger.warn("未找到用户信息，用户ID: {}", userId);
-                return false;
+            if (githubId == null) {
+                // 根据用户ID查找用户信息
+                UserId userIdVO = UserId.of(userId);
+                Optional<UserAggregate> userOptional = userApplicationService.findById(userIdVO);
+                
+                if (userOptional.isEmpty()) {
+                    logger.warn("未找到用户信息，用户ID: {}", userId);
+                    return false;
+                }
+                
+                githubId = userOptional.get().getGitHubId().getValue();
+                session.set(AuthApplicationService.SESSION_KEY_GITHUB_ID, githubId);
             }
             
-            UserAggregate user = userOptional.get();
-            Long githubId = user.getGitHubId().getValue();
-            
             // 检查GitHub ID是否在管理员列表中
             boolean isAdmin = adminConfig.isAdmin(githubId);
             
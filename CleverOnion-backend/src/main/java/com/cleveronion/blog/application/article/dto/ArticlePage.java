@@ -0,0 +1,81 @@
+package com.cleveronion.blog.application.article.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 文章分页结果DTO
+ * 用于在 Service 层传递一页文章及筛选条件下的总数；
+ * 列表缓存以文章ID为元素整体缓存，分页查询命中时不再单独统计总数
+ *
+ * @param <T> 列表元素类型
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class ArticlePage<T> {
+
+    private final List<T> items;
+    private final long totalCount;
+
+    /**
+     * 构造函数
+     *
+     * @param items 本页元素
+     * @param totalCount 筛选条件下的总数
+     */
+    @JsonCreator
+    public ArticlePage(@JsonProperty("items") List<T> items,
+                       @JsonProperty("totalCount") long totalCount) {
+        this.items = items;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * 保持总数不变，转换本页元素
+     *
+     * @param items 转换后的元素
+     * @return 分页结果
+     */
+    public <R> ArticlePage<R> withItems(List<R> items) {
+        return new ArticlePage<>(items, totalCount);
+    }
+
+    /**
+     * 保持总数不变，逐个转换本页元素
+     *
+     * @param mapper 转换函数
+     * @return 分页结果
+     */
+    public <R> ArticlePage<R> map(Function<T, R> mapper) {
+        return withItems(items.stream().map(mapper).toList());
+    }
+
+    /**
+     * 获取本页元素
+     *
+     * @return 元素列表
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * 获取筛选条件下的总数
+     *
+     * @return 总数
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ArticlePage{" +
+                "itemsCount=" + (items != null ? items.size() : 0) +
+                ", totalCount=" + totalCount +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+package com.cleveronion.blog.application.article.eventhandler;
+
+import com.cleveronion.blog.application.article.service.ArticleWriteThroughCache;
+import com.cleveronion.blog.domain.article.repository.ArticleRepository;
+import com.cleveronion.blog.domain.comment.event.CommentCreatedEvent;
+import com.cleveronion.blog.domain.comment.event.CommentDeletedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 文章评论统计事件处理器
+ * 根据评论创建/删除事件维护文章行上的评论数与最近评论时间
+ *
+ * <p>同步监听，在评论命令的事务内执行：统计与评论写入一同提交或回滚。
+ * 统计变化递增文章修订号，提交后按版本清除文章详情与摘要缓存
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class ArticleCommentStatsEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArticleCommentStatsEventHandler.class);
+
+    private final ArticleRepository articleRepository;
+    private final ArticleWriteThroughCache articleWriteThroughCache;
+
+    public ArticleCommentStatsEventHandler(ArticleRepository articleRepository,
+                                           ArticleWriteThroughCache articleWriteThroughCache) {
+        this.articleRepository = articleRepository;
+        this.articleWriteThroughCache = articleWriteThroughCache;
+    }
+
+    /**
+     * 评论创建：评论数加一
+     *
+     * @param event 评论创建事件
+     */
+    @EventListener
+    public void handleCommentCreated(CommentCreatedEvent event) {
+        long revision = articleRepository.recordCommentAdded(event.getArticleId());
+        logger.debug("文章评论数已递增，文章ID: {}, 修订号: {}", event.getArticleId().getValue(), revision);
+        articleWriteThroughCache.evictAfterCommit(event.getArticleId(), revision);
+    }
+
+    /**
+     * 评论删除：评论数扣减删除的总数（含回复）
+     *
+     * @param event 评论删除事件
+     */
+    @EventListener
+    public void handleCommentDeleted(CommentDeletedEvent event) {
+        long revision = articleRepository.recordCommentsRemoved(event.getArticleId(), event.getDeletedCount());
+        logger.debug("文章评论数已扣减，文章ID: {}, 删除数: {}, 修订号: {}",
+            event.getArticleId().getValue(), event.getDeletedCount(), revision);
+        articleWriteThroughCache.evictAfterCommit(event.getArticleId(), revision);
+    }
+}
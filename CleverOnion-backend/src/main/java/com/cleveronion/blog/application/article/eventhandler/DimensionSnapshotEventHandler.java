@@ -0,0 +1,48 @@
+package com.cleveronion.blog.application.article.eventhandler;
+
+import com.cleveronion.blog.domain.article.event.CategoryCreatedEvent;
+import com.cleveronion.blog.domain.article.event.CategoryDeletedEvent;
+import com.cleveronion.blog.domain.article.event.CategoryUpdatedEvent;
+import com.cleveronion.blog.domain.article.event.TagCreatedEvent;
+import com.cleveronion.blog.domain.article.event.TagDeletedEvent;
+import com.cleveronion.blog.domain.article.event.TagUpdatedEvent;
+import com.cleveronion.blog.domain.article.event.TagsDeletedEvent;
+import com.cleveronion.blog.domain.common.event.DomainEvent;
+import com.cleveronion.blog.infrastructure.common.cache.DimensionSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 分类与标签快照事件处理器
+ * 分类、标签发生变更时，在事务提交后重新加载内存快照并通知其他节点
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class DimensionSnapshotEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DimensionSnapshotEventHandler.class);
+
+    private final DimensionSnapshot dimensionSnapshot;
+
+    public DimensionSnapshotEventHandler(DimensionSnapshot dimensionSnapshot) {
+        this.dimensionSnapshot = dimensionSnapshot;
+    }
+
+    /**
+     * 分类或标签变更：提交后重新加载快照（同一事务内的多个事件只加载一次）
+     *
+     * @param event 分类或标签变更事件
+     */
+    @EventListener({
+        CategoryCreatedEvent.class, CategoryUpdatedEvent.class, CategoryDeletedEvent.class,
+        TagCreatedEvent.class, TagUpdatedEvent.class, TagDeletedEvent.class, TagsDeletedEvent.class
+    })
+    public void handleDimensionChanged(DomainEvent event) {
+        logger.debug("分类或标签已变更，提交后重新加载快照: {}", event);
+        dimensionSnapshot.reloadAfterCommit();
+    }
+}
@@ -37,15 +37,11 @@ public class TagDeletedEventHandler {
             event.getTagId().getValue(), event.getTagName());
         
         try {
-            // 删除所有与该标签相关的文章标签关联记录
+            // 删除所有与该标签相关的文章标签关联记录，删除数量由语句直接返回
             long tagIdValue = event.getTagId().getValue();
-            
-            // 先统计要删除的关联记录数量
-            long associationCount = articleTagJpaRepository.countByTagId(tagIdValue);
+            int associationCount = articleTagJpaRepository.deleteByTagId(tagIdValue);
             
             if (associationCount > 0) {
-                // 删除所有关联记录
-                articleTagJpaRepository.deleteByTagId(tagIdValue);
                 logger.info("成功删除标签关联记录，标签ID: {}, 删除关联数量: {}", 
                     tagIdValue, associationCount);
             } else {
@@ -0,0 +1,86 @@
+package com.cleveronion.blog.application.article.eventhandler;
+
+import com.cleveronion.blog.application.article.service.ArticleWriteThroughCache;
+import com.cleveronion.blog.common.cache.CacheNames;
+import com.cleveronion.blog.domain.article.event.TagsDeletedEvent;
+import com.cleveronion.blog.domain.article.repository.ArticleRepository;
+import com.cleveronion.blog.domain.article.valueobject.TagId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 标签批量删除事件处理器
+ * 按被删除的标签ID和受影响的文章ID精确清除缓存
+ * 
+ * <p>在事务中发布时，清除操作由事务感知的缓存管理器推迟到提交之后执行；
+ * 受影响文章在事务内递增修订号，提交后按版本清除，并发读取无法再用旧数据回填
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class TagsDeletedEventHandler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TagsDeletedEventHandler.class);
+    
+    private final CacheManager cacheManager;
+    private final ArticleRepository articleRepository;
+    private final ArticleWriteThroughCache articleWriteThroughCache;
+    
+    public TagsDeletedEventHandler(CacheManager cacheManager,
+                                   ArticleRepository articleRepository,
+                                   ArticleWriteThroughCache articleWriteThroughCache) {
+        this.cacheManager = cacheManager;
+        this.articleRepository = articleRepository;
+        this.articleWriteThroughCache = articleWriteThroughCache;
+    }
+    
+    /**
+     * 清除缓存：
+     * <ul>
+     *   <li>被删除标签的详情、统计，以及标签列表</li>
+     *   <li>按标签统计的文章数量</li>
+     *   <li>受影响文章的详情、摘要（按新修订号）；存在受影响文章时清除文章列表（列表无法按文章定位）</li>
+     * </ul>
+     * 
+     * @param event 标签批量删除事件
+     */
+    @EventListener
+    public void handleTagsDeletedEvent(TagsDeletedEvent event) {
+        logger.info("开始处理标签批量删除事件，标签数量: {}, 受影响文章数量: {}", 
+            event.getTagIds().size(), event.getAffectedArticleIds().size());
+        
+        Cache detailCache = cacheManager.getCache(CacheNames.TAG_DETAIL);
+        Cache countCache = cacheManager.getCache(CacheNames.TAG_COUNT);
+        Cache articleCountCache = cacheManager.getCache(CacheNames.ARTICLE_COUNT);
+        for (TagId tagId : event.getTagIds()) {
+            evict(detailCache, tagId.getValue());
+            evict(countCache, tagId.getValue());
+            evict(articleCountCache, "tag:" + tagId.getValue());
+        }
+        clear(cacheManager.getCache(CacheNames.TAG_LIST));
+        
+        if (event.getAffectedArticleIds().isEmpty()) {
+            return;
+        }
+        articleRepository.nextRevisions(event.getAffectedArticleIds())
+            .forEach(articleWriteThroughCache::evictAfterCommit);
+        clear(cacheManager.getCache(CacheNames.ARTICLE_LIST));
+    }
+    
+    private void evict(Cache cache, Object key) {
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+    
+    private void clear(Cache cache) {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
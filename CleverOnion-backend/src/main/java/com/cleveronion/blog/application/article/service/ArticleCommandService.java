@@ -6,10 +6,13 @@ import com.cleveronion.blog.application.article.command.UpdateArticleCommand;
 import com.cleveronion.blog.common.cache.CacheNames;
 import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
 import com.cleveronion.blog.domain.article.repository.ArticleRepository;
+import com.cleveronion.blog.domain.article.valueobject.ArticleContent;
 import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.article.valueobject.AuthorId;
 import com.cleveronion.blog.domain.article.valueobject.TagId;
 import com.cleveronion.blog.domain.common.event.DomainEventPublisher;
+import com.cleveronion.blog.infrastructure.common.cache.IdExistenceFilter;
+import com.cleveronion.blog.infrastructure.common.transaction.AfterCommit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
@@ -24,13 +27,20 @@ import java.util.Set;
  * 文章命令服务（CQRS - Command）
  * 负责处理所有改变文章状态的操作（写操作）
  * 
- * <p>所有写操作都会自动清除相关缓存，确保数据一致性：
+ * <p>所有写操作都会自动更新相关缓存，确保数据一致性：
  * <ul>
- *   <li>创建/更新文章：清除文章列表、文章统计缓存</li>
- *   <li>更新/发布/归档/删除：清除文章详情、列表、统计缓存</li>
- *   <li>添加/移除标签：清除文章详情、列表缓存</li>
+ *   <li>创建文章：清除文章列表、文章统计缓存</li>
+ *   <li>更新内容：写入文章详情、摘要缓存，分类或标签变化时再清除列表、统计缓存</li>
+ *   <li>发布/归档/撤回：写入文章详情、摘要缓存，清除列表、统计缓存</li>
+ *   <li>添加/移除标签：写入文章详情、摘要缓存，清除列表缓存</li>
+ *   <li>删除：清除文章详情、摘要、列表、统计缓存</li>
  * </ul>
  * 
+ * <p>文章详情与摘要在事务提交后按修订号写穿，详见 {@link ArticleWriteThroughCache}
+ * 
+ * <p>创建、更新内容、发布时在保存前派生元数据（未填写摘要时抽取摘要、字数、阅读时长、大纲），
+ * 列表视图无需正文即可展示；创建并发布、发布、更新内容提交后预渲染正文，见 {@link ArticleRenderService}
+ * 
  * @author CleverOnion
  * @since 2.0.0
  */
@@ -42,12 +52,21 @@ public class ArticleCommandService {
     
     private final ArticleRepository articleRepository;
     private final DomainEventPublisher eventPublisher;
+    private final IdExistenceFilter idExistenceFilter;
+    private final ArticleRenderService articleRenderService;
+    private final ArticleWriteThroughCache articleWriteThroughCache;
     
     public ArticleCommandService(
             ArticleRepository articleRepository,
-            DomainEventPublisher eventPublisher) {
+            DomainEventPublisher eventPublisher,
+            IdExistenceFilter idExistenceFilter,
+            ArticleRenderService articleRenderService,
+            ArticleWriteThroughCache articleWriteThroughCache) {
         this.articleRepository = articleRepository;
         this.eventPublisher = eventPublisher;
+        this.idExistenceFilter = idExistenceFilter;
+        this.articleRenderService = articleRenderService;
+        this.articleWriteThroughCache = articleWriteThroughCache;
     }
     
     /**
@@ -83,8 +102,12 @@ public class ArticleCommandService {
             command.getTagIds().forEach(article::addTag);
         }
         
+        // 派生摘要、字数、阅读时长与大纲
+        deriveMetadata(article);
+        
         // 保存
         ArticleAggregate savedArticle = articleRepository.save(article);
+        idExistenceFilter.recordArticleCreated(savedArticle.getId().getValue());
         
         // 发布领域事件
         publishDomainEvents(article);
@@ -97,9 +120,9 @@ public class ArticleCommandService {
     }
     
     /**
-     * 创建并发布文章（清除缓存）
+     * 创建并发布文章（更新缓存）
      * 
-     * <p>清除缓存：文章列表、文章统计
+     * <p>清除缓存：文章列表、文章统计；提交后写入文章详情、摘要
      * 
      * @param command 发布文章命令
      * @return 发布的文章聚合
@@ -128,14 +151,20 @@ public class ArticleCommandService {
             command.getTagIds().forEach(article::addTag);
         }
         
+        // 派生摘要、字数、阅读时长与大纲
+        deriveMetadata(article);
+        
         // 立即发布
         article.publish();
         
         // 保存
         ArticleAggregate savedArticle = articleRepository.save(article);
+        idExistenceFilter.recordArticleCreated(savedArticle.getId().getValue());
         
         // 发布领域事件
         publishDomainEvents(article);
+        prerenderAfterCommit(savedArticle);
+        articleWriteThroughCache.putAfterCommit(savedArticle, articleRepository.nextRevision(savedArticle.getId()));
         
         logger.info("文章创建并发布成功: articleId={}, title={}", 
             savedArticle.getId().getValue(),
@@ -145,17 +174,19 @@ public class ArticleCommandService {
     }
     
     /**
-     * 更新文章内容（清除缓存）
+     * 更新文章内容（更新缓存）
      * 
-     * <p>清除缓存：指定文章的详情、所有文章列表、文章统计
+     * <p>提交后写入指定文章的详情、摘要；分类或标签变化时清除所有文章列表、文章统计
+     * （列表按创建时间排序，只改内容不影响列表成员与顺序）
      * 
      * @param command 更新文章命令
      * @return 更新后的文章聚合
      */
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_DETAIL, key = "#command.articleId.value"),
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true),
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_COUNT, allEntries = true)
+        @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true,
+            condition = "#command.newCategoryId != null || #command.newTagIds != null"),
+        @CacheEvict(cacheNames = CacheNames.ARTICLE_COUNT, allEntries = true,
+            condition = "#command.newCategoryId != null || #command.newTagIds != null")
     })
     public ArticleAggregate updateContent(UpdateArticleCommand command) {
         logger.debug("执行更新文章命令: articleId={}", command.getArticleId().getValue());
@@ -166,6 +197,9 @@ public class ArticleCommandService {
         // 验证权限
         checkAuthorPermission(article, command.getAuthorId());
         
+        // 记录修改前正文抽取的摘要，用于识别自动摘要
+        String previousExtractedSummary = extractCurrentSummary(article);
+        
         // 更新内容
         article.updateContent(command.getNewContent());
         
@@ -180,11 +214,16 @@ public class ArticleCommandService {
             command.getNewTagIds().forEach(article::addTag);
         }
         
+        // 正文已变化，重新派生元数据，自动摘要随正文重新抽取
+        deriveMetadata(article, previousExtractedSummary);
+        
         // 保存
         ArticleAggregate savedArticle = articleRepository.save(article);
         
         // 发布领域事件
         publishDomainEvents(article);
+        prerenderAfterCommit(savedArticle);
+        articleWriteThroughCache.putAfterCommit(savedArticle, articleRepository.nextRevision(savedArticle.getId()));
         
         logger.info("文章更新成功: articleId={}", savedArticle.getId().getValue());
         
@@ -192,19 +231,16 @@ public class ArticleCommandService {
     }
     
     /**
-     * 添加标签到文章（清除缓存）
+     * 添加标签到文章（更新缓存）
      * 
-     * <p>清除缓存：指定文章的详情、文章列表
+     * <p>清除缓存：文章列表；提交后写入指定文章的详情、摘要
      * 
      * @param articleId 文章ID
      * @param tagIds 标签ID集合
      * @param authorId 作者ID
      * @return 更新后的文章聚合
      */
-    @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_DETAIL, key = "#articleId.value"),
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true)
-    })
+    @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true)
     public ArticleAggregate addTags(ArticleId articleId, Set<TagId> tagIds, AuthorId authorId) {
         if (tagIds == null || tagIds.isEmpty()) {
             throw new IllegalArgumentException("标签ID集合不能为空");
@@ -220,6 +256,7 @@ public class ArticleCommandService {
         
         ArticleAggregate savedArticle = articleRepository.save(article);
         publishDomainEvents(article);
+        articleWriteThroughCache.putAfterCommit(savedArticle, articleRepository.nextRevision(savedArticle.getId()));
         
         logger.info("成功为文章添加标签: articleId={}, tagCount={}", 
             savedArticle.getId().getValue(), savedArticle.getTagCount());
@@ -228,19 +265,16 @@ public class ArticleCommandService {
     }
     
     /**
-     * 从文章移除标签（清除缓存）
+     * 从文章移除标签（更新缓存）
      * 
-     * <p>清除缓存：指定文章的详情、文章列表
+     * <p>清除缓存：文章列表；提交后写入指定文章的详情、摘要
      * 
      * @param articleId 文章ID
      * @param tagIds 标签ID集合
      * @param authorId 作者ID
      * @return 更新后的文章聚合
      */
-    @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_DETAIL, key = "#articleId.value"),
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true)
-    })
+    @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true)
     public ArticleAggregate removeTags(ArticleId articleId, Set<TagId> tagIds, AuthorId authorId) {
         if (tagIds == null || tagIds.isEmpty()) {
             throw new IllegalArgumentException("标签ID集合不能为空");
@@ -256,6 +290,7 @@ public class ArticleCommandService {
         
         ArticleAggregate savedArticle = articleRepository.save(article);
         publishDomainEvents(article);
+        articleWriteThroughCache.putAfterCommit(savedArticle, articleRepository.nextRevision(savedArticle.getId()));
         
         logger.info("成功移除文章标签: articleId={}, remainingTagCount={}", 
             savedArticle.getId().getValue(), savedArticle.getTagCount());
@@ -264,16 +299,15 @@ public class ArticleCommandService {
     }
     
     /**
-     * 发布文章（清除缓存）
+     * 发布文章（更新缓存）
      * 
-     * <p>清除缓存：指定文章的详情、所有文章列表、文章统计
+     * <p>清除缓存：所有文章列表、文章统计；提交后写入指定文章的详情、摘要
      * 
      * @param articleId 文章ID
      * @param authorId 作者ID
      * @return 发布后的文章聚合
      */
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_DETAIL, key = "#articleId.value"),
         @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.ARTICLE_COUNT, allEntries = true)
     })
@@ -284,9 +318,13 @@ public class ArticleCommandService {
         checkAuthorPermission(article, authorId);
         
         article.publish();
+        // 发布时重新派生，补齐早期草稿缺失的元数据
+        deriveMetadata(article);
         
         ArticleAggregate savedArticle = articleRepository.save(article);
         publishDomainEvents(article);
+        prerenderAfterCommit(savedArticle);
+        articleWriteThroughCache.putAfterCommit(savedArticle, articleRepository.nextRevision(savedArticle.getId()));
         
         logger.info("文章发布成功: articleId={}", savedArticle.getId().getValue());
         
@@ -294,16 +332,15 @@ public class ArticleCommandService {
     }
     
     /**
-     * 归档文章（清除缓存）
+     * 归档文章（更新缓存）
      * 
-     * <p>清除缓存：指定文章的详情、所有文章列表、文章统计
+     * <p>清除缓存：所有文章列表、文章统计；提交后写入指定文章的详情、摘要
      * 
      * @param articleId 文章ID
      * @param authorId 作者ID
      * @return 归档后的文章聚合
      */
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_DETAIL, key = "#articleId.value"),
         @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.ARTICLE_COUNT, allEntries = true)
     })
@@ -317,6 +354,7 @@ public class ArticleCommandService {
         
         ArticleAggregate savedArticle = articleRepository.save(article);
         publishDomainEvents(article);
+        articleWriteThroughCache.putAfterCommit(savedArticle, articleRepository.nextRevision(savedArticle.getId()));
         
         logger.info("文章归档成功: articleId={}", savedArticle.getId().getValue());
         
@@ -324,16 +362,15 @@ public class ArticleCommandService {
     }
     
     /**
-     * 撤回文章到草稿状态（清除缓存）
+     * 撤回文章到草稿状态（更新缓存）
      * 
-     * <p>清除缓存：指定文章的详情、所有文章列表、文章统计
+     * <p>清除缓存：所有文章列表、文章统计；提交后写入指定文章的详情、摘要
      * 
      * @param articleId 文章ID
      * @param authorId 作者ID
      * @return 撤回后的文章聚合
      */
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_DETAIL, key = "#articleId.value"),
         @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.ARTICLE_COUNT, allEntries = true)
     })
@@ -347,6 +384,7 @@ public class ArticleCommandService {
         
         ArticleAggregate savedArticle = articleRepository.save(article);
         publishDomainEvents(article);
+        articleWriteThroughCache.putAfterCommit(savedArticle, articleRepository.nextRevision(savedArticle.getId()));
         
         logger.info("文章撤回到草稿成功: articleId={}", savedArticle.getId().getValue());
         
@@ -356,13 +394,12 @@ public class ArticleCommandService {
     /**
      * 删除文章（清除缓存）
      * 
-     * <p>清除缓存：指定文章的详情、所有文章列表、文章统计
+     * <p>清除缓存：指定文章的详情、摘要、所有文章列表、文章统计
      * 
      * @param articleId 文章ID
      * @param authorId 作者ID
      */
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_DETAIL, key = "#articleId.value"),
         @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.ARTICLE_COUNT, allEntries = true)
     })
@@ -372,7 +409,10 @@ public class ArticleCommandService {
         ArticleAggregate article = findArticleOrThrow(articleId);
         checkAuthorPermission(article, authorId);
         
+        long revision = articleRepository.nextRevision(articleId);
         articleRepository.deleteById(articleId);
+        articleWriteThroughCache.evictAfterCommit(articleId, revision);
+        idExistenceFilter.markArticleAbsent(articleId.getValue());
         
         logger.info("文章删除成功: articleId={}", articleId.getValue());
     }
@@ -405,6 +445,53 @@ public class ArticleCommandService {
             article.clearDomainEvents();
         }
     }
+    
+    /**
+     * 由当前正文派生元数据，保存前调用
+     */
+    private void deriveMetadata(ArticleAggregate article) {
+        deriveMetadata(article, null);
+    }
+    
+    /**
+     * 由当前正文派生元数据，保存前调用
+     * 摘要与修改前正文抽取的摘要一致时视为自动摘要，随正文重新抽取
+     */
+    private void deriveMetadata(ArticleAggregate article, String previousExtractedSummary) {
+        String markdown = article.loadContent().getContent();
+        article.applyDerivedMetadata(
+            articleRenderService.analyze(markdown),
+            articleRenderService.extractSummary(markdown),
+            previousExtractedSummary
+        );
+    }
+    
+    /**
+     * 抽取当前正文的摘要，文章没有摘要时无需识别，返回null
+     */
+    private String extractCurrentSummary(ArticleAggregate article) {
+        ArticleContent current = article.loadContent();
+        if (current == null || !current.hasSummary()) {
+            return null;
+        }
+        return articleRenderService.extractSummary(current.getContent());
+    }
+    
+    /**
+     * 事务提交后预渲染文章正文
+     * 渲染失败只记录日志，读取时会再次尝试；未处于事务中时立即执行
+     */
+    private void prerenderAfterCommit(ArticleAggregate article) {
+        String articleId = article.getId().getValue();
+        String markdown = article.loadContent().getContent();
+        Runnable prerender = () -> {
+            try {
+                articleRenderService.getOrRender(markdown);
+            } catch (RuntimeException e) {
+                logger.warn("文章预渲染失败，将在读取时重试: articleId={}", articleId, e);
+            }
+        };
+        
+        AfterCommit.run(prerender);
+    }
 }
-
-
@@ -1,17 +1,31 @@
 package com.cleveronion.blog.application.article.service;
 
+import com.cleveronion.blog.application.article.dto.ArticlePage;
 import com.cleveronion.blog.common.cache.CacheNames;
 import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
 import com.cleveronion.blog.domain.article.repository.ArticleRepository;
 import com.cleveronion.blog.domain.article.valueobject.*;
+import com.cleveronion.blog.infrastructure.common.cache.IdExistenceFilter;
+import com.cleveronion.blog.infrastructure.common.cache.MultiGetCache;
+import com.cleveronion.blog.infrastructure.common.cache.VersionedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 文章查询服务（CQRS - Query）
@@ -21,9 +35,17 @@ import java.util.Optional;
  * <ul>
  *   <li>文章详情缓存：30 分钟</li>
  *   <li>文章列表缓存：10 分钟</li>
+ *   <li>文章摘要缓存：30 分钟</li>
  *   <li>文章统计缓存：5 分钟</li>
  * </ul>
  * 
+ * <p>文章详情与列表为热点缓存，走击穿保护加载路径（单飞 + 跨节点租约 + 提前刷新），
+ * 详情查询结果为空时不写入缓存
+ * 
+ * <p>列表缓存两级存储：列表 Key 只保存有序的文章ID，列表项按ID从文章摘要缓存批量读取（一次 MGET），
+ * 摘要未命中的文章批量查询数据库后回填。编辑单篇文章只需失效其摘要，不必清空所有列表；
+ * 分页列表的总数与ID列表存放在同一条目中，命中时不再单独统计
+ * 
  * @author CleverOnion
  * @since 2.0.0
  */
@@ -34,9 +56,15 @@ public class ArticleQueryService {
     private static final Logger logger = LoggerFactory.getLogger(ArticleQueryService.class);
     
     private final ArticleRepository articleRepository;
+    private final IdExistenceFilter idExistenceFilter;
+    private final CacheManager cacheManager;
     
-    public ArticleQueryService(ArticleRepository articleRepository) {
+    public ArticleQueryService(ArticleRepository articleRepository,
+                               IdExistenceFilter idExistenceFilter,
+                               CacheManager cacheManager) {
         this.articleRepository = articleRepository;
+        this.idExistenceFilter = idExistenceFilter;
+        this.cacheManager = cacheManager;
     }
     
     // ========== 基础查询方法 ==========
@@ -46,75 +74,33 @@ public class ArticleQueryService {
      * 
      * <p>缓存Key: article:detail::{articleId}
      * <p>缓存时间: 30分钟
+     * <p>缓存未命中时先经过ID存在性过滤（布隆过滤器 + 负缓存），不存在的ID不访问数据库
+     * <p>详情需要正文，缓存前加载正文；列表查询返回的聚合不含正文
      * 
      * @param articleId 文章ID
-     * @return 文章聚合（如果存在）
+     * @return 文章聚合（如果存在，包含正文）
      */
     @Cacheable(
         cacheNames = CacheNames.ARTICLE_DETAIL,
         key = "#articleId.value",
-        unless = "#result == null"
+        sync = true
     )
     public Optional<ArticleAggregate> findById(ArticleId articleId) {
         if (articleId == null) {
             throw new IllegalArgumentException("文章ID不能为空");
         }
         
-        logger.debug("从数据库查询文章: articleId={}", articleId.getValue());
-        return articleRepository.findById(articleId);
-    }
-    
-    /**
-     * 查询指定作者的所有文章
-     * 
-     * @param authorId 作者ID
-     * @return 文章列表
-     */
-    public List<ArticleAggregate> findByAuthorId(AuthorId authorId) {
-        if (authorId == null) {
-            throw new IllegalArgumentException("作者ID不能为空");
-        }
-        
-        logger.debug("查询作者文章: authorId={}", authorId.getValue());
-        return articleRepository.findByAuthorId(authorId);
-    }
-    
-    /**
-     * 查询指定分类的文章（带缓存）
-     * 
-     * <p>缓存Key: article:list::category:{categoryId}:all
-     * <p>缓存时间: 10分钟
-     * 
-     * @param categoryId 分类ID
-     * @return 文章列表
-     */
-    @Cacheable(
-        cacheNames = CacheNames.ARTICLE_LIST,
-        key = "'category:' + #categoryId.value + ':all'",
-        unless = "#result == null"
-    )
-    public List<ArticleAggregate> findByCategoryId(CategoryId categoryId) {
-        if (categoryId == null) {
-            throw new IllegalArgumentException("分类ID不能为空");
+        if (!idExistenceFilter.mightExistArticle(articleId.getValue())) {
+            return Optional.empty();
         }
         
-        logger.debug("从数据库查询分类所有文章: categoryId={}", categoryId.getValue());
-        return articleRepository.findByCategoryId(categoryId);
-    }
-    
-    /**
-     * 查询包含指定标签的文章
-     * 
-     * @param tagId 标签ID
-     * @return 文章列表
-     */
-    public List<ArticleAggregate> findByTagId(TagId tagId) {
-        if (tagId == null) {
-            throw new IllegalArgumentException("标签ID不能为空");
+        logger.debug("从数据库查询文章: articleId={}", articleId.getValue());
+        Optional<ArticleAggregate> article = articleRepository.findById(articleId);
+        if (article.isEmpty()) {
+            idExistenceFilter.markArticleAbsent(articleId.getValue());
         }
-        
-        logger.debug("查询标签文章: tagId={}", tagId.getValue());
-        return articleRepository.findByTagId(tagId);
+        article.ifPresent(ArticleAggregate::loadContent);
+        return article;
     }
     
     // ========== 分页查询方法 ==========
@@ -127,18 +113,15 @@ public class ArticleQueryService {
      * 
      * @param page 页码（从0开始）
      * @param size 每页大小
-     * @return 文章列表
+     * @return 一页文章及总数
      */
-    @Cacheable(
-        cacheNames = CacheNames.ARTICLE_LIST,
-        key = "'published:page:' + #page + ':size:' + #size",
-        unless = "#result == null"
-    )
-    public List<ArticleAggregate> findPublishedArticles(int page, int size) {
+    public ArticlePage<ArticleAggregate> findPublishedArticles(int page, int size) {
         validatePageParams(page, size);
         
-        logger.debug("从数据库查询已发布文章列表: page={}, size={}", page, size);
-        return articleRepository.findPublishedArticles(page, size);
+        return findPage("published:page:" + page + ":size:" + size, () -> {
+            logger.debug("从数据库查询已发布文章列表: page={}, size={}", page, size);
+            return articleRepository.findPublishedArticles(page, size);
+        }, articleRepository::countPublishedArticles);
     }
     
     /**
@@ -149,18 +132,15 @@ public class ArticleQueryService {
      * 
      * @param page 页码
      * @param size 每页大小
-     * @return 文章列表
+     * @return 一页文章及总数
      */
-    @Cacheable(
-        cacheNames = CacheNames.ARTICLE_LIST,
-        key = "'all:page:' + #page + ':size:' + #size",
-        unless = "#result == null"
-    )
-    public List<ArticleAggregate> findAllArticles(int page, int size) {
+    public ArticlePage<ArticleAggregate> findAllArticles(int page, int size) {
         validatePageParams(page, size);
         
-        logger.debug("从数据库查询所有文章: page={}, size={}", page, size);
-        return articleRepository.findAllArticles(page, size);
+        return findPage("all:page:" + page + ":size:" + size, () -> {
+            logger.debug("从数据库查询所有文章: page={}, size={}", page, size);
+            return articleRepository.findAllArticles(page, size);
+        }, articleRepository::countAllArticles);
     }
     
     /**
@@ -172,21 +152,18 @@ public class ArticleQueryService {
      * @param authorId 作者ID
      * @param page 页码
      * @param size 每页大小
-     * @return 文章列表
+     * @return 一页文章及总数
      */
-    @Cacheable(
-        cacheNames = CacheNames.ARTICLE_LIST,
-        key = "'author:' + #authorId.value + ':page:' + #page + ':size:' + #size",
-        unless = "#result == null"
-    )
-    public List<ArticleAggregate> findByAuthorId(AuthorId authorId, int page, int size) {
+    public ArticlePage<ArticleAggregate> findByAuthorId(AuthorId authorId, int page, int size) {
         if (authorId == null) {
             throw new IllegalArgumentException("作者ID不能为空");
         }
         validatePageParams(page, size);
         
-        logger.debug("从数据库查询作者文章: authorId={}, page={}, size={}", authorId.getValue(), page, size);
-        return articleRepository.findByAuthorId(authorId, page, size);
+        return findPage("author:" + authorId.getValue() + ":page:" + page + ":size:" + size, () -> {
+            logger.debug("从数据库查询作者文章: authorId={}, page={}, size={}", authorId.getValue(), page, size);
+            return articleRepository.findByAuthorId(authorId, page, size);
+        }, () -> articleRepository.countByAuthorId(authorId));
     }
     
     /**
@@ -198,21 +175,41 @@ public class ArticleQueryService {
      * @param categoryId 分类ID
      * @param page 页码
      * @param size 每页大小
-     * @return 文章列表
+     * @return 一页文章及总数
      */
-    @Cacheable(
-        cacheNames = CacheNames.ARTICLE_LIST,
-        key = "'category:' + #categoryId.value + ':page:' + #page + ':size:' + #size",
-        unless = "#result == null"
-    )
-    public List<ArticleAggregate> findPublishedByCategoryId(CategoryId categoryId, int page, int size) {
+    public ArticlePage<ArticleAggregate> findPublishedByCategoryId(CategoryId categoryId, int page, int size) {
         if (categoryId == null) {
             throw new IllegalArgumentException("分类ID不能为空");
         }
         validatePageParams(page, size);
         
-        logger.debug("从数据库查询分类文章: categoryId={}, page={}, size={}", categoryId.getValue(), page, size);
-        return articleRepository.findPublishedByCategoryId(categoryId, page, size);
+        return findPage("category:" + categoryId.getValue() + ":page:" + page + ":size:" + size, () -> {
+            logger.debug("从数据库查询分类文章: categoryId={}, page={}, size={}", categoryId.getValue(), page, size);
+            return articleRepository.findPublishedByCategoryId(categoryId, page, size);
+        }, () -> articleRepository.countByCategoryId(categoryId, ArticleStatus.PUBLISHED));
+    }
+    
+    /**
+     * 分页查找指定分类的文章，不限状态（带缓存）
+     * 
+     * <p>缓存Key: article:list::category:{categoryId}:all:page:{page}:size:{size}
+     * <p>缓存时间: 10分钟
+     * 
+     * @param categoryId 分类ID
+     * @param page 页码
+     * @param size 每页大小
+     * @return 一页文章及总数
+     */
+    public ArticlePage<ArticleAggregate> findByCategoryId(CategoryId categoryId, int page, int size) {
+        if (categoryId == null) {
+            throw new IllegalArgumentException("分类ID不能为空");
+        }
+        validatePageParams(page, size);
+        
+        return findPage("category:" + categoryId.getValue() + ":all:page:" + page + ":size:" + size, () -> {
+            logger.debug("从数据库查询分类所有文章: categoryId={}, page={}, size={}", categoryId.getValue(), page, size);
+            return articleRepository.findByCategoryId(categoryId, null, page, size);
+        }, () -> articleRepository.countByCategoryId(categoryId));
     }
     
     /**
@@ -224,21 +221,18 @@ public class ArticleQueryService {
      * @param tagId 标签ID
      * @param page 页码
      * @param size 每页大小
-     * @return 文章列表
+     * @return 一页文章及总数
      */
-    @Cacheable(
-        cacheNames = CacheNames.ARTICLE_LIST,
-        key = "'tag:' + #tagId.value + ':page:' + #page + ':size:' + #size",
-        unless = "#result == null"
-    )
-    public List<ArticleAggregate> findPublishedByTagId(TagId tagId, int page, int size) {
+    public ArticlePage<ArticleAggregate> findPublishedByTagId(TagId tagId, int page, int size) {
         if (tagId == null) {
             throw new IllegalArgumentException("标签ID不能为空");
         }
         validatePageParams(page, size);
         
-        logger.debug("从数据库查询标签文章: tagId={}, page={}, size={}", tagId.getValue(), page, size);
-        return articleRepository.findPublishedByTagId(tagId, page, size);
+        return findPage("tag:" + tagId.getValue() + ":page:" + page + ":size:" + size, () -> {
+            logger.debug("从数据库查询标签文章: tagId={}, page={}, size={}", tagId.getValue(), page, size);
+            return articleRepository.findPublishedByTagId(tagId, page, size);
+        }, () -> articleRepository.countByTagId(tagId, ArticleStatus.PUBLISHED));
     }
     
     /**
@@ -250,21 +244,18 @@ public class ArticleQueryService {
      * @param status 文章状态
      * @param page 页码
      * @param size 每页大小
-     * @return 文章列表
+     * @return 一页文章及总数
      */
-    @Cacheable(
-        cacheNames = CacheNames.ARTICLE_LIST,
-        key = "'status:' + #status.name() + ':page:' + #page + ':size:' + #size",
-        unless = "#result == null"
-    )
-    public List<ArticleAggregate> findByStatus(ArticleStatus status, int page, int size) {
+    public ArticlePage<ArticleAggregate> findByStatus(ArticleStatus status, int page, int size) {
         if (status == null) {
             throw new IllegalArgumentException("文章状态不能为空");
         }
         validatePageParams(page, size);
         
-        logger.debug("从数据库查询状态文章: status={}, page={}, size={}", status, page, size);
-        return articleRepository.findByStatus(status, page, size);
+        return findPage("status:" + status.name() + ":page:" + page + ":size:" + size, () -> {
+            logger.debug("从数据库查询状态文章: status={}, page={}, size={}", status, page, size);
+            return articleRepository.findByStatus(status, page, size);
+        }, () -> articleRepository.countByStatus(status));
     }
     
     /**
@@ -277,22 +268,19 @@ public class ArticleQueryService {
      * @param tagId 标签ID
      * @param page 页码
      * @param size 每页大小
-     * @return 文章列表
+     * @return 一页文章及总数
      */
-    @Cacheable(
-        cacheNames = CacheNames.ARTICLE_LIST,
-        key = "'category:' + #categoryId.value + ':tag:' + #tagId.value + ':page:' + #page + ':size:' + #size",
-        unless = "#result == null"
-    )
-    public List<ArticleAggregate> findPublishedByCategoryAndTag(CategoryId categoryId, TagId tagId, int page, int size) {
+    public ArticlePage<ArticleAggregate> findPublishedByCategoryAndTag(CategoryId categoryId, TagId tagId, int page, int size) {
         if (categoryId == null || tagId == null) {
             throw new IllegalArgumentException("分类ID和标签ID不能为空");
         }
         validatePageParams(page, size);
         
-        logger.debug("从数据库查询分类和标签文章: categoryId={}, tagId={}, page={}, size={}", 
-            categoryId.getValue(), tagId.getValue(), page, size);
-        return articleRepository.findPublishedByCategoryAndTag(categoryId, tagId, page, size);
+        return findPage("category:" + categoryId.getValue() + ":tag:" + tagId.getValue() + ":page:" + page + ":size:" + size, () -> {
+            logger.debug("从数据库查询分类和标签文章: categoryId={}, tagId={}, page={}, size={}", 
+                categoryId.getValue(), tagId.getValue(), page, size);
+            return articleRepository.findPublishedByCategoryAndTag(categoryId, tagId, page, size);
+        }, () -> articleRepository.countByCategoryAndTag(categoryId, tagId));
     }
     
     // ========== 搜索方法 ==========
@@ -462,18 +450,15 @@ public class ArticleQueryService {
      * @param limit 限制数量
      * @return 文章列表
      */
-    @Cacheable(
-        cacheNames = CacheNames.ARTICLE_LIST,
-        key = "'recent:' + #limit",
-        unless = "#result == null"
-    )
     public List<ArticleAggregate> findRecentlyPublished(int limit) {
         if (limit <= 0) {
             throw new IllegalArgumentException("限制数量必须大于0");
         }
         
-        logger.debug("从数据库查询最近发布文章: limit={}", limit);
-        return articleRepository.findRecentlyPublished(limit);
+        return findPage("recent:" + limit, () -> {
+            logger.debug("从数据库查询最近发布文章: limit={}", limit);
+            return articleRepository.findRecentlyPublished(limit);
+        }, null).getItems();
     }
     
     /**
@@ -485,22 +470,171 @@ public class ArticleQueryService {
      * @param limit 限制数量
      * @return 文章列表
      */
-    @Cacheable(
-        cacheNames = CacheNames.ARTICLE_LIST,
-        key = "'popular:' + #limit",
-        unless = "#result == null"
-    )
     public List<ArticleAggregate> findPopularArticles(int limit) {
         if (limit <= 0) {
             throw new IllegalArgumentException("限制数量必须大于0");
         }
         
-        logger.debug("从数据库查询热门文章: limit={}", limit);
-        return articleRepository.findPopularArticles(limit);
+        return findPage("popular:" + limit, () -> {
+            logger.debug("从数据库查询热门文章: limit={}", limit);
+            return articleRepository.findPopularArticles(limit);
+        }, null).getItems();
+    }
+    
+    // ========== 流式查询方法 ==========
+    
+    /**
+     * 按作者流式遍历文章
+     * 
+     * <p>不经过缓存，数据库游标在本方法的只读事务内打开和关闭，
+     * consumer 在事务内按批被调用，适用于导出等需要完整结果集的场景
+     * 
+     * @param authorId 作者ID
+     * @param status 文章状态，为null时不限状态
+     * @param batchSize 每批文章数量
+     * @param consumer 每批文章的处理函数
+     */
+    public void streamByAuthorId(AuthorId authorId, ArticleStatus status, int batchSize,
+                                 Consumer<List<ArticleAggregate>> consumer) {
+        if (authorId == null) {
+            throw new IllegalArgumentException("作者ID不能为空");
+        }
+        validateBatchSize(batchSize);
+        
+        logger.debug("流式查询作者文章: authorId={}, status={}", authorId.getValue(), status);
+        articleRepository.streamByAuthorId(authorId, status, batchSize, consumer);
+    }
+    
+    /**
+     * 按分类流式遍历文章
+     * 
+     * @param categoryId 分类ID
+     * @param status 文章状态，为null时不限状态
+     * @param batchSize 每批文章数量
+     * @param consumer 每批文章的处理函数
+     */
+    public void streamByCategoryId(CategoryId categoryId, ArticleStatus status, int batchSize,
+                                   Consumer<List<ArticleAggregate>> consumer) {
+        if (categoryId == null) {
+            throw new IllegalArgumentException("分类ID不能为空");
+        }
+        validateBatchSize(batchSize);
+        
+        logger.debug("流式查询分类文章: categoryId={}, status={}", categoryId.getValue(), status);
+        articleRepository.streamByCategoryId(categoryId, status, batchSize, consumer);
+    }
+    
+    /**
+     * 按标签流式遍历文章
+     * 
+     * @param tagId 标签ID
+     * @param status 文章状态，为null时不限状态
+     * @param batchSize 每批文章数量
+     * @param consumer 每批文章的处理函数
+     */
+    public void streamByTagId(TagId tagId, ArticleStatus status, int batchSize,
+                              Consumer<List<ArticleAggregate>> consumer) {
+        if (tagId == null) {
+            throw new IllegalArgumentException("标签ID不能为空");
+        }
+        validateBatchSize(batchSize);
+        
+        logger.debug("流式查询标签文章: tagId={}, status={}", tagId.getValue(), status);
+        articleRepository.streamByTagId(tagId, status, batchSize, consumer);
+    }
+    
+    /**
+     * 按状态流式遍历文章
+     * 
+     * @param status 文章状态
+     * @param batchSize 每批文章数量
+     * @param consumer 每批文章的处理函数
+     */
+    public void streamByStatus(ArticleStatus status, int batchSize, Consumer<List<ArticleAggregate>> consumer) {
+        if (status == null) {
+            throw new IllegalArgumentException("文章状态不能为空");
+        }
+        validateBatchSize(batchSize);
+        
+        logger.debug("流式查询状态文章: status={}", status);
+        articleRepository.streamByStatus(status, batchSize, consumer);
     }
     
     // ========== 私有辅助方法 ==========
     
+    /**
+     * 经两级缓存查询一页文章
+     * 
+     * <p>列表缓存未命中时执行查询与计数，回填每篇文章的摘要并缓存ID列表和总数，直接返回查询结果；
+     * 命中时按ID装配列表项，已不存在的文章被跳过，总数直接取自缓存条目
+     * 
+     * @param listKey 文章列表缓存 Key
+     * @param query 数据库查询
+     * @param count 筛选条件下的总数统计，为null时总数即本次结果数
+     * @return 一页文章及总数
+     */
+    private ArticlePage<ArticleAggregate> findPage(String listKey, Supplier<List<ArticleAggregate>> query,
+                                                   LongSupplier count) {
+        Cache listCache = cacheManager.getCache(CacheNames.ARTICLE_LIST);
+        Cache summaryCache = cacheManager.getCache(CacheNames.ARTICLE_SUMMARY);
+        if (listCache == null || summaryCache == null) {
+            List<ArticleAggregate> articles = query.get();
+            return new ArticlePage<>(articles, count != null ? count.getAsLong() : articles.size());
+        }
+        
+        AtomicReference<ArticlePage<ArticleAggregate>> loaded = new AtomicReference<>();
+        ArticlePage<String> cached = listCache.get(listKey, () -> {
+            List<ArticleAggregate> articles = query.get();
+            ArticlePage<ArticleAggregate> page =
+                new ArticlePage<>(articles, count != null ? count.getAsLong() : articles.size());
+            loaded.set(page);
+            articles.forEach(article -> putSummary(summaryCache, article));
+            return page.map(article -> article.getId().getValue());
+        });
+        if (loaded.get() != null) {
+            return loaded.get();
+        }
+        return cached.withItems(hydrate(cached.getItems(), summaryCache));
+    }
+    
+    /**
+     * 按ID列表从摘要缓存装配文章，未命中的ID批量查询数据库并回填
+     */
+    private List<ArticleAggregate> hydrate(List<String> articleIds, Cache summaryCache) {
+        if (articleIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Map<Object, Object> summaries = MultiGetCache.getAll(summaryCache, articleIds);
+        if (summaries.size() < articleIds.size()) {
+            Set<ArticleId> misses = articleIds.stream()
+                .filter(id -> !summaries.containsKey(id))
+                .map(ArticleId::of)
+                .collect(Collectors.toSet());
+            logger.debug("文章摘要缓存未命中，查询数据库: count={}", misses.size());
+            // 按修订号回填，从库读到的旧版本不会覆盖新版本
+            for (ArticleAggregate article : articleRepository.findByIds(misses)) {
+                summaries.put(article.getId().getValue(), article);
+                putSummary(summaryCache, article);
+            }
+        }
+        
+        List<ArticleAggregate> articles = new ArrayList<>(articleIds.size());
+        for (String articleId : articleIds) {
+            if (summaries.get(articleId) instanceof ArticleAggregate article) {
+                articles.add(article);
+            }
+        }
+        return articles;
+    }
+    
+    /**
+     * 按读到的修订号回填摘要：读取后才提交的写入已按更高版本写入或清除，旧数据不会覆盖它
+     */
+    private void putSummary(Cache summaryCache, ArticleAggregate article) {
+        VersionedCache.fill(summaryCache, article.getId().getValue(), article, article.getRevision());
+    }
+    
     /**
      * 验证分页参数
      */
@@ -512,6 +646,13 @@ public class ArticleQueryService {
             throw new IllegalArgumentException("每页大小必须在1-100之间");
         }
     }
+    
+    /**
+     * 验证流式查询批次大小
+     */
+    private void validateBatchSize(int batchSize) {
+        if (batchSize <= 0 || batchSize > 500) {
+            throw new IllegalArgumentException("批次大小必须在1-500之间");
+        }
+    }
 }
-
-
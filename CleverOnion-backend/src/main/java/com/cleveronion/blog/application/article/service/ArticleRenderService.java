@@ -0,0 +1,106 @@
+package com.cleveronion.blog.application.article.service;
+
+import com.cleveronion.blog.common.cache.CacheNames;
+import com.cleveronion.blog.domain.article.repository.RenderedContentRepository;
+import com.cleveronion.blog.domain.article.valueobject.ArticleMetadata;
+import com.cleveronion.blog.domain.article.valueobject.RenderedContent;
+import com.cleveronion.blog.infrastructure.article.render.MarkdownRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 文章渲染服务
+ *
+ * <p>文章发布、更新提交后由命令服务触发预渲染，渲染结果按内容哈希存入数据库；
+ * 读取时优先命中 {@link CacheNames#ARTICLE_RENDER} 缓存，其次数据库，最后才现场渲染。
+ * 同一版本渲染器对相同正文只渲染一次。
+ *
+ * <p>另外提供写入时的元数据派生（字数、阅读时长、大纲、抽取式摘要），由命令服务在保存前调用。
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Service
+public class ArticleRenderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArticleRenderService.class);
+
+    private final MarkdownRenderer markdownRenderer;
+    private final RenderedContentRepository renderedContentRepository;
+
+    public ArticleRenderService(MarkdownRenderer markdownRenderer,
+                                RenderedContentRepository renderedContentRepository) {
+        this.markdownRenderer = markdownRenderer;
+        this.renderedContentRepository = renderedContentRepository;
+    }
+
+    /**
+     * 获取文章正文的渲染结果（带缓存）
+     *
+     * <p>缓存Key: article:render::{contentHash}
+     * <p>缓存时间: 24小时（内容寻址，结果不会过时）
+     * <p>使用独立事务：可在外层事务提交后的回调中调用，写入失败也不影响调用方事务
+     *
+     * @param markdown Markdown 正文
+     * @return 渲染结果
+     */
+    @Cacheable(
+        cacheNames = CacheNames.ARTICLE_RENDER,
+        key = "#root.target.contentHash(#markdown)",
+        sync = true
+    )
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public RenderedContent getOrRender(String markdown) {
+        if (markdown == null) {
+            throw new IllegalArgumentException("文章内容不能为空");
+        }
+
+        String contentHash = markdownRenderer.contentHash(markdown);
+        Optional<RenderedContent> stored = renderedContentRepository.findByContentHash(contentHash);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        long start = System.currentTimeMillis();
+        RenderedContent rendered = markdownRenderer.render(markdown);
+        renderedContentRepository.saveIfAbsent(rendered);
+        logger.debug("文章正文渲染完成: contentHash={}, 耗时 {} ms", contentHash, System.currentTimeMillis() - start);
+        return rendered;
+    }
+
+    /**
+     * 计算正文的内容哈希（供缓存Key使用）
+     *
+     * @param markdown Markdown 正文
+     * @return 内容哈希
+     */
+    public String contentHash(String markdown) {
+        return markdownRenderer.contentHash(markdown);
+    }
+
+    /**
+     * 计算正文的派生元数据
+     *
+     * @param markdown Markdown 正文
+     * @return 字数、阅读时长与标题大纲
+     */
+    public ArticleMetadata analyze(String markdown) {
+        return markdownRenderer.analyze(markdown);
+    }
+
+    /**
+     * 从正文抽取摘要
+     *
+     * @param markdown Markdown 正文
+     * @return 摘要；正文没有段落文字时返回 null
+     */
+    public String extractSummary(String markdown) {
+        return markdownRenderer.extractSummary(markdown);
+    }
+}
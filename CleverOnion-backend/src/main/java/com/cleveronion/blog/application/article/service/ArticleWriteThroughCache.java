@@ -0,0 +1,123 @@
+package com.cleveronion.blog.application.article.service;
+
+import com.cleveronion.blog.common.cache.CacheNames;
+import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
+import com.cleveronion.blog.domain.article.valueobject.ArticleContent;
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
+import com.cleveronion.blog.infrastructure.common.cache.VersionedCache;
+import com.cleveronion.blog.infrastructure.common.transaction.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 文章详情与摘要缓存的写穿
+ *
+ * <p>写操作在事务内递增文章修订号，提交后以修订号为版本写入或清除缓存：
+ * <ul>
+ *   <li>回滚：只在 afterCommit 中执行，回滚的写入不会进入缓存</li>
+ *   <li>并发写：修订号由数据库行锁保证按提交顺序递增，较旧版本的写入被缓存拒绝，
+ *       乱序执行的提交后回调不会用旧数据覆盖新数据</li>
+ * </ul>
+ *
+ * <p>关闭写穿（{@code cache.write-through.enabled=false}）时，写入退化为按版本清除，
+ * 由首次读取重新加载
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class ArticleWriteThroughCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArticleWriteThroughCache.class);
+
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+
+    public ArticleWriteThroughCache(CacheManager cacheManager,
+                                    @Value("${cache.write-through.enabled:true}") boolean enabled) {
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 事务提交后写入文章详情（含正文）与列表摘要（不含正文）
+     *
+     * @param article 刚保存的文章聚合
+     * @param revision 本次写入的修订号
+     */
+    public void putAfterCommit(ArticleAggregate article, long revision) {
+        if (!enabled) {
+            evictAfterCommit(article.getId(), revision);
+            return;
+        }
+
+        String key = article.getId().getValue();
+        // 正文在事务内加载，提交后不再访问数据库
+        article.loadContent();
+        ArticleAggregate summary = toSummary(article);
+        afterCommit(key, revision, cache -> {
+            Object value = CacheNames.ARTICLE_DETAIL.equals(cache.getName()) ? article : summary;
+            if (!VersionedCache.putIfNewer(cache, key, value, revision)) {
+                logger.debug("缓存中已有更新的版本，跳过写入: cache={}, articleId={}, revision={}",
+                    cache.getName(), key, revision);
+            }
+        });
+    }
+
+    /**
+     * 事务提交后按版本清除文章详情与列表摘要
+     *
+     * @param articleId 文章ID
+     * @param revision 本次写入的修订号
+     */
+    public void evictAfterCommit(ArticleId articleId, long revision) {
+        String key = articleId.getValue();
+        afterCommit(key, revision, cache -> VersionedCache.evictVersion(cache, key, revision));
+    }
+
+    private void afterCommit(String key, long revision, Consumer<Cache> action) {
+        Runnable task = () -> {
+            for (String cacheName : new String[] {CacheNames.ARTICLE_DETAIL, CacheNames.ARTICLE_SUMMARY}) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache == null) {
+                    continue;
+                }
+                try {
+                    action.accept(cache);
+                } catch (RuntimeException e) {
+                    logger.warn("文章缓存写穿失败，清除条目: cache={}, articleId={}, revision={}",
+                        cacheName, key, revision, e);
+                    // 提交后回调中事务感知的 evict 会被推迟且不再执行，使用立即生效的 evictIfPresent
+                    cache.evictIfPresent(key);
+                }
+            }
+        };
+
+        AfterCommit.run(task);
+    }
+
+    /**
+     * 列表摘要不含正文，与列表查询返回的聚合一致
+     */
+    private static ArticleAggregate toSummary(ArticleAggregate article) {
+        ArticleContent content = article.getContent();
+        ArticleAggregate summary = ArticleAggregate.rebuild(
+            article.getId(),
+            ArticleContent.restore(content.getTitle(), null, content.getSummary()),
+            article.getStatus(),
+            article.getCategoryId(),
+            article.getAuthorId(),
+            article.getTagIds(),
+            article.getPublishedAt(),
+            article.getMetadata()
+        );
+        summary.restoreCommentStats(article.getCommentStats());
+        return summary;
+    }
+}
@@ -0,0 +1,87 @@
+package com.cleveronion.blog.application.article.service;
+
+import com.cleveronion.blog.domain.article.repository.ArticleRepository;
+import com.cleveronion.blog.domain.article.repository.ArticleRepository.CommentStatsReconciliation;
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 文章评论统计对账任务
+ *
+ * <p>评论数与最近评论时间随评论写入增量维护，直接修改评论表、历史数据导入等途径会使其产生偏差。
+ * 任务按文章ID游标分块，以评论表为准重新统计，只更新有偏差的文章并按新修订号清除其缓存。
+ *
+ * <p>每块在独立事务中先锁定文章行再统计，与并发的评论写入串行化，对账不会覆盖对账期间新增或删除的评论。
+ * 多个节点同时运行时结果相同，不做跨节点互斥
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Service
+public class CommentStatsReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentStatsReconciliationJob.class);
+
+    /**
+     * 每块对账的文章数，决定单个事务持有行锁的范围
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleWriteThroughCache articleWriteThroughCache;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public CommentStatsReconciliationJob(ArticleRepository articleRepository,
+                                         ArticleWriteThroughCache articleWriteThroughCache) {
+        this.articleRepository = articleRepository;
+        this.articleWriteThroughCache = articleWriteThroughCache;
+    }
+
+    /**
+     * 定时对账全部文章
+     */
+    @Scheduled(cron = "${article.comment-stats.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            logger.error("文章评论统计对账失败", e);
+        }
+    }
+
+    /**
+     * 对账全部文章的评论统计
+     * 本节点已在运行时直接返回
+     *
+     * @return 修复的文章数，未执行时返回-1
+     */
+    public int reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("文章评论统计对账正在运行，跳过本次执行");
+            return -1;
+        }
+        try {
+            int repaired = 0;
+            ArticleId cursor = null;
+            CommentStatsReconciliation chunk;
+            while ((chunk = articleRepository.reconcileCommentStats(cursor, CHUNK_SIZE)).lastId() != null) {
+                // 块事务已提交，直接按修订号清除缓存
+                chunk.repairedRevisions().forEach(articleWriteThroughCache::evictAfterCommit);
+                repaired += chunk.repairedRevisions().size();
+                cursor = chunk.lastId();
+                if (!chunk.repairedRevisions().isEmpty()) {
+                    logger.warn("修复文章评论统计偏差，文章ID: {}", chunk.repairedRevisions().keySet());
+                }
+            }
+            logger.info("文章评论统计对账完成，修复 {} 篇", repaired);
+            return repaired;
+        } finally {
+            running.set(false);
+        }
+    }
+}
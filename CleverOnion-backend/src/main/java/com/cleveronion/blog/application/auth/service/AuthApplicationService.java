@@ -29,13 +29,21 @@ public class AuthApplicationService {
     
     private static final Logger logger = LoggerFactory.getLogger(AuthApplicationService.class);
     
+    /**
+     * Sa-Token 会话中保存 GitHub ID 的键，供管理员判断免查库使用
+     */
+    public static final String SESSION_KEY_GITHUB_ID = "githubId";
+    
     private final GitHubOAuth2Client gitHubOAuth2Client;
     private final UserCommandService userCommandService;
+    private final UserQueryService userQueryService;
     
     public AuthApplicationService(GitHubOAuth2Client gitHubOAuth2Client,
-                                UserCommandService userCommandService) {
+                                UserCommandService userCommandService,
+                                UserQueryService userQueryService) {
         this.gitHubOAuth2Client = gitHubOAuth2Client;
         this.userCommandService = userCommandService;
+        this.userQueryService = userQueryService;
     }
     
     /**
@@ -79,14 +87,17 @@ public class AuthApplicationService {
                 gitHubUserInfo.getId(), gitHubUserInfo.getLogin());
             
             // 3. 创建或更新本地用户
-            // 构建同步用户命令
+            // 构建同步用户命令，资料未变化时直接使用缓存中的用户，避免每次登录都写库
             SyncGitHubUserCommand syncCommand = SyncGitHubUserCommand.fromGitHubInfo(gitHubUserInfo);
-            UserAggregate userAggregate = userCommandService.syncUserFromGitHub(syncCommand);
+            UserAggregate userAggregate = userQueryService.findByGitHubId(syncCommand.getGitHubId())
+                .filter(user -> user.hasSameProfile(syncCommand.getUsername(), syncCommand.getAvatarUrl()))
+                .orElseGet(() -> userCommandService.syncUserFromGitHub(syncCommand));
             logger.debug("成功创建或更新本地用户，用户ID: {}", userAggregate.getId().getValue());
             
             // 4. 生成Sa-Token认证令牌
             String userId = userAggregate.getId().getValue().toString();
             StpUtil.login(userId);
+            StpUtil.getSession().set(SESSION_KEY_GITHUB_ID, userAggregate.getGitHubId().getValue());
             
             String accessToken = StpUtil.getTokenValue();
             Long expiresIn = StpUtil.getTokenTimeout();
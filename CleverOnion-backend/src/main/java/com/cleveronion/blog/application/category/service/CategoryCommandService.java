@@ -101,16 +101,15 @@ public class CategoryCommandService {
     /**
      * 更新分类（清除缓存）
      * 
-     * <p>清除缓存：指定分类的详情、分类列表、文章列表
-     * <p>注意：文章列表也需要清除，因为文章响应中包含分类信息
+     * <p>清除缓存：指定分类的详情、分类列表
+     * <p>文章列表只缓存文章ID，分类名称在响应组装时读取，改名无需清除文章列表
      * 
      * @param command 更新分类命令
      * @return 更新后的分类聚合
      */
     @Caching(evict = {
         @CacheEvict(cacheNames = CacheNames.CATEGORY_DETAIL, key = "#command.categoryId.value"),
-        @CacheEvict(cacheNames = CacheNames.CATEGORY_LIST, allEntries = true),
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true)
+        @CacheEvict(cacheNames = CacheNames.CATEGORY_LIST, allEntries = true)
     })
     public CategoryAggregate updateCategory(UpdateCategoryCommand command) {
         logger.debug("执行更新分类命令: {}", command);
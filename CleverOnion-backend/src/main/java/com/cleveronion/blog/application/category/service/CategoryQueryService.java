@@ -5,15 +5,19 @@ import com.cleveronion.blog.domain.article.aggregate.CategoryAggregate;
 import com.cleveronion.blog.domain.article.repository.ArticleRepository;
 import com.cleveronion.blog.domain.article.repository.CategoryRepository;
 import com.cleveronion.blog.domain.article.valueobject.CategoryId;
+import com.cleveronion.blog.infrastructure.common.cache.DimensionSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 分类查询服务（CQRS - Query）
@@ -26,6 +30,8 @@ import java.util.Set;
  *   <li>分类统计缓存：10 分钟</li>
  * </ul>
  * 
+ * <p>响应组装使用的 lookup 方法优先读取 {@link DimensionSnapshot} 内存快照，不访问 Redis
+ * 
  * @author CleverOnion
  * @since 2.0.0
  */
@@ -37,13 +43,16 @@ public class CategoryQueryService {
     
     private final CategoryRepository categoryRepository;
     private final ArticleRepository articleRepository;
+    private final DimensionSnapshot dimensionSnapshot;
     
     public CategoryQueryService(
         CategoryRepository categoryRepository,
-        ArticleRepository articleRepository
+        ArticleRepository articleRepository,
+        DimensionSnapshot dimensionSnapshot
     ) {
         this.categoryRepository = categoryRepository;
         this.articleRepository = articleRepository;
+        this.dimensionSnapshot = dimensionSnapshot;
     }
     
     /**
@@ -92,6 +101,47 @@ public class CategoryQueryService {
         return categoryRepository.findByIds(categoryIds);
     }
     
+    /**
+     * 根据ID查找分类（优先读取内存快照，用于响应组装）
+     * 
+     * <p>快照未命中时查询数据库（分类实体有二级缓存）
+     * 
+     * @param categoryId 分类ID
+     * @return 分类聚合（如果存在）
+     */
+    public Optional<CategoryAggregate> lookupById(CategoryId categoryId) {
+        if (categoryId == null) {
+            throw new IllegalArgumentException("分类ID不能为空");
+        }
+        
+        return dimensionSnapshot.findCategory(categoryId)
+            .or(() -> categoryRepository.findById(categoryId));
+    }
+    
+    /**
+     * 根据ID集合批量查找分类（优先读取内存快照，用于响应组装）
+     * 
+     * <p>快照未命中的ID（快照尚未加载或尚未收到新建通知）批量查询数据库
+     * 
+     * @param categoryIds 分类ID集合
+     * @return 分类ID到分类聚合的映射，不存在的ID不在结果中
+     */
+    public Map<CategoryId, CategoryAggregate> lookupByIds(Set<CategoryId> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<CategoryId, CategoryAggregate> result = new HashMap<>(dimensionSnapshot.findCategories(categoryIds));
+        if (result.size() < categoryIds.size()) {
+            Set<CategoryId> misses = categoryIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .collect(Collectors.toSet());
+            logger.debug("分类快照未命中，查询数据库，ID数量: {}", misses.size());
+            categoryRepository.findByIds(misses).forEach(category -> result.put(category.getId(), category));
+        }
+        return result;
+    }
+    
     /**
      * 根据名称查找分类
      * 
@@ -0,0 +1,79 @@
+package com.cleveronion.blog.application.comment.dto;
+
+import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
+import com.cleveronion.blog.domain.comment.valueobject.CommentCursor;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 评论游标分页结果DTO
+ * 用于在 Service 层传递一页评论及续页游标，按页整体缓存
+ *
+ * @param <T> 列表元素类型
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class CommentCursorPage<T> {
+
+    private final List<T> items;
+    private final CommentCursor nextCursor;
+
+    /**
+     * 构造函数
+     *
+     * @param items 本页元素
+     * @param nextCursor 下一页游标，没有下一页时为null
+     */
+    @JsonCreator
+    public CommentCursorPage(@JsonProperty("items") List<T> items,
+                             @JsonProperty("nextCursor") CommentCursor nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 由多取一条的查询结果构造：超出 size 的部分说明还有下一页
+     *
+     * @param fetched 按游标顺序查询的最多 size + 1 条元素
+     * @param size 每页大小
+     * @param commentOf 取元素对应的评论，用于生成游标
+     * @return 分页结果
+     */
+    public static <T> CommentCursorPage<T> of(List<T> fetched, int size, Function<T, CommentAggregate> commentOf) {
+        if (fetched.size() <= size) {
+            return new CommentCursorPage<>(new ArrayList<>(fetched), null);
+        }
+        List<T> items = new ArrayList<>(fetched.subList(0, size));
+        return new CommentCursorPage<>(items, CommentCursor.after(commentOf.apply(items.get(size - 1))));
+    }
+
+    /**
+     * 获取本页元素
+     *
+     * @return 元素列表
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * 获取下一页游标
+     *
+     * @return 游标，没有下一页时为null
+     */
+    public CommentCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "CommentCursorPage{" +
+                "itemsCount=" + (items != null ? items.size() : 0) +
+                ", nextCursor=" + nextCursor +
+                '}';
+    }
+}
@@ -0,0 +1,63 @@
+package com.cleveronion.blog.application.comment.dto;
+
+import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 评论树节点DTO
+ * 用于在 Service 层传递任意深度的评论线程
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class CommentTreeNode {
+
+    private final CommentAggregate comment;
+    private final List<CommentTreeNode> children = new ArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param comment 评论聚合对象
+     */
+    public CommentTreeNode(CommentAggregate comment) {
+        this.comment = comment;
+    }
+
+    /**
+     * 追加子节点
+     *
+     * @param child 子节点
+     */
+    public void addChild(CommentTreeNode child) {
+        children.add(child);
+    }
+
+    /**
+     * 获取评论聚合对象
+     *
+     * @return 评论聚合对象
+     */
+    public CommentAggregate getComment() {
+        return comment;
+    }
+
+    /**
+     * 获取直接回复，按发表先后排序
+     *
+     * @return 子节点列表
+     */
+    public List<CommentTreeNode> getChildren() {
+        return children;
+    }
+
+    @Override
+    public String toString() {
+        return "CommentTreeNode{" +
+                "commentId=" + (comment != null ? comment.getId() : null) +
+                ", childrenCount=" + children.size() +
+                '}';
+    }
+}
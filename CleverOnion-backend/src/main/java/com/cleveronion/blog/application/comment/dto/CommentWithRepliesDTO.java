@@ -1,11 +1,14 @@
 package com.cleveronion.blog.application.comment.dto;
 
 import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
 
 /**
  * 评论及其回复信息DTO
- * 用于在 Service 层传递评论及其相关回复信息
+ * 用于在 Service 层传递评论及其相关回复信息，按评论页整体缓存
  * 
  * @author CleverOnion
  * @since 2.0.0
@@ -23,7 +26,10 @@ public class CommentWithRepliesDTO {
      * @param replyCount 回复总数
      * @param latestReplies 最新的几条回复列表
      */
-    public CommentWithRepliesDTO(CommentAggregate comment, long replyCount, List<CommentAggregate> latestReplies) {
+    @JsonCreator
+    public CommentWithRepliesDTO(@JsonProperty("comment") CommentAggregate comment,
+                                 @JsonProperty("replyCount") long replyCount,
+                                 @JsonProperty("latestReplies") List<CommentAggregate> latestReplies) {
         this.comment = comment;
         this.replyCount = replyCount;
         this.latestReplies = latestReplies;
@@ -0,0 +1,64 @@
+package com.cleveronion.blog.application.comment.eventhandler;
+
+import com.cleveronion.blog.application.comment.service.CommentCacheKeys;
+import com.cleveronion.blog.common.cache.CacheNames;
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
+import com.cleveronion.blog.domain.comment.event.CommentCreatedEvent;
+import com.cleveronion.blog.domain.comment.event.CommentDeletedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 评论缓存事件处理器
+ * 评论创建、删除时清除所属文章的评论版本，使该文章的评论页、回复页与评论数失效，
+ * 其他文章的评论缓存不受影响
+ *
+ * <p>在事务中发布时，清除操作由事务感知的缓存管理器推迟到提交之后执行
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class CommentCacheEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentCacheEventHandler.class);
+
+    private final CacheManager cacheManager;
+
+    public CommentCacheEventHandler(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 评论创建：失效所属文章的评论缓存
+     *
+     * @param event 评论创建事件
+     */
+    @EventListener
+    public void handleCommentCreated(CommentCreatedEvent event) {
+        invalidate(event.getArticleId());
+    }
+
+    /**
+     * 评论删除（含递归删除的回复）：失效所属文章的评论缓存
+     *
+     * @param event 评论删除事件
+     */
+    @EventListener
+    public void handleCommentDeleted(CommentDeletedEvent event) {
+        invalidate(event.getArticleId());
+    }
+
+    private void invalidate(ArticleId articleId) {
+        Cache cache = cacheManager.getCache(CacheNames.COMMENT_LIST);
+        if (cache == null) {
+            return;
+        }
+        logger.debug("失效文章评论缓存，文章ID: {}", articleId.getValue());
+        cache.evict(CommentCacheKeys.version(articleId));
+    }
+}
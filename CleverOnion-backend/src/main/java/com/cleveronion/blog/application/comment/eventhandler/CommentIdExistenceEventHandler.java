@@ -0,0 +1,54 @@
+package com.cleveronion.blog.application.comment.eventhandler;
+
+import com.cleveronion.blog.domain.comment.event.CommentCreatedEvent;
+import com.cleveronion.blog.domain.comment.event.CommentDeletedEvent;
+import com.cleveronion.blog.domain.comment.valueobject.CommentId;
+import com.cleveronion.blog.infrastructure.common.cache.IdExistenceFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 评论ID存在性事件处理器
+ * 根据评论创建/删除事件维护ID存在性过滤器（布隆过滤器与负缓存）
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class CommentIdExistenceEventHandler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CommentIdExistenceEventHandler.class);
+    
+    private final IdExistenceFilter idExistenceFilter;
+    
+    public CommentIdExistenceEventHandler(IdExistenceFilter idExistenceFilter) {
+        this.idExistenceFilter = idExistenceFilter;
+    }
+    
+    /**
+     * 评论创建：加入布隆过滤器并清除负缓存
+     * 
+     * @param event 评论创建事件
+     */
+    @EventListener
+    public void handleCommentCreated(CommentCreatedEvent event) {
+        logger.debug("记录新建评论ID，评论ID: {}", event.getCommentId().getValue());
+        idExistenceFilter.recordCommentCreated(event.getCommentId().getValue());
+    }
+    
+    /**
+     * 评论删除：删除的评论及其回复写入负缓存（布隆过滤器不支持删除）
+     * 
+     * @param event 评论删除事件
+     */
+    @EventListener
+    public void handleCommentDeleted(CommentDeletedEvent event) {
+        logger.debug("记录已删除评论ID，评论ID: {}, 删除总数: {}", 
+            event.getCommentId().getValue(), event.getDeletedCount());
+        for (CommentId deletedId : event.getDeletedCommentIds()) {
+            idExistenceFilter.markCommentAbsent(deletedId.getValue());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.cleveronion.blog.application.comment.eventhandler;
+
+import com.cleveronion.blog.domain.comment.event.CommentCreatedEvent;
+import com.cleveronion.blog.domain.comment.event.CommentDeletedEvent;
+import com.cleveronion.blog.infrastructure.comment.stream.CommentStreamHub;
+import com.cleveronion.blog.infrastructure.comment.stream.CommentStreamMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 评论实时推送事件处理器
+ * 将评论创建、删除事件广播给正在观看该文章的 SSE 订阅者
+ *
+ * <p>在事务中发布时推迟到提交之后广播，客户端收到通知后拉取的一定是已提交的数据；
+ * 事务回滚则不推送
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class CommentStreamEventHandler {
+
+    private final CommentStreamHub commentStreamHub;
+
+    public CommentStreamEventHandler(CommentStreamHub commentStreamHub) {
+        this.commentStreamHub = commentStreamHub;
+    }
+
+    /**
+     * 评论创建：推送新评论通知
+     *
+     * @param event 评论创建事件
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentCreated(CommentCreatedEvent event) {
+        commentStreamHub.publish(CommentStreamMessage.created(event));
+    }
+
+    /**
+     * 评论删除：推送被删除的评论ID（含递归删除的回复）
+     *
+     * @param event 评论删除事件
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentDeleted(CommentDeletedEvent event) {
+        commentStreamHub.publish(CommentStreamMessage.deleted(event));
+    }
+}
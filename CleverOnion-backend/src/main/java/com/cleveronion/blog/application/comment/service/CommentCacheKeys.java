@@ -0,0 +1,104 @@
+package com.cleveronion.blog.application.comment.service;
+
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
+import com.cleveronion.blog.domain.comment.valueobject.CommentId;
+
+/**
+ * 评论缓存 Key
+ *
+ * <p>同一文章的评论页与评论数 Key 中嵌入该文章的评论版本，版本保存在
+ * {@link com.cleveronion.blog.common.cache.CacheNames#COMMENT_LIST} 的 {@code article:{articleId}:version} 中。
+ * 评论变更时清除版本，下次读取生成新的随机版本，旧版本的条目不再被访问并随 TTL 过期；
+ * 版本从不重复，提交前读取、提交后写回的旧数据只会落在废弃的版本下
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public final class CommentCacheKeys {
+
+    private CommentCacheKeys() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * 文章评论版本
+     *
+     * @param articleId 文章ID
+     * @return 缓存 Key
+     */
+    public static String version(ArticleId articleId) {
+        return "article:" + articleId.getValue() + ":version";
+    }
+
+    /**
+     * 评论所属文章（评论的文章归属不会变化，无需版本）
+     *
+     * @param commentId 评论ID
+     * @return 缓存 Key
+     */
+    static String articleOf(CommentId commentId) {
+        return "comment:" + commentId.getValue() + ":article";
+    }
+
+    /**
+     * 顶级评论页（含最新回复）
+     */
+    static String topLevelPage(ArticleId articleId, String version, int page, int size, int replyLimit) {
+        return prefix(articleId, version) + ":page:" + page + ":size:" + size + ":replies:" + replyLimit;
+    }
+
+    /**
+     * 回复页
+     */
+    static String replyPage(ArticleId articleId, String version, CommentId parentId, int page, int size) {
+        return prefix(articleId, version) + ":parent:" + parentId.getValue() + ":page:" + page + ":size:" + size;
+    }
+
+    /**
+     * 顶级评论游标页（含最新回复）
+     */
+    static String topLevelCursorPage(ArticleId articleId, String version, String cursor, int size, int replyLimit) {
+        return prefix(articleId, version) + ":after:" + (cursor != null ? cursor : "start")
+            + ":size:" + size + ":replies:" + replyLimit;
+    }
+    
+    /**
+     * 回复游标页
+     */
+    static String replyCursorPage(ArticleId articleId, String version, CommentId parentId, String cursor, int size) {
+        return prefix(articleId, version) + ":parent:" + parentId.getValue()
+            + ":after:" + (cursor != null ? cursor : "start") + ":size:" + size;
+    }
+    
+    /**
+     * 评论线程（扁平列表）
+     */
+    static String thread(ArticleId articleId, String version, CommentId rootId, Integer maxDepth) {
+        return prefix(articleId, version) + ":thread:" + rootId.getValue() + ":depth:" + (maxDepth != null ? maxDepth : "all");
+    }
+    
+    /**
+     * 文章评论总数
+     */
+    static String totalCount(ArticleId articleId, String version) {
+        return prefix(articleId, version) + ":all";
+    }
+
+    /**
+     * 顶级评论数
+     */
+    static String topLevelCount(ArticleId articleId, String version) {
+        return prefix(articleId, version) + ":top";
+    }
+
+    /**
+     * 回复数
+     */
+    static String replyCount(ArticleId articleId, String version, CommentId parentId) {
+        return prefix(articleId, version) + ":parent:" + parentId.getValue();
+    }
+
+    private static String prefix(ArticleId articleId, String version) {
+        return "article:" + articleId.getValue() + ":v:" + version;
+    }
+}
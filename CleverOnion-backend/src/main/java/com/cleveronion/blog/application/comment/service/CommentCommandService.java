@@ -70,7 +70,8 @@ public class CommentCommandService {
                 throw new IllegalArgumentException("父评论不属于指定文章");
             }
             
-            comment = CommentAggregate.createReply(content, articleId, userId, parentId);
+            // 回复路径由父评论路径派生，插入时即写入
+            comment = CommentAggregate.createReply(content, articleId, userId, parentId, parentComment.get().getPath());
             logger.debug("创建回复评论，父评论ID: {}", parentId.getValue());
         } else {
             // 创建顶级评论
@@ -97,7 +98,7 @@ public class CommentCommandService {
     }
     
     /**
-     * 删除评论（递归删除子评论）
+     * 删除评论（连同全部后代回复，一条语句完成）
      * 
      * @param command 删除评论命令
      */
@@ -120,45 +121,24 @@ public class CommentCommandService {
             throw new IllegalArgumentException("无权限删除该评论");
         }
         
-        // 检查是否有子评论
-        List<CommentAggregate> replies = commentRepository.findByParentId(commentId);
-        if (!replies.isEmpty()) {
-            logger.warn("删除评论时发现有 {} 条回复，将一并删除", replies.size());
-            // 递归删除所有子评论
-            deleteCommentRecursively(commentId);
-        } else {
-            // 删除评论
-            commentRepository.deleteById(commentId);
+        // 删除评论及其全部后代回复
+        List<CommentId> deletedIds = commentRepository.deleteSubtree(commentId);
+        if (deletedIds.isEmpty()) {
+            // 校验之后被并发删除，没有需要发布的变更
+            logger.info("评论已被删除，评论ID: {}", commentId.getValue());
+            return;
         }
         
-        // 发布领域事件
+        // 发布领域事件（文章评论统计按删除总数扣减）
         eventPublisher.publish(new CommentDeletedEvent(
             this,
             commentId,
-            comment.getArticleId()
+            comment.getArticleId(),
+            deletedIds
         ));
         
-        logger.info("成功删除评论，评论ID: {}, 操作用户ID: {}", 
-            commentId.getValue(), userId.getValue());
-    }
-    
-    /**
-     * 递归删除评论及其所有子评论
-     * 
-     * @param commentId 评论ID
-     */
-    private void deleteCommentRecursively(CommentId commentId) {
-        // 查找子评论
-        List<CommentAggregate> replies = commentRepository.findByParentId(commentId);
-        
-        // 递归删除子评论
-        for (CommentAggregate reply : replies) {
-            deleteCommentRecursively(reply.getId());
-        }
-        
-        // 删除当前评论
-        commentRepository.deleteById(commentId);
-        logger.debug("递归删除评论，评论ID: {}", commentId.getValue());
+        logger.info("成功删除评论，评论ID: {}, 删除总数: {}, 操作用户ID: {}", 
+            commentId.getValue(), deletedIds.size(), userId.getValue());
     }
 }
 
@@ -1,25 +1,40 @@
 package com.cleveronion.blog.application.comment.service;
 
+import com.cleveronion.blog.application.comment.dto.CommentCursorPage;
+import com.cleveronion.blog.application.comment.dto.CommentTreeNode;
 import com.cleveronion.blog.application.comment.dto.CommentWithRepliesDTO;
+import com.cleveronion.blog.common.cache.CacheNames;
 import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
 import com.cleveronion.blog.domain.comment.repository.CommentRepository;
+import com.cleveronion.blog.domain.comment.valueobject.CommentCursor;
 import com.cleveronion.blog.domain.comment.valueobject.CommentId;
+import com.cleveronion.blog.infrastructure.common.cache.IdExistenceFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * 评论查询服务
  * 负责处理所有评论查询操作，配置缓存优化性能
  * 
+ * <p>评论页、回复页与评论数按文章版本缓存（见 {@link CommentCacheKeys}），
+ * 评论创建、删除只使所属文章的条目失效
+ * 
  * @author CleverOnion
  * @since 1.0.0
  */
@@ -30,9 +45,15 @@ public class CommentQueryService {
     private static final Logger logger = LoggerFactory.getLogger(CommentQueryService.class);
     
     private final CommentRepository commentRepository;
+    private final IdExistenceFilter idExistenceFilter;
+    private final CacheManager cacheManager;
     
-    public CommentQueryService(CommentRepository commentRepository) {
+    public CommentQueryService(CommentRepository commentRepository,
+                               IdExistenceFilter idExistenceFilter,
+                               CacheManager cacheManager) {
         this.commentRepository = commentRepository;
+        this.idExistenceFilter = idExistenceFilter;
+        this.cacheManager = cacheManager;
     }
     
     /**
@@ -46,8 +67,16 @@ public class CommentQueryService {
             throw new IllegalArgumentException("评论ID不能为空");
         }
         
+        if (!idExistenceFilter.mightExistComment(commentId.getValue())) {
+            return Optional.empty();
+        }
+        
         logger.debug("查询评论，ID: {}", commentId.getValue());
-        return commentRepository.findById(commentId);
+        Optional<CommentAggregate> comment = commentRepository.findById(commentId);
+        if (comment.isEmpty()) {
+            idExistenceFilter.markCommentAbsent(commentId.getValue());
+        }
+        return comment;
     }
     
     /**
@@ -114,9 +143,105 @@ public class CommentQueryService {
             throw new IllegalArgumentException("每页大小必须大于0");
         }
         
-        logger.debug("分页查询评论回复，父评论ID: {}, 页码: {}, 每页: {}", 
-            parentId.getValue(), page, size);
-        return commentRepository.findByParentId(parentId, page, size);
+        if (!idExistenceFilter.mightExistComment(parentId.getValue())) {
+            return List.of();
+        }
+        
+        return cachedForParent(CacheNames.COMMENT_LIST, parentId,
+            (articleId, version) -> CommentCacheKeys.replyPage(articleId, version, parentId, page, size),
+            () -> {
+                logger.debug("分页查询评论回复，父评论ID: {}, 页码: {}, 每页: {}", 
+                    parentId.getValue(), page, size);
+                return new ArrayList<>(commentRepository.findByParentId(parentId, page, size));
+            });
+    }
+    
+    /**
+     * 按游标获取评论的回复（键集分页）
+     * 
+     * @param parentId 父评论ID
+     * @param after 上一页返回的游标，为null时从第一条开始
+     * @param size 每页大小
+     * @return 回复页及下一页游标
+     */
+    public CommentCursorPage<CommentAggregate> findRepliesByParentIdAfter(CommentId parentId, CommentCursor after, int size) {
+        if (parentId == null) {
+            throw new IllegalArgumentException("父评论ID不能为空");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("每页大小必须大于0");
+        }
+        
+        if (!idExistenceFilter.mightExistComment(parentId.getValue())) {
+            return new CommentCursorPage<>(new ArrayList<>(), null);
+        }
+        
+        String cursor = after != null ? after.encode() : null;
+        return cachedForParent(CacheNames.COMMENT_LIST, parentId,
+            (articleId, version) -> CommentCacheKeys.replyCursorPage(articleId, version, parentId, cursor, size),
+            () -> {
+                logger.debug("按游标查询评论回复，父评论ID: {}, 游标: {}, 每页: {}", parentId.getValue(), after, size);
+                return CommentCursorPage.of(
+                    commentRepository.findRepliesByParentIdAfter(parentId, after, size + 1), size, reply -> reply);
+            });
+    }
+    
+    /**
+     * 获取评论线程：根评论及其后代回复组成的树
+     * 整棵线程由路径索引的一次范围扫描读出，按文章评论版本缓存
+     * 
+     * @param rootId 根评论ID
+     * @param maxDepth 相对根评论的最大层级，为null时返回整棵线程
+     * @return 线程根节点，根评论不存在时为空
+     */
+    public Optional<CommentTreeNode> findThread(CommentId rootId, Integer maxDepth) {
+        if (rootId == null) {
+            throw new IllegalArgumentException("根评论ID不能为空");
+        }
+        if (maxDepth != null && maxDepth < 0) {
+            throw new IllegalArgumentException("层级限制不能小于0");
+        }
+        
+        if (!idExistenceFilter.mightExistComment(rootId.getValue())) {
+            return Optional.empty();
+        }
+        
+        List<CommentAggregate> comments = cachedForParent(CacheNames.COMMENT_LIST, rootId,
+            (articleId, version) -> CommentCacheKeys.thread(articleId, version, rootId, maxDepth),
+            () -> {
+                logger.debug("查询评论线程，根评论ID: {}, 层级限制: {}", rootId.getValue(), maxDepth);
+                return new ArrayList<>(maxDepth != null
+                    ? commentRepository.findThread(rootId, maxDepth)
+                    : commentRepository.findThread(rootId));
+            });
+        return assembleThread(rootId, comments);
+    }
+    
+    /**
+     * 将按路径排序的扁平评论列表组装为树
+     * 路径排序保证父评论先于子评论出现，同一父评论下的回复按ID即发表先后排列；
+     * 父评论不在列表中的评论被忽略
+     * 
+     * @param rootId 根评论ID
+     * @param comments 按路径排序的评论列表
+     * @return 根节点，列表中没有根评论时为空
+     */
+    public static Optional<CommentTreeNode> assembleThread(CommentId rootId, List<CommentAggregate> comments) {
+        Map<CommentId, CommentTreeNode> nodes = new HashMap<>();
+        CommentTreeNode root = null;
+        for (CommentAggregate comment : comments) {
+            CommentTreeNode node = new CommentTreeNode(comment);
+            nodes.put(comment.getId(), node);
+            if (comment.getId().equals(rootId)) {
+                root = node;
+                continue;
+            }
+            CommentTreeNode parent = comment.getParentId() != null ? nodes.get(comment.getParentId()) : null;
+            if (parent != null) {
+                parent.addChild(node);
+            }
+        }
+        return Optional.ofNullable(root);
     }
     
     /**
@@ -130,8 +255,10 @@ public class CommentQueryService {
             throw new IllegalArgumentException("文章ID不能为空");
         }
         
-        logger.debug("统计文章评论数，文章ID: {}", articleId.getValue());
-        return commentRepository.countByArticleId(articleId);
+        return cachedCount(articleId, version -> CommentCacheKeys.totalCount(articleId, version), () -> {
+            logger.debug("统计文章评论数，文章ID: {}", articleId.getValue());
+            return commentRepository.countByArticleId(articleId);
+        });
     }
     
     /**
@@ -145,8 +272,14 @@ public class CommentQueryService {
             throw new IllegalArgumentException("文章ID不能为空");
         }
         
-        logger.debug("统计文章顶级评论数，文章ID: {}", articleId.getValue());
-        return commentRepository.countTopLevelCommentsByArticleId(articleId);
+        if (!idExistenceFilter.mightExistArticle(articleId.getValue())) {
+            return 0;
+        }
+        
+        return cachedCount(articleId, version -> CommentCacheKeys.topLevelCount(articleId, version), () -> {
+            logger.debug("统计文章顶级评论数，文章ID: {}", articleId.getValue());
+            return commentRepository.countTopLevelCommentsByArticleId(articleId);
+        });
     }
     
     /**
@@ -160,8 +293,17 @@ public class CommentQueryService {
             throw new IllegalArgumentException("父评论ID不能为空");
         }
         
-        logger.debug("统计评论回复数，父评论ID: {}", parentId.getValue());
-        return commentRepository.countRepliesByParentId(parentId);
+        if (!idExistenceFilter.mightExistComment(parentId.getValue())) {
+            return 0;
+        }
+        
+        Number count = cachedForParent(CacheNames.COMMENT_COUNT, parentId,
+            (articleId, version) -> CommentCacheKeys.replyCount(articleId, version, parentId),
+            () -> {
+                logger.debug("统计评论回复数，父评论ID: {}", parentId.getValue());
+                return commentRepository.countRepliesByParentId(parentId);
+            });
+        return count.longValue();
     }
     
     /**
@@ -192,6 +334,58 @@ public class CommentQueryService {
             throw new IllegalArgumentException("回复数限制不能小于0");
         }
         
+        if (!idExistenceFilter.mightExistArticle(articleId.getValue())) {
+            return new ArrayList<>();
+        }
+        
+        return cached(CacheNames.COMMENT_LIST, articleId,
+            version -> CommentCacheKeys.topLevelPage(articleId, version, page, size, replyLimit),
+            () -> loadTopLevelCommentsWithLatestReplies(articleId, page, size, replyLimit));
+    }
+    
+    /**
+     * 按游标获取顶级评论及其最新回复（键集分页）
+     * 
+     * @param articleId 文章ID
+     * @param after 上一页返回的游标，为null时从第一条开始
+     * @param size 每页大小
+     * @param replyLimit 每个评论返回的最新回复数
+     * @return 评论页及下一页游标
+     * @since 2.0.0
+     */
+    public CommentCursorPage<CommentWithRepliesDTO> findTopLevelCommentsWithLatestRepliesAfter(
+            ArticleId articleId, CommentCursor after, int size, int replyLimit) {
+        
+        if (articleId == null) {
+            throw new IllegalArgumentException("文章ID不能为空");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("每页大小必须大于0");
+        }
+        if (replyLimit < 0) {
+            throw new IllegalArgumentException("回复数限制不能小于0");
+        }
+        
+        if (!idExistenceFilter.mightExistArticle(articleId.getValue())) {
+            return new CommentCursorPage<>(new ArrayList<>(), null);
+        }
+        
+        String cursor = after != null ? after.encode() : null;
+        return cached(CacheNames.COMMENT_LIST, articleId,
+            version -> CommentCacheKeys.topLevelCursorPage(articleId, version, cursor, size, replyLimit),
+            () -> {
+                logger.debug("按游标查询顶级评论及最新回复，文章ID: {}, 游标: {}, 每页: {}, 回复数限制: {}", 
+                    articleId.getValue(), after, size, replyLimit);
+                // 多取一条判断是否还有下一页
+                List<CommentAggregate> fetched =
+                    commentRepository.findTopLevelCommentsByArticleIdAfter(articleId, after, size + 1);
+                CommentCursorPage<CommentAggregate> page = CommentCursorPage.of(fetched, size, comment -> comment);
+                return new CommentCursorPage<>(withLatestReplies(page.getItems(), replyLimit), page.getNextCursor());
+            });
+    }
+    
+    private List<CommentWithRepliesDTO> loadTopLevelCommentsWithLatestReplies(
+            ArticleId articleId, int page, int size, int replyLimit) {
         logger.debug("查询顶级评论及最新回复，文章ID: {}, 页码: {}, 每页: {}, 回复数限制: {}", 
             articleId.getValue(), page, size, replyLimit);
         
@@ -204,6 +398,22 @@ public class CommentQueryService {
             return new ArrayList<>();
         }
         
+        List<CommentWithRepliesDTO> result = withLatestReplies(topComments, replyLimit);
+        
+        logger.debug("成功查询顶级评论及回复，文章ID: {}, 返回评论数: {}", 
+            articleId.getValue(), result.size());
+        
+        return result;
+    }
+    
+    /**
+     * 为一页顶级评论补充回复数与最新回复
+     */
+    private List<CommentWithRepliesDTO> withLatestReplies(List<CommentAggregate> topComments, int replyLimit) {
+        if (topComments.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
         // 2. 批量查询所有顶级评论的回复数（性能优化：避免N+1问题）
         List<CommentId> commentIds = topComments.stream()
             .map(CommentAggregate::getId)
@@ -212,7 +422,7 @@ public class CommentQueryService {
         Map<Long, Long> replyCountMap = commentRepository.countRepliesByParentIds(commentIds);
         
         // 3. 为每个顶级评论查询最新的回复并组装DTO
-        List<CommentWithRepliesDTO> result = topComments.stream()
+        return topComments.stream()
             .map(comment -> {
                 CommentId commentId = comment.getId();
                 
@@ -222,7 +432,7 @@ public class CommentQueryService {
                 // 获取最新N条回复（如果有回复的话）
                 List<CommentAggregate> latestReplies = new ArrayList<>();
                 if (replyCount > 0 && replyLimit > 0) {
-                    latestReplies = commentRepository.findByParentId(commentId, 0, replyLimit);
+                    latestReplies = new ArrayList<>(commentRepository.findByParentId(commentId, 0, replyLimit));
                 }
                 
                 logger.debug("评论ID: {}, 回复数: {}, 返回最新回复数: {}", 
@@ -230,12 +440,82 @@ public class CommentQueryService {
                 
                 return new CommentWithRepliesDTO(comment, replyCount, latestReplies);
             })
-            .collect(Collectors.toList());
-        
-        logger.debug("成功查询顶级评论及回复，文章ID: {}, 返回评论数: {}", 
-            articleId.getValue(), result.size());
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+    
+    /**
+     * 统计数缓存读取，缓存中的小整数反序列化为 Integer，统一按 Number 取值
+     */
+    private long cachedCount(ArticleId articleId, Function<String, String> keyOf, Supplier<Long> loader) {
+        Number count = cached(CacheNames.COMMENT_COUNT, articleId, keyOf, loader);
+        return count.longValue();
+    }
+    
+    /**
+     * 按文章评论版本读取缓存，缓存不可用时直接查询
+     * 
+     * @param cacheName 缓存名
+     * @param articleId 文章ID
+     * @param keyOf 由版本生成缓存 Key
+     * @param loader 未命中时的查询
+     * @return 缓存或查询结果
+     */
+    private <T> T cached(String cacheName, ArticleId articleId, Function<String, String> keyOf, Supplier<? extends T> loader) {
+        Cache versionCache = cacheManager.getCache(CacheNames.COMMENT_LIST);
+        Cache cache = cacheManager.getCache(cacheName);
+        if (versionCache == null || cache == null) {
+            return loader.get();
+        }
+        return cache.get(keyOf.apply(currentVersion(versionCache, articleId)), loader::get);
+    }
+    
+    /**
+     * 按父评论所属文章的评论版本读取缓存；父评论不存在时直接查询
+     */
+    private <T> T cachedForParent(String cacheName, CommentId parentId,
+                                  BiFunction<ArticleId, String, String> keyOf,
+                                  Supplier<? extends T> loader) {
+        ArticleId articleId = findArticleOf(parentId);
+        if (articleId == null) {
+            return loader.get();
+        }
+        return cached(cacheName, articleId, version -> keyOf.apply(articleId, version), loader);
+    }
+    
+    /**
+     * 查找评论所属文章，结果缓存（评论的文章归属不会变化）
+     * 
+     * @param commentId 评论ID
+     * @return 文章ID，评论不存在或缓存不可用时返回null
+     */
+    private ArticleId findArticleOf(CommentId commentId) {
+        Cache cache = cacheManager.getCache(CacheNames.COMMENT_LIST);
+        if (cache == null) {
+            return null;
+        }
+        String key = CommentCacheKeys.articleOf(commentId);
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null && cached.get() instanceof String articleId) {
+            return new ArticleId(articleId);
+        }
         
-        return result;
+        Optional<ArticleId> articleId = commentRepository.findById(commentId).map(CommentAggregate::getArticleId);
+        articleId.ifPresent(id -> cache.put(key, id.getValue()));
+        return articleId.orElse(null);
+    }
+    
+    /**
+     * 获取文章当前评论版本，不存在时生成随机版本（并发生成时以先写入者为准）
+     */
+    private static String currentVersion(Cache cache, ArticleId articleId) {
+        String key = CommentCacheKeys.version(articleId);
+        Cache.ValueWrapper existing = cache.get(key);
+        if (existing != null && existing.get() instanceof String version) {
+            return version;
+        }
+        String created = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+        Cache.ValueWrapper raced = cache.putIfAbsent(key, created);
+        return raced != null && raced.get() instanceof String version ? version : created;
     }
 }
 
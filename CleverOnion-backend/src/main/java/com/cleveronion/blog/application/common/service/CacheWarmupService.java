@@ -0,0 +1,244 @@
+package com.cleveronion.blog.application.common.service;
+
+import com.cleveronion.blog.application.article.service.ArticleQueryService;
+import com.cleveronion.blog.application.category.service.CategoryQueryService;
+import com.cleveronion.blog.application.tag.service.TagQueryService;
+import com.cleveronion.blog.application.user.service.UserQueryService;
+import com.cleveronion.blog.common.cache.CacheNames;
+import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
+import com.cleveronion.blog.domain.user.valueobject.UserId;
+import com.cleveronion.blog.infrastructure.common.cache.CacheRefreshScope;
+import com.cleveronion.blog.infrastructure.common.config.CacheWarmupConfig;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 缓存预热服务
+ *
+ * <p>启动完成后并行预热首页相关的热点缓存：
+ * <ul>
+ *   <li>已发布文章列表前 N 页及已发布文章总数</li>
+ *   <li>最近发布、热门文章</li>
+ *   <li>标签列表、分类列表</li>
+ *   <li>上述文章引用的作者信息</li>
+ * </ul>
+ *
+ * <p>预热完成后通过定时任务在 TTL 到期前重新加载这些条目，
+ * 刷新间隔需小于其中最短的 TTL（article:count 生产环境 5 分钟）。
+ * 刷新时用新值原地覆盖旧条目（{@link CacheRefreshScope}），不先移除，读请求始终能命中；
+ * 每个周期由持有 Redis 租约的一个节点执行，租约不主动释放，到期后进入下一个周期。
+ *
+ * <p>预热结束（包括部分失败或超时）后 {@link #isCompleted()} 返回 true，
+ * 由健康检查据此控制就绪状态，避免 Redis 故障时实例永远无法就绪。
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Service
+public class CacheWarmupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmupService.class);
+
+    /**
+     * 预热并行度，避免占满数据库连接池
+     */
+    private static final int WARMUP_PARALLELISM = 4;
+
+    /**
+     * 定时刷新租约 Key
+     */
+    private static final String REFRESH_LEASE_KEY = "cleveronion:job:cache-warmup:lease";
+
+    private final ArticleQueryService articleQueryService;
+    private final TagQueryService tagQueryService;
+    private final CategoryQueryService categoryQueryService;
+    private final UserQueryService userQueryService;
+    private final CacheWarmupConfig warmupConfig;
+    private final StringRedisTemplate redisTemplate;
+
+    private final ExecutorService executor;
+    private volatile boolean completed;
+
+    public CacheWarmupService(ArticleQueryService articleQueryService,
+                              TagQueryService tagQueryService,
+                              CategoryQueryService categoryQueryService,
+                              UserQueryService userQueryService,
+                              CacheWarmupConfig warmupConfig,
+                              StringRedisTemplate redisTemplate) {
+        this.articleQueryService = articleQueryService;
+        this.tagQueryService = tagQueryService;
+        this.categoryQueryService = categoryQueryService;
+        this.userQueryService = userQueryService;
+        this.warmupConfig = warmupConfig;
+        this.redisTemplate = redisTemplate;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(WARMUP_PARALLELISM, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 应用启动完成后异步预热，不阻塞启动流程
+     * 协调线程不占用预热线程池，预热任务独享全部并行度
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!warmupConfig.isEnabled()) {
+            logger.info("缓存预热已禁用");
+            completed = true;
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            long start = System.currentTimeMillis();
+            try {
+                warmUp(false);
+                logger.info("缓存预热完成，耗时 {} ms", System.currentTimeMillis() - start);
+            } finally {
+                completed = true;
+            }
+        });
+    }
+
+    /**
+     * 在 TTL 到期前刷新预热条目
+     * 其他节点已在本周期刷新时跳过
+     */
+    @Scheduled(
+        initialDelayString = "${cache.warmup.refresh-interval-ms:240000}",
+        fixedDelayString = "${cache.warmup.refresh-interval-ms:240000}"
+    )
+    public void refreshAheadOfTtl() {
+        if (!warmupConfig.isEnabled() || !completed) {
+            return;
+        }
+        if (!tryAcquireRefreshLease()) {
+            logger.debug("本周期的预热缓存刷新由其他节点执行");
+            return;
+        }
+        logger.debug("开始刷新预热缓存");
+        warmUp(true);
+    }
+
+    /**
+     * 启动预热是否已结束
+     *
+     * @return 是否已结束
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 执行一轮预热
+     *
+     * @param refresh 为 true 时重新查询数据库并覆盖旧条目
+     */
+    private void warmUp(boolean refresh) {
+        int pageSize = warmupConfig.getPageSize();
+        int limit = warmupConfig.getHighlightLimit();
+
+        List<CompletableFuture<List<ArticleAggregate>>> articleTasks = new ArrayList<>();
+        for (int page = 0; page < warmupConfig.getListPages(); page++) {
+            int currentPage = page;
+            articleTasks.add(submit(CacheNames.ARTICLE_LIST, "published:page:" + page + ":size:" + pageSize, refresh,
+                () -> articleQueryService.findPublishedArticles(currentPage, pageSize).getItems()));
+        }
+        articleTasks.add(submit(CacheNames.ARTICLE_LIST, "recent:" + limit, refresh,
+            () -> articleQueryService.findRecentlyPublished(limit)));
+        articleTasks.add(submit(CacheNames.ARTICLE_LIST, "popular:" + limit, refresh,
+            () -> articleQueryService.findPopularArticles(limit)));
+
+        List<CompletableFuture<?>> tasks = new ArrayList<>(articleTasks);
+        tasks.add(submit(CacheNames.ARTICLE_COUNT, "published", refresh, articleQueryService::countPublishedArticles));
+        tasks.add(submit(CacheNames.TAG_LIST, "all", refresh, tagQueryService::findAll));
+        tasks.add(submit(CacheNames.CATEGORY_LIST, "all", refresh, categoryQueryService::findAll));
+
+        // 文章加载完成后再预热其引用的作者
+        CompletableFuture<Void> authorTasks = CompletableFuture
+            .allOf(articleTasks.toArray(new CompletableFuture[0]))
+            .thenCompose(ignored -> {
+                Set<Long> authorIds = new LinkedHashSet<>();
+                articleTasks.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .flatMap(List::stream)
+                    .filter(article -> article.getAuthorId() != null)
+                    .forEach(article -> authorIds.add(article.getAuthorId().getValue()));
+
+                return CompletableFuture.allOf(authorIds.stream()
+                    .map(authorId -> submit(CacheNames.USER_DETAIL, authorId, refresh,
+                        () -> userQueryService.findById(UserId.of(authorId))))
+                    .toArray(CompletableFuture[]::new));
+            });
+        tasks.add(authorTasks);
+
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                .get(warmupConfig.getTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("缓存预热超时，未完成的条目将在首次访问时加载: timeoutMs={}", warmupConfig.getTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("缓存预热异常", e);
+        }
+    }
+
+    /**
+     * 提交单个预热任务，失败时只记录日志
+     */
+    private <T> CompletableFuture<T> submit(String cacheName, Object key, boolean refresh, Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (refresh) {
+                return CacheRefreshScope.refresh(cacheName, key, loader);
+            }
+            return loader.get();
+        }, executor).exceptionally(e -> {
+            logger.warn("缓存预热条目加载失败: cache={}, key={}", cacheName, key, e);
+            return null;
+        });
+    }
+
+    /**
+     * 获取本周期的刷新租约，有效期略短于刷新间隔，保证持有者下个周期仍能重新获取
+     * Redis 异常时视为获取成功，退化为各节点各自刷新
+     */
+    private boolean tryAcquireRefreshLease() {
+        Duration ttl = Duration.ofMillis(Math.max(1, warmupConfig.getRefreshIntervalMs() * 9 / 10));
+        try {
+            return Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(REFRESH_LEASE_KEY, UUID.randomUUID().toString(), ttl));
+        } catch (RuntimeException e) {
+            logger.warn("获取预热缓存刷新租约失败，由本节点刷新", e);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.cleveronion.blog.application.tag.dto;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 未使用标签清理任务进度DTO
+ * 同时作为断点续跑的检查点，以 Redis Hash 形式持久化
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class UnusedTagCleanupProgress {
+    
+    /**
+     * 任务状态
+     */
+    public enum Status {
+        /** 从未运行 */
+        IDLE,
+        /** 运行中（进程重启后会从游标处续跑） */
+        RUNNING,
+        /** 已完成 */
+        COMPLETED,
+        /** 已失败 */
+        FAILED
+    }
+    
+    private final Status status;
+    private final Long cursor;
+    private final long deletedCount;
+    private final long chunkCount;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime updatedAt;
+    private final String errorMessage;
+    
+    /**
+     * 构造函数
+     * 
+     * @param status 任务状态
+     * @param cursor 已处理到的最大标签ID
+     * @param deletedCount 已删除的标签数量
+     * @param chunkCount 已处理的块数
+     * @param startedAt 开始时间
+     * @param updatedAt 最近更新时间
+     * @param errorMessage 失败原因
+     */
+    public UnusedTagCleanupProgress(Status status, Long cursor, long deletedCount, long chunkCount,
+                                    LocalDateTime startedAt, LocalDateTime updatedAt, String errorMessage) {
+        this.status = status;
+        this.cursor = cursor;
+        this.deletedCount = deletedCount;
+        this.chunkCount = chunkCount;
+        this.startedAt = startedAt;
+        this.updatedAt = updatedAt;
+        this.errorMessage = errorMessage;
+    }
+    
+    /**
+     * 未运行过的初始进度
+     * 
+     * @return 初始进度
+     */
+    public static UnusedTagCleanupProgress idle() {
+        return new UnusedTagCleanupProgress(Status.IDLE, null, 0, 0, null, null, null);
+    }
+    
+    /**
+     * 新任务的起始进度
+     * 
+     * @return 起始进度
+     */
+    public static UnusedTagCleanupProgress started() {
+        LocalDateTime now = LocalDateTime.now();
+        return new UnusedTagCleanupProgress(Status.RUNNING, null, 0, 0, now, now, null);
+    }
+    
+    /**
+     * 完成一块后的进度
+     * 
+     * @param newCursor 本块最大的候选标签ID
+     * @param deletedInChunk 本块删除数量
+     * @return 新进度
+     */
+    public UnusedTagCleanupProgress advance(Long newCursor, int deletedInChunk) {
+        return new UnusedTagCleanupProgress(status, newCursor, deletedCount + deletedInChunk, chunkCount + 1,
+            startedAt, LocalDateTime.now(), null);
+    }
+    
+    public UnusedTagCleanupProgress completed() {
+        return new UnusedTagCleanupProgress(Status.COMPLETED, cursor, deletedCount, chunkCount,
+            startedAt, LocalDateTime.now(), null);
+    }
+    
+    public UnusedTagCleanupProgress failed(String message) {
+        return new UnusedTagCleanupProgress(Status.FAILED, cursor, deletedCount, chunkCount,
+            startedAt, LocalDateTime.now(), message);
+    }
+    
+    /**
+     * 转换为 Redis Hash 字段
+     * 
+     * @return 字段映射
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new HashMap<>();
+        map.put("status", status.name());
+        map.put("deletedCount", String.valueOf(deletedCount));
+        map.put("chunkCount", String.valueOf(chunkCount));
+        if (cursor != null) {
+            map.put("cursor", String.valueOf(cursor));
+        }
+        if (startedAt != null) {
+            map.put("startedAt", startedAt.toString());
+        }
+        if (updatedAt != null) {
+            map.put("updatedAt", updatedAt.toString());
+        }
+        if (errorMessage != null) {
+            map.put("errorMessage", errorMessage);
+        }
+        return map;
+    }
+    
+    /**
+     * 从 Redis Hash 字段还原
+     * 
+     * @param map 字段映射，为空时返回初始进度
+     * @return 进度
+     */
+    public static UnusedTagCleanupProgress fromMap(Map<String, String> map) {
+        if (map == null || map.isEmpty()) {
+            return idle();
+        }
+        return new UnusedTagCleanupProgress(
+            Status.valueOf(map.get("status")),
+            map.containsKey("cursor") ? Long.valueOf(map.get("cursor")) : null,
+            Long.parseLong(map.getOrDefault("deletedCount", "0")),
+            Long.parseLong(map.getOrDefault("chunkCount", "0")),
+            map.containsKey("startedAt") ? LocalDateTime.parse(map.get("startedAt")) : null,
+            map.containsKey("updatedAt") ? LocalDateTime.parse(map.get("updatedAt")) : null,
+            map.get("errorMessage")
+        );
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public Long getCursor() {
+        return cursor;
+    }
+    
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+    
+    public long getChunkCount() {
+        return chunkCount;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+    
+    @Override
+    public String toString() {
+        return "UnusedTagCleanupProgress{" +
+                "status=" + status +
+                ", cursor=" + cursor +
+                ", deletedCount=" + deletedCount +
+                ", chunkCount=" + chunkCount +
+                '}';
+    }
+}
@@ -6,9 +6,12 @@ import com.cleveronion.blog.domain.article.aggregate.TagAggregate;
 import com.cleveronion.blog.domain.article.event.TagCreatedEvent;
 import com.cleveronion.blog.domain.article.event.TagDeletedEvent;
 import com.cleveronion.blog.domain.article.event.TagUpdatedEvent;
+import com.cleveronion.blog.domain.article.event.TagsDeletedEvent;
 import com.cleveronion.blog.domain.article.repository.TagRepository;
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.article.valueobject.TagId;
 import com.cleveronion.blog.domain.common.event.DomainEventPublisher;
+import com.cleveronion.blog.infrastructure.common.cache.DimensionSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
@@ -17,7 +20,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -31,6 +37,7 @@ import java.util.stream.Collectors;
  *   <li>创建标签：清除标签列表缓存</li>
  *   <li>更新标签：清除标签详情、标签列表、文章列表缓存</li>
  *   <li>删除标签：清除标签详情、标签列表、标签统计、文章列表缓存</li>
+ *   <li>批量删除标签：由 {@link TagsDeletedEvent} 的处理器按ID精确清除</li>
  * </ul>
  * 
  * @author CleverOnion
@@ -42,12 +49,20 @@ public class TagCommandService {
     
     private static final Logger logger = LoggerFactory.getLogger(TagCommandService.class);
     
+    /**
+     * 清理未使用标签时每块处理的数量
+     */
+    static final int CLEANUP_CHUNK_SIZE = 500;
+    
     private final TagRepository tagRepository;
     private final DomainEventPublisher eventPublisher;
+    private final DimensionSnapshot dimensionSnapshot;
     
-    public TagCommandService(TagRepository tagRepository, DomainEventPublisher eventPublisher) {
+    public TagCommandService(TagRepository tagRepository, DomainEventPublisher eventPublisher,
+                             DimensionSnapshot dimensionSnapshot) {
         this.tagRepository = tagRepository;
         this.eventPublisher = eventPublisher;
+        this.dimensionSnapshot = dimensionSnapshot;
     }
     
     /**
@@ -92,16 +107,15 @@ public class TagCommandService {
     /**
      * 更新标签名称（清除缓存）
      * 
-     * <p>清除缓存：指定标签的详情、标签列表、文章列表
-     * <p>注意：文章列表也需要清除，因为文章响应中包含标签信息
+     * <p>清除缓存：指定标签的详情、标签列表
+     * <p>文章列表只缓存文章ID，标签名称在响应组装时读取，改名无需清除文章列表
      * 
      * @param command 更新标签命令
      * @return 更新后的标签聚合
      */
     @Caching(evict = {
         @CacheEvict(cacheNames = CacheNames.TAG_DETAIL, key = "#command.tagId.value"),
-        @CacheEvict(cacheNames = CacheNames.TAG_LIST, allEntries = true),
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true)
+        @CacheEvict(cacheNames = CacheNames.TAG_LIST, allEntries = true)
     })
     public TagAggregate updateTagName(UpdateTagCommand command) {
         logger.debug("执行更新标签命令: {}", command);
@@ -236,42 +250,39 @@ public class TagCommandService {
     }
     
     /**
-     * 批量删除标签（清除缓存）
+     * 批量删除标签
      * 
-     * <p>清除缓存：标签详情、标签列表、标签统计、文章列表
+     * <p>先用一条语句移除这些标签与所有文章的关联并得到受影响的文章，再删除标签本身，
+     * 最后只发布一次 {@link TagsDeletedEvent}。
+     * 
+     * <p>缓存由事件处理器按ID精确清除：被删除标签的详情与统计、标签列表，
+     * 以及受影响文章的详情（没有受影响文章时不清除文章列表）
      * 
      * @param command 批量删除标签命令
      */
-    @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.TAG_DETAIL, allEntries = true),
-        @CacheEvict(cacheNames = CacheNames.TAG_LIST, allEntries = true),
-        @CacheEvict(cacheNames = CacheNames.TAG_COUNT, allEntries = true),
-        @CacheEvict(cacheNames = CacheNames.ARTICLE_LIST, allEntries = true)
-    })
     public void deleteTags(DeleteTagsCommand command) {
-        logger.debug("开始批量删除标签，数量: {}", command.getTagIds().size());
+        Set<TagId> tagIds = command.getTagIds();
+        logger.debug("开始批量删除标签，数量: {}", tagIds.size());
         
-        // 先获取所有要删除的标签信息，用于发布事件
-        List<TagAggregate> tagsToDelete = tagRepository.findByIds(command.getTagIds());
+        // 一次性移除文章关联
+        Set<ArticleId> affectedArticleIds = tagRepository.detachFromArticles(tagIds);
         
         // 删除标签
-        tagRepository.deleteByIds(command.getTagIds());
-        
-        // 为每个删除的标签发布删除事件
-        for (TagAggregate tag : tagsToDelete) {
-            eventPublisher.publish(new TagDeletedEvent(
-                this,
-                tag.getId(),
-                tag.getName()
-            ));
-        }
+        tagRepository.deleteByIds(tagIds);
         
-        logger.info("成功批量删除标签，数量: {}", tagsToDelete.size());
+        // 发布一次批量删除事件
+        eventPublisher.publish(new TagsDeletedEvent(this, tagIds, affectedArticleIds));
+        
+        logger.info("成功批量删除标签，数量: {}, 受影响文章数量: {}", tagIds.size(), affectedArticleIds.size());
     }
     
     /**
      * 清理未使用的标签（清除缓存）
      * 
+     * <p>按ID游标分块执行 NOT EXISTS 反连接查找并删除，耗时与未使用标签数量成正比；
+     * 全部完成后只发布一次 {@link TagsDeletedEvent}。
+     * 标签较多时建议使用后台任务 {@link UnusedTagCleanupJob}，每块独立提交并可断点续跑。
+     * 
      * <p>清除缓存：标签详情、标签列表、标签统计
      * 
      * @param command 清理未使用标签命令
@@ -285,38 +296,63 @@ public class TagCommandService {
     public int cleanupUnusedTags(CleanupUnusedTagsCommand command) {
         logger.debug("开始清理未使用的标签");
         
-        List<TagAggregate> unusedTags = tagRepository.findUnusedTags();
+        Set<TagId> deletedTagIds = new HashSet<>();
+        TagId cursor = null;
+        List<TagId> candidates;
+        while (!(candidates = tagRepository.findUnusedTagIds(cursor, CLEANUP_CHUNK_SIZE)).isEmpty()) {
+            deletedTagIds.addAll(deleteUnusedTags(new LinkedHashSet<>(candidates)));
+            cursor = candidates.get(candidates.size() - 1);
+        }
         
-        if (unusedTags.isEmpty()) {
+        if (deletedTagIds.isEmpty()) {
             logger.info("没有找到未使用的标签");
             return 0;
         }
         
-        Set<TagId> unusedTagIds = unusedTags.stream()
-            .map(TagAggregate::getId)
-            .collect(Collectors.toSet());
+        // 发布一次批量删除事件
+        eventPublisher.publish(new TagsDeletedEvent(this, deletedTagIds));
         
-        // 删除标签
-        tagRepository.deleteByIds(unusedTagIds);
-        
-        // 发布删除事件
-        for (TagAggregate tag : unusedTags) {
-            eventPublisher.publish(new TagDeletedEvent(
-                this,
-                tag.getId(),
-                tag.getName()
-            ));
+        logger.info("成功清理未使用的标签，数量: {}", deletedTagIds.size());
+        
+        return deletedTagIds.size();
+    }
+    
+    /**
+     * 删除一批候选标签中仍未被使用的标签
+     * 
+     * <p>删除语句再次校验无关联，查找与删除之间被引用的标签会被保留；
+     * 不发布事件、不清除缓存，由调用方在整批任务结束后统一处理。
+     * 
+     * @param candidateIds 候选标签ID
+     * @return 实际删除的标签ID
+     */
+    public Set<TagId> deleteUnusedTags(Set<TagId> candidateIds) {
+        if (candidateIds == null || candidateIds.isEmpty()) {
+            return Set.of();
         }
         
-        logger.info("成功清理未使用的标签，数量: {}", unusedTags.size());
+        int deleted = tagRepository.deleteUnusedByIds(candidateIds);
+        if (deleted == candidateIds.size()) {
+            return candidateIds;
+        }
         
-        return unusedTags.size();
+        // 少数候选在删除前被引用，排除仍然存在的标签
+        Set<TagId> survivors = tagRepository.findByIds(candidateIds).stream()
+            .map(TagAggregate::getId)
+            .collect(Collectors.toSet());
+        logger.debug("部分候选标签已被引用，跳过删除: {}", survivors.size());
+        return candidateIds.stream()
+            .filter(id -> !survivors.contains(id))
+            .collect(Collectors.toSet());
     }
     
     /**
      * 根据标签名称查找或创建标签（清除缓存）
      * 如果标签不存在，则自动创建
      * 
+     * <p>已存在的标签优先从内存快照匹配，只有快照未命中的名称才查询数据库
+     * （快照可能尚未收到其他节点新建标签的通知，查库避免重复创建）
+     * 
      * <p>清除缓存：标签列表（可能创建了新标签）
      * 
      * @param command 查找或创建标签命令
@@ -331,8 +367,15 @@ public class TagCommandService {
         
         Set<String> names = command.getNames();
         
-        // 查找已存在的标签
-        List<TagAggregate> existingTags = tagRepository.findByNames(names);
+        // 查找已存在的标签：先查内存快照，未命中的再查数据库
+        Map<String, TagAggregate> snapshotHits = dimensionSnapshot.findTagsByNames(names);
+        List<TagAggregate> existingTags = new ArrayList<>(snapshotHits.values());
+        Set<String> snapshotMisses = names.stream()
+            .filter(name -> !snapshotHits.containsKey(name))
+            .collect(Collectors.toSet());
+        if (!snapshotMisses.isEmpty()) {
+            existingTags.addAll(tagRepository.findByNames(snapshotMisses));
+        }
         Set<String> existingTagNames = existingTags.stream()
             .map(TagAggregate::getName)
             .collect(Collectors.toSet());
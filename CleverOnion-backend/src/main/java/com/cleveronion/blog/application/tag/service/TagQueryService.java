@@ -1,20 +1,23 @@
 package com.cleveronion.blog.application.tag.service;
 
 import com.cleveronion.blog.common.cache.CacheNames;
-import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
 import com.cleveronion.blog.domain.article.aggregate.TagAggregate;
 import com.cleveronion.blog.domain.article.repository.ArticleRepository;
 import com.cleveronion.blog.domain.article.repository.TagRepository;
 import com.cleveronion.blog.domain.article.valueobject.TagId;
+import com.cleveronion.blog.infrastructure.common.cache.DimensionSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 标签查询服务（CQRS - Query）
@@ -27,6 +30,8 @@ import java.util.Set;
  *   <li>标签统计缓存：10 分钟</li>
  * </ul>
  * 
+ * <p>响应组装使用的 lookup 方法优先读取 {@link DimensionSnapshot} 内存快照，不访问 Redis
+ * 
  * @author CleverOnion
  * @since 2.0.0
  */
@@ -38,10 +43,16 @@ public class TagQueryService {
     
     private final TagRepository tagRepository;
     private final ArticleRepository articleRepository;
+    private final DimensionSnapshot dimensionSnapshot;
     
-    public TagQueryService(TagRepository tagRepository, ArticleRepository articleRepository) {
+    public TagQueryService(
+        TagRepository tagRepository,
+        ArticleRepository articleRepository,
+        DimensionSnapshot dimensionSnapshot
+    ) {
         this.tagRepository = tagRepository;
         this.articleRepository = articleRepository;
+        this.dimensionSnapshot = dimensionSnapshot;
     }
     
     // ========== 基础查询方法（6个）==========
@@ -92,6 +103,30 @@ public class TagQueryService {
         return tagRepository.findByIds(tagIds);
     }
     
+    /**
+     * 根据ID集合批量查找标签（优先读取内存快照，用于响应组装）
+     * 
+     * <p>快照未命中的ID（快照尚未加载或尚未收到新建通知）批量查询数据库
+     * 
+     * @param tagIds 标签ID集合
+     * @return 标签ID到标签聚合的映射，不存在的ID不在结果中
+     */
+    public Map<TagId, TagAggregate> lookupByIds(Set<TagId> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<TagId, TagAggregate> result = new HashMap<>(dimensionSnapshot.findTags(tagIds));
+        if (result.size() < tagIds.size()) {
+            Set<TagId> misses = tagIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .collect(Collectors.toSet());
+            logger.debug("标签快照未命中，查询数据库，ID数量: {}", misses.size());
+            tagRepository.findByIds(misses).forEach(tag -> result.put(tag.getId(), tag));
+        }
+        return result;
+    }
+    
     /**
      * 根据名称查找标签
      * 
@@ -339,8 +374,7 @@ public class TagQueryService {
         }
         
         logger.debug("从数据库统计标签使用情况，ID: {}", tagId.getValue());
-        List<ArticleAggregate> articlesUsingTag = articleRepository.findByTagId(tagId);
-        return articlesUsingTag.size();
+        return articleRepository.countByTagId(tagId);
     }
     
     /**
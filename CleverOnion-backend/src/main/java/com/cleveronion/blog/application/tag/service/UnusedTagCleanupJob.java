@@ -0,0 +1,249 @@
+package com.cleveronion.blog.application.tag.service;
+
+import com.cleveronion.blog.application.tag.dto.UnusedTagCleanupProgress;
+import com.cleveronion.blog.domain.article.event.TagsDeletedEvent;
+import com.cleveronion.blog.domain.article.repository.TagRepository;
+import com.cleveronion.blog.domain.article.valueobject.TagId;
+import com.cleveronion.blog.domain.common.event.DomainEventPublisher;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 未使用标签清理后台任务
+ *
+ * <p>按标签ID游标分块执行：每块先用 NOT EXISTS 反连接查找候选，再在独立事务中删除仍未使用的标签，
+ * 耗时与未使用标签数量成正比。每块完成后把游标和进度写入 Redis：
+ * <ul>
+ *   <li>进度可通过 {@link #getProgress()} 查询，各节点可见</li>
+ *   <li>进程中断后，下次启动时从游标处续跑</li>
+ *   <li>Redis 租约保证同一时间只有一个节点在运行</li>
+ * </ul>
+ *
+ * <p>任务结束（完成或失败）时对本次运行删除的全部标签只发布一次 {@link TagsDeletedEvent}。
+ * 续跑时中断前已删除的标签不在事件中，这些标签未被任何文章引用，其详情缓存随 TTL 过期。
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Service
+public class UnusedTagCleanupJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnusedTagCleanupJob.class);
+
+    private static final String PROGRESS_KEY = "cleveronion:job:tag-cleanup";
+    private static final String LEASE_KEY = "cleveronion:job:tag-cleanup:lease";
+
+    /**
+     * 租约有效期，每完成一块续期一次；节点宕机后租约过期，其他节点可接手
+     */
+    private static final Duration LEASE_TTL = Duration.ofMinutes(2);
+
+    /**
+     * 仅在值匹配时删除租约
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    /**
+     * 仅在值匹配时续期租约，检查与续期在一次原子操作中完成，
+     * 避免租约在两步之间过期并被其他节点获取后，误续期他人的租约
+     */
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+        Long.class
+    );
+
+    private final TagRepository tagRepository;
+    private final TagCommandService tagCommandService;
+    private final DomainEventPublisher eventPublisher;
+    private final StringRedisTemplate redisTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tag-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile UnusedTagCleanupProgress localProgress = UnusedTagCleanupProgress.idle();
+
+    public UnusedTagCleanupJob(TagRepository tagRepository,
+                               TagCommandService tagCommandService,
+                               DomainEventPublisher eventPublisher,
+                               StringRedisTemplate redisTemplate) {
+        this.tagRepository = tagRepository;
+        this.tagCommandService = tagCommandService;
+        this.eventPublisher = eventPublisher;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 启动清理任务
+     * 任务已在本节点或其他节点运行时不重复启动，直接返回当前进度
+     *
+     * @return 当前进度
+     */
+    public UnusedTagCleanupProgress start() {
+        if (!running.compareAndSet(false, true)) {
+            return getProgress();
+        }
+
+        String leaseToken = UUID.randomUUID().toString();
+        if (!tryAcquireLease(leaseToken)) {
+            running.set(false);
+            logger.info("未使用标签清理任务正在其他节点运行");
+            return getProgress();
+        }
+
+        // 上次运行被中断时从游标续跑，否则重新开始
+        UnusedTagCleanupProgress previous = getProgress();
+        UnusedTagCleanupProgress initial = previous.getStatus() == UnusedTagCleanupProgress.Status.RUNNING
+            ? previous
+            : UnusedTagCleanupProgress.started();
+        saveProgress(initial);
+
+        try {
+            executor.execute(() -> run(initial, leaseToken));
+        } catch (RuntimeException e) {
+            running.set(false);
+            releaseLease(leaseToken);
+            throw new IllegalStateException("无法启动未使用标签清理任务", e);
+        }
+        logger.info("未使用标签清理任务已启动: {}", initial);
+        return initial;
+    }
+
+    /**
+     * 查询任务进度
+     * Redis 不可用时返回本节点记录的进度
+     *
+     * @return 任务进度
+     */
+    public UnusedTagCleanupProgress getProgress() {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(PROGRESS_KEY);
+            Map<String, String> fields = new HashMap<>();
+            entries.forEach((key, value) -> fields.put(String.valueOf(key), String.valueOf(value)));
+            return fields.isEmpty() ? localProgress : UnusedTagCleanupProgress.fromMap(fields);
+        } catch (RuntimeException e) {
+            logger.warn("读取标签清理任务进度失败，返回本地进度", e);
+            return localProgress;
+        }
+    }
+
+    /**
+     * 启动时续跑被中断的任务
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJob() {
+        if (getProgress().getStatus() == UnusedTagCleanupProgress.Status.RUNNING) {
+            logger.info("发现被中断的未使用标签清理任务，尝试续跑");
+            start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(UnusedTagCleanupProgress initial, String leaseToken) {
+        UnusedTagCleanupProgress progress = initial;
+        Set<TagId> deletedTagIds = new HashSet<>();
+        try {
+            TagId cursor = progress.getCursor() != null ? TagId.of(progress.getCursor()) : null;
+            List<TagId> candidates;
+            while (!Thread.currentThread().isInterrupted()
+                && !(candidates = tagRepository.findUnusedTagIds(cursor, TagCommandService.CLEANUP_CHUNK_SIZE)).isEmpty()) {
+                Set<TagId> deleted = tagCommandService.deleteUnusedTags(new LinkedHashSet<>(candidates));
+                deletedTagIds.addAll(deleted);
+                cursor = candidates.get(candidates.size() - 1);
+                progress = progress.advance(cursor.getValue(), deleted.size());
+                saveProgress(progress);
+                renewLease(leaseToken);
+                logger.debug("未使用标签清理进度: {}", progress);
+            }
+
+            if (Thread.currentThread().isInterrupted()) {
+                // 保持 RUNNING 状态，下次启动时续跑
+                logger.info("未使用标签清理任务被中断，已保存检查点: {}", progress);
+            } else {
+                progress = progress.completed();
+                saveProgress(progress);
+                logger.info("未使用标签清理任务完成: {}", progress);
+            }
+        } catch (RuntimeException e) {
+            progress = progress.failed(e.getMessage());
+            saveProgress(progress);
+            logger.error("未使用标签清理任务失败: {}", progress, e);
+        } finally {
+            if (!deletedTagIds.isEmpty()) {
+                eventPublisher.publish(new TagsDeletedEvent(this, deletedTagIds));
+            }
+            releaseLease(leaseToken);
+            running.set(false);
+        }
+    }
+
+    private void saveProgress(UnusedTagCleanupProgress progress) {
+        localProgress = progress;
+        try {
+            // 整体替换，避免残留上一次运行的游标或错误信息
+            redisTemplate.delete(PROGRESS_KEY);
+            redisTemplate.opsForHash().putAll(PROGRESS_KEY, progress.toMap());
+        } catch (RuntimeException e) {
+            logger.warn("保存标签清理任务进度失败: {}", progress, e);
+        }
+    }
+
+    /**
+     * Redis 异常时视为获取成功，退化为仅本节点互斥
+     */
+    private boolean tryAcquireLease(String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, token, LEASE_TTL));
+        } catch (RuntimeException e) {
+            logger.warn("获取标签清理任务租约失败，仅在本节点互斥", e);
+            return true;
+        }
+    }
+
+    private void renewLease(String token) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY), token,
+                String.valueOf(LEASE_TTL.toMillis()));
+            if (renewed == null || renewed == 0) {
+                logger.warn("标签清理任务租约已失效，续期未生效");
+            }
+        } catch (RuntimeException e) {
+            logger.warn("续期标签清理任务租约失败", e);
+        }
+    }
+
+    private void releaseLease(String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), token);
+        } catch (RuntimeException e) {
+            logger.warn("释放标签清理任务租约失败，将等待自动过期", e);
+        }
+    }
+}
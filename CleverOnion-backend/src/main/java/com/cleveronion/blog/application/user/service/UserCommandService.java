@@ -1,10 +1,13 @@
 package com.cleveronion.blog.application.user.service;
 
 import com.cleveronion.blog.application.user.command.SyncGitHubUserCommand;
+import com.cleveronion.blog.common.cache.CacheNames;
 import com.cleveronion.blog.domain.user.aggregate.UserAggregate;
 import com.cleveronion.blog.domain.user.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,11 +34,17 @@ public class UserCommandService {
     
     /**
      * 同步GitHub用户
-     * 如果用户已存在则更新，不存在则创建
+     * 如果用户已存在则更新，不存在则创建；资料未变化时不写库
+     * 
+     * <p>清除缓存：用户详情、GitHub 用户映射
      * 
      * @param command 同步GitHub用户命令
      * @return 用户聚合
      */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.USER_DETAIL, key = "#result.id.value"),
+        @CacheEvict(cacheNames = CacheNames.USER_GITHUB, key = "#command.gitHubId.value")
+    })
     public UserAggregate syncUserFromGitHub(SyncGitHubUserCommand command) {
         logger.debug("执行GitHub用户同步命令: {}", command);
         
@@ -45,7 +54,11 @@ public class UserCommandService {
         if (existing.isPresent()) {
             // 更新用户
             user = existing.get();
-            user.updateProfile(command.getUsername(), command.getAvatarUrl());
+            if (!user.updateProfile(command.getUsername(), command.getAvatarUrl())) {
+                // 资料未变化，跳过写库
+                logger.debug("GitHub用户资料未变化，跳过更新，ID: {}", command.getGitHubId().getValue());
+                return user;
+            }
             logger.debug("更新已存在的GitHub用户，ID: {}", command.getGitHubId().getValue());
         } else {
             // 创建用户
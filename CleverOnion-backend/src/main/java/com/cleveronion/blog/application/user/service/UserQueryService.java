@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
  * <p>使用 Redis 缓存提升查询性能：
  * <ul>
  *   <li>用户详情缓存：30 分钟</li>
+ *   <li>GitHub 用户映射缓存：30 分钟</li>
  *   <li>用户列表缓存：30 分钟</li>
  * </ul>
  * 
@@ -88,17 +89,26 @@ public class UserQueryService {
     }
     
     /**
-     * 根据GitHub用户ID查找用户
+     * 根据GitHub用户ID查找用户（带缓存）
+     * 
+     * <p>缓存Key: user:github::{gitHubId}
+     * <p>缓存时间: 30分钟
      * 
      * @param gitHubId GitHub用户ID
      * @return 用户聚合的Optional包装
      */
+    @Cacheable(
+        cacheNames = CacheNames.USER_GITHUB,
+        key = "#gitHubId.value",
+        condition = "#gitHubId != null",
+        unless = "#result == null"
+    )
     public Optional<UserAggregate> findByGitHubId(GitHubId gitHubId) {
         if (gitHubId == null) {
             return Optional.empty();
         }
         
-        logger.debug("根据GitHub ID查询用户: {}", gitHubId.getValue());
+        logger.debug("从数据库根据GitHub ID查询用户: {}", gitHubId.getValue());
         return userRepository.findByGitHubId(gitHubId);
     }
     
@@ -6,8 +6,9 @@ package com.cleveronion.blog.common.cache;
  * 
  * <p>缓存 Key 格式说明：
  * <ul>
- *   <li>完整格式：{key-prefix}::{cacheName}::{key}</li>
- *   <li>示例：cleveronion:cache::article:detail::123</li>
+ *   <li>完整格式：{key-prefix}{cacheName}::v{generation}::{key}</li>
+ *   <li>示例：cleveronion:cache:article:detail::v1718000000000::123</li>
+ *   <li>generation 为缓存代际，{@code allEntries = true} 的清除只递增代际</li>
  * </ul>
  * 
  * <p>缓存过期时间（TTL）配置：
@@ -53,6 +54,9 @@ public final class CacheNames {
      * 
      * <p>用途：缓存文章列表查询结果（分页、按状态、按分类、按标签等）
      * 
+     * <p>只缓存有序的文章ID列表，列表项由 {@link #ARTICLE_SUMMARY} 批量装配，
+     * 单篇文章的变更只需失效其摘要条目
+     * 
      * <p>Key 格式：{查询条件}:page:{page}:size:{size}
      * <p>示例：
      * <ul>
@@ -68,10 +72,27 @@ public final class CacheNames {
      *   <li>生产环境：10 分钟</li>
      * </ul>
      * 
-     * <p>失效时机：任何文章操作（创建、更新、删除等）、分类/标签变更时
+     * <p>失效时机：文章的创建、删除、状态变化，以及分类、标签归属变化时
      */
     public static final String ARTICLE_LIST = "article:list";
     
+    /**
+     * 文章摘要缓存
+     * 
+     * <p>用途：缓存列表项使用的单篇文章（不含正文），供文章列表按ID批量装配
+     * 
+     * <p>Key 格式：{articleId}
+     * <p>示例：article:summary::123
+     * 
+     * <p>TTL：
+     * <ul>
+     *   <li>所有环境：30 分钟</li>
+     * </ul>
+     * 
+     * <p>失效时机：文章被更新、发布、归档、删除，或标签变更时
+     */
+    public static final String ARTICLE_SUMMARY = "article:summary";
+    
     /**
      * 文章统计缓存
      * 
@@ -96,6 +117,23 @@ public final class CacheNames {
      */
     public static final String ARTICLE_COUNT = "article:count";
     
+    /**
+     * 文章渲染结果缓存
+     * 
+     * <p>用途：缓存 Markdown 正文渲染后的 HTML 与目录
+     * 
+     * <p>Key 格式：{contentHash}
+     * <p>示例：article:render::3f7a...（SHA-256 十六进制）
+     * 
+     * <p>TTL：
+     * <ul>
+     *   <li>所有环境：24 小时</li>
+     * </ul>
+     * 
+     * <p>失效时机：无需主动失效（按内容哈希寻址，正文变化即产生新的 Key）
+     */
+    public static final String ARTICLE_RENDER = "article:render";
+    
     // ==================== 分类相关缓存 ====================
     
     /**
@@ -235,7 +273,24 @@ public final class CacheNames {
      * <p>失效时机：用户信息被更新时
      */
     public static final String USER_DETAIL = "user:detail";
-    
+
+    /**
+     * GitHub 用户映射缓存
+     *
+     * <p>用途：缓存 GitHub ID 到本地用户的映射，服务登录热路径
+     *
+     * <p>Key 格式：{gitHubId}
+     * <p>示例：user:github::152043550
+     *
+     * <p>TTL：
+     * <ul>
+     *   <li>所有环境：30 分钟</li>
+     * </ul>
+     *
+     * <p>失效时机：GitHub 用户同步产生新建或资料变更时
+     */
+    public static final String USER_GITHUB = "user:github";
+
     /**
      * 用户列表缓存
      * 
@@ -259,10 +314,19 @@ public final class CacheNames {
     /**
      * 评论列表缓存
      * 
-     * <p>用途：缓存文章的评论列表
+     * <p>用途：缓存文章的评论页（含最新回复）、回复页、评论线程，以及文章的评论版本
      * 
-     * <p>Key 格式：article:{articleId}:page:{page}:size:{size}
-     * <p>示例：comment:list::article:123:page:0:size:10
+     * <p>Key 格式：
+     * <ul>
+     *   <li>评论版本：article:{articleId}:version</li>
+     *   <li>评论页：article:{articleId}:v:{version}:page:{page}:size:{size}:replies:{replyLimit}</li>
+     *   <li>回复页：article:{articleId}:v:{version}:parent:{parentId}:page:{page}:size:{size}</li>
+     *   <li>顶级评论游标页：article:{articleId}:v:{version}:after:{cursor|start}:size:{size}:replies:{replyLimit}</li>
+     *   <li>回复游标页：article:{articleId}:v:{version}:parent:{parentId}:after:{cursor|start}:size:{size}</li>
+     *   <li>评论线程：article:{articleId}:v:{version}:thread:{rootId}:depth:{maxDepth|all}</li>
+     *   <li>评论所属文章：comment:{commentId}:article</li>
+     * </ul>
+     * <p>示例：comment:list::article:123:v:k3x9q2:page:0:size:10:replies:3
      * 
      * <p>TTL：
      * <ul>
@@ -270,17 +334,17 @@ public final class CacheNames {
      *   <li>生产环境：5 分钟（评论更新频繁）</li>
      * </ul>
      * 
-     * <p>失效时机：评论被创建、删除时
+     * <p>失效时机：评论被创建、删除时清除所属文章的评论版本，该文章旧版本的条目随 TTL 过期
      */
     public static final String COMMENT_LIST = "comment:list";
     
     /**
      * 评论统计缓存
      * 
-     * <p>用途：缓存文章的评论数量
+     * <p>用途：缓存文章的评论总数、顶级评论数与回复数
      * 
-     * <p>Key 格式：article:{articleId}
-     * <p>示例：comment:count::article:123
+     * <p>Key 格式：article:{articleId}:v:{version}:all、...:top、...:parent:{parentId}
+     * <p>示例：comment:count::article:123:v:k3x9q2:top
      * 
      * <p>TTL：
      * <ul>
@@ -288,8 +352,27 @@ public final class CacheNames {
      *   <li>生产环境：5 分钟</li>
      * </ul>
      * 
-     * <p>失效时机：评论被创建、删除时
+     * <p>失效时机：与 {@link #COMMENT_LIST} 共用文章的评论版本
      */
     public static final String COMMENT_COUNT = "comment:count";
+    
+    // ==================== 通用缓存 ====================
+    
+    /**
+     * 不存在ID的负缓存
+     * 
+     * <p>用途：记录已确认不存在的文章/评论ID，拦截对不存在ID的重复探测
+     * 
+     * <p>Key 格式：{type}:{id}
+     * <p>示例：id:absent::article:99999
+     * 
+     * <p>TTL：
+     * <ul>
+     *   <li>所有环境：1 分钟（短 TTL，避免新建数据长时间不可见）</li>
+     * </ul>
+     * 
+     * <p>失效时机：对应ID的数据被创建时
+     */
+    public static final String ID_ABSENT = "id:absent";
 }
 
@@ -3,12 +3,14 @@ package com.cleveronion.blog.domain.article.aggregate;
 import com.cleveronion.blog.domain.article.valueobject.*;
 import com.cleveronion.blog.domain.common.aggregate.AggregateRoot;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * 文章聚合根
@@ -39,6 +41,32 @@ public class ArticleAggregate extends AggregateRoot {
     @JsonProperty("publishedAt")
     private LocalDateTime publishedAt;
     
+    /**
+     * 写入时派生的元数据，历史数据未计算时为空
+     */
+    @JsonProperty("metadata")
+    private ArticleMetadata metadata;
+    
+    /**
+     * 评论统计，由评论写入维护，不属于文章自身的业务状态
+     */
+    @JsonProperty("commentStats")
+    private CommentStats commentStats;
+    
+    /**
+     * 修订号：文章每次写入时在数据库中递增，由仓储重建时恢复，用于按版本回填缓存
+     * 不参与序列化，缓存中的版本记录在条目之外
+     */
+    @JsonIgnore
+    private long revision;
+    
+    /**
+     * 正文句柄：从存储重建且正文未加载时，由仓储挂载的延迟加载函数
+     * 不参与序列化，缓存中的聚合只保存已加载的正文
+     */
+    @JsonIgnore
+    private transient Supplier<String> contentLoader;
+    
     /**
      * 私有构造函数，防止外部直接实例化
      */
@@ -58,7 +86,9 @@ public class ArticleAggregate extends AggregateRoot {
             @JsonProperty("categoryId") CategoryId categoryId,
             @JsonProperty("authorId") AuthorId authorId,
             @JsonProperty("tagIds") Set<TagId> tagIds,
-            @JsonProperty("publishedAt") LocalDateTime publishedAt) {
+            @JsonProperty("publishedAt") LocalDateTime publishedAt,
+            @JsonProperty("metadata") ArticleMetadata metadata,
+            @JsonProperty("commentStats") CommentStats commentStats) {
         this.id = id;
         this.content = content;
         this.status = status;
@@ -66,6 +96,8 @@ public class ArticleAggregate extends AggregateRoot {
         this.authorId = authorId;
         this.tagIds = tagIds != null ? tagIds : new HashSet<>();
         this.publishedAt = publishedAt;
+        this.metadata = metadata;
+        this.commentStats = commentStats;
     }
     
     /**
@@ -112,6 +144,25 @@ public class ArticleAggregate extends AggregateRoot {
      */
     public static ArticleAggregate rebuild(ArticleId id, ArticleContent content, ArticleStatus status,
                                  CategoryId categoryId, AuthorId authorId, Set<TagId> tagIds, LocalDateTime publishedAt) {
+        return rebuild(id, content, status, categoryId, authorId, tagIds, publishedAt, null);
+    }
+    
+    /**
+     * 重建文章聚合根（包含派生元数据）
+     * 
+     * @param id 文章ID
+     * @param content 文章内容
+     * @param status 文章状态
+     * @param categoryId 分类ID
+     * @param authorId 作者ID
+     * @param tagIds 标签ID集合
+     * @param publishedAt 发布时间
+     * @param metadata 派生元数据，可以为空
+     * @return 重建的文章聚合根
+     */
+    public static ArticleAggregate rebuild(ArticleId id, ArticleContent content, ArticleStatus status,
+                                 CategoryId categoryId, AuthorId authorId, Set<TagId> tagIds, LocalDateTime publishedAt,
+                                 ArticleMetadata metadata) {
         ArticleAggregate article = new ArticleAggregate();
         article.id = id;
         article.content = content;
@@ -120,10 +171,96 @@ public class ArticleAggregate extends AggregateRoot {
         article.authorId = authorId;
         article.tagIds = tagIds != null ? new HashSet<>(tagIds) : new HashSet<>();
         article.publishedAt = publishedAt;
+        article.metadata = metadata;
         
         return article;
     }
     
+    /**
+     * 应用写入时派生的元数据
+     * 作者未填写摘要时使用抽取的摘要，作者填写的摘要始终优先
+     * 
+     * @param derivedMetadata 由当前正文计算出的元数据
+     * @param extractedSummary 由当前正文抽取的摘要，可以为空
+     */
+    public void applyDerivedMetadata(ArticleMetadata derivedMetadata, String extractedSummary) {
+        applyDerivedMetadata(derivedMetadata, extractedSummary, null);
+    }
+    
+    /**
+     * 应用写入时派生的元数据
+     * 摘要为空，或与修改前正文抽取的摘要一致（即上次自动生成、作者未改写）时，视为自动摘要并重新抽取；
+     * 其余情况视为作者填写的摘要，保持不变
+     * 
+     * @param derivedMetadata 由当前正文计算出的元数据
+     * @param extractedSummary 由当前正文抽取的摘要，可以为空
+     * @param previousExtractedSummary 由修改前正文抽取的摘要，可以为空
+     */
+    public void applyDerivedMetadata(ArticleMetadata derivedMetadata, String extractedSummary,
+                                     String previousExtractedSummary) {
+        if (derivedMetadata == null) {
+            throw new IllegalArgumentException("派生元数据不能为空");
+        }
+        this.metadata = derivedMetadata;
+        boolean autoSummary = !content.hasSummary() || content.getSummary().equals(previousExtractedSummary);
+        if (!autoSummary) {
+            return;
+        }
+        String summary = extractedSummary != null && !extractedSummary.isBlank() ? extractedSummary : null;
+        if (!Objects.equals(summary, content.getSummary())) {
+            this.content = content.withSummary(summary);
+        }
+    }
+    
+    /**
+     * 恢复评论统计（供仓储重建聚合时调用）
+     * 
+     * @param commentStats 评论统计，为空时视为没有评论
+     */
+    public void restoreCommentStats(CommentStats commentStats) {
+        this.commentStats = commentStats;
+    }
+    
+    /**
+     * 恢复修订号（供仓储重建聚合时调用）
+     * 
+     * @param revision 读取该行时的修订号
+     */
+    public void restoreRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    /**
+     * 挂载正文句柄（供仓储在重建不含正文的聚合时调用）
+     * 
+     * @param contentLoader 按需读取正文的函数
+     */
+    public void attachContentLoader(Supplier<String> contentLoader) {
+        this.contentLoader = contentLoader;
+    }
+    
+    /**
+     * 获取包含正文的文章内容，正文未加载时通过正文句柄加载一次
+     * 
+     * @return 包含正文的文章内容
+     * @throws IllegalStateException 当正文未加载且无法加载时抛出
+     */
+    public ArticleContent loadContent() {
+        if (content.isBodyLoaded()) {
+            return content;
+        }
+        if (contentLoader == null) {
+            throw new IllegalStateException("文章正文未加载: " + getAggregateId());
+        }
+        String body = contentLoader.get();
+        if (body == null) {
+            throw new IllegalStateException("文章正文不存在: " + getAggregateId());
+        }
+        this.content = ArticleContent.restore(content.getTitle(), body, content.getSummary());
+        this.contentLoader = null;
+        return content;
+    }
+    
     /**
      * 更新文章内容
      * 
@@ -272,6 +409,19 @@ public class ArticleAggregate extends AggregateRoot {
         return publishedAt;
     }
     
+    public ArticleMetadata getMetadata() {
+        return metadata;
+    }
+    
+    public CommentStats getCommentStats() {
+        return commentStats != null ? commentStats : CommentStats.empty();
+    }
+    
+    @JsonIgnore
+    public long getRevision() {
+        return revision;
+    }
+    
     @Override
     public String getAggregateId() {
         return id != null ? id.getValue().toString() : null;
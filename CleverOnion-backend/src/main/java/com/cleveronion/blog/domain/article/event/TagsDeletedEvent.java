@@ -0,0 +1,87 @@
+package com.cleveronion.blog.domain.article.event;
+
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
+import com.cleveronion.blog.domain.article.valueobject.TagId;
+import com.cleveronion.blog.domain.common.event.DomainEvent;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 标签批量删除领域事件
+ * 批量删除标签时只发布一次此事件，替代逐个发布 {@link TagDeletedEvent}
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class TagsDeletedEvent extends DomainEvent {
+    
+    private static final String BATCH_AGGREGATE_ID = "batch";
+    
+    private final Set<TagId> tagIds;
+    private final Set<ArticleId> affectedArticleIds;
+    
+    /**
+     * 构造函数（被删除的标签未关联任何文章）
+     * 
+     * @param source 事件源对象
+     * @param tagIds 被删除的标签ID集合
+     */
+    public TagsDeletedEvent(Object source, Set<TagId> tagIds) {
+        this(source, tagIds, Set.of());
+    }
+    
+    /**
+     * 构造函数
+     * 
+     * @param source 事件源对象
+     * @param tagIds 被删除的标签ID集合
+     * @param affectedArticleIds 删除前关联了这些标签的文章ID集合
+     */
+    public TagsDeletedEvent(Object source, Set<TagId> tagIds, Set<ArticleId> affectedArticleIds) {
+        super(source, BATCH_AGGREGATE_ID);
+        this.tagIds = Set.copyOf(Objects.requireNonNull(tagIds, "标签ID集合不能为空"));
+        this.affectedArticleIds = Set.copyOf(Objects.requireNonNull(affectedArticleIds, "文章ID集合不能为空"));
+    }
+    
+    /**
+     * 获取被删除的标签ID集合
+     * 
+     * @return 标签ID集合（不可变）
+     */
+    public Set<TagId> getTagIds() {
+        return tagIds;
+    }
+    
+    /**
+     * 获取受影响的文章ID集合
+     * 
+     * @return 文章ID集合（不可变）
+     */
+    public Set<ArticleId> getAffectedArticleIds() {
+        return affectedArticleIds;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TagsDeletedEvent that = (TagsDeletedEvent) o;
+        return Objects.equals(getEventId(), that.getEventId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(getEventId());
+    }
+    
+    @Override
+    public String toString() {
+        return "TagsDeletedEvent{" +
+                "eventId='" + getEventId() + '\'' +
+                ", occurredOn=" + getOccurredOn() +
+                ", tagCount=" + tagIds.size() +
+                ", affectedArticleCount=" + affectedArticleIds.size() +
+                '}';
+    }
+}
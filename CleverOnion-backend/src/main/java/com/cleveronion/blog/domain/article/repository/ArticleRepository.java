@@ -8,7 +8,10 @@ import com.cleveronion.blog.domain.article.valueobject.CategoryId;
 import com.cleveronion.blog.domain.article.valueobject.TagId;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * 文章仓储接口
@@ -35,6 +38,69 @@ public interface ArticleRepository {
      */
     Optional<ArticleAggregate> findById(ArticleId id);
     
+    /**
+     * 根据ID集合批量查找文章（不含正文）
+     * 
+     * @param ids 文章ID集合
+     * @return 存在的文章聚合列表，顺序不保证
+     */
+    List<ArticleAggregate> findByIds(Set<ArticleId> ids);
+    
+    /**
+     * 递增文章修订号
+     * 
+     * <p>在写事务内调用，同一文章的修订号按事务提交顺序严格递增，用于提交后按版本写入缓存
+     * 
+     * @param id 文章ID
+     * @return 新的修订号
+     */
+    long nextRevision(ArticleId id);
+    
+    /**
+     * 批量递增文章修订号，不存在的文章被忽略
+     * 
+     * @param ids 文章ID集合
+     * @return 各文章的新修订号
+     */
+    Map<ArticleId, Long> nextRevisions(Set<ArticleId> ids);
+    
+    /**
+     * 记录新增一条评论：评论数加一，刷新最近评论时间，并递增修订号
+     * 
+     * <p>在评论写事务内调用，与评论写入一同提交或回滚
+     * 
+     * @param id 文章ID
+     * @return 新的修订号
+     */
+    long recordCommentAdded(ArticleId id);
+    
+    /**
+     * 记录删除评论：评论数扣减删除的条数，按剩余评论重新计算最近评论时间，并递增修订号
+     * 
+     * @param id 文章ID
+     * @param removed 删除的评论数（含回复）
+     * @return 新的修订号
+     */
+    long recordCommentsRemoved(ArticleId id, int removed);
+    
+    /**
+     * 按文章ID游标对账一块文章的评论统计，修复与评论表不一致的文章
+     * 
+     * @param afterId 游标（不含），为null时从头开始
+     * @param limit 块大小
+     * @return 对账结果
+     */
+    CommentStatsReconciliation reconcileCommentStats(ArticleId afterId, int limit);
+    
+    /**
+     * 一块文章的评论统计对账结果
+     * 
+     * @param lastId 本块最后一篇文章ID，没有更多文章时为null
+     * @param repairedRevisions 被修复的文章及其新修订号
+     */
+    record CommentStatsReconciliation(ArticleId lastId, Map<ArticleId, Long> repairedRevisions) {
+    }
+    
     /**
      * 根据ID删除文章
      * 
@@ -51,36 +117,47 @@ public interface ArticleRepository {
     boolean existsById(ArticleId id);
     
     /**
-     * 根据作者ID查找文章列表
+     * 按作者流式遍历文章，按创建时间倒序
+     * 底层使用数据库游标逐批读取，任意时刻只有一批文章驻留内存；须在只读事务内调用
      * 
      * @param authorId 作者ID
-     * @return 文章列表
+     * @param status 文章状态，为null时不限状态
+     * @param batchSize 每批文章数量
+     * @param consumer 每批文章的处理函数
      */
-    List<ArticleAggregate> findByAuthorId(AuthorId authorId);
+    void streamByAuthorId(AuthorId authorId, ArticleStatus status, int batchSize, Consumer<List<ArticleAggregate>> consumer);
     
     /**
-     * 根据分类ID查找文章列表
+     * 按分类流式遍历文章，按创建时间倒序
+     * 底层使用数据库游标逐批读取，任意时刻只有一批文章驻留内存；须在只读事务内调用
      * 
      * @param categoryId 分类ID
-     * @return 文章列表
+     * @param status 文章状态，为null时不限状态
+     * @param batchSize 每批文章数量
+     * @param consumer 每批文章的处理函数
      */
-    List<ArticleAggregate> findByCategoryId(CategoryId categoryId);
+    void streamByCategoryId(CategoryId categoryId, ArticleStatus status, int batchSize, Consumer<List<ArticleAggregate>> consumer);
     
     /**
-     * 根据标签ID查找文章列表
+     * 按标签流式遍历文章，按创建时间倒序
+     * 底层使用数据库游标逐批读取，任意时刻只有一批文章驻留内存；须在只读事务内调用
      * 
      * @param tagId 标签ID
-     * @return 文章列表
+     * @param status 文章状态，为null时不限状态
+     * @param batchSize 每批文章数量
+     * @param consumer 每批文章的处理函数
      */
-    List<ArticleAggregate> findByTagId(TagId tagId);
+    void streamByTagId(TagId tagId, ArticleStatus status, int batchSize, Consumer<List<ArticleAggregate>> consumer);
     
     /**
-     * 根据状态查找文章列表
+     * 按状态流式遍历文章，按创建时间倒序
+     * 底层使用数据库游标逐批读取，任意时刻只有一批文章驻留内存；须在只读事务内调用
      * 
      * @param status 文章状态
-     * @return 文章列表
+     * @param batchSize 每批文章数量
+     * @param consumer 每批文章的处理函数
      */
-    List<ArticleAggregate> findByStatus(ArticleStatus status);
+    void streamByStatus(ArticleStatus status, int batchSize, Consumer<List<ArticleAggregate>> consumer);
     
     /**
      * 根据作者ID和状态查找文章列表
@@ -0,0 +1,31 @@
+package com.cleveronion.blog.domain.article.repository;
+
+import com.cleveronion.blog.domain.article.valueobject.RenderedContent;
+
+import java.util.Optional;
+
+/**
+ * 文章渲染结果仓储接口
+ * 按内容哈希存取 Markdown 渲染结果，结果一经写入不再修改
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public interface RenderedContentRepository {
+
+    /**
+     * 根据内容哈希查找渲染结果
+     *
+     * @param contentHash 内容哈希
+     * @return 渲染结果的Optional包装
+     */
+    Optional<RenderedContent> findByContentHash(String contentHash);
+
+    /**
+     * 保存渲染结果，相同哈希已存在时忽略
+     * 并发渲染同一内容时由先写入者生效，不抛出主键冲突
+     *
+     * @param renderedContent 渲染结果
+     */
+    void saveIfAbsent(RenderedContent renderedContent);
+}
@@ -1,6 +1,7 @@
 package com.cleveronion.blog.domain.article.repository;
 
 import com.cleveronion.blog.domain.article.aggregate.TagAggregate;
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.article.valueobject.TagId;
 
 import java.util.List;
@@ -157,6 +158,24 @@ public interface TagRepository {
      */
     List<TagAggregate> findUnusedTags();
     
+    /**
+     * 按ID升序查找未使用标签的ID（游标分页）
+     * 
+     * @param afterId 游标，只返回ID大于该值的标签；为null时从头开始
+     * @param limit 最大返回数量
+     * @return 标签ID列表（按ID升序）
+     */
+    List<TagId> findUnusedTagIds(TagId afterId, int limit);
+    
+    /**
+     * 删除指定ID中仍未被任何文章使用的标签
+     * 删除时再次校验无关联，查找与删除之间被引用的标签会被保留
+     * 
+     * @param ids 标签ID集合
+     * @return 实际删除的数量
+     */
+    int deleteUnusedByIds(Set<TagId> ids);
+    
     /**
      * 批量保存标签
      * 
@@ -172,6 +191,14 @@ public interface TagRepository {
      */
     void deleteByIds(Set<TagId> ids);
     
+    /**
+     * 一次性移除指定标签与所有文章的关联
+     * 
+     * @param ids 标签ID集合
+     * @return 被移除关联的文章ID集合
+     */
+    Set<ArticleId> detachFromArticles(Set<TagId> ids);
+    
     /**
      * 分页查询标签及其文章数量
      * 
@@ -11,6 +11,9 @@ import java.util.Objects;
  * 封装文章的内容信息，包括标题、正文和摘要
  * 作为不可变值对象，其相等性由所有属性值决定
  * 
+ * <p>正文单独存放，列表等场景重建的文章内容不含正文（{@link #isBodyLoaded()} 为false），
+ * 需要正文时通过 {@code ArticleAggregate#loadContent()} 延迟加载
+ * 
  * @author CleverOnion
  */
 public class ArticleContent {
@@ -27,7 +30,6 @@ public class ArticleContent {
      * @param summary 文章摘要，可以为空
      * @throws IllegalArgumentException 当标题或内容为空时抛出
      */
-    @JsonCreator
     public ArticleContent(
         @JsonProperty("title") String title,
         @JsonProperty("content") String content,
@@ -45,6 +47,36 @@ public class ArticleContent {
         this.summary = summary != null ? summary.trim() : null;
     }
     
+    /**
+     * 恢复构造，字段已在写入时规范化，不再校验正文和重复trim
+     */
+    private ArticleContent(String title, String content, String summary, boolean restored) {
+        this.title = title;
+        this.content = content;
+        this.summary = summary;
+    }
+    
+    /**
+     * 从持久化存储或缓存恢复文章内容
+     * 数据写入时已经过校验和trim，大段正文不再重复处理
+     * 
+     * @param title 文章标题，不能为空
+     * @param content 文章正文，为null表示正文未加载
+     * @param summary 文章摘要，可以为空
+     * @return 文章内容值对象
+     */
+    @JsonCreator
+    public static ArticleContent restore(
+        @JsonProperty("title") String title,
+        @JsonProperty("content") String content,
+        @JsonProperty("summary") String summary
+    ) {
+        if (title == null || title.isEmpty()) {
+            throw new IllegalArgumentException("文章标题不能为空");
+        }
+        return new ArticleContent(title, content, summary, true);
+    }
+    
     /**
      * 获取文章标题
      * 
@@ -57,7 +89,7 @@ public class ArticleContent {
     /**
      * 获取文章内容
      * 
-     * @return 文章内容（Markdown格式）
+     * @return 文章内容（Markdown格式），正文未加载时为null
      */
     public String getContent() {
         return content;
@@ -72,6 +104,16 @@ public class ArticleContent {
         return summary;
     }
     
+    /**
+     * 判断正文是否已加载
+     * 
+     * @return 正文已加载返回true，否则返回false
+     */
+    @JsonIgnore
+    public boolean isBodyLoaded() {
+        return content != null;
+    }
+    
     /**
      * 判断是否有摘要
      * 
@@ -89,7 +131,7 @@ public class ArticleContent {
      */
     @JsonIgnore
     public int getContentLength() {
-        return content.length();
+        return content != null ? content.length() : 0;
     }
     
     /**
@@ -99,6 +141,9 @@ public class ArticleContent {
      * @return 新的文章内容值对象
      */
     public ArticleContent withTitle(String newTitle) {
+        if (!isBodyLoaded()) {
+            return restore(newTitle != null ? newTitle.trim() : null, null, this.summary);
+        }
         return new ArticleContent(newTitle, this.content, this.summary);
     }
     
@@ -119,6 +164,9 @@ public class ArticleContent {
      * @return 新的文章内容值对象
      */
     public ArticleContent withSummary(String newSummary) {
+        if (!isBodyLoaded()) {
+            return restore(this.title, null, newSummary != null ? newSummary.trim() : null);
+        }
         return new ArticleContent(this.title, this.content, newSummary);
     }
     
@@ -141,7 +189,7 @@ public class ArticleContent {
     public String toString() {
         return "ArticleContent{" +
                 "title='" + title + '\'' +
-                ", contentLength=" + content.length() +
+                ", contentLength=" + getContentLength() +
                 ", hasSummary=" + hasSummary() +
                 '}';
     }
@@ -0,0 +1,83 @@
+package com.cleveronion.blog.domain.article.valueobject;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 文章派生元数据值对象
+ * 写入时由正文计算得出（字数、预计阅读时长、标题大纲），随文章一起持久化，
+ * 列表视图无需加载正文即可展示
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class ArticleMetadata {
+
+    private final int wordCount;
+    private final int readingMinutes;
+    private final List<TocEntry> outline;
+
+    /**
+     * 构造文章派生元数据值对象
+     *
+     * @param wordCount 字数（中日韩字符按字计，其他文字按词计）
+     * @param readingMinutes 预计阅读时长（分钟）
+     * @param outline 标题大纲，锚点与渲染结果一致
+     * @throws IllegalArgumentException 当字数或阅读时长为负数时抛出
+     */
+    @JsonCreator
+    public ArticleMetadata(
+        @JsonProperty("wordCount") int wordCount,
+        @JsonProperty("readingMinutes") int readingMinutes,
+        @JsonProperty("outline") List<TocEntry> outline
+    ) {
+        if (wordCount < 0) {
+            throw new IllegalArgumentException("字数不能为负数");
+        }
+        if (readingMinutes < 0) {
+            throw new IllegalArgumentException("阅读时长不能为负数");
+        }
+        this.wordCount = wordCount;
+        this.readingMinutes = readingMinutes;
+        this.outline = outline != null ? List.copyOf(outline) : List.of();
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public int getReadingMinutes() {
+        return readingMinutes;
+    }
+
+    public List<TocEntry> getOutline() {
+        return outline;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArticleMetadata that = (ArticleMetadata) o;
+        return wordCount == that.wordCount &&
+                readingMinutes == that.readingMinutes &&
+                Objects.equals(outline, that.outline);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(wordCount, readingMinutes, outline);
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleMetadata{" +
+                "wordCount=" + wordCount +
+                ", readingMinutes=" + readingMinutes +
+                ", outlineSize=" + outline.size() +
+                '}';
+    }
+}
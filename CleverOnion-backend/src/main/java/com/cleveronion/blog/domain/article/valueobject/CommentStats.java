@@ -0,0 +1,81 @@
+package com.cleveronion.blog.domain.article.valueobject;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 文章评论统计值对象
+ * 评论数与最近评论时间冗余保存在文章行上，随评论写入维护，
+ * 列表视图无需逐篇统计评论
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class CommentStats {
+
+    private static final CommentStats EMPTY = new CommentStats(0, null);
+
+    private final int commentCount;
+    private final LocalDateTime lastCommentedAt;
+
+    /**
+     * 构造文章评论统计值对象
+     *
+     * @param commentCount 评论数（含回复）
+     * @param lastCommentedAt 最近评论时间，没有评论时为null
+     * @throws IllegalArgumentException 当评论数为负数时抛出
+     */
+    @JsonCreator
+    public CommentStats(
+        @JsonProperty("commentCount") int commentCount,
+        @JsonProperty("lastCommentedAt") LocalDateTime lastCommentedAt
+    ) {
+        if (commentCount < 0) {
+            throw new IllegalArgumentException("评论数不能为负数");
+        }
+        this.commentCount = commentCount;
+        this.lastCommentedAt = lastCommentedAt;
+    }
+
+    /**
+     * 没有评论的统计
+     *
+     * @return 空统计
+     */
+    public static CommentStats empty() {
+        return EMPTY;
+    }
+
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public LocalDateTime getLastCommentedAt() {
+        return lastCommentedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CommentStats that = (CommentStats) o;
+        return commentCount == that.commentCount &&
+                Objects.equals(lastCommentedAt, that.lastCommentedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(commentCount, lastCommentedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "CommentStats{" +
+                "commentCount=" + commentCount +
+                ", lastCommentedAt=" + lastCommentedAt +
+                '}';
+    }
+}
@@ -0,0 +1,91 @@
+package com.cleveronion.blog.domain.article.valueobject;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 文章渲染结果值对象
+ * 由 Markdown 正文渲染得到的清洗后 HTML 与目录，以内容哈希标识
+ *
+ * <p>内容哈希由渲染器版本和 Markdown 原文共同计算，
+ * 同一版本渲染器对相同正文只需渲染一次，渲染器升级后自然产生新的哈希
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class RenderedContent {
+
+    private final String contentHash;
+    private final int rendererVersion;
+    private final String html;
+    private final List<TocEntry> toc;
+
+    /**
+     * 构造文章渲染结果值对象
+     *
+     * @param contentHash 内容哈希（SHA-256 十六进制）
+     * @param rendererVersion 渲染器版本
+     * @param html 清洗后的 HTML
+     * @param toc 目录条目，按文中出现顺序
+     * @throws IllegalArgumentException 当哈希或 HTML 为空时抛出
+     */
+    @JsonCreator
+    public RenderedContent(
+        @JsonProperty("contentHash") String contentHash,
+        @JsonProperty("rendererVersion") int rendererVersion,
+        @JsonProperty("html") String html,
+        @JsonProperty("toc") List<TocEntry> toc
+    ) {
+        if (contentHash == null || contentHash.isEmpty()) {
+            throw new IllegalArgumentException("内容哈希不能为空");
+        }
+        if (html == null) {
+            throw new IllegalArgumentException("渲染结果不能为空");
+        }
+        this.contentHash = contentHash;
+        this.rendererVersion = rendererVersion;
+        this.html = html;
+        this.toc = toc != null ? List.copyOf(toc) : List.of();
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public int getRendererVersion() {
+        return rendererVersion;
+    }
+
+    public String getHtml() {
+        return html;
+    }
+
+    public List<TocEntry> getToc() {
+        return toc;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RenderedContent that = (RenderedContent) o;
+        return Objects.equals(contentHash, that.contentHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentHash);
+    }
+
+    @Override
+    public String toString() {
+        return "RenderedContent{" +
+                "contentHash='" + contentHash + '\'' +
+                ", rendererVersion=" + rendererVersion +
+                ", tocSize=" + toc.size() +
+                '}';
+    }
+}
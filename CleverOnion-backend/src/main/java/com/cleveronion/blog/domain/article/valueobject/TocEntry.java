@@ -0,0 +1,81 @@
+package com.cleveronion.blog.domain.article.valueobject;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * 目录条目值对象
+ * 对应渲染后文章中的一个标题，锚点与 HTML 中标题的 id 属性一致
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class TocEntry {
+
+    private final int level;
+    private final String text;
+    private final String anchor;
+
+    /**
+     * 构造目录条目值对象
+     *
+     * @param level 标题级别（1-6）
+     * @param text 标题纯文本
+     * @param anchor 标题锚点
+     * @throws IllegalArgumentException 当级别或锚点无效时抛出
+     */
+    @JsonCreator
+    public TocEntry(
+        @JsonProperty("level") int level,
+        @JsonProperty("text") String text,
+        @JsonProperty("anchor") String anchor
+    ) {
+        if (level < 1 || level > 6) {
+            throw new IllegalArgumentException("标题级别必须在1-6之间");
+        }
+        if (anchor == null || anchor.isEmpty()) {
+            throw new IllegalArgumentException("标题锚点不能为空");
+        }
+        this.level = level;
+        this.text = text != null ? text : "";
+        this.anchor = anchor;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public String getAnchor() {
+        return anchor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TocEntry tocEntry = (TocEntry) o;
+        return level == tocEntry.level &&
+                Objects.equals(text, tocEntry.text) &&
+                Objects.equals(anchor, tocEntry.anchor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(level, text, anchor);
+    }
+
+    @Override
+    public String toString() {
+        return "TocEntry{" +
+                "level=" + level +
+                ", text='" + text + '\'' +
+                ", anchor='" + anchor + '\'' +
+                '}';
+    }
+}
@@ -2,6 +2,7 @@ package com.cleveronion.blog.domain.comment.aggregate;
 
 import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.comment.valueobject.CommentId;
+import com.cleveronion.blog.domain.comment.valueobject.CommentPath;
 import com.cleveronion.blog.domain.common.aggregate.AggregateRoot;
 import com.cleveronion.blog.domain.user.valueobject.UserId;
 
@@ -21,6 +22,7 @@ public class CommentAggregate extends AggregateRoot {
     private ArticleId articleId;
     private UserId userId;
     private CommentId parentId; // 父评论ID，用于层级回复
+    private CommentPath path; // 祖先路径，用于整棵线程的范围查询
     private LocalDateTime publishedAt; // 发布时间
     
     /**
@@ -53,6 +55,7 @@ public class CommentAggregate extends AggregateRoot {
         comment.articleId = articleId;
         comment.userId = userId;
         comment.parentId = null; // 顶级评论没有父评论
+        comment.path = CommentPath.root();
         comment.publishedAt = LocalDateTime.now();
         
         return comment;
@@ -65,9 +68,12 @@ public class CommentAggregate extends AggregateRoot {
      * @param articleId 文章ID
      * @param userId 用户ID
      * @param parentId 父评论ID
+     * @param parentPath 父评论的路径
      * @return 新创建的回复评论聚合根
+     * @throws IllegalArgumentException 当回复层级超过上限时抛出
      */
-    public static CommentAggregate createReply(String content, ArticleId articleId, UserId userId, CommentId parentId) {
+    public static CommentAggregate createReply(String content, ArticleId articleId, UserId userId,
+                                               CommentId parentId, CommentPath parentPath) {
         validateContent(content);
         if (articleId == null) {
             throw new IllegalArgumentException("文章ID不能为空");
@@ -78,6 +84,9 @@ public class CommentAggregate extends AggregateRoot {
         if (parentId == null) {
             throw new IllegalArgumentException("父评论ID不能为空");
         }
+        if (parentPath == null) {
+            throw new IllegalArgumentException("父评论路径不能为空");
+        }
         
         CommentAggregate comment = new CommentAggregate();
         // 新创建的回复评论不设置ID，由数据库自动生成
@@ -86,6 +95,7 @@ public class CommentAggregate extends AggregateRoot {
         comment.articleId = articleId;
         comment.userId = userId;
         comment.parentId = parentId;
+        comment.path = parentPath.child(parentId);
         comment.publishedAt = LocalDateTime.now();
         
         return comment;
@@ -99,17 +109,20 @@ public class CommentAggregate extends AggregateRoot {
      * @param articleId 文章ID
      * @param userId 用户ID
      * @param parentId 父评论ID（可为null）
+     * @param path 祖先路径
      * @param publishedAt 发布时间
      * @return 重建的评论聚合根
      */
     public static CommentAggregate rebuild(CommentId id, String content, ArticleId articleId, 
-                                         UserId userId, CommentId parentId, LocalDateTime publishedAt) {
+                                         UserId userId, CommentId parentId, CommentPath path,
+                                         LocalDateTime publishedAt) {
         CommentAggregate comment = new CommentAggregate();
         comment.id = id;
         comment.content = content;
         comment.articleId = articleId;
         comment.userId = userId;
         comment.parentId = parentId;
+        comment.path = path;
         comment.publishedAt = publishedAt;
         
         return comment;
@@ -179,6 +192,10 @@ public class CommentAggregate extends AggregateRoot {
         return parentId;
     }
     
+    public CommentPath getPath() {
+        return path;
+    }
+    
     public LocalDateTime getPublishedAt() {
         return publishedAt;
     }
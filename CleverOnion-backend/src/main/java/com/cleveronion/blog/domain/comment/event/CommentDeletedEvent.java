@@ -4,11 +4,12 @@ import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.comment.valueobject.CommentId;
 import com.cleveronion.blog.domain.common.event.DomainEvent;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
  * 评论删除事件
- * 当评论被删除时发布此事件
+ * 当评论被删除时发布此事件，回复随评论一并删除，只发布一次
  * 
  * @author CleverOnion
  * @since 1.0.0
@@ -17,11 +18,27 @@ public class CommentDeletedEvent extends DomainEvent {
     
     private final CommentId commentId;
     private final ArticleId articleId;
+    private final List<CommentId> deletedCommentIds;
     
     public CommentDeletedEvent(Object source, CommentId commentId, ArticleId articleId) {
+        this(source, commentId, articleId, List.of(commentId));
+    }
+    
+    /**
+     * @param source 事件源
+     * @param commentId 被删除的评论ID
+     * @param articleId 所属文章ID
+     * @param deletedCommentIds 一并删除的全部评论ID（含该评论及其后代回复）
+     */
+    public CommentDeletedEvent(Object source, CommentId commentId, ArticleId articleId,
+                               List<CommentId> deletedCommentIds) {
         super(source, String.valueOf(commentId.getValue()));
         this.commentId = Objects.requireNonNull(commentId, "评论ID不能为空");
         this.articleId = Objects.requireNonNull(articleId, "文章ID不能为空");
+        if (deletedCommentIds == null || deletedCommentIds.isEmpty()) {
+            throw new IllegalArgumentException("删除的评论ID不能为空");
+        }
+        this.deletedCommentIds = List.copyOf(deletedCommentIds);
     }
     
     public CommentId getCommentId() {
@@ -32,6 +49,17 @@ public class CommentDeletedEvent extends DomainEvent {
         return articleId;
     }
     
+    public List<CommentId> getDeletedCommentIds() {
+        return deletedCommentIds;
+    }
+    
+    /**
+     * @return 删除的评论总数（含回复）
+     */
+    public int getDeletedCount() {
+        return deletedCommentIds.size();
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -52,6 +80,7 @@ public class CommentDeletedEvent extends DomainEvent {
                 ", occurredOn=" + getOccurredOn() +
                 ", commentId=" + commentId.getValue() +
                 ", articleId=" + articleId.getValue() +
+                ", deletedCount=" + deletedCommentIds.size() +
                 '}';
     }
 }
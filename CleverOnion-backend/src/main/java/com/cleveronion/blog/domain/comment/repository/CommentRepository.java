@@ -2,6 +2,7 @@ package com.cleveronion.blog.domain.comment.repository;
 
 import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
+import com.cleveronion.blog.domain.comment.valueobject.CommentCursor;
 import com.cleveronion.blog.domain.comment.valueobject.CommentId;
 import com.cleveronion.blog.domain.user.valueobject.UserId;
 
@@ -40,6 +41,14 @@ public interface CommentRepository {
      */
     void deleteById(CommentId id);
     
+    /**
+     * 删除评论及其全部后代回复（一条语句完成）
+     * 
+     * @param rootId 根评论ID
+     * @return 被删除的评论ID（含根评论），根评论不存在时为空
+     */
+    List<CommentId> deleteSubtree(CommentId rootId);
+    
     /**
      * 检查评论是否存在
      * 
@@ -82,6 +91,33 @@ public interface CommentRepository {
      */
     List<CommentAggregate> findByParentId(CommentId parentId, int page, int size);
     
+    /**
+     * 按游标查找父评论的回复（键集分页），按 (创建时间, ID) 排序
+     * 
+     * @param parentId 父评论ID
+     * @param after 上一页末尾的游标，为null时从第一条开始
+     * @param limit 最大返回数
+     * @return 回复列表
+     */
+    List<CommentAggregate> findRepliesByParentIdAfter(CommentId parentId, CommentCursor after, int limit);
+    
+    /**
+     * 查找评论线程：根评论及其全部后代回复
+     * 
+     * @param rootId 根评论ID
+     * @return 按路径排序的评论列表，父评论总在子评论之前；根评论不存在时为空
+     */
+    List<CommentAggregate> findThread(CommentId rootId);
+    
+    /**
+     * 查找评论线程的前若干层
+     * 
+     * @param rootId 根评论ID
+     * @param maxDepth 相对根评论的最大层级，0 表示只返回根评论
+     * @return 按路径排序的评论列表，父评论总在子评论之前；根评论不存在时为空
+     */
+    List<CommentAggregate> findThread(CommentId rootId, int maxDepth);
+    
     /**
      * 查找文章的顶级评论（没有父评论的评论）
      * 
@@ -100,6 +136,16 @@ public interface CommentRepository {
      */
     List<CommentAggregate> findTopLevelCommentsByArticleId(ArticleId articleId, int page, int size);
     
+    /**
+     * 按游标查找文章的顶级评论（键集分页），按 (创建时间, ID) 排序
+     * 
+     * @param articleId 文章ID
+     * @param after 上一页末尾的游标，为null时从第一条开始
+     * @param limit 最大返回数
+     * @return 顶级评论列表
+     */
+    List<CommentAggregate> findTopLevelCommentsByArticleIdAfter(ArticleId articleId, CommentCursor after, int limit);
+    
     /**
      * 统计文章的评论总数（包括回复）
      * 
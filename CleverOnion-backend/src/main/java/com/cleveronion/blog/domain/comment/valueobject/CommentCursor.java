@@ -0,0 +1,117 @@
+package com.cleveronion.blog.domain.comment.valueobject;
+
+import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 评论分页游标值对象
+ * 记录上一页最后一条评论的 (创建时间, ID)，下一页从严格大于该位置处继续读取
+ *
+ * <p>评论按 (created_at, id) 排序，ID 打破创建时间相同的并列；翻页走复合索引定位，
+ * 与页码深度无关，翻页期间新增或删除评论也不会造成重复或遗漏
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class CommentCursor {
+
+    private static final char DELIMITER = '|';
+
+    private final LocalDateTime createdAt;
+    private final CommentId id;
+
+    /**
+     * 构造函数
+     *
+     * @param createdAt 评论创建时间
+     * @param id 评论ID
+     * @throws IllegalArgumentException 当任一参数为空时抛出
+     */
+    @JsonCreator
+    public CommentCursor(@JsonProperty("createdAt") LocalDateTime createdAt,
+                         @JsonProperty("id") CommentId id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("分页游标不完整");
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 指向某条评论之后的游标
+     *
+     * @param comment 已持久化的评论
+     * @return 游标
+     */
+    public static CommentCursor after(CommentAggregate comment) {
+        return new CommentCursor(comment.getPublishedAt(), comment.getId());
+    }
+
+    /**
+     * 编码为不透明的续页令牌（URL 安全的 Base64）
+     *
+     * @return 令牌字符串
+     */
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id.getValue();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析续页令牌
+     *
+     * @param token 由 {@link #encode()} 生成的令牌
+     * @return 游标
+     * @throws IllegalArgumentException 当令牌无效时抛出
+     */
+    public static CommentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.indexOf(DELIMITER);
+            if (split < 0) {
+                throw new IllegalArgumentException("分页游标无效");
+            }
+            return new CommentCursor(LocalDateTime.parse(raw.substring(0, split)),
+                new CommentId(Long.parseLong(raw.substring(split + 1))));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("分页游标无效", e);
+        }
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public CommentId getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CommentCursor that = (CommentCursor) o;
+        return Objects.equals(createdAt, that.createdAt) &&
+                Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, id);
+    }
+
+    @Override
+    public String toString() {
+        return "CommentCursor{" +
+                "createdAt=" + createdAt +
+                ", id=" + id +
+                '}';
+    }
+}
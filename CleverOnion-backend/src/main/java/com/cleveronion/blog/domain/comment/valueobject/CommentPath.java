@@ -0,0 +1,131 @@
+package com.cleveronion.blog.domain.comment.valueobject;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * 评论物化路径值对象
+ * 由根到父逐级记录祖先评论ID，每级为19位补零ID加分隔符，顶级评论为空串
+ *
+ * <p>定长分段使路径的字节序与层级一致：某评论全部后代的路径都以
+ * {@link #descendantsPrefix(CommentId)} 开头，整棵子树是路径索引上的一段连续区间
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class CommentPath {
+
+    /**
+     * 分隔符，字节序紧随其后的字符为 '0'
+     */
+    public static final char SEPARATOR = '/';
+
+    /**
+     * 每级路径长度（19位ID加分隔符）
+     */
+    public static final int SEGMENT_LENGTH = 20;
+
+    /**
+     * 最大回复层级，路径长度不超过 {@code MAX_DEPTH * SEGMENT_LENGTH}
+     */
+    public static final int MAX_DEPTH = 100;
+
+    private static final CommentPath ROOT = new CommentPath("");
+
+    private final String value;
+
+    /**
+     * 构造函数
+     *
+     * @param value 路径字符串
+     * @throws IllegalArgumentException 当路径为空或长度不是整级时抛出
+     */
+    @JsonCreator
+    public CommentPath(@JsonProperty("value") String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("评论路径不能为空");
+        }
+        if (value.length() % SEGMENT_LENGTH != 0 || value.length() > MAX_DEPTH * SEGMENT_LENGTH) {
+            throw new IllegalArgumentException("评论路径格式不正确: " + value);
+        }
+        this.value = value;
+    }
+
+    /**
+     * 顶级评论的路径
+     *
+     * @return 空路径
+     */
+    public static CommentPath root() {
+        return ROOT;
+    }
+
+    /**
+     * 从路径字符串创建
+     *
+     * @param value 路径字符串
+     * @return CommentPath实例
+     */
+    public static CommentPath of(String value) {
+        return value.isEmpty() ? ROOT : new CommentPath(value);
+    }
+
+    /**
+     * 回复的路径：本路径追加父评论ID
+     *
+     * @param parentId 父评论ID（即本路径所属评论）
+     * @return 回复的路径
+     * @throws IllegalArgumentException 当回复层级超过上限时抛出
+     */
+    public CommentPath child(CommentId parentId) {
+        if (depth() >= MAX_DEPTH) {
+            throw new IllegalArgumentException("回复层级不能超过" + MAX_DEPTH + "层");
+        }
+        return new CommentPath(descendantsPrefix(parentId));
+    }
+
+    /**
+     * 后代路径的公共前缀
+     *
+     * @param selfId 本路径所属评论的ID
+     * @return 前缀字符串
+     */
+    public String descendantsPrefix(CommentId selfId) {
+        return value + String.format("%019d", selfId.getValue()) + SEPARATOR;
+    }
+
+    /**
+     * 层级，顶级评论为0
+     *
+     * @return 祖先数量
+     */
+    public int depth() {
+        return value.length() / SEGMENT_LENGTH;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CommentPath that = (CommentPath) o;
+        return Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value);
+    }
+
+    @Override
+    public String toString() {
+        return "CommentPath{" +
+                "value='" + value + '\'' +
+                '}';
+    }
+}
@@ -74,8 +74,9 @@ public class UserAggregate extends AggregateRoot {
      * 
      * @param username 新的用户名
      * @param avatarUrl 新的头像URL
+     * @return true如果资料发生了变化
      */
-    public void updateProfile(String username, String avatarUrl) {
+    public boolean updateProfile(String username, String avatarUrl) {
         String oldUsername = this.username;
         String oldAvatarUrl = this.avatarUrl;
         
@@ -87,7 +88,23 @@ public class UserAggregate extends AggregateRoot {
         // 发布用户信息更新事件
         if (!Objects.equals(oldUsername, this.username) || !Objects.equals(oldAvatarUrl, this.avatarUrl)) {
             addDomainEvent(new UserProfileUpdated(this, this.id, oldUsername, this.username, oldAvatarUrl, this.avatarUrl));
+            return true;
         }
+        return false;
+    }
+    
+    /**
+     * 判断给定资料是否与当前资料一致
+     * 规则与 {@link #updateProfile(String, String)} 相同：空用户名不会覆盖原用户名
+     * 
+     * @param username 用户名
+     * @param avatarUrl 头像URL
+     * @return true如果调用updateProfile不会产生任何变化
+     */
+    public boolean hasSameProfile(String username, String avatarUrl) {
+        boolean sameUsername = username == null || username.trim().isEmpty()
+            || Objects.equals(this.username, username.trim());
+        return sameUsername && Objects.equals(this.avatarUrl, avatarUrl);
     }
     
     /**
@@ -0,0 +1,92 @@
+package com.cleveronion.blog.infrastructure.article.persistence.converter;
+
+import com.cleveronion.blog.infrastructure.article.persistence.po.ArticleBodyPO;
+import com.cleveronion.blog.infrastructure.common.config.ArticleBodyConfig;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 文章正文编解码器
+ * 负责正文与ArticleBodyPO之间的转换，按配置对大正文做GZIP压缩
+ *
+ * <p>只有压缩后确实变小才存压缩结果，否则仍存明文；读取时根据哪一列非空自动识别，
+ * 因此开关压缩不需要迁移已有数据
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class ArticleBodyCodec {
+
+    private final ArticleBodyConfig articleBodyConfig;
+
+    public ArticleBodyCodec(ArticleBodyConfig articleBodyConfig) {
+        this.articleBodyConfig = articleBodyConfig;
+    }
+
+    /**
+     * 将正文写入持久化对象
+     *
+     * @param bodyPO 正文持久化对象
+     * @param content 正文
+     */
+    public void encode(ArticleBodyPO bodyPO, String content) {
+        if (content == null) {
+            throw new IllegalArgumentException("文章内容不能为空");
+        }
+
+        if (articleBodyConfig.isCompressionEnabled()) {
+            byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+            if (raw.length >= articleBodyConfig.getCompressionThreshold()) {
+                byte[] compressed = gzip(raw);
+                if (compressed.length < raw.length) {
+                    bodyPO.setContent(null);
+                    bodyPO.setCompressedContent(compressed);
+                    return;
+                }
+            }
+        }
+        bodyPO.setContent(content);
+        bodyPO.setCompressedContent(null);
+    }
+
+    /**
+     * 从持久化对象读取正文
+     *
+     * @param bodyPO 正文持久化对象
+     * @return 正文
+     */
+    public String decode(ArticleBodyPO bodyPO) {
+        if (bodyPO.getContent() != null) {
+            return bodyPO.getContent();
+        }
+        if (bodyPO.getCompressedContent() == null) {
+            throw new IllegalStateException("文章正文数据缺失: articleId=" + bodyPO.getArticleId());
+        }
+        return new String(gunzip(bodyPO.getCompressedContent()), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(raw.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new IllegalStateException("文章正文压缩失败", e);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("文章正文解压失败", e);
+        }
+    }
+}
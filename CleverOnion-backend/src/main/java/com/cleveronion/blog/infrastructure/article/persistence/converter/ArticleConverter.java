@@ -12,6 +12,7 @@ import java.util.stream.Collectors;
 /**
  * 文章聚合与持久化对象转换器
  * 负责ArticleAggregate和ArticlePO之间的相互转换
+ * 正文不在ArticlePO中，由仓储单独读写
  * 
  * @author CleverOnion
  */
@@ -31,11 +32,14 @@ public class ArticleConverter {
         ArticlePO articlePO = new ArticlePO(
             articleAggregate.getContent().getTitle(),
             articleAggregate.getContent().getSummary(),
-            articleAggregate.getContent().getContent(),
             articleAggregate.getStatus().name(),
             articleAggregate.getCategoryId() != null ? articleAggregate.getCategoryId().getValue() : null,
             articleAggregate.getAuthorId().getValue()
         );
+        applyMetadata(articlePO, articleAggregate.getMetadata());
+        // 评论统计不随文章写入，带上已读取的值，使保存后返回的聚合保持一致
+        articlePO.setCommentCount(articleAggregate.getCommentStats().getCommentCount());
+        articlePO.setLastCommentedAt(articleAggregate.getCommentStats().getLastCommentedAt());
         
         // 如果聚合有ID，说明是已存在的文章（更新操作）
         if (articleAggregate.getId() != null) {
@@ -49,21 +53,33 @@ public class ArticleConverter {
     }
     
     /**
-     * 将ArticlePO转换为ArticleAggregate
+     * 将ArticlePO转换为ArticleAggregate（不含正文）
      * 
      * @param articlePO 文章持久化对象
      * @param tagIds 标签ID集合
      * @return 文章聚合
      */
     public static ArticleAggregate toArticleAggregate(ArticlePO articlePO, Set<TagId> tagIds) {
+        return toArticleAggregate(articlePO, tagIds, null);
+    }
+    
+    /**
+     * 将ArticlePO转换为ArticleAggregate
+     * 
+     * @param articlePO 文章持久化对象
+     * @param tagIds 标签ID集合
+     * @param body 正文，为null时聚合中的正文未加载
+     * @return 文章聚合
+     */
+    public static ArticleAggregate toArticleAggregate(ArticlePO articlePO, Set<TagId> tagIds, String body) {
         if (articlePO == null) {
             return null;
         }
         
-        // 构建文章内容值对象
-        ArticleContent content = new ArticleContent(
+        // 构建文章内容值对象，数据写入时已校验，不再重复处理
+        ArticleContent content = ArticleContent.restore(
             articlePO.getTitle(),
-            articlePO.getContent(),
+            body,
             articlePO.getSummary()
         );
         
@@ -79,8 +95,12 @@ public class ArticleConverter {
             categoryId,
             AuthorId.of(articlePO.getAuthorId()),
             tagIds,
-            articlePO.getCreatedAt() // 使用createdAt作为发布时间
+            articlePO.getCreatedAt(), // 使用createdAt作为发布时间
+            toArticleMetadata(articlePO)
         );
+        articleAggregate.restoreCommentStats(
+            new CommentStats(articlePO.getCommentCount(), articlePO.getLastCommentedAt()));
+        articleAggregate.restoreRevision(articlePO.getRevision());
         
         return articleAggregate;
     }
@@ -98,13 +118,45 @@ public class ArticleConverter {
         
         articlePO.setTitle(articleAggregate.getContent().getTitle());
         articlePO.setSummary(articleAggregate.getContent().getSummary());
-        articlePO.setContent(articleAggregate.getContent().getContent());
         articlePO.setStatus(articleAggregate.getStatus().name());
         articlePO.setCategoryId(articleAggregate.getCategoryId() != null ? 
             articleAggregate.getCategoryId().getValue() : null);
+        applyMetadata(articlePO, articleAggregate.getMetadata());
         // updatedAt会由@UpdateTimestamp自动更新
     }
     
+    /**
+     * 将派生元数据写入持久化对象，大纲以 JSON 数组存放
+     * 
+     * @param articlePO 持久化对象
+     * @param metadata 派生元数据，为空时不修改
+     */
+    private static void applyMetadata(ArticlePO articlePO, ArticleMetadata metadata) {
+        if (metadata == null) {
+            return;
+        }
+        articlePO.setWordCount(metadata.getWordCount());
+        articlePO.setReadingMinutes(metadata.getReadingMinutes());
+        articlePO.setOutline(RenderedContentConverter.writeToc(metadata.getOutline()));
+    }
+    
+    /**
+     * 从持久化对象读取派生元数据
+     * 
+     * @param articlePO 持久化对象
+     * @return 派生元数据，尚未计算过时返回null
+     */
+    private static ArticleMetadata toArticleMetadata(ArticlePO articlePO) {
+        if (articlePO.getWordCount() == null || articlePO.getReadingMinutes() == null) {
+            return null;
+        }
+        return new ArticleMetadata(
+            articlePO.getWordCount(),
+            articlePO.getReadingMinutes(),
+            RenderedContentConverter.readToc(articlePO.getOutline())
+        );
+    }
+    
     /**
      * 将标签ID集合转换为ArticleTagPO列表
      * 
@@ -0,0 +1,76 @@
+package com.cleveronion.blog.infrastructure.article.persistence.converter;
+
+import com.cleveronion.blog.domain.article.valueobject.RenderedContent;
+import com.cleveronion.blog.domain.article.valueobject.TocEntry;
+import com.cleveronion.blog.infrastructure.article.persistence.po.ArticleRenderPO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+/**
+ * 文章渲染结果与持久化对象转换器
+ * 目录以 JSON 数组形式存放在 toc 列中
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class RenderedContentConverter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<List<TocEntry>> TOC_TYPE = new TypeReference<>() {};
+
+    private RenderedContentConverter() {
+    }
+
+    /**
+     * 将持久化对象转换为渲染结果值对象
+     *
+     * @param renderPO 渲染结果持久化对象
+     * @return 渲染结果值对象
+     */
+    public static RenderedContent toRenderedContent(ArticleRenderPO renderPO) {
+        if (renderPO == null) {
+            return null;
+        }
+        return new RenderedContent(
+            renderPO.getContentHash(),
+            renderPO.getRendererVersion(),
+            renderPO.getHtml(),
+            readToc(renderPO.getToc())
+        );
+    }
+
+    /**
+     * 将目录序列化为 JSON
+     *
+     * @param toc 目录条目
+     * @return JSON 数组字符串
+     */
+    public static String writeToc(List<TocEntry> toc) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(toc);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("目录序列化失败", e);
+        }
+    }
+
+    /**
+     * 从 JSON 读取目录
+     *
+     * @param tocJson JSON 数组字符串，可以为空
+     * @return 目录条目
+     */
+    public static List<TocEntry> readToc(String tocJson) {
+        if (tocJson == null || tocJson.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(tocJson, TOC_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("目录反序列化失败", e);
+        }
+    }
+}
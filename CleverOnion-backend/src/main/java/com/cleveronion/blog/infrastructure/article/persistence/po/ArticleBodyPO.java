@@ -0,0 +1,101 @@
+package com.cleveronion.blog.infrastructure.article.persistence.po;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 文章正文持久化对象
+ * 映射数据库article_bodies表，与articles一对一
+ *
+ * <p>正文以明文存放在content列，或压缩后存放在compressed_content列，两者恰有一个非空
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Entity
+@Table(name = "article_bodies")
+public class ArticleBodyPO {
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "compressed_content")
+    private byte[] compressedContent;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 默认构造函数（JPA要求）
+    public ArticleBodyPO() {}
+
+    /**
+     * 带文章ID的构造函数
+     *
+     * @param articleId 文章ID
+     */
+    public ArticleBodyPO(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    // Getters and Setters
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public byte[] getCompressedContent() {
+        return compressedContent;
+    }
+
+    public void setCompressedContent(byte[] compressedContent) {
+        this.compressedContent = compressedContent;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArticleBodyPO that = (ArticleBodyPO) o;
+        return Objects.equals(articleId, that.articleId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(articleId);
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleBodyPO{" +
+                "articleId=" + articleId +
+                ", compressed=" + (compressedContent != null) +
+                '}';
+    }
+}
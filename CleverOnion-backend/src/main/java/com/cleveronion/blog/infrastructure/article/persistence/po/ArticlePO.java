@@ -9,7 +9,7 @@ import java.util.Objects;
 
 /**
  * 文章持久化对象
- * 映射数据库articles表
+ * 映射数据库articles表，正文单独存放在article_bodies表（见 {@link ArticleBodyPO}）
  * 
  * @author CleverOnion
  */
@@ -27,9 +27,6 @@ public class ArticlePO {
     @Column(name = "summary", length = 500)
     private String summary;
     
-    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
-    private String content;
-    
     @Column(name = "status", nullable = false, length = 20)
     private String status;
     
@@ -39,6 +36,21 @@ public class ArticlePO {
     @Column(name = "author_id", nullable = false)
     private Long authorId;
     
+    /**
+     * 写入时派生的元数据，历史数据可能为空
+     */
+    @Column(name = "word_count")
+    private Integer wordCount;
+    
+    @Column(name = "reading_minutes")
+    private Integer readingMinutes;
+    
+    /**
+     * 标题大纲（JSON 数组）
+     */
+    @Column(name = "outline", columnDefinition = "TEXT")
+    private String outline;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -47,6 +59,23 @@ public class ArticlePO {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    /**
+     * 修订号，只由 {@code ArticleRepositoryImpl} 中的原生 UPDATE 递增
+     */
+    @Column(name = "revision", nullable = false, insertable = false, updatable = false,
+        columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long revision;
+    
+    /**
+     * 评论统计，只由评论写入与对账任务通过原生 UPDATE 维护，保存文章时不写入
+     */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false,
+        columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private int commentCount;
+    
+    @Column(name = "last_commented_at", insertable = false, updatable = false)
+    private LocalDateTime lastCommentedAt;
+    
     // 默认构造函数（JPA要求）
     public ArticlePO() {}
     
@@ -55,22 +84,20 @@ public class ArticlePO {
      * 
      * @param title 标题
      * @param summary 摘要
-     * @param content 内容
      * @param status 状态
      * @param categoryId 分类ID
      * @param authorId 作者ID
      */
-    public ArticlePO(String title, String summary, String content, String status, Long categoryId, Long authorId) {
+    public ArticlePO(String title, String summary, String status, Long categoryId, Long authorId) {
         this.title = title;
         this.summary = summary;
-        this.content = content;
         this.status = status;
         this.categoryId = categoryId;
         this.authorId = authorId;
     }
     
     /**
-     * 优化查询用的构造函数（不包含content字段）
+     * 投影查询用的构造函数
      * 
      * @param id ID
      * @param title 标题
@@ -78,16 +105,24 @@ public class ArticlePO {
      * @param status 状态
      * @param categoryId 分类ID
      * @param authorId 作者ID
+     * @param wordCount 字数
+     * @param readingMinutes 阅读时长（分钟）
+     * @param outline 标题大纲（JSON）
      * @param createdAt 创建时间
      * @param updatedAt 更新时间
      */
-    public ArticlePO(Long id, String title, String summary, String status, Long categoryId, Long authorId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public ArticlePO(Long id, String title, String summary, String status, Long categoryId, Long authorId,
+                     Integer wordCount, Integer readingMinutes, String outline,
+                     LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.title = title;
         this.summary = summary;
         this.status = status;
         this.categoryId = categoryId;
         this.authorId = authorId;
+        this.wordCount = wordCount;
+        this.readingMinutes = readingMinutes;
+        this.outline = outline;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -117,14 +152,6 @@ public class ArticlePO {
         this.summary = summary;
     }
     
-    public String getContent() {
-        return content;
-    }
-    
-    public void setContent(String content) {
-        this.content = content;
-    }
-    
     public String getStatus() {
         return status;
     }
@@ -149,6 +176,30 @@ public class ArticlePO {
         this.authorId = authorId;
     }
     
+    public Integer getWordCount() {
+        return wordCount;
+    }
+    
+    public void setWordCount(Integer wordCount) {
+        this.wordCount = wordCount;
+    }
+    
+    public Integer getReadingMinutes() {
+        return readingMinutes;
+    }
+    
+    public void setReadingMinutes(Integer readingMinutes) {
+        this.readingMinutes = readingMinutes;
+    }
+    
+    public String getOutline() {
+        return outline;
+    }
+    
+    public void setOutline(String outline) {
+        this.outline = outline;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -165,6 +216,26 @@ public class ArticlePO {
         this.updatedAt = updatedAt;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public int getCommentCount() {
+        return commentCount;
+    }
+    
+    public void setCommentCount(int commentCount) {
+        this.commentCount = commentCount;
+    }
+    
+    public LocalDateTime getLastCommentedAt() {
+        return lastCommentedAt;
+    }
+    
+    public void setLastCommentedAt(LocalDateTime lastCommentedAt) {
+        this.lastCommentedAt = lastCommentedAt;
+    }
+    
 
     
     @Override
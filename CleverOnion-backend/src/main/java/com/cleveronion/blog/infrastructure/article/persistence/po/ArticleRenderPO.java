@@ -0,0 +1,100 @@
+package com.cleveronion.blog.infrastructure.article.persistence.po;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 文章渲染结果持久化对象
+ * 映射数据库article_renders表
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Entity
+@Table(name = "article_renders")
+public class ArticleRenderPO {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "renderer_version", nullable = false)
+    private Integer rendererVersion;
+
+    @Column(name = "html", nullable = false, columnDefinition = "TEXT")
+    private String html;
+
+    @Column(name = "toc", nullable = false, columnDefinition = "TEXT")
+    private String toc;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 默认构造函数（JPA要求）
+    public ArticleRenderPO() {}
+
+    // Getters and Setters
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Integer getRendererVersion() {
+        return rendererVersion;
+    }
+
+    public void setRendererVersion(Integer rendererVersion) {
+        this.rendererVersion = rendererVersion;
+    }
+
+    public String getHtml() {
+        return html;
+    }
+
+    public void setHtml(String html) {
+        this.html = html;
+    }
+
+    public String getToc() {
+        return toc;
+    }
+
+    public void setToc(String toc) {
+        this.toc = toc;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArticleRenderPO that = (ArticleRenderPO) o;
+        return Objects.equals(contentHash, that.contentHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentHash);
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleRenderPO{" +
+                "contentHash='" + contentHash + '\'' +
+                ", rendererVersion=" + rendererVersion +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
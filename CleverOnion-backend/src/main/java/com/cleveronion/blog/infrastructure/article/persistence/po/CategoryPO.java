@@ -1,6 +1,8 @@
 package com.cleveronion.blog.infrastructure.article.persistence.po;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -9,12 +11,14 @@ import java.util.Objects;
 
 /**
  * 分类持久化对象
- * 映射数据库categories表
+ * 映射数据库categories表，启用二级缓存（region: category）
  * 
  * @author CleverOnion
  */
 @Entity
 @Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 public class CategoryPO {
     
     @Id
@@ -1,6 +1,8 @@
 package com.cleveronion.blog.infrastructure.article.persistence.po;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -9,12 +11,14 @@ import java.util.Objects;
 
 /**
  * 标签持久化对象
- * 映射数据库tags表
+ * 映射数据库tags表，启用二级缓存（region: tag）
  * 
  * @author CleverOnion
  */
 @Entity
 @Table(name = "tags")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tag")
 public class TagPO {
     
     @Id
@@ -0,0 +1,15 @@
+package com.cleveronion.blog.infrastructure.article.persistence.repository;
+
+import com.cleveronion.blog.infrastructure.article.persistence.po.ArticleBodyPO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 文章正文JPA仓储接口
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Repository
+public interface ArticleBodyJpaRepository extends JpaRepository<ArticleBodyPO, Long> {
+}
@@ -2,14 +2,18 @@ package com.cleveronion.blog.infrastructure.article.persistence.repository;
 
 import com.cleveronion.blog.domain.article.valueobject.ArticleStatus;
 import com.cleveronion.blog.infrastructure.article.persistence.po.ArticlePO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 文章JPA仓储接口
@@ -21,28 +25,9 @@ import java.util.Optional;
 public interface ArticleJpaRepository extends JpaRepository<ArticlePO, Long> {
     
     /**
-     * 根据作者ID查找文章列表
-     * 
-     * @param authorId 作者ID
-     * @return 文章列表
-     */
-    List<ArticlePO> findByAuthorId(Long authorId);
-    
-    /**
-     * 根据分类ID查找文章列表
-     * 
-     * @param categoryId 分类ID
-     * @return 文章列表
+     * 流式查询每次从数据库拉取的行数
      */
-    List<ArticlePO> findByCategoryId(Long categoryId);
-    
-    /**
-     * 根据状态查找文章列表
-     * 
-     * @param status 文章状态
-     * @return 文章列表
-     */
-    List<ArticlePO> findByStatus(String status);
+    String STREAM_FETCH_SIZE = "100";
     
     /**
      * 根据作者ID和状态查找文章列表
@@ -72,11 +57,14 @@ public interface ArticleJpaRepository extends JpaRepository<ArticlePO, Long> {
     
     /**
      * 根据内容关键词查找文章
+     * 只匹配明文存放的正文，压缩存放的正文不参与搜索
      * 
      * @param keyword 关键词
      * @return 文章列表
      */
-    List<ArticlePO> findByContentContainingIgnoreCase(String keyword);
+    @Query("SELECT a FROM ArticlePO a, ArticleBodyPO b WHERE b.articleId = a.id " +
+           "AND LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    List<ArticlePO> findByContentContainingIgnoreCase(@Param("keyword") String keyword);
     
     /**
      * 根据状态查找文章，按创建时间倒序排列（分页）
@@ -94,7 +82,7 @@ public interface ArticleJpaRepository extends JpaRepository<ArticlePO, Long> {
      * @param pageable 分页参数
      * @return 文章列表（不包含content字段）
      */
-    @Query("SELECT new com.cleveronion.blog.infrastructure.article.persistence.po.ArticlePO(a.id, a.title, a.summary, a.status, a.categoryId, a.authorId, a.createdAt, a.updatedAt) FROM ArticlePO a WHERE a.status = :status ORDER BY a.createdAt DESC")
+    @Query("SELECT new com.cleveronion.blog.infrastructure.article.persistence.po.ArticlePO(a.id, a.title, a.summary, a.status, a.categoryId, a.authorId, a.wordCount, a.readingMinutes, a.outline, a.createdAt, a.updatedAt) FROM ArticlePO a WHERE a.status = :status ORDER BY a.createdAt DESC")
     List<ArticlePO> findByStatusOrderByCreatedAtDescOptimized(@Param("status") String status, Pageable pageable);
     
     /**
@@ -111,7 +99,7 @@ public interface ArticleJpaRepository extends JpaRepository<ArticlePO, Long> {
      * @param pageable 分页参数
      * @return 文章列表（不包含content字段）
      */
-    @Query("SELECT new com.cleveronion.blog.infrastructure.article.persistence.po.ArticlePO(a.id, a.title, a.summary, a.status, a.categoryId, a.authorId, a.createdAt, a.updatedAt) FROM ArticlePO a ORDER BY a.createdAt DESC")
+    @Query("SELECT new com.cleveronion.blog.infrastructure.article.persistence.po.ArticlePO(a.id, a.title, a.summary, a.status, a.categoryId, a.authorId, a.wordCount, a.readingMinutes, a.outline, a.createdAt, a.updatedAt) FROM ArticlePO a ORDER BY a.createdAt DESC")
     List<ArticlePO> findAllByOrderByCreatedAtDescOptimized(Pageable pageable);
     
 
@@ -132,7 +120,7 @@ public interface ArticleJpaRepository extends JpaRepository<ArticlePO, Long> {
      * @param pageable 分页参数
      * @return 文章列表（不包含content字段）
      */
-    @Query("SELECT new com.cleveronion.blog.infrastructure.article.persistence.po.ArticlePO(a.id, a.title, a.summary, a.status, a.categoryId, a.authorId, a.createdAt, a.updatedAt) FROM ArticlePO a WHERE a.categoryId = :categoryId ORDER BY a.createdAt DESC")
+    @Query("SELECT new com.cleveronion.blog.infrastructure.article.persistence.po.ArticlePO(a.id, a.title, a.summary, a.status, a.categoryId, a.authorId, a.wordCount, a.readingMinutes, a.outline, a.createdAt, a.updatedAt) FROM ArticlePO a WHERE a.categoryId = :categoryId ORDER BY a.createdAt DESC")
     List<ArticlePO> findByCategoryIdOrderByCreatedAtDescOptimized(@Param("categoryId") Long categoryId, Pageable pageable);
     
     /**
@@ -218,15 +206,6 @@ public interface ArticleJpaRepository extends JpaRepository<ArticlePO, Long> {
     @Query("SELECT a FROM ArticlePO a WHERE a.status = :status ORDER BY a.createdAt DESC")
     List<ArticlePO> findRecentlyPublished(@Param("status") String status, Pageable pageable);
     
-    /**
-     * 根据标签ID查找文章列表
-     * 
-     * @param tagId 标签ID
-     * @return 文章列表
-     */
-    @Query("SELECT a FROM ArticlePO a JOIN ArticleTagPO at ON a.id = at.articleId WHERE at.tagId = :tagId")
-    List<ArticlePO> findByTagId(@Param("tagId") Long tagId);
-    
 
     
     /**
@@ -298,4 +277,124 @@ public interface ArticleJpaRepository extends JpaRepository<ArticlePO, Long> {
      */
     @Query("SELECT COUNT(a) FROM ArticlePO a JOIN ArticleTagPO at ON a.id = at.articleId WHERE a.categoryId = :categoryId AND at.tagId = :tagId")
     long countByCategoryIdAndTagIdAllStatuses(@Param("categoryId") Long categoryId, @Param("tagId") Long tagId);
-}
\ No newline at end of file
+    
+    /**
+     * 查询所有文章ID（用于构建存在性布隆过滤器）
+     * 
+     * @return 文章ID列表
+     */
+    @Query("SELECT a.id FROM ArticlePO a")
+    List<Long> findAllIds();
+    
+    /**
+     * 按作者流式读取文章，按创建时间倒序
+     * 
+     * <p>以下 stream 方法均通过 JDBC 游标按 fetch size 分批从数据库拉取，
+     * PostgreSQL 仅在关闭自动提交（即处于事务中）时启用游标，调用方必须在事务内消费并关闭流。
+     * 
+     * @param authorId 作者ID
+     * @return 文章流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM ArticlePO a WHERE a.authorId = :authorId ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<ArticlePO> streamByAuthorId(@Param("authorId") Long authorId);
+    
+    /**
+     * 按作者和状态流式读取文章，按创建时间倒序
+     * 
+     * @param authorId 作者ID
+     * @param status 文章状态
+     * @return 文章流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM ArticlePO a WHERE a.authorId = :authorId AND a.status = :status ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<ArticlePO> streamByAuthorIdAndStatus(@Param("authorId") Long authorId, @Param("status") String status);
+    
+    /**
+     * 按分类流式读取文章，按创建时间倒序
+     * 
+     * @param categoryId 分类ID
+     * @return 文章流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM ArticlePO a WHERE a.categoryId = :categoryId ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<ArticlePO> streamByCategoryId(@Param("categoryId") Long categoryId);
+    
+    /**
+     * 按分类和状态流式读取文章，按创建时间倒序
+     * 
+     * @param categoryId 分类ID
+     * @param status 文章状态
+     * @return 文章流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM ArticlePO a WHERE a.categoryId = :categoryId AND a.status = :status ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<ArticlePO> streamByCategoryIdAndStatus(@Param("categoryId") Long categoryId, @Param("status") String status);
+    
+    /**
+     * 按标签流式读取文章，按创建时间倒序
+     * 
+     * @param tagId 标签ID
+     * @return 文章流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM ArticlePO a JOIN ArticleTagPO at ON a.id = at.articleId WHERE at.tagId = :tagId ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<ArticlePO> streamByTagId(@Param("tagId") Long tagId);
+    
+    /**
+     * 按标签和状态流式读取文章，按创建时间倒序
+     * 
+     * @param tagId 标签ID
+     * @param status 文章状态
+     * @return 文章流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM ArticlePO a JOIN ArticleTagPO at ON a.id = at.articleId WHERE at.tagId = :tagId AND a.status = :status ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<ArticlePO> streamByTagIdAndStatus(@Param("tagId") Long tagId, @Param("status") String status);
+    
+    /**
+     * 按状态流式读取文章，按创建时间倒序
+     * 
+     * @param status 文章状态
+     * @return 文章流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM ArticlePO a WHERE a.status = :status ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<ArticlePO> streamByStatus(@Param("status") String status);
+    
+    /**
+     * 按ID游标锁定一块文章行，供评论统计对账使用
+     * 
+     * <p>FOR NO KEY UPDATE 与评论写入对文章行的 UPDATE 互斥，但不阻塞插入评论时的外键检查：
+     * 锁定前已更新计数的评论事务先提交，之后的对账语句能看到它；
+     * 锁定后才更新计数的评论事务等待对账提交，再在对账结果上增减
+     * 
+     * @param afterId 游标（不含）
+     * @param limit 块大小
+     * @return 按ID升序的文章ID
+     */
+    @Query(value = "SELECT id FROM articles WHERE id > :afterId ORDER BY id LIMIT :limit FOR NO KEY UPDATE",
+        nativeQuery = true)
+    List<Long> lockIdsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,37 @@
+package com.cleveronion.blog.infrastructure.article.persistence.repository;
+
+import com.cleveronion.blog.infrastructure.article.persistence.po.ArticleRenderPO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 文章渲染结果JPA仓储接口
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Repository
+public interface ArticleRenderJpaRepository extends JpaRepository<ArticleRenderPO, String> {
+
+    /**
+     * 插入渲染结果，主键冲突时忽略
+     * 使用 ON CONFLICT 而不是捕获异常，避免主键冲突使外层事务进入中止状态
+     *
+     * @param contentHash 内容哈希
+     * @param rendererVersion 渲染器版本
+     * @param html 清洗后的 HTML
+     * @param toc 目录 JSON
+     * @return 插入的行数（0表示已存在）
+     */
+    @Modifying
+    @Query(value = "INSERT INTO article_renders (content_hash, renderer_version, html, toc, created_at) " +
+                   "VALUES (:contentHash, :rendererVersion, :html, :toc, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (content_hash) DO NOTHING", nativeQuery = true)
+    int insertIgnore(@Param("contentHash") String contentHash,
+                     @Param("rendererVersion") int rendererVersion,
+                     @Param("html") String html,
+                     @Param("toc") String toc);
+}
@@ -3,19 +3,28 @@ package com.cleveronion.blog.infrastructure.article.persistence.repository;
 import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
 import com.cleveronion.blog.domain.article.repository.ArticleRepository;
 import com.cleveronion.blog.domain.article.valueobject.*;
+import com.cleveronion.blog.infrastructure.article.persistence.converter.ArticleBodyCodec;
 import com.cleveronion.blog.infrastructure.article.persistence.converter.ArticleConverter;
+import com.cleveronion.blog.infrastructure.article.persistence.po.ArticleBodyPO;
 import com.cleveronion.blog.infrastructure.article.persistence.po.ArticlePO;
 import com.cleveronion.blog.infrastructure.article.persistence.po.ArticleTagPO;
+import com.cleveronion.blog.infrastructure.common.persistence.ReturningDmlExecutor;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.Collections;
 
 /**
@@ -27,13 +36,68 @@ import java.util.Collections;
 @Repository
 public class ArticleRepositoryImpl implements ArticleRepository {
     
+    /**
+     * 递增修订号并返回新值；UPDATE 持有行锁直到事务结束，同一文章的修订号按提交顺序严格递增
+     */
+    private static final String INCREMENT_REVISION_SQL =
+        "UPDATE articles SET revision = revision + 1 WHERE id = :id RETURNING revision";
+    
+    /**
+     * 批量递增修订号并返回各文章的新值
+     */
+    private static final String INCREMENT_REVISIONS_SQL =
+        "UPDATE articles SET revision = revision + 1 WHERE id IN (:ids) RETURNING id, revision";
+    
+    /**
+     * 新增评论后递增评论数、刷新最近评论时间并递增修订号；
+     * 并发新增时后提交的语句可能看不到先提交的评论，最近评论时间取与当前值的较大者，不会回退
+     */
+    private static final String INCREMENT_COMMENT_COUNT_SQL =
+        "UPDATE articles SET comment_count = comment_count + 1, "
+        + "last_commented_at = GREATEST(last_commented_at, "
+        + "(SELECT MAX(c.created_at) FROM comments c WHERE c.article_id = :id)), "
+        + "revision = revision + 1 WHERE id = :id RETURNING revision";
+    
+    /**
+     * 删除评论后扣减评论数，按剩余评论重新计算最近评论时间并递增修订号
+     */
+    private static final String DECREMENT_COMMENT_COUNT_SQL =
+        "UPDATE articles SET comment_count = GREATEST(comment_count - :removed, 0), "
+        + "last_commented_at = (SELECT MAX(c.created_at) FROM comments c WHERE c.article_id = :id), "
+        + "revision = revision + 1 WHERE id = :id RETURNING revision";
+    
+    /**
+     * 按评论表重新统计已锁定的文章，只修复有偏差的文章并递增其修订号
+     */
+    private static final String RECONCILE_COMMENT_STATS_SQL =
+        "UPDATE articles a SET comment_count = s.comment_count, "
+        + "last_commented_at = s.last_commented_at, revision = a.revision + 1 "
+        + "FROM (SELECT a2.id, COUNT(c.id) AS comment_count, MAX(c.created_at) AS last_commented_at "
+        + "FROM articles a2 LEFT JOIN comments c ON c.article_id = a2.id "
+        + "WHERE a2.id IN (:ids) GROUP BY a2.id) s "
+        + "WHERE a.id = s.id AND (a.comment_count <> s.comment_count "
+        + "OR a.last_commented_at IS DISTINCT FROM s.last_commented_at) "
+        + "RETURNING a.id, a.revision";
+    
     private final ArticleJpaRepository articleJpaRepository;
     private final ArticleTagJpaRepository articleTagJpaRepository;
+    private final ArticleBodyJpaRepository articleBodyJpaRepository;
+    private final ArticleBodyCodec articleBodyCodec;
+    private final EntityManager entityManager;
+    private final ReturningDmlExecutor returningDmlExecutor;
     
     public ArticleRepositoryImpl(ArticleJpaRepository articleJpaRepository,
-                                ArticleTagJpaRepository articleTagJpaRepository) {
+                                ArticleTagJpaRepository articleTagJpaRepository,
+                                ArticleBodyJpaRepository articleBodyJpaRepository,
+                                ArticleBodyCodec articleBodyCodec,
+                                EntityManager entityManager,
+                                ReturningDmlExecutor returningDmlExecutor) {
         this.articleJpaRepository = articleJpaRepository;
         this.articleTagJpaRepository = articleTagJpaRepository;
+        this.articleBodyJpaRepository = articleBodyJpaRepository;
+        this.articleBodyCodec = articleBodyCodec;
+        this.entityManager = entityManager;
+        this.returningDmlExecutor = returningDmlExecutor;
     }
     
     @Override
@@ -43,6 +107,14 @@ public class ArticleRepositoryImpl implements ArticleRepository {
         ArticlePO articlePO = ArticleConverter.toArticlePO(article);
         ArticlePO savedArticlePO = articleJpaRepository.save(articlePO);
         
+        // 正文已加载说明可能被修改，写入正文表；未加载则正文保持不变
+        String body = article.getContent().isBodyLoaded() ? article.getContent().getContent() : null;
+        if (body != null) {
+            ArticleBodyPO bodyPO = new ArticleBodyPO(savedArticlePO.getId());
+            articleBodyCodec.encode(bodyPO, body);
+            articleBodyJpaRepository.save(bodyPO);
+        }
+        
         // 处理标签关联
         if (article.getTagIds() != null && !article.getTagIds().isEmpty()) {
             // 如果是更新操作，先删除旧的关联
@@ -57,7 +129,8 @@ public class ArticleRepositoryImpl implements ArticleRepository {
         }
         
         // 转换回聚合并返回
-        return ArticleConverter.toArticleAggregate(savedArticlePO, article.getTagIds());
+        return withContentLoader(
+            ArticleConverter.toArticleAggregate(savedArticlePO, article.getTagIds(), body));
     }
     
     @Override
@@ -72,14 +145,91 @@ public class ArticleRepositoryImpl implements ArticleRepository {
         List<Long> tagIdValues = articleTagJpaRepository.findTagIdsByArticleId(articlePO.getId());
         Set<TagId> tagIds = ArticleConverter.toTagIdSet(tagIdValues);
         
-        return Optional.of(ArticleConverter.toArticleAggregate(articlePO, tagIds));
+        return Optional.of(withContentLoader(ArticleConverter.toArticleAggregate(articlePO, tagIds)));
+    }
+    
+    @Override
+    public List<ArticleAggregate> findByIds(Set<ArticleId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> idValues = ids.stream()
+            .map(id -> Long.valueOf(id.getValue()))
+            .collect(Collectors.toList());
+        return convertToAggregates(articleJpaRepository.findAllById(idValues));
+    }
+    
+    @Override
+    @Transactional
+    public long nextRevision(ArticleId id) {
+        Long revision = returningDmlExecutor.queryForLong(INCREMENT_REVISION_SQL,
+            Map.of("id", Long.valueOf(id.getValue())));
+        if (revision == null) {
+            throw new IllegalArgumentException("文章不存在: " + id.getValue());
+        }
+        return revision;
+    }
+    
+    @Override
+    @Transactional
+    public Map<ArticleId, Long> nextRevisions(Set<ArticleId> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> idValues = ids.stream()
+            .map(id -> Long.valueOf(id.getValue()))
+            .collect(Collectors.toList());
+        Map<ArticleId, Long> revisions = new HashMap<>();
+        returningDmlExecutor.queryForList(INCREMENT_REVISIONS_SQL, Map.of("ids", idValues),
+                (rs, rowNum) -> Map.entry(ArticleId.of(String.valueOf(rs.getLong(1))), rs.getLong(2)))
+            .forEach(entry -> revisions.put(entry.getKey(), entry.getValue()));
+        return revisions;
+    }
+    
+    @Override
+    @Transactional
+    public long recordCommentAdded(ArticleId id) {
+        Long revision = returningDmlExecutor.queryForLong(INCREMENT_COMMENT_COUNT_SQL,
+            Map.of("id", Long.valueOf(id.getValue())));
+        if (revision == null) {
+            throw new IllegalArgumentException("文章不存在: " + id.getValue());
+        }
+        return revision;
+    }
+    
+    @Override
+    @Transactional
+    public long recordCommentsRemoved(ArticleId id, int removed) {
+        Long revision = returningDmlExecutor.queryForLong(DECREMENT_COMMENT_COUNT_SQL,
+            Map.of("id", Long.valueOf(id.getValue()), "removed", removed));
+        if (revision == null) {
+            throw new IllegalArgumentException("文章不存在: " + id.getValue());
+        }
+        return revision;
+    }
+    
+    @Override
+    @Transactional
+    public CommentStatsReconciliation reconcileCommentStats(ArticleId afterId, int limit) {
+        long cursor = afterId != null ? Long.parseLong(afterId.getValue()) : 0L;
+        List<Long> ids = articleJpaRepository.lockIdsAfter(cursor, limit);
+        if (ids.isEmpty()) {
+            return new CommentStatsReconciliation(null, Map.of());
+        }
+        
+        Map<ArticleId, Long> repaired = new HashMap<>();
+        returningDmlExecutor.queryForList(RECONCILE_COMMENT_STATS_SQL, Map.of("ids", ids),
+                (rs, rowNum) -> Map.entry(ArticleId.of(String.valueOf(rs.getLong(1))), rs.getLong(2)))
+            .forEach(entry -> repaired.put(entry.getKey(), entry.getValue()));
+        return new CommentStatsReconciliation(ArticleId.of(ids.get(ids.size() - 1).toString()), repaired);
     }
     
     @Override
     @Transactional
     public void deleteById(ArticleId id) {
-        // 先删除标签关联
+        // 先删除标签关联和正文
         articleTagJpaRepository.deleteByArticleId(Long.valueOf(id.getValue()));
+        articleBodyJpaRepository.deleteById(Long.valueOf(id.getValue()));
         // 再删除文章
         articleJpaRepository.deleteById(Long.valueOf(id.getValue()));
     }
@@ -90,27 +240,35 @@ public class ArticleRepositoryImpl implements ArticleRepository {
     }
     
     @Override
-    public List<ArticleAggregate> findByAuthorId(AuthorId authorId) {
-        List<ArticlePO> articlePOs = articleJpaRepository.findByAuthorId(authorId.getValue());
-        return convertToAggregates(articlePOs);
+    public void streamByAuthorId(AuthorId authorId, ArticleStatus status, int batchSize,
+                                 Consumer<List<ArticleAggregate>> consumer) {
+        Stream<ArticlePO> articlePOs = status != null
+            ? articleJpaRepository.streamByAuthorIdAndStatus(authorId.getValue(), status.name())
+            : articleJpaRepository.streamByAuthorId(authorId.getValue());
+        consumeInBatches(articlePOs, batchSize, consumer);
     }
     
     @Override
-    public List<ArticleAggregate> findByCategoryId(CategoryId categoryId) {
-        List<ArticlePO> articlePOs = articleJpaRepository.findByCategoryId(categoryId.getValue());
-        return convertToAggregates(articlePOs);
+    public void streamByCategoryId(CategoryId categoryId, ArticleStatus status, int batchSize,
+                                   Consumer<List<ArticleAggregate>> consumer) {
+        Stream<ArticlePO> articlePOs = status != null
+            ? articleJpaRepository.streamByCategoryIdAndStatus(categoryId.getValue(), status.name())
+            : articleJpaRepository.streamByCategoryId(categoryId.getValue());
+        consumeInBatches(articlePOs, batchSize, consumer);
     }
     
     @Override
-    public List<ArticleAggregate> findByTagId(TagId tagId) {
-        List<ArticlePO> articlePOs = articleJpaRepository.findByTagId(tagId.getValue());
-        return convertToAggregates(articlePOs);
+    public void streamByTagId(TagId tagId, ArticleStatus status, int batchSize,
+                              Consumer<List<ArticleAggregate>> consumer) {
+        Stream<ArticlePO> articlePOs = status != null
+            ? articleJpaRepository.streamByTagIdAndStatus(tagId.getValue(), status.name())
+            : articleJpaRepository.streamByTagId(tagId.getValue());
+        consumeInBatches(articlePOs, batchSize, consumer);
     }
     
     @Override
-    public List<ArticleAggregate> findByStatus(ArticleStatus status) {
-        List<ArticlePO> articlePOs = articleJpaRepository.findByStatus(status.name());
-        return convertToAggregates(articlePOs);
+    public void streamByStatus(ArticleStatus status, int batchSize, Consumer<List<ArticleAggregate>> consumer) {
+        consumeInBatches(articleJpaRepository.streamByStatus(status.name()), batchSize, consumer);
     }
     
     @Override
@@ -360,8 +518,62 @@ public class ArticleRepositoryImpl implements ArticleRepository {
             .map(articlePO -> {
                 List<Long> tagIdValues = articleTagMap.getOrDefault(articlePO.getId(), Collections.emptyList());
                 Set<TagId> tagIds = ArticleConverter.toTagIdSet(tagIdValues);
-                return ArticleConverter.toArticleAggregate(articlePO, tagIds);
+                return withContentLoader(ArticleConverter.toArticleAggregate(articlePO, tagIds));
             })
             .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+    
+    /**
+     * 为正文未加载的聚合挂载正文句柄，首次需要正文时再查询article_bodies
+     * 
+     * @param article 文章聚合
+     * @return 同一个文章聚合
+     */
+    private ArticleAggregate withContentLoader(ArticleAggregate article) {
+        if (!article.getContent().isBodyLoaded()) {
+            Long articleId = Long.valueOf(article.getId().getValue());
+            article.attachContentLoader(() -> articleBodyJpaRepository.findById(articleId)
+                .map(articleBodyCodec::decode)
+                .orElse(null));
+        }
+        return article;
+    }
+    
+    /**
+     * 按批消费文章流
+     * 每批转换为聚合（批量加载标签）后交给consumer，随后从持久化上下文分离，
+     * 保证长流遍历时内存占用不随结果集增长
+     * 
+     * @param articlePOs 文章PO流，消费完毕后关闭（释放数据库游标）
+     * @param batchSize 每批数量
+     * @param consumer 每批文章的处理函数
+     */
+    private void consumeInBatches(Stream<ArticlePO> articlePOs, int batchSize,
+                                  Consumer<List<ArticleAggregate>> consumer) {
+        if (batchSize <= 0) {
+            articlePOs.close();
+            throw new IllegalArgumentException("批次大小必须大于0");
+        }
+        
+        try (articlePOs) {
+            List<ArticlePO> batch = new ArrayList<>(batchSize);
+            Iterator<ArticlePO> iterator = articlePOs.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    flushBatch(batch, consumer);
+                }
+            }
+            if (!batch.isEmpty()) {
+                flushBatch(batch, consumer);
+            }
+        }
+    }
+    
+    private void flushBatch(List<ArticlePO> batch, Consumer<List<ArticleAggregate>> consumer) {
+        List<ArticleAggregate> articles = convertToAggregates(batch);
+        batch.forEach(entityManager::detach);
+        batch.clear();
+        consumer.accept(articles);
+    }
+}
@@ -76,11 +76,12 @@ public interface ArticleTagJpaRepository extends JpaRepository<ArticleTagPO, Lon
      * 根据标签ID删除所有关联记录
      * 
      * @param tagId 标签ID
+     * @return 删除的关联记录数量
      */
     @Modifying
     @Transactional
     @Query("DELETE FROM ArticleTagPO at WHERE at.tagId = :tagId")
-    void deleteByTagId(@Param("tagId") Long tagId);
+    int deleteByTagId(@Param("tagId") Long tagId);
     
     /**
      * 删除特定的文章标签关联
@@ -1,9 +1,12 @@
 package com.cleveronion.blog.infrastructure.article.persistence.repository;
 
 import com.cleveronion.blog.infrastructure.article.persistence.po.CategoryPO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,12 +22,23 @@ import java.util.Optional;
 @Repository
 public interface CategoryJpaRepository extends JpaRepository<CategoryPO, Long> {
     
+    /**
+     * 根据ID集合批量查找分类（启用查询缓存，结果中的实体从二级缓存装载）
+     * 
+     * @param ids 分类ID集合
+     * @return 分类列表
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<CategoryPO> findAllById(Iterable<Long> ids);
+    
     /**
      * 根据名称查找分类
      * 
      * @param name 分类名称
      * @return 分类持久化对象的Optional包装
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<CategoryPO> findByName(String name);
     
     /**
@@ -33,6 +47,7 @@ public interface CategoryJpaRepository extends JpaRepository<CategoryPO, Long> {
      * @param name 分类名称
      * @return 如果存在返回true，否则返回false
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByName(String name);
     
     /**
@@ -65,6 +80,7 @@ public interface CategoryJpaRepository extends JpaRepository<CategoryPO, Long> {
      * 
      * @return 分类列表（按名称升序）
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<CategoryPO> findAllByOrderByNameAsc();
     
     /**
@@ -71,7 +71,8 @@ public class CategoryRepositoryImpl implements CategoryRepository {
     
     @Override
     public boolean existsById(CategoryId id) {
-        return categoryJpaRepository.existsById(id.getValue());
+        // 按主键装载可命中二级缓存，existsById 的计数查询每次都会访问数据库
+        return categoryJpaRepository.findById(id.getValue()).isPresent();
     }
     
     @Override
@@ -0,0 +1,42 @@
+package com.cleveronion.blog.infrastructure.article.persistence.repository;
+
+import com.cleveronion.blog.domain.article.repository.RenderedContentRepository;
+import com.cleveronion.blog.domain.article.valueobject.RenderedContent;
+import com.cleveronion.blog.infrastructure.article.persistence.converter.RenderedContentConverter;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 文章渲染结果仓储实现类
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Repository
+public class RenderedContentRepositoryImpl implements RenderedContentRepository {
+
+    private final ArticleRenderJpaRepository articleRenderJpaRepository;
+
+    public RenderedContentRepositoryImpl(ArticleRenderJpaRepository articleRenderJpaRepository) {
+        this.articleRenderJpaRepository = articleRenderJpaRepository;
+    }
+
+    @Override
+    public Optional<RenderedContent> findByContentHash(String contentHash) {
+        return articleRenderJpaRepository.findById(contentHash)
+            .map(RenderedContentConverter::toRenderedContent);
+    }
+
+    @Override
+    @Transactional
+    public void saveIfAbsent(RenderedContent renderedContent) {
+        articleRenderJpaRepository.insertIgnore(
+            renderedContent.getContentHash(),
+            renderedContent.getRendererVersion(),
+            renderedContent.getHtml(),
+            RenderedContentConverter.writeToc(renderedContent.getToc())
+        );
+    }
+}
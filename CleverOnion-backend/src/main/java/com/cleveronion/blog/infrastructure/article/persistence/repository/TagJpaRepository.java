@@ -1,9 +1,13 @@
 package com.cleveronion.blog.infrastructure.article.persistence.repository;
 
 import com.cleveronion.blog.infrastructure.article.persistence.po.TagPO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -26,6 +30,7 @@ public interface TagJpaRepository extends JpaRepository<TagPO, Long> {
      * @param name 标签名称
      * @return 标签持久化对象的Optional包装
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<TagPO> findByName(String name);
     
     /**
@@ -34,6 +39,7 @@ public interface TagJpaRepository extends JpaRepository<TagPO, Long> {
      * @param ids 标签ID集合
      * @return 标签列表
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TagPO> findByIdIn(Set<Long> ids);
     
     /**
@@ -42,6 +48,7 @@ public interface TagJpaRepository extends JpaRepository<TagPO, Long> {
      * @param names 标签名称集合
      * @return 标签列表
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TagPO> findByNameIn(Set<String> names);
     
     /**
@@ -50,6 +57,7 @@ public interface TagJpaRepository extends JpaRepository<TagPO, Long> {
      * @param name 标签名称
      * @return 如果存在返回true，否则返回false
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByName(String name);
     
     /**
@@ -90,6 +98,7 @@ public interface TagJpaRepository extends JpaRepository<TagPO, Long> {
      * 
      * @return 标签列表（按名称升序）
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TagPO> findAllByOrderByNameAsc();
     
     /**
@@ -132,6 +141,50 @@ public interface TagJpaRepository extends JpaRepository<TagPO, Long> {
     @Query("SELECT COUNT(at) FROM ArticleTagPO at WHERE at.tagId = :tagId")
     long countUsageByTagId(@Param("tagId") Long tagId);
     
+    /**
+     * 查找未被任何文章使用的标签
+     * 
+     * @return 标签列表（按ID升序）
+     */
+    @Query("SELECT t FROM TagPO t " +
+           "WHERE NOT EXISTS (SELECT 1 FROM ArticleTagPO at WHERE at.tagId = t.id) " +
+           "ORDER BY t.id")
+    List<TagPO> findUnused();
+    
+    /**
+     * 按ID升序查找游标之后未被使用的标签ID
+     * 
+     * @param afterId 游标（不包含）
+     * @param pageable 分页参数，只使用其大小
+     * @return 标签ID列表
+     */
+    @Query("SELECT t.id FROM TagPO t " +
+           "WHERE t.id > :afterId " +
+           "AND NOT EXISTS (SELECT 1 FROM ArticleTagPO at WHERE at.tagId = t.id) " +
+           "ORDER BY t.id")
+    List<Long> findUnusedIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * 批量删除标签（单条语句，不逐个加载实体）
+     * 
+     * @param ids 标签ID集合
+     * @return 删除数量
+     */
+    @Modifying
+    @Query("DELETE FROM TagPO t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Set<Long> ids);
+    
+    /**
+     * 删除指定ID中仍未被使用的标签
+     * 
+     * @param ids 标签ID集合
+     * @return 删除数量
+     */
+    @Modifying
+    @Query("DELETE FROM TagPO t WHERE t.id IN :ids " +
+           "AND NOT EXISTS (SELECT 1 FROM ArticleTagPO at WHERE at.tagId = t.id)")
+    int deleteUnusedByIdIn(@Param("ids") Set<Long> ids);
+    
     /**
      * 分页查询标签及其文章数量
      * 
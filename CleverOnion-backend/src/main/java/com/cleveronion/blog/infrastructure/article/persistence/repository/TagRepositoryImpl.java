@@ -2,14 +2,18 @@ package com.cleveronion.blog.infrastructure.article.persistence.repository;
 
 import com.cleveronion.blog.domain.article.aggregate.TagAggregate;
 import com.cleveronion.blog.domain.article.repository.TagRepository;
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.article.valueobject.TagId;
 import com.cleveronion.blog.infrastructure.article.persistence.converter.TagConverter;
 import com.cleveronion.blog.infrastructure.article.persistence.po.TagPO;
+import com.cleveronion.blog.infrastructure.common.cache.SecondLevelCacheInvalidator;
+import com.cleveronion.blog.infrastructure.common.persistence.ReturningDmlExecutor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -23,10 +27,24 @@ import java.util.stream.Collectors;
 @Repository
 public class TagRepositoryImpl implements TagRepository {
     
+    /**
+     * 一条语句删除多个标签的所有关联记录，返回受影响的文章ID；
+     * 同一文章关联多个被删除标签时会返回重复的文章ID。
+     * 标签ID以单个数组参数绑定，语句文本与标签数量无关，预编译语句可以复用
+     */
+    private static final String DETACH_FROM_ARTICLES_SQL =
+        "DELETE FROM article_tags WHERE tag_id = ANY(:tagIds) RETURNING article_id";
+    
     private final TagJpaRepository tagJpaRepository;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+    private final ReturningDmlExecutor returningDmlExecutor;
     
-    public TagRepositoryImpl(TagJpaRepository tagJpaRepository) {
+    public TagRepositoryImpl(TagJpaRepository tagJpaRepository,
+                             SecondLevelCacheInvalidator secondLevelCacheInvalidator,
+                             ReturningDmlExecutor returningDmlExecutor) {
         this.tagJpaRepository = tagJpaRepository;
+        this.secondLevelCacheInvalidator = secondLevelCacheInvalidator;
+        this.returningDmlExecutor = returningDmlExecutor;
     }
     
     @Override
@@ -74,7 +92,8 @@ public class TagRepositoryImpl implements TagRepository {
     
     @Override
     public boolean existsById(TagId id) {
-        return tagJpaRepository.existsById(id.getValue());
+        // 按主键装载可命中二级缓存，existsById 的计数查询每次都会访问数据库
+        return tagJpaRepository.findById(id.getValue()).isPresent();
     }
     
     @Override
@@ -160,14 +179,38 @@ public class TagRepositoryImpl implements TagRepository {
     
     @Override
     public List<TagAggregate> findUnusedTags() {
-        // 查找没有被任何文章使用的标签
-        List<TagPO> allTags = tagJpaRepository.findAll();
-        return allTags.stream()
-            .filter(tagPO -> tagJpaRepository.countUsageByTagId(tagPO.getId()) == 0)
+        // NOT EXISTS 反连接，一次查询得到所有未使用标签
+        List<TagPO> tagPOs = tagJpaRepository.findUnused();
+        return tagPOs.stream()
             .map(TagConverter::toTagAggregate)
             .collect(Collectors.toList());
     }
     
+    @Override
+    public List<TagId> findUnusedTagIds(TagId afterId, int limit) {
+        Long cursor = afterId != null ? afterId.getValue() : 0L;
+        List<Long> ids = tagJpaRepository.findUnusedIdsAfter(cursor, PageRequest.of(0, limit));
+        return ids.stream()
+            .map(TagId::of)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public int deleteUnusedByIds(Set<TagId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        Set<Long> idValues = ids.stream()
+            .map(TagId::getValue)
+            .collect(Collectors.toSet());
+        int deleted = tagJpaRepository.deleteUnusedByIdIn(idValues);
+        if (deleted > 0) {
+            // 批量删除不触发实体事件，需要显式通知各节点清除标签二级缓存
+            secondLevelCacheInvalidator.evictEntityRegionAfterCommit(TagPO.class);
+        }
+        return deleted;
+    }
+    
     @Override
     public List<TagAggregate> saveAll(List<TagAggregate> tags) {
         List<TagPO> tagPOs = tags.stream()
@@ -181,10 +224,27 @@ public class TagRepositoryImpl implements TagRepository {
     
     @Override
     public void deleteByIds(Set<TagId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
         Set<Long> idValues = ids.stream()
             .map(TagId::getValue)
             .collect(Collectors.toSet());
-        tagJpaRepository.deleteAllById(idValues);
+        tagJpaRepository.deleteByIdIn(idValues);
+        secondLevelCacheInvalidator.evictEntityRegionAfterCommit(TagPO.class);
+    }
+    
+    @Override
+    public Set<ArticleId> detachFromArticles(Set<TagId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        Long[] idValues = ids.stream()
+            .map(TagId::getValue)
+            .distinct()
+            .toArray(Long[]::new);
+        return Set.copyOf(returningDmlExecutor.queryForList(DETACH_FROM_ARTICLES_SQL, Map.of("tagIds", idValues),
+            (rs, rowNum) -> ArticleId.of(String.valueOf(rs.getLong(1)))));
     }
     
     @Override
@@ -0,0 +1,495 @@
+package com.cleveronion.blog.infrastructure.article.render;
+
+import com.cleveronion.blog.domain.article.valueobject.ArticleMetadata;
+import com.cleveronion.blog.domain.article.valueobject.RenderedContent;
+import com.cleveronion.blog.domain.article.valueobject.TocEntry;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.Heading;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.Node;
+import org.commonmark.node.Paragraph;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Markdown 渲染器
+ *
+ * <p>将文章 Markdown 正文渲染为可直接展示的 HTML：
+ * <ul>
+ *   <li>CommonMark + GFM 表格/删除线，原始 HTML 一律转义，链接协议白名单过滤</li>
+ *   <li>标题生成稳定锚点并汇总为目录</li>
+ *   <li>数学公式（{@code $...$}、{@code $$...$$}）在解析前提取，避免其中的 {@code _}、{@code *}
+ *       被当作强调语法；输出为带 {@code math-inline}/{@code math-display} 类的节点，
+ *       客户端只需对这些节点调用 KaTeX，无需再扫描全文。提取时使用每次渲染随机生成的占位符，
+ *       正文中的任何文字都不会被当作公式还原</li>
+ *   <li>代码块输出 {@code language-xxx} 类，内容已转义</li>
+ *   <li>最终 HTML 经 jsoup 白名单清洗</li>
+ * </ul>
+ *
+ * <p>同时负责写入时的元数据派生：字数、阅读时长、标题大纲（锚点与渲染结果一致）以及抽取式摘要。
+ *
+ * <p>修改渲染输出时必须递增 {@link #RENDERER_VERSION}，使已存储的结果因哈希变化而重新渲染。
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class MarkdownRenderer {
+
+    /**
+     * 渲染器版本，参与内容哈希计算
+     */
+    public static final int RENDERER_VERSION = 2;
+
+    private static final List<Extension> EXTENSIONS = List.of(
+        TablesExtension.create(),
+        StrikethroughExtension.create()
+    );
+
+    private static final Pattern CODE_SPAN = Pattern.compile("(`+)[\\s\\S]*?\\1");
+    private static final Pattern DISPLAY_MATH = Pattern.compile("\\$\\$([\\s\\S]+?)\\$\\$");
+    private static final Pattern INLINE_MATH = Pattern.compile("(?<![\\\\$])\\$(?=\\S)([^$\\n]+?)(?<=\\S)(?<!\\\\)\\$(?!\\d)");
+
+    private static final Safelist SAFELIST = Safelist.relaxed()
+        .addTags("del", "s", "hr")
+        .addAttributes("h1", "id")
+        .addAttributes("h2", "id")
+        .addAttributes("h3", "id")
+        .addAttributes("h4", "id")
+        .addAttributes("h5", "id")
+        .addAttributes("h6", "id")
+        .addAttributes("code", "class")
+        .addAttributes("span", "class")
+        .addAttributes("div", "class")
+        .addAttributes("th", "align")
+        .addAttributes("td", "align")
+        .preserveRelativeLinks(true);
+
+    /**
+     * jsoup 需要基础地址才能校验相对链接，仅用于解析，不出现在输出中
+     */
+    private static final String SANITIZE_BASE_URI = "https://cleveronion.invalid/";
+
+    /**
+     * 阅读速度：中日韩文字每分钟字数、其他文字每分钟词数
+     */
+    private static final double CJK_CHARS_PER_MINUTE = 400.0;
+    private static final double WORDS_PER_MINUTE = 200.0;
+
+    /**
+     * 抽取式摘要的最大长度，以及按句子截断时至少保留的长度
+     */
+    private static final int SUMMARY_MAX_LENGTH = 200;
+    private static final int SUMMARY_MIN_SENTENCE_LENGTH = 60;
+    private static final String SENTENCE_TERMINATORS = "。！？!?.…";
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+
+    /**
+     * 计算内容哈希
+     *
+     * @param markdown Markdown 原文
+     * @return 渲染器版本与原文的 SHA-256 十六进制摘要
+     */
+    public String contentHash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((RENDERER_VERSION + ":").getBytes(StandardCharsets.UTF_8));
+            digest.update(markdown.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
+    }
+
+    /**
+     * 渲染 Markdown
+     *
+     * @param markdown Markdown 原文
+     * @return 渲染结果
+     */
+    public RenderedContent render(String markdown) {
+        if (markdown == null) {
+            throw new IllegalArgumentException("Markdown 内容不能为空");
+        }
+
+        MathPlaceholders formulas = new MathPlaceholders(markdown);
+        Node document = parser.parse(extractMath(markdown, formulas));
+
+        Map<Node, String> anchors = new IdentityHashMap<>();
+        List<TocEntry> toc = collectHeadings(document, formulas, anchors);
+
+        HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+            .extensions(EXTENSIONS)
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                String anchor = anchors.get(node);
+                if (anchor != null) {
+                    attributes.put("id", anchor);
+                }
+            })
+            .build();
+
+        String html = restoreMath(htmlRenderer.render(document), formulas);
+        String sanitized = Jsoup.clean(html, SANITIZE_BASE_URI, SAFELIST,
+            new Document.OutputSettings().prettyPrint(false));
+
+        return new RenderedContent(contentHash(markdown), RENDERER_VERSION, sanitized, toc);
+    }
+
+    /**
+     * 计算派生元数据
+     *
+     * <p>字数只统计正文文字，代码块不计入；每个公式按一个词计。
+     *
+     * @param markdown Markdown 原文
+     * @return 字数、阅读时长与标题大纲
+     */
+    public ArticleMetadata analyze(String markdown) {
+        if (markdown == null) {
+            throw new IllegalArgumentException("Markdown 内容不能为空");
+        }
+
+        MathPlaceholders formulas = new MathPlaceholders(markdown);
+        Node document = parser.parse(extractMath(markdown, formulas));
+        List<TocEntry> outline = collectHeadings(document, formulas, new IdentityHashMap<>());
+
+        // 代码块的内容是 literal 而非子节点，访问 Text/Code 时自然被跳过
+        StringBuilder prose = new StringBuilder();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text text) {
+                prose.append(text.getLiteral()).append(' ');
+            }
+
+            @Override
+            public void visit(Code code) {
+                prose.append(code.getLiteral()).append(' ');
+            }
+        });
+
+        String plainText = formulas.remove(prose);
+        int cjkChars = 0;
+        int words = formulas.size();
+        boolean inWord = false;
+        for (int i = 0; i < plainText.length(); ) {
+            int codePoint = plainText.codePointAt(i);
+            if (isCjk(codePoint)) {
+                cjkChars++;
+                inWord = false;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                if (!inWord) {
+                    words++;
+                    inWord = true;
+                }
+            } else if (!(inWord && (codePoint == '\'' || codePoint == '\u2019'))) {
+                inWord = false;
+            }
+            i += Character.charCount(codePoint);
+        }
+
+        int readingMinutes = cjkChars + words == 0 ? 0
+            : Math.max(1, (int) Math.ceil(cjkChars / CJK_CHARS_PER_MINUTE + words / WORDS_PER_MINUTE));
+        return new ArticleMetadata(cjkChars + words, readingMinutes, outline);
+    }
+
+    /**
+     * 抽取式摘要：取开头的段落文字，超长时尽量在句末截断
+     *
+     * @param markdown Markdown 原文
+     * @return 摘要；正文没有段落文字时返回 null
+     */
+    public String extractSummary(String markdown) {
+        if (markdown == null) {
+            throw new IllegalArgumentException("Markdown 内容不能为空");
+        }
+
+        MathPlaceholders formulas = new MathPlaceholders(markdown);
+        Node document = parser.parse(extractMath(markdown, formulas));
+
+        StringBuilder summary = new StringBuilder();
+        for (Node block = document.getFirstChild();
+             block != null && summary.length() < SUMMARY_MAX_LENGTH;
+             block = block.getNext()) {
+            if (!(block instanceof Paragraph)) {
+                continue;
+            }
+            StringBuilder text = new StringBuilder();
+            appendText(block, text);
+            String paragraph = formulas.restore(text)
+                .replaceAll("\\s+", " ")
+                .strip();
+            if (!paragraph.isEmpty()) {
+                if (summary.length() > 0) {
+                    summary.append(' ');
+                }
+                summary.append(paragraph);
+            }
+        }
+
+        return summary.length() == 0 ? null : truncateSummary(summary.toString());
+    }
+
+    private static String truncateSummary(String text) {
+        if (text.length() <= SUMMARY_MAX_LENGTH) {
+            return text;
+        }
+        for (int i = SUMMARY_MAX_LENGTH - 1; i >= SUMMARY_MIN_SENTENCE_LENGTH; i--) {
+            if (SENTENCE_TERMINATORS.indexOf(text.charAt(i)) >= 0) {
+                return text.substring(0, i + 1);
+            }
+        }
+        int end = SUMMARY_MAX_LENGTH - 1;
+        if (Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end).stripTrailing() + "…";
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA
+            || script == Character.UnicodeScript.HANGUL;
+    }
+
+    /**
+     * 提取代码块、行内代码之外的公式，替换为占位符
+     */
+    private String extractMath(String markdown, MathPlaceholders formulas) {
+        StringBuilder result = new StringBuilder(markdown.length());
+        StringBuilder prose = new StringBuilder();
+        String fence = null;
+
+        for (String line : markdown.split("\n", -1)) {
+            String trimmed = line.stripLeading();
+            if (fence == null && (trimmed.startsWith("```") || trimmed.startsWith("~~~"))) {
+                result.append(replaceMathInProse(prose.toString(), formulas));
+                prose.setLength(0);
+                fence = trimmed.substring(0, 3);
+                result.append(line).append('\n');
+            } else if (fence != null) {
+                result.append(line).append('\n');
+                if (trimmed.startsWith(fence)) {
+                    fence = null;
+                }
+            } else {
+                prose.append(line).append('\n');
+            }
+        }
+        result.append(replaceMathInProse(prose.toString(), formulas));
+        // 去掉拼接时多出的末尾换行
+        return result.substring(0, result.length() - 1);
+    }
+
+    private String replaceMathInProse(String prose, MathPlaceholders formulas) {
+        if (prose.indexOf('$') < 0) {
+            return prose;
+        }
+        StringBuilder result = new StringBuilder(prose.length());
+        Matcher codeSpan = CODE_SPAN.matcher(prose);
+        int last = 0;
+        while (codeSpan.find()) {
+            result.append(replaceMath(prose.substring(last, codeSpan.start()), formulas));
+            result.append(codeSpan.group());
+            last = codeSpan.end();
+        }
+        result.append(replaceMath(prose.substring(last), formulas));
+        return result.toString();
+    }
+
+    private String replaceMath(String text, MathPlaceholders formulas) {
+        String withBlocks = DISPLAY_MATH.matcher(text).replaceAll(match -> formulas.add(BLOCK, match.group(1).strip()));
+        return INLINE_MATH.matcher(withBlocks).replaceAll(match -> formulas.add(INLINE, match.group(1)));
+    }
+
+    /**
+     * 把占位符替换为公式节点，独占段落的块级公式输出为 div
+     */
+    private String restoreMath(String html, MathPlaceholders formulas) {
+        if (formulas.isEmpty()) {
+            return html;
+        }
+        String withBlocks = formulas.blockParagraph().matcher(html).replaceAll(match -> Matcher.quoteReplacement(
+            "<div class=\"math math-display\">" + escapeHtml(formulas.get(match.group(1))) + "</div>"));
+        return formulas.placeholder().matcher(withBlocks).replaceAll(match -> {
+            String formula = escapeHtml(formulas.get(match.group(2)));
+            String type = BLOCK.equals(match.group(1)) ? "math-display" : "math-inline";
+            return Matcher.quoteReplacement("<span class=\"math " + type + "\">" + formula + "</span>");
+        });
+    }
+
+    /**
+     * 收集标题生成目录，同时为每个标题分配唯一锚点
+     */
+    private List<TocEntry> collectHeadings(Node document, MathPlaceholders formulas, Map<Node, String> anchors) {
+        List<TocEntry> toc = new ArrayList<>();
+        Map<String, Integer> usedAnchors = new HashMap<>();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Heading heading) {
+                StringBuilder text = new StringBuilder();
+                appendText(heading, text);
+                String plainText = formulas.restore(text.toString().strip());
+
+                String anchor = slugify(plainText);
+                int seen = usedAnchors.merge(anchor, 1, Integer::sum);
+                if (seen > 1) {
+                    anchor = anchor + "-" + (seen - 1);
+                }
+                anchors.put(heading, anchor);
+                toc.add(new TocEntry(heading.getLevel(), plainText, anchor));
+            }
+        });
+        return toc;
+    }
+
+    private static void appendText(Node node, StringBuilder text) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+            if (child instanceof Text textNode) {
+                text.append(textNode.getLiteral());
+            } else if (child instanceof Code code) {
+                text.append(code.getLiteral());
+            } else if (child instanceof SoftLineBreak || child instanceof HardLineBreak) {
+                text.append(' ');
+            } else {
+                appendText(child, text);
+            }
+        }
+    }
+
+    /**
+     * 生成锚点：保留字母（含中文）和数字，空白转为连字符
+     */
+    private static String slugify(String text) {
+        StringBuilder slug = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                slug.appendCodePoint(Character.toLowerCase(codePoint));
+            } else if ((Character.isWhitespace(codePoint) || codePoint == '-' || codePoint == '_')
+                && slug.length() > 0 && slug.charAt(slug.length() - 1) != '-') {
+                slug.append('-');
+            }
+            i += Character.charCount(codePoint);
+        }
+        int end = slug.length();
+        while (end > 0 && slug.charAt(end - 1) == '-') {
+            end--;
+        }
+        return end == 0 ? "section" : slug.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    private static final String BLOCK = "BLOCK";
+    private static final String INLINE = "INLINE";
+
+    /**
+     * 单次渲染提取出的公式及其占位符
+     *
+     * <p>占位符形如 {@code COMATH<随机串>BLOCK<序号>END}，随机串每次渲染重新生成并保证不出现在原文中，
+     * 因此原文里与占位符相似的文字（包括代码块中的）不会被当作公式；
+     * 占位符只含字母和数字，不会被 Markdown 解析拆开
+     */
+    private static final class MathPlaceholders {
+
+        private final List<String> formulas = new ArrayList<>();
+        private final String prefix;
+        private final Pattern placeholder;
+        private final Pattern blockParagraph;
+
+        private MathPlaceholders(String markdown) {
+            String candidate;
+            do {
+                candidate = "COMATH" + UUID.randomUUID().toString().replace("-", "");
+            } while (markdown.contains(candidate));
+            prefix = candidate;
+            placeholder = Pattern.compile(prefix + "(" + BLOCK + "|" + INLINE + ")(\\d+)END");
+            blockParagraph = Pattern.compile("<p>" + prefix + BLOCK + "(\\d+)END</p>");
+        }
+
+        /**
+         * 记录公式
+         *
+         * @return 替换公式的占位符，只含字母和数字，可直接用作正则替换串
+         */
+        String add(String type, String formula) {
+            formulas.add(formula);
+            return prefix + type + (formulas.size() - 1) + "END";
+        }
+
+        /**
+         * 按序号取公式，越界（包括超出 int 范围）时返回空串
+         */
+        String get(String index) {
+            try {
+                int i = Integer.parseInt(index);
+                return i < formulas.size() ? formulas.get(i) : "";
+            } catch (NumberFormatException e) {
+                return "";
+            }
+        }
+
+        boolean isEmpty() {
+            return formulas.isEmpty();
+        }
+
+        int size() {
+            return formulas.size();
+        }
+
+        Pattern placeholder() {
+            return placeholder;
+        }
+
+        Pattern blockParagraph() {
+            return blockParagraph;
+        }
+
+        /**
+         * 把占位符替换回公式原文
+         */
+        String restore(CharSequence text) {
+            return placeholder.matcher(text).replaceAll(match -> Matcher.quoteReplacement(get(match.group(2))));
+        }
+
+        /**
+         * 把占位符替换为空白
+         */
+        String remove(CharSequence text) {
+            return placeholder.matcher(text).replaceAll(" ");
+        }
+    }
+
+    private static String escapeHtml(String text) {
+        return text.replace("&", "&amp;")
+            .replace("<", "&lt;")
+            .replace(">", "&gt;")
+            .replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,343 @@
+package com.cleveronion.blog.infrastructure.auth.token;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+import cn.dev33.satoken.session.SaSession;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 带本地缓存的 Sa-Token 持久层
+ * 包装 Redis 实现，将 token→登录ID、会话、最近活跃时间缓存在本节点内存中，
+ * 常规鉴权路径只需一次内存查找
+ *
+ * <p>写入或删除被缓存的 key 时立即清除本地条目，并通过失效通知告知其他节点；
+ * 注销、踢人下线、顶人下线都会改写 token 对应的 key，因此同样会推送失效。
+ * 未收到通知时（如 Redis 自然过期）最多在缓存有效期内读到旧值
+ *
+ * <p>最近活跃时间每次请求都会续写，在写回间隔内只更新本地值，
+ * 其他节点看到的活跃时间最多落后一个写回间隔
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class LocalCachingSaTokenDao implements SaTokenDao {
+
+    private static final String TOKEN_SEGMENT = ":token:";
+    private static final String TOKEN_SESSION_SEGMENT = ":token-session:";
+    private static final String SESSION_SEGMENT = ":session:";
+    private static final String LAST_ACTIVE_SEGMENT = ":last-active:";
+
+    private final SaTokenDao delegate;
+    private final long ttlMs;
+    private final int maxEntries;
+    private final long lastActiveFlushIntervalMs;
+    private final Consumer<String> invalidationPublisher;
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastActiveFlushedAt = new ConcurrentHashMap<>();
+
+    public LocalCachingSaTokenDao(SaTokenDao delegate, long ttlMs, int maxEntries,
+                                  long lastActiveFlushIntervalMs, Consumer<String> invalidationPublisher) {
+        this(delegate, ttlMs, maxEntries, lastActiveFlushIntervalMs, invalidationPublisher, System::currentTimeMillis);
+    }
+
+    LocalCachingSaTokenDao(SaTokenDao delegate, long ttlMs, int maxEntries, long lastActiveFlushIntervalMs,
+                           Consumer<String> invalidationPublisher, LongSupplier clock) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("被包装的 SaTokenDao 不能为空");
+        }
+        this.delegate = delegate;
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        this.lastActiveFlushIntervalMs = lastActiveFlushIntervalMs;
+        this.invalidationPublisher = invalidationPublisher;
+        this.clock = clock;
+    }
+
+    /**
+     * 清除本地缓存条目（收到其他节点的失效通知时调用）
+     *
+     * @param key 失效的 key
+     */
+    public void invalidate(String key) {
+        entries.remove(key);
+        lastActiveFlushedAt.remove(key);
+    }
+
+    /**
+     * 获取当前本地缓存的条目数
+     *
+     * @return 条目数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 获取被包装的持久层
+     *
+     * @return 被包装的 SaTokenDao
+     */
+    public SaTokenDao getDelegate() {
+        return delegate;
+    }
+
+    // ---------------- 字符串读写 ----------------
+
+    @Override
+    public String get(String key) {
+        Object cached = lookup(key);
+        if (cached instanceof String value) {
+            return value;
+        }
+        String value = delegate.get(key);
+        cache(key, value);
+        return value;
+    }
+
+    @Override
+    public void set(String key, String value, long timeout) {
+        delegate.set(key, value, timeout);
+        if (isLastActiveKey(key)) {
+            markLastActiveFlushed(key, value);
+        } else {
+            evictAndPublish(key);
+        }
+    }
+
+    @Override
+    public void update(String key, String value) {
+        if (isLastActiveKey(key)) {
+            updateLastActive(key, value);
+            return;
+        }
+        delegate.update(key, value);
+        evictAndPublish(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        delegate.delete(key);
+        evictAndPublish(key);
+    }
+
+    @Override
+    public long getTimeout(String key) {
+        return delegate.getTimeout(key);
+    }
+
+    @Override
+    public void updateTimeout(String key, long timeout) {
+        flushLastActive(key);
+        delegate.updateTimeout(key, timeout);
+    }
+
+    // ---------------- 对象读写 ----------------
+
+    @Override
+    public Object getObject(String key) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        Object value = delegate.getObject(key);
+        cache(key, value);
+        return value;
+    }
+
+    @Override
+    public <T> T getObject(String key, Class<T> classType) {
+        Object cached = lookup(key);
+        if (classType.isInstance(cached)) {
+            return classType.cast(cached);
+        }
+        T value = delegate.getObject(key, classType);
+        cache(key, value);
+        return value;
+    }
+
+    @Override
+    public void setObject(String key, Object object, long timeout) {
+        delegate.setObject(key, object, timeout);
+        evictAndPublish(key);
+    }
+
+    @Override
+    public void updateObject(String key, Object object) {
+        delegate.updateObject(key, object);
+        evictAndPublish(key);
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        delegate.deleteObject(key);
+        evictAndPublish(key);
+    }
+
+    @Override
+    public long getObjectTimeout(String key) {
+        return delegate.getObjectTimeout(key);
+    }
+
+    @Override
+    public void updateObjectTimeout(String key, long timeout) {
+        delegate.updateObjectTimeout(key, timeout);
+    }
+
+    // ---------------- 会话读写 ----------------
+
+    @Override
+    public SaSession getSession(String sessionId) {
+        Object cached = lookup(sessionId);
+        if (cached instanceof SaSession session) {
+            return session;
+        }
+        SaSession session = delegate.getSession(sessionId);
+        cache(sessionId, session);
+        return session;
+    }
+
+    @Override
+    public void setSession(SaSession session, long timeout) {
+        delegate.setSession(session, timeout);
+        evictAndPublish(session.getId());
+    }
+
+    @Override
+    public void updateSession(SaSession session) {
+        delegate.updateSession(session);
+        evictAndPublish(session.getId());
+    }
+
+    @Override
+    public void deleteSession(String sessionId) {
+        delegate.deleteSession(sessionId);
+        evictAndPublish(sessionId);
+    }
+
+    @Override
+    public long getSessionTimeout(String sessionId) {
+        return delegate.getSessionTimeout(sessionId);
+    }
+
+    @Override
+    public void updateSessionTimeout(String sessionId, long timeout) {
+        delegate.updateSessionTimeout(sessionId, timeout);
+    }
+
+    // ---------------- 其他 ----------------
+
+    @Override
+    public List<String> searchData(String prefix, String keyword, int start, int size, boolean sortType) {
+        return delegate.searchData(prefix, keyword, start, size, sortType);
+    }
+
+    @Override
+    public void init() {
+        delegate.init();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+
+    // ---------------- 内部实现 ----------------
+
+    private Object lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    private void cache(String key, Object value) {
+        // 不缓存空值，避免随机 token 撑满缓存，也避免刚登录的 token 被旧的空值遮住
+        if (value == null || !isCacheableKey(key)) {
+            return;
+        }
+        long now = clock.getAsLong();
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(key, new Entry(value, now + ttlMs));
+    }
+
+    private void evictAndPublish(String key) {
+        if (!isCacheableKey(key)) {
+            return;
+        }
+        invalidate(key);
+        if (invalidationPublisher != null) {
+            invalidationPublisher.accept(key);
+        }
+    }
+
+    /**
+     * 续写最近活跃时间：距上次写回不足间隔时只更新本地值
+     */
+    private void updateLastActive(String key, String value) {
+        long now = clock.getAsLong();
+        Long flushedAt = lastActiveFlushedAt.get(key);
+        if (flushedAt != null && now - flushedAt < lastActiveFlushIntervalMs) {
+            cache(key, value);
+            return;
+        }
+        delegate.update(key, value);
+        markLastActiveFlushed(key, value);
+    }
+
+    private void markLastActiveFlushed(String key, String value) {
+        long now = clock.getAsLong();
+        if (lastActiveFlushedAt.size() >= maxEntries) {
+            // 超过写回间隔的记录与不存在等价，自然过期的 token 由此清理
+            lastActiveFlushedAt.values().removeIf(flushedAt -> now - flushedAt >= lastActiveFlushIntervalMs);
+        }
+        lastActiveFlushedAt.put(key, now);
+        cache(key, value);
+    }
+
+    /**
+     * 修改过期时间前先把本地尚未写回的活跃时间落到 Redis
+     */
+    private void flushLastActive(String key) {
+        if (!isLastActiveKey(key)) {
+            return;
+        }
+        Object pending = lookup(key);
+        if (pending instanceof String value) {
+            delegate.update(key, value);
+            lastActiveFlushedAt.put(key, clock.getAsLong());
+        }
+    }
+
+    private static boolean isCacheableKey(String key) {
+        return key != null && (key.contains(TOKEN_SEGMENT)
+            || key.contains(TOKEN_SESSION_SEGMENT)
+            || key.contains(SESSION_SEGMENT)
+            || key.contains(LAST_ACTIVE_SEGMENT));
+    }
+
+    private static boolean isLastActiveKey(String key) {
+        return key != null && key.contains(LAST_ACTIVE_SEGMENT);
+    }
+
+    /**
+     * 本地缓存条目
+     */
+    private record Entry(Object value, long expiresAt) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.cleveronion.blog.infrastructure.auth.token;
+
+import cn.dev33.satoken.SaManager;
+import cn.dev33.satoken.dao.SaTokenDao;
+import cn.dev33.satoken.dao.SaTokenDaoDefaultImpl;
+import com.cleveronion.blog.infrastructure.common.config.TokenCacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 登录态本地缓存装配器
+ * Sa-Token 完成持久层注入后，用 {@link LocalCachingSaTokenDao} 包装当前的 Redis 实现，
+ * 并订阅失效通知频道，使其他节点的注销、踢人下线立即清除本节点缓存
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.token-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TokenCacheInstaller implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenCacheInstaller.class);
+
+    private final TokenCacheConfig config;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public TokenCacheInstaller(TokenCacheConfig config,
+                               StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer listenerContainer) {
+        this.config = config;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SaTokenDao current = SaManager.getSaTokenDao();
+        if (current instanceof LocalCachingSaTokenDao) {
+            return;
+        }
+        if (current instanceof SaTokenDaoDefaultImpl) {
+            // 未接入 Redis 时数据本就在内存中，无需再加一层缓存
+            logger.info("Sa-Token 使用内存持久层，跳过登录态本地缓存");
+            return;
+        }
+
+        LocalCachingSaTokenDao cachingDao = new LocalCachingSaTokenDao(
+            current,
+            config.getTtlMs(),
+            config.getMaxEntries(),
+            config.getLastActiveFlushIntervalMs(),
+            this::publishInvalidation
+        );
+        listenerContainer.addMessageListener(
+            (message, pattern) -> cachingDao.invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(config.getChannel())
+        );
+        SaManager.setSaTokenDao(cachingDao);
+
+        logger.info("已启用登录态本地缓存，有效期: {}ms，活跃时间写回间隔: {}ms，失效频道: {}",
+            config.getTtlMs(), config.getLastActiveFlushIntervalMs(), config.getChannel());
+    }
+
+    /**
+     * 广播 key 失效通知，Redis 不可用时仅记录日志，其他节点依靠缓存有效期兜底
+     *
+     * @param key 失效的 key
+     */
+    private void publishInvalidation(String key) {
+        try {
+            redisTemplate.convertAndSend(config.getChannel(), key);
+        } catch (Exception e) {
+            logger.warn("发送登录态失效通知失败，key: {}", key, e);
+        }
+    }
+}
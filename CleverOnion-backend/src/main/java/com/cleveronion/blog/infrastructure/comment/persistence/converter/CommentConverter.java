@@ -2,6 +2,7 @@ package com.cleveronion.blog.infrastructure.comment.persistence.converter;
 
 import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
 import com.cleveronion.blog.domain.comment.valueobject.CommentId;
+import com.cleveronion.blog.domain.comment.valueobject.CommentPath;
 import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.user.valueobject.UserId;
 import com.cleveronion.blog.infrastructure.comment.persistence.po.CommentPO;
@@ -32,6 +33,10 @@ public class CommentConverter {
             commentAggregate.getParentId() != null ? commentAggregate.getParentId().getValue() : null
         );
         
+        if (commentAggregate.getPath() != null) {
+            commentPO.setPath(commentAggregate.getPath().getValue());
+        }
+        
         // 如果聚合有ID，说明是已存在的评论
         if (commentAggregate.getId() != null) {
             commentPO.setId(commentAggregate.getId().getValue());
@@ -64,6 +69,7 @@ public class CommentConverter {
             ArticleId.of(commentPO.getArticleId().toString()),
             UserId.of(commentPO.getUserId()),
             parentId,
+            CommentPath.of(commentPO.getPath()),
             commentPO.getCreatedAt() // 使用createdAt作为发布时间
         );
         
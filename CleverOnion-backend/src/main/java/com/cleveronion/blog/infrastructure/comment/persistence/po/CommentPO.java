@@ -33,6 +33,13 @@ public class CommentPO {
     @Column(name = "parent_id")
     private Long parentId;
     
+    /**
+     * 祖先路径，C 排序规则下按字节比较，子树查询走路径索引的范围扫描
+     */
+    @Column(name = "path", nullable = false, updatable = false, length = 2000,
+            columnDefinition = "VARCHAR(2000) COLLATE \"C\" NOT NULL DEFAULT ''")
+    private String path = "";
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -100,6 +107,14 @@ public class CommentPO {
         this.parentId = parentId;
     }
     
+    public String getPath() {
+        return path;
+    }
+    
+    public void setPath(String path) {
+        this.path = path;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -137,6 +152,7 @@ public class CommentPO {
                 ", articleId=" + articleId +
                 ", userId=" + userId +
                 ", parentId=" + parentId +
+                ", path='" + path + '\'' +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
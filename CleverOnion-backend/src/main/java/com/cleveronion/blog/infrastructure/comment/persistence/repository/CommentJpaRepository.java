@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -35,13 +36,31 @@ public interface CommentJpaRepository extends JpaRepository<CommentPO, Long> {
     List<CommentPO> findByParentId(Long parentId);
     
     /**
-     * 分页根据父评论ID查找回复列表
+     * 分页根据父评论ID查找回复列表，按 (创建时间, ID) 排序
      * 
      * @param parentId 父评论ID
      * @param pageable 分页参数
      * @return 回复列表
      */
-    List<CommentPO> findByParentId(Long parentId, Pageable pageable);
+    List<CommentPO> findByParentIdOrderByCreatedAtAscIdAsc(Long parentId, Pageable pageable);
+    
+    /**
+     * 查找游标之后的回复（键集分页）
+     * 行值比较与排序都由 (parent_id, created_at, id) 索引满足，翻页深度不影响耗时
+     * 
+     * @param parentId 父评论ID
+     * @param createdAt 游标位置的创建时间
+     * @param id 游标位置的评论ID
+     * @param limit 最大返回数
+     * @return 回复列表
+     */
+    @Query(value = "SELECT * FROM comments c WHERE c.parent_id = :parentId "
+        + "AND (c.created_at, c.id) > (:createdAt, :id) "
+        + "ORDER BY c.created_at, c.id LIMIT :limit", nativeQuery = true)
+    List<CommentPO> findRepliesAfter(@Param("parentId") Long parentId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     @Param("limit") int limit);
     
     /**
      * 查找顶级评论（parent_id为null）
@@ -76,6 +95,33 @@ public interface CommentJpaRepository extends JpaRepository<CommentPO, Long> {
      */
     List<CommentPO> findByArticleIdAndParentIdIsNullOrderByCreatedAtAsc(Long articleId);
     
+    /**
+     * 分页查找文章的顶级评论，按 (创建时间, ID) 排序
+     * 
+     * @param articleId 文章ID
+     * @param pageable 分页参数
+     * @return 顶级评论列表
+     */
+    List<CommentPO> findByArticleIdAndParentIdIsNullOrderByCreatedAtAscIdAsc(Long articleId, Pageable pageable);
+    
+    /**
+     * 查找游标之后的顶级评论（键集分页）
+     * 行值比较与排序都由顶级评论的部分索引 (article_id, created_at, id) 满足，翻页深度不影响耗时
+     * 
+     * @param articleId 文章ID
+     * @param createdAt 游标位置的创建时间
+     * @param id 游标位置的评论ID
+     * @param limit 最大返回数
+     * @return 顶级评论列表
+     */
+    @Query(value = "SELECT * FROM comments c WHERE c.article_id = :articleId AND c.parent_id IS NULL "
+        + "AND (c.created_at, c.id) > (:createdAt, :id) "
+        + "ORDER BY c.created_at, c.id LIMIT :limit", nativeQuery = true)
+    List<CommentPO> findTopLevelAfter(@Param("articleId") Long articleId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      @Param("limit") int limit);
+    
     /**
      * 根据用户ID查找评论，按创建时间倒序排列
      * 
@@ -154,6 +200,22 @@ public interface CommentJpaRepository extends JpaRepository<CommentPO, Long> {
      */
     boolean existsById(Long id);
     
+    /**
+     * 按路径区间查找评论（子树查询）
+     * 路径列使用 C 排序规则，区间条件与排序都由 (path, id) 索引满足，一次范围扫描完成
+     * 
+     * @param lower 区间下界（含）
+     * @param upper 区间上界（不含）
+     * @param maxPathLength 路径最大长度，用于限制层级
+     * @return 按路径、ID排序的评论列表
+     */
+    @Query("SELECT c FROM CommentPO c " +
+           "WHERE c.path >= :lower AND c.path < :upper AND LENGTH(c.path) <= :maxPathLength " +
+           "ORDER BY c.path, c.id")
+    List<CommentPO> findByPathRange(@Param("lower") String lower,
+                                    @Param("upper") String upper,
+                                    @Param("maxPathLength") int maxPathLength);
+    
     /**
      * 删除文章的所有评论
      * 
@@ -162,11 +224,10 @@ public interface CommentJpaRepository extends JpaRepository<CommentPO, Long> {
     void deleteByArticleId(Long articleId);
     
     /**
-     * 删除某个评论及其所有回复
-     * 使用自定义查询来实现级联删除
+     * 查询所有评论ID（用于构建存在性布隆过滤器）
      * 
-     * @param parentId 父评论ID
+     * @return 评论ID列表
      */
-    @Query("DELETE FROM CommentPO c WHERE c.id = :parentId OR c.parentId = :parentId")
-    void deleteByIdOrParentId(@Param("parentId") Long parentId);
+    @Query("SELECT c.id FROM CommentPO c")
+    List<Long> findAllIds();
 }
@@ -3,15 +3,19 @@ package com.cleveronion.blog.infrastructure.comment.persistence.repository;
 import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
 import com.cleveronion.blog.domain.comment.repository.CommentRepository;
+import com.cleveronion.blog.domain.comment.valueobject.CommentCursor;
 import com.cleveronion.blog.domain.comment.valueobject.CommentId;
+import com.cleveronion.blog.domain.comment.valueobject.CommentPath;
 import com.cleveronion.blog.domain.user.valueobject.UserId;
 import com.cleveronion.blog.infrastructure.comment.persistence.converter.CommentConverter;
 import com.cleveronion.blog.infrastructure.comment.persistence.po.CommentPO;
+import com.cleveronion.blog.infrastructure.common.persistence.ReturningDmlExecutor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,10 +31,21 @@ import java.util.stream.Collectors;
 @Repository
 public class CommentRepositoryImpl implements CommentRepository {
     
+    /**
+     * 删除某个评论及其全部后代回复：递归 CTE 沿 parent_id 索引收集整棵子树，在一条语句中删除
+     */
+    private static final String DELETE_SUBTREE_SQL = "WITH RECURSIVE subtree(id) AS ("
+        + "SELECT id FROM comments WHERE id = :rootId "
+        + "UNION ALL SELECT c.id FROM comments c JOIN subtree s ON c.parent_id = s.id) "
+        + "DELETE FROM comments c USING subtree s WHERE c.id = s.id RETURNING c.id";
+    
     private final CommentJpaRepository commentJpaRepository;
+    private final ReturningDmlExecutor returningDmlExecutor;
     
-    public CommentRepositoryImpl(CommentJpaRepository commentJpaRepository) {
+    public CommentRepositoryImpl(CommentJpaRepository commentJpaRepository,
+                                 ReturningDmlExecutor returningDmlExecutor) {
         this.commentJpaRepository = commentJpaRepository;
+        this.returningDmlExecutor = returningDmlExecutor;
     }
     
     @Override
@@ -56,6 +71,13 @@ public class CommentRepositoryImpl implements CommentRepository {
         commentJpaRepository.deleteById(id.getValue());
     }
     
+    @Override
+    @Transactional
+    public List<CommentId> deleteSubtree(CommentId rootId) {
+        return returningDmlExecutor.queryForList(DELETE_SUBTREE_SQL, Map.of("rootId", rootId.getValue()),
+            (rs, rowNum) -> new CommentId(rs.getLong(1)));
+    }
+    
     @Override
     public boolean existsById(CommentId id) {
         return commentJpaRepository.existsById(id.getValue());
@@ -83,10 +105,49 @@ public class CommentRepositoryImpl implements CommentRepository {
     @Override
     public List<CommentAggregate> findByParentId(CommentId parentId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        List<CommentPO> commentPOs = commentJpaRepository.findByParentId(parentId.getValue(), pageable);
+        List<CommentPO> commentPOs = commentJpaRepository.findByParentIdOrderByCreatedAtAscIdAsc(
+            parentId.getValue(), pageable);
         return convertToAggregates(commentPOs);
     }
     
+    @Override
+    public List<CommentAggregate> findRepliesByParentIdAfter(CommentId parentId, CommentCursor after, int limit) {
+        List<CommentPO> commentPOs = after == null
+            ? commentJpaRepository.findByParentIdOrderByCreatedAtAscIdAsc(parentId.getValue(), PageRequest.of(0, limit))
+            : commentJpaRepository.findRepliesAfter(
+                parentId.getValue(), after.getCreatedAt(), after.getId().getValue(), limit);
+        return convertToAggregates(commentPOs);
+    }
+    
+    @Override
+    public List<CommentAggregate> findThread(CommentId rootId) {
+        return findThread(rootId, CommentPath.MAX_DEPTH);
+    }
+    
+    @Override
+    public List<CommentAggregate> findThread(CommentId rootId, int maxDepth) {
+        Optional<CommentPO> rootOpt = commentJpaRepository.findById(rootId.getValue());
+        if (rootOpt.isEmpty()) {
+            return List.of();
+        }
+        
+        CommentAggregate root = CommentConverter.toCommentAggregate(rootOpt.get());
+        List<CommentAggregate> thread = new ArrayList<>();
+        thread.add(root);
+        if (maxDepth <= 0) {
+            return thread;
+        }
+        
+        // 后代路径都以该前缀开头；分隔符 '/' 之后的字符是 '0'，据此得到区间上界
+        String prefix = root.getPath().descendantsPrefix(rootId);
+        String upper = prefix.substring(0, prefix.length() - 1) + (char) (CommentPath.SEPARATOR + 1);
+        int maxLevel = Math.min(root.getPath().depth() + Math.min(maxDepth, CommentPath.MAX_DEPTH),
+            CommentPath.MAX_DEPTH);
+        thread.addAll(convertToAggregates(commentJpaRepository.findByPathRange(
+            prefix, upper, maxLevel * CommentPath.SEGMENT_LENGTH)));
+        return thread;
+    }
+    
     @Override
     public List<CommentAggregate> findTopLevelCommentsByArticleId(ArticleId articleId) {
         List<CommentPO> commentPOs = commentJpaRepository.findByArticleIdAndParentIdIsNullOrderByCreatedAtAsc(
@@ -97,18 +158,20 @@ public class CommentRepositoryImpl implements CommentRepository {
     @Override
     public List<CommentAggregate> findTopLevelCommentsByArticleId(ArticleId articleId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        List<CommentPO> commentPOs = commentJpaRepository.findByArticleIdAndParentIdIsNullOrderByCreatedAtAsc(
-            Long.valueOf(articleId.getValue()));
-        
-        // 手动分页处理（因为JPA方法返回List而不是Page）
-        int start = page * size;
-        int end = Math.min(start + size, commentPOs.size());
-        
-        if (start >= commentPOs.size()) {
-            return List.of();
-        }
-        
-        return convertToAggregates(commentPOs.subList(start, end));
+        List<CommentPO> commentPOs = commentJpaRepository.findByArticleIdAndParentIdIsNullOrderByCreatedAtAscIdAsc(
+            Long.valueOf(articleId.getValue()), pageable);
+        return convertToAggregates(commentPOs);
+    }
+    
+    @Override
+    public List<CommentAggregate> findTopLevelCommentsByArticleIdAfter(ArticleId articleId, CommentCursor after, int limit) {
+        Long articleIdValue = Long.valueOf(articleId.getValue());
+        List<CommentPO> commentPOs = after == null
+            ? commentJpaRepository.findByArticleIdAndParentIdIsNullOrderByCreatedAtAscIdAsc(
+                articleIdValue, PageRequest.of(0, limit))
+            : commentJpaRepository.findTopLevelAfter(
+                articleIdValue, after.getCreatedAt(), after.getId().getValue(), limit);
+        return convertToAggregates(commentPOs);
     }
     
     @Override
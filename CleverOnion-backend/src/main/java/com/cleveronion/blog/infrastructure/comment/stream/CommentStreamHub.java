@@ -0,0 +1,295 @@
+package com.cleveronion.blog.infrastructure.comment.stream;
+
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
+import com.cleveronion.blog.infrastructure.common.config.CommentStreamConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 评论实时推送中心
+ *
+ * <p>按文章维护 SSE 订阅者。评论变更经 Redis 频道广播到所有节点（包括发布节点），
+ * 每个节点收到后只序列化一次 SSE 帧，再投递到该文章每个订阅者的有界缓冲；
+ * 投递不阻塞，一千个订阅者的代价是一次分发，而不是一千次轮询。
+ *
+ * <p>每个订阅者由一个虚拟线程从缓冲取帧写出，慢连接只阻塞自己的虚拟线程。
+ * 缓冲写满说明客户端跟不上：丢弃积压，改为一条 {@code resync} 事件通知客户端重新拉取评论。
+ * Redis 不可用时消息只在本节点分发
+ *
+ * <p>订阅者数量按节点和客户端地址分别限制，超过上限时抛出 {@link SubscriberLimitExceededException}，
+ * 连接在占用名额之前即被拒绝。客户端地址取自经代理转发头还原后的请求地址（{@code server.forward-headers-strategy}）
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class CommentStreamHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentStreamHub.class);
+
+    /**
+     * 评论变更广播频道
+     */
+    private static final String CHANNEL = "cleveronion:comment:stream";
+
+    /**
+     * 丢弃积压后发送的重新同步事件
+     */
+    private static final Set<DataWithMediaType> RESYNC_FRAME = SseEmitter.event().name("resync").data("{}").build();
+
+    /**
+     * 心跳帧（SSE 注释行，客户端不会收到事件）
+     */
+    private static final Set<DataWithMediaType> HEARTBEAT_FRAME = SseEmitter.event().comment("heartbeat").build();
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CommentStreamConfig config;
+    private final Counter droppedCounter;
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> subscribersByClient = new ConcurrentHashMap<>();
+    private final AtomicInteger totalSubscribers = new AtomicInteger();
+    private final ThreadFactory writerThreads = Thread.ofVirtual().name("comment-stream-", 0).factory();
+
+    public CommentStreamHub(StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            ObjectMapper objectMapper,
+                            CommentStreamConfig config,
+                            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.droppedCounter = meterRegistry.counter("comment.stream.dropped");
+        Gauge.builder("comment.stream.subscribers", this, CommentStreamHub::subscriberCount).register(meterRegistry);
+        listenerContainer.addMessageListener(
+            (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(CHANNEL)
+        );
+    }
+
+    /**
+     * 订阅文章的评论变更
+     *
+     * @param articleId 文章ID，调用方需确认文章存在
+     * @param clientId 客户端标识（客户端地址），用于限制单个客户端的订阅数
+     * @return SSE 连接，由异步 Servlet 保持
+     * @throws SubscriberLimitExceededException 本节点或该客户端的订阅者已达上限
+     */
+    public SseEmitter subscribe(ArticleId articleId, String clientId) {
+        reserve(clientId);
+        SseEmitter emitter = new SseEmitter(config.getTimeoutMs());
+        Subscriber subscriber = new Subscriber(articleId.getValue(), clientId, emitter, config.getBufferSize());
+        // 在 compute 内加入，避免与最后一个订阅者离开时移除集合发生竞争
+        subscribers.compute(subscriber.articleId, (key, set) -> {
+            Set<Subscriber> watchers = set != null ? set : ConcurrentHashMap.newKeySet();
+            watchers.add(subscriber);
+            return watchers;
+        });
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        // 首帧告知重连间隔，同时让代理立即下发响应头
+        subscriber.offer(SseEmitter.event().reconnectTime(config.getReconnectMs()).comment("connected").build());
+        subscriber.start(writerThreads);
+        logger.debug("评论推送订阅建立，文章ID: {}", subscriber.articleId);
+        return emitter;
+    }
+
+    /**
+     * 广播评论变更；Redis 不可用时只在本节点分发
+     *
+     * @param message 推送消息
+     */
+    public void publish(CommentStreamMessage message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            logger.warn("评论推送消息序列化失败: {}", message, e);
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (DataAccessException e) {
+            logger.warn("评论推送广播失败，仅在本节点分发: articleId={}", message.articleId(), e);
+            dispatch(message.articleId(), message.type(), payload);
+        }
+    }
+
+    /**
+     * 定时向所有订阅者发送心跳
+     */
+    @Scheduled(fixedDelayString = "${comment.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(HEARTBEAT_FRAME)));
+    }
+
+    /**
+     * 关闭时结束全部连接，客户端会自动重连到其他节点
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+    }
+
+    /**
+     * 处理频道消息
+     *
+     * @param payload 推送消息 JSON
+     */
+    void onMessage(String payload) {
+        try {
+            CommentStreamMessage message = objectMapper.readValue(payload, CommentStreamMessage.class);
+            dispatch(message.articleId(), message.type(), payload);
+        } catch (IOException e) {
+            logger.warn("忽略无法解析的评论推送消息: {}", payload);
+        }
+    }
+
+    /**
+     * 将消息投递给文章的全部订阅者，帧只构建一次
+     */
+    private void dispatch(String articleId, String type, String payload) {
+        Set<Subscriber> watchers = subscribers.get(articleId);
+        if (watchers == null || watchers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> frame = SseEmitter.event().name(type).data(payload).build();
+        watchers.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    /**
+     * 当前节点的订阅者总数
+     */
+    int subscriberCount() {
+        return totalSubscribers.get();
+    }
+
+    /**
+     * 占用一个订阅名额，先检查节点上限再检查客户端上限
+     */
+    private void reserve(String clientId) {
+        if (totalSubscribers.incrementAndGet() > config.getMaxSubscribers()) {
+            totalSubscribers.decrementAndGet();
+            throw new SubscriberLimitExceededException(
+                SubscriberLimitExceededException.Scope.NODE, config.getMaxSubscribers());
+        }
+        boolean[] accepted = {false};
+        subscribersByClient.compute(clientId, (key, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= config.getMaxSubscribersPerClient()) {
+                return count;
+            }
+            accepted[0] = true;
+            return current + 1;
+        });
+        if (!accepted[0]) {
+            totalSubscribers.decrementAndGet();
+            throw new SubscriberLimitExceededException(
+                SubscriberLimitExceededException.Scope.CLIENT, config.getMaxSubscribersPerClient());
+        }
+    }
+
+    private void release(String clientId) {
+        subscribersByClient.computeIfPresent(clientId, (key, count) -> count > 1 ? count - 1 : null);
+        totalSubscribers.decrementAndGet();
+    }
+
+    /**
+     * 单个 SSE 订阅者：有界缓冲加一个写出虚拟线程
+     */
+    private final class Subscriber implements Runnable {
+
+        private final String articleId;
+        private final String clientId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private volatile Thread writer;
+        private volatile boolean closed;
+
+        private Subscriber(String articleId, String clientId, SseEmitter emitter, int bufferSize) {
+            this.articleId = articleId;
+            this.clientId = clientId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void start(ThreadFactory threadFactory) {
+            writer = threadFactory.newThread(this);
+            writer.start();
+        }
+
+        /**
+         * 投递一帧，不阻塞；缓冲已满时丢弃积压并改发重新同步事件
+         */
+        private synchronized void offer(Set<DataWithMediaType> frame) {
+            if (closed || buffer.offer(frame)) {
+                return;
+            }
+            droppedCounter.increment(buffer.size() + 1);
+            buffer.clear();
+            buffer.offer(RESYNC_FRAME);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    emitter.send(buffer.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // 客户端已断开或连接已结束
+                logger.debug("评论推送连接结束，文章ID: {}", articleId);
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            subscribers.computeIfPresent(articleId, (key, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+            release(clientId);
+            Thread current = writer;
+            if (current != null && current != Thread.currentThread()) {
+                current.interrupt();
+            }
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.cleveronion.blog.infrastructure.comment.stream;
+
+import com.cleveronion.blog.domain.comment.event.CommentCreatedEvent;
+import com.cleveronion.blog.domain.comment.event.CommentDeletedEvent;
+
+import java.util.List;
+
+/**
+ * 评论实时推送消息
+ * 经 Redis 频道在节点间广播，并作为 SSE 事件数据原样发给订阅者；
+ * 只携带标识，客户端据此增量拉取（读取走评论缓存）
+ *
+ * @param type 事件类型，即 SSE 事件名
+ * @param articleId 文章ID
+ * @param commentId 评论ID（删除时为被删除子树的根）
+ * @param reply 是否为回复（仅创建事件有效）
+ * @param deletedCommentIds 被删除的全部评论ID（仅删除事件有效）
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public record CommentStreamMessage(String type, String articleId, String commentId, boolean reply,
+                                   List<String> deletedCommentIds) {
+
+    public static final String CREATED = "comment-created";
+    public static final String DELETED = "comment-deleted";
+
+    /**
+     * 由评论创建事件构造
+     *
+     * @param event 评论创建事件
+     * @return 推送消息
+     */
+    public static CommentStreamMessage created(CommentCreatedEvent event) {
+        return new CommentStreamMessage(CREATED, event.getArticleId().getValue(),
+            String.valueOf(event.getCommentId().getValue()), event.isReply(), List.of());
+    }
+
+    /**
+     * 由评论删除事件构造
+     *
+     * @param event 评论删除事件
+     * @return 推送消息
+     */
+    public static CommentStreamMessage deleted(CommentDeletedEvent event) {
+        return new CommentStreamMessage(DELETED, event.getArticleId().getValue(),
+            String.valueOf(event.getCommentId().getValue()), false,
+            event.getDeletedCommentIds().stream().map(id -> String.valueOf(id.getValue())).toList());
+    }
+}
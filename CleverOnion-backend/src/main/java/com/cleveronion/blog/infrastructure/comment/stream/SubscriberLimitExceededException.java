@@ -0,0 +1,46 @@
+package com.cleveronion.blog.infrastructure.comment.stream;
+
+/**
+ * 评论推送订阅者数量达到上限
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class SubscriberLimitExceededException extends RuntimeException {
+
+    /**
+     * 达到的上限类型
+     */
+    public enum Scope {
+        /**
+         * 本节点的订阅者总数
+         */
+        NODE,
+        /**
+         * 单个客户端在本节点的订阅者数
+         */
+        CLIENT
+    }
+
+    private final Scope scope;
+
+    /**
+     * 构造函数
+     *
+     * @param scope 达到的上限类型
+     * @param limit 上限
+     */
+    public SubscriberLimitExceededException(Scope scope, int limit) {
+        super("评论推送订阅者已达上限: scope=" + scope + ", limit=" + limit);
+        this.scope = scope;
+    }
+
+    /**
+     * 获取达到的上限类型
+     *
+     * @return 上限类型
+     */
+    public Scope getScope() {
+        return scope;
+    }
+}
@@ -0,0 +1,139 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 线程安全的布隆过滤器
+ *
+ * <p>基于 {@link AtomicLongArray} 位图和双重哈希（Kirsch-Mitzenmacher）实现，
+ * 只支持添加与判断，不支持删除。{@link #mightContain(String)} 返回 false 时元素一定不存在，
+ * 返回 true 时元素可能存在（按构造时给定的误判率）。
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    /**
+     * @param expectedInsertions 预计元素数量
+     * @param falsePositiveRate 期望误判率，取值 (0, 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("误判率必须在0和1之间");
+        }
+        long n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param element 元素
+     */
+    public void put(String element) {
+        long hash64 = murmur64(element);
+        int hash1 = (int) hash64;
+        int hash2 = (int) (hash64 >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            setBit(index(hash1 + i * hash2));
+        }
+    }
+
+    /**
+     * 判断元素是否可能存在
+     *
+     * @param element 元素
+     * @return false表示一定不存在
+     */
+    public boolean mightContain(String element) {
+        long hash64 = murmur64(element);
+        int hash1 = (int) hash64;
+        int hash2 = (int) (hash64 >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            if (!getBit(index(hash1 + i * hash2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combinedHash) {
+        long hash = combinedHash < 0 ? ~combinedHash : combinedHash;
+        return hash % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * MurmurHash64A
+     */
+    private static long murmur64(String element) {
+        byte[] data = element.getBytes(StandardCharsets.UTF_8);
+        final long m = 0xc6a4a7935bd1e995L;
+        final int r = 47;
+        long h = 0x9747b28cL ^ (data.length * m);
+
+        int length8 = data.length / 8;
+        for (int i = 0; i < length8; i++) {
+            int offset = i * 8;
+            long k = (data[offset] & 0xffL)
+                | (data[offset + 1] & 0xffL) << 8
+                | (data[offset + 2] & 0xffL) << 16
+                | (data[offset + 3] & 0xffL) << 24
+                | (data[offset + 4] & 0xffL) << 32
+                | (data[offset + 5] & 0xffL) << 40
+                | (data[offset + 6] & 0xffL) << 48
+                | (data[offset + 7] & 0xffL) << 56;
+            k *= m;
+            k ^= k >>> r;
+            k *= m;
+            h ^= k;
+            h *= m;
+        }
+
+        int tail = length8 * 8;
+        switch (data.length - tail) {
+            case 7: h ^= (data[tail + 6] & 0xffL) << 48;
+            case 6: h ^= (data[tail + 5] & 0xffL) << 40;
+            case 5: h ^= (data[tail + 4] & 0xffL) << 32;
+            case 4: h ^= (data[tail + 3] & 0xffL) << 24;
+            case 3: h ^= (data[tail + 2] & 0xffL) << 16;
+            case 2: h ^= (data[tail + 1] & 0xffL) << 8;
+            case 1:
+                h ^= data[tail] & 0xffL;
+                h *= m;
+                break;
+            default:
+                break;
+        }
+
+        h ^= h >>> r;
+        h *= m;
+        h ^= h >>> r;
+        return h;
+    }
+}
@@ -0,0 +1,79 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 缓存值包装
+ *
+ * <p>在缓存值之外记录本次加载耗时和逻辑过期时间，用于 XFetch 概率提前刷新：
+ * 当 {@code now - delta * beta * ln(rand) >= expireAt} 时提前重新加载，
+ * 越接近过期、加载越慢的条目越早被刷新，避免热点 Key 在同一时刻集中过期。
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class CacheEnvelope {
+
+    /**
+     * 实际缓存值
+     */
+    private Object value;
+
+    /**
+     * 加载耗时（毫秒）
+     */
+    private long computeMillis;
+
+    /**
+     * 逻辑过期时间（毫秒时间戳），0 表示永不过期
+     */
+    private long expireAtMillis;
+
+    /**
+     * 反序列化使用
+     */
+    protected CacheEnvelope() {
+    }
+
+    public CacheEnvelope(Object value, long computeMillis, long expireAtMillis) {
+        this.value = value;
+        this.computeMillis = computeMillis;
+        this.expireAtMillis = expireAtMillis;
+    }
+
+    /**
+     * 按 XFetch 算法判断是否需要提前刷新
+     *
+     * @param beta 提前刷新系数，越大越激进，1.0 为论文推荐值
+     * @return true如果应提前刷新
+     */
+    public boolean shouldRefreshEarly(double beta) {
+        if (expireAtMillis <= 0) {
+            return false;
+        }
+        // 1 - nextDouble() 取值 (0, 1]，避免 ln(0)
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double gap = -computeMillis * beta * Math.log(random);
+        return System.currentTimeMillis() + gap >= expireAtMillis;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public long getComputeMillis() {
+        return computeMillis;
+    }
+
+    public long getExpireAtMillis() {
+        return expireAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheEnvelope{" +
+                "computeMillis=" + computeMillis +
+                ", expireAtMillis=" + expireAtMillis +
+                '}';
+    }
+}
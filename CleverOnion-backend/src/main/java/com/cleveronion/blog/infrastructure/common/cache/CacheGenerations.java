@@ -0,0 +1,161 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 缓存代际计数器
+ *
+ * <p>每个缓存名对应 Redis 中的一个代际计数，并嵌入该缓存的 Key 前缀。
+ * 清空缓存只需原子递增代际，旧代际的条目不再被访问，随各自 TTL 自然过期，
+ * 清空的开销与缓存大小无关，也不再需要扫描 Key 空间。
+ *
+ * <p>代际在本节点内存中缓存，递增后通过 Redis 频道通知其他节点立即切换；
+ * 通知丢失时最多在刷新间隔内继续使用旧代际。
+ * 计数丢失后以当前毫秒时间戳重新初始化，保证新代际总是大于历史代际，不会读回旧条目
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class CacheGenerations {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheGenerations.class);
+
+    /**
+     * 代际计数 Key 前缀
+     */
+    private static final String GENERATION_KEY_PREFIX = "cleveronion:cache-generation:";
+
+    /**
+     * 代际变更通知频道
+     */
+    private static final String CHANNEL = "cleveronion:cache:generation";
+
+    /**
+     * 本地代际的默认刷新间隔
+     */
+    private static final long DEFAULT_REFRESH_INTERVAL_MILLIS = 5000;
+
+    /**
+     * 递增代际；计数不存在时以传入的时间戳初始化
+     */
+    private static final DefaultRedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[1]) == 0 then redis.call('set', KEYS[1], ARGV[1]) return tonumber(ARGV[1]) end "
+            + "return redis.call('incr', KEYS[1])",
+        Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final long refreshIntervalMillis;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Known> known = new ConcurrentHashMap<>();
+
+    public CacheGenerations(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this(redisTemplate, DEFAULT_REFRESH_INTERVAL_MILLIS, System::currentTimeMillis);
+        listenerContainer.addMessageListener(
+            (message, pattern) -> onGenerationChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(CHANNEL)
+        );
+    }
+
+    CacheGenerations(StringRedisTemplate redisTemplate, long refreshIntervalMillis, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 获取缓存当前代际
+     *
+     * @param cacheName 缓存名
+     * @return 当前代际
+     */
+    public long current(String cacheName) {
+        long now = clock.getAsLong();
+        Known cached = known.get(cacheName);
+        if (cached != null && now - cached.fetchedAt < refreshIntervalMillis) {
+            return cached.generation;
+        }
+
+        String key = GENERATION_KEY_PREFIX + cacheName;
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(now));
+                value = redisTemplate.opsForValue().get(key);
+            }
+            long generation = value != null ? Long.parseLong(value) : now;
+            known.put(cacheName, new Known(generation, now));
+            return generation;
+        } catch (DataAccessException e) {
+            if (cached == null) {
+                throw e;
+            }
+            // Redis 不可用时沿用已知代际，并推迟下次刷新，避免每次操作都等待超时
+            known.put(cacheName, new Known(cached.generation, now));
+            return cached.generation;
+        }
+    }
+
+    /**
+     * 递增缓存代际（即清空该缓存）并通知其他节点
+     *
+     * @param cacheName 缓存名
+     * @return 新代际
+     */
+    public long advance(String cacheName) {
+        long now = clock.getAsLong();
+        Long generation = redisTemplate.execute(
+            ADVANCE_SCRIPT,
+            List.of(GENERATION_KEY_PREFIX + cacheName),
+            String.valueOf(now)
+        );
+        if (generation == null) {
+            throw new IllegalStateException("递增缓存代际失败: " + cacheName);
+        }
+        known.put(cacheName, new Known(generation, now));
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, cacheName + ":" + generation);
+        } catch (DataAccessException e) {
+            logger.warn("发送缓存代际变更通知失败，其他节点将在刷新间隔后切换: cache={}", cacheName, e);
+        }
+        logger.debug("缓存代际已递增: cache={}, generation={}", cacheName, generation);
+        return generation;
+    }
+
+    /**
+     * 处理其他节点的代际变更通知，消息格式为 {cacheName}:{generation}
+     *
+     * @param payload 通知内容
+     */
+    void onGenerationChanged(String payload) {
+        int separator = payload.lastIndexOf(':');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            long generation = Long.parseLong(payload.substring(separator + 1));
+            known.put(payload.substring(0, separator), new Known(generation, clock.getAsLong()));
+        } catch (NumberFormatException e) {
+            logger.warn("忽略无法解析的缓存代际通知: {}", payload);
+        }
+    }
+
+    /**
+     * 本地已知的代际
+     */
+    private record Known(long generation, long fetchedAt) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 缓存专用的 Redis 连接
+ *
+ * <p>缓存操作使用独立的连接工厂，命令超时远短于全局的 {@code spring.data.redis.timeout}：
+ * Redis 卡顿时缓存读写尽快失败，由 {@link ResilientCache} 计入熔断并回源，
+ * 而不是让每个请求都等满全局超时。租约、发布订阅、会话等其他 Redis 用途仍使用全局连接
+ *
+ * <p>连接参数（地址、库、密码、SSL）取自应用的 Lettuce 连接工厂，只替换命令超时；
+ * 不是 Lettuce 单机连接时直接使用原连接工厂
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class CacheRedisConnection implements DisposableBean {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final LettuceConnectionFactory owned;
+
+    public CacheRedisConnection(RedisConnectionFactory applicationConnectionFactory, Duration commandTimeout) {
+        if (applicationConnectionFactory instanceof LettuceConnectionFactory lettuce
+                && !lettuce.isRedisSentinelAware() && !lettuce.isClusterAware()) {
+            LettuceClientConfiguration.LettuceClientConfigurationBuilder client = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout)
+                .shutdownTimeout(Duration.ZERO);
+            if (lettuce.isUseSsl()) {
+                client.useSsl();
+            }
+            owned = new LettuceConnectionFactory(lettuce.getStandaloneConfiguration(), client.build());
+            owned.afterPropertiesSet();
+            owned.start();
+            connectionFactory = owned;
+        } else {
+            owned = null;
+            connectionFactory = applicationConnectionFactory;
+        }
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * 获取缓存操作使用的连接工厂
+     *
+     * @return 连接工厂
+     */
+    public RedisConnectionFactory getConnectionFactory() {
+        return connectionFactory;
+    }
+
+    /**
+     * 获取缓存操作使用的 Redis 模板（批量读取、按版本写入、加载租约）
+     *
+     * @return Redis 模板
+     */
+    public StringRedisTemplate getRedisTemplate() {
+        return redisTemplate;
+    }
+
+    @Override
+    public void destroy() {
+        if (owned != null) {
+            owned.destroy();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 原地刷新缓存条目
+ *
+ * <p>在 {@link #refresh} 内执行的查询对指定条目视为未命中：{@link StampedeProtectedCache}
+ * 跳过读取直接回源，并用新值覆盖旧条目。刷新期间其他请求仍读到旧值，
+ * 不会像先移除再加载那样出现短暂的缓存空窗
+ *
+ * <p>只作用于当前线程和指定的缓存条目，加载过程中读取的其他缓存不受影响
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public final class CacheRefreshScope {
+
+    private static final ThreadLocal<Target> CURRENT = new ThreadLocal<>();
+
+    private CacheRefreshScope() {
+    }
+
+    /**
+     * 执行查询并以结果覆盖指定缓存条目
+     *
+     * @param cacheName 缓存名称
+     * @param key 缓存 Key，需与查询方法的缓存 Key 一致
+     * @param loader 经由缓存的查询
+     * @return 查询结果
+     */
+    public static <T> T refresh(String cacheName, Object key, Supplier<T> loader) {
+        Target previous = CURRENT.get();
+        CURRENT.set(new Target(cacheName, key));
+        try {
+            return loader.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 当前线程是否正在刷新指定条目
+     */
+    static boolean isRefreshing(String cacheName, Object key) {
+        Target target = CURRENT.get();
+        return target != null && target.cacheName().equals(cacheName) && Objects.equals(target.key(), key);
+    }
+
+    private record Target(String cacheName, Object key) {
+    }
+}
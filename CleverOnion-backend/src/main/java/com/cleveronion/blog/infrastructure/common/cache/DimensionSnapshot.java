@@ -0,0 +1,264 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import com.cleveronion.blog.domain.article.aggregate.CategoryAggregate;
+import com.cleveronion.blog.domain.article.aggregate.TagAggregate;
+import com.cleveronion.blog.domain.article.repository.CategoryRepository;
+import com.cleveronion.blog.domain.article.repository.TagRepository;
+import com.cleveronion.blog.domain.article.valueobject.CategoryId;
+import com.cleveronion.blog.domain.article.valueobject.TagId;
+import com.cleveronion.blog.infrastructure.common.transaction.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 分类与标签的内存快照
+ *
+ * <p>分类、标签数据量小且很少变更，全量保存在各节点内存中，提供 ID 与名称两种索引，
+ * 响应组装和按名称查找标签不再逐个访问 Redis。
+ *
+ * <p>快照不可变，变更时整体重新加载后原子替换（写时复制）：
+ * <ul>
+ *   <li>启动完成后首次加载，加载前所有查找都返回未命中，调用方回退到原有查询</li>
+ *   <li>分类、标签变更事件在事务提交后触发重新加载，并通过 Redis 频道通知其他节点重新加载</li>
+ *   <li>定时全量重新加载，兜底丢失的通知</li>
+ * </ul>
+ *
+ * <p>返回的聚合是快照条目的副本，调用方修改不会影响快照
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class DimensionSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(DimensionSnapshot.class);
+
+    /**
+     * 重新加载通知频道
+     */
+    private static final String CHANNEL = "cleveronion:dimension:refresh";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TransactionTemplate loadTransaction;
+
+    private volatile Snapshot current = Snapshot.EMPTY;
+
+    public DimensionSnapshot(CategoryRepository categoryRepository,
+                             TagRepository tagRepository,
+                             StringRedisTemplate redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        // 读写事务走主库，避免刚提交的变更因复制延迟读不到；新事务保证在 afterCommit 中也能执行
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 应用启动完成后订阅通知并首次加载
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        listenerContainer.addMessageListener(
+            (message, pattern) -> onRefreshNotification(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(CHANNEL)
+        );
+        reload();
+    }
+
+    /**
+     * 定时全量重新加载（兜底丢失的跨节点通知）
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * 快照是否已加载
+     *
+     * @return 已加载返回true
+     */
+    public boolean isLoaded() {
+        return current.loaded();
+    }
+
+    public Optional<CategoryAggregate> findCategory(CategoryId categoryId) {
+        return Optional.ofNullable(current.categoriesById().get(categoryId.getValue())).map(DimensionSnapshot::copy);
+    }
+
+    public Optional<CategoryAggregate> findCategoryByName(String name) {
+        return Optional.ofNullable(current.categoriesByName().get(name)).map(DimensionSnapshot::copy);
+    }
+
+    public Optional<TagAggregate> findTag(TagId tagId) {
+        return Optional.ofNullable(current.tagsById().get(tagId.getValue())).map(DimensionSnapshot::copy);
+    }
+
+    /**
+     * 批量按ID查找分类
+     *
+     * @param categoryIds 分类ID集合
+     * @return 命中的分类，未命中的ID不在结果中
+     */
+    public Map<CategoryId, CategoryAggregate> findCategories(Collection<CategoryId> categoryIds) {
+        Snapshot snapshot = current;
+        Map<CategoryId, CategoryAggregate> result = new HashMap<>();
+        for (CategoryId categoryId : categoryIds) {
+            CategoryAggregate category = snapshot.categoriesById().get(categoryId.getValue());
+            if (category != null) {
+                result.put(categoryId, copy(category));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 批量按ID查找标签
+     *
+     * @param tagIds 标签ID集合
+     * @return 命中的标签，未命中的ID不在结果中
+     */
+    public Map<TagId, TagAggregate> findTags(Collection<TagId> tagIds) {
+        Snapshot snapshot = current;
+        Map<TagId, TagAggregate> result = new HashMap<>();
+        for (TagId tagId : tagIds) {
+            TagAggregate tag = snapshot.tagsById().get(tagId.getValue());
+            if (tag != null) {
+                result.put(tagId, copy(tag));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 批量按名称查找标签
+     *
+     * @param names 标签名称集合
+     * @return 命中的标签（以名称为键），未命中的名称不在结果中
+     */
+    public Map<String, TagAggregate> findTagsByNames(Collection<String> names) {
+        Snapshot snapshot = current;
+        Map<String, TagAggregate> result = new HashMap<>();
+        for (String name : names) {
+            TagAggregate tag = snapshot.tagsByName().get(name);
+            if (tag != null) {
+                result.put(name, copy(tag));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 在当前事务提交后重新加载并通知其他节点；不在事务中时立即执行
+     *
+     * <p>同一事务内多次调用只重新加载一次
+     */
+    public void reloadAfterCommit() {
+        AfterCommit.runOnce(this, this::reloadAndNotify);
+    }
+
+    /**
+     * 从数据库全量加载并替换快照；加载失败时保留原快照
+     *
+     * <p>串行执行，保证后开始的加载不会被先开始的加载覆盖
+     */
+    public synchronized void reload() {
+        try {
+            Snapshot loaded = loadTransaction.execute(status ->
+                Snapshot.of(categoryRepository.findAll(), tagRepository.findAll()));
+            if (loaded != null) {
+                current = loaded;
+                logger.debug("分类与标签快照已更新，分类: {}, 标签: {}",
+                    loaded.categoriesById().size(), loaded.tagsById().size());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("加载分类与标签快照失败，继续使用原快照", e);
+        }
+    }
+
+    private void reloadAndNotify() {
+        reload();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (DataAccessException e) {
+            logger.warn("发送分类与标签快照更新通知失败，其他节点将在定时加载时更新", e);
+        }
+    }
+
+    /**
+     * 处理其他节点的重新加载通知
+     *
+     * @param payload 发送节点ID
+     */
+    void onRefreshNotification(String payload) {
+        if (nodeId.equals(payload)) {
+            return;
+        }
+        logger.debug("收到分类与标签快照更新通知，来源节点: {}", payload);
+        reload();
+    }
+
+    private static CategoryAggregate copy(CategoryAggregate category) {
+        return CategoryAggregate.rebuild(category.getId(), category.getName(), category.getIcon());
+    }
+
+    private static TagAggregate copy(TagAggregate tag) {
+        return TagAggregate.rebuild(tag.getId(), tag.getName());
+    }
+
+    /**
+     * 不可变快照
+     */
+    private record Snapshot(Map<Long, CategoryAggregate> categoriesById,
+                            Map<String, CategoryAggregate> categoriesByName,
+                            Map<Long, TagAggregate> tagsById,
+                            Map<String, TagAggregate> tagsByName,
+                            boolean loaded) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of(), false);
+
+        static Snapshot of(List<CategoryAggregate> categories, List<TagAggregate> tags) {
+            Map<Long, CategoryAggregate> categoriesById = new HashMap<>();
+            Map<String, CategoryAggregate> categoriesByName = new HashMap<>();
+            for (CategoryAggregate category : categories) {
+                categoriesById.put(category.getId().getValue(), category);
+                categoriesByName.put(category.getName(), category);
+            }
+            Map<Long, TagAggregate> tagsById = new HashMap<>();
+            Map<String, TagAggregate> tagsByName = new HashMap<>();
+            for (TagAggregate tag : tags) {
+                tagsById.put(tag.getId().getValue(), tag);
+                tagsByName.put(tag.getName(), tag);
+            }
+            return new Snapshot(Map.copyOf(categoriesById), Map.copyOf(categoriesByName),
+                Map.copyOf(tagsById), Map.copyOf(tagsByName), true);
+        }
+    }
+}
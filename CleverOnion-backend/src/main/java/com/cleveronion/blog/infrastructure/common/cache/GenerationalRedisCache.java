@@ -0,0 +1,156 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按代际清空的 Redis 缓存
+ *
+ * <p>Key 前缀中嵌入 {@link CacheGenerations} 维护的代际，清空缓存时递增代际而不是按模式扫描删除，
+ * 无论缓存中有多少条目，清空都只是一次原子递增
+ *
+ * <p>批量读取使用一次 MGET，Key 与值的序列化与单个读取一致
+ *
+ * <p>按版本写入与清除由 Lua 脚本原子执行，版本记录在条目旁的 {@code {cacheKey}:rev} 中
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class GenerationalRedisCache extends RedisCache implements MultiGetCache, VersionedCache {
+
+    /**
+     * 版本记录的最短保留时间，覆盖提交后回调可能的延迟
+     */
+    private static final Duration MIN_REVISION_TTL = Duration.ofMinutes(10);
+
+    private static final byte[] REVISION_SUFFIX = ":rev".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] 条目，KEYS[2] 版本；ARGV[1] 版本，ARGV[2] 值，ARGV[3] 版本 TTL，ARGV[4] 条目 TTL（0 表示不过期）
+     */
+    private static final byte[] PUT_IF_NEWER_SCRIPT = (
+        "local current = redis.call('GET', KEYS[2]) "
+            + "if current and tonumber(current) > tonumber(ARGV[1]) then return 0 end "
+            + "redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[3]) "
+            + "if tonumber(ARGV[4]) > 0 then redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[4]) "
+            + "else redis.call('SET', KEYS[1], ARGV[2]) end "
+            + "return 1"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] 条目，KEYS[2] 版本；ARGV[1] 版本，ARGV[2] 版本 TTL
+     */
+    private static final byte[] EVICT_VERSION_SCRIPT = (
+        "redis.call('DEL', KEYS[1]) "
+            + "local current = redis.call('GET', KEYS[2]) "
+            + "if not current or tonumber(current) < tonumber(ARGV[1]) then "
+            + "redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2]) end "
+            + "return 1"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private final CacheGenerations cacheGenerations;
+    private final StringRedisTemplate redisTemplate;
+
+    public GenerationalRedisCache(String name, RedisCacheWriter cacheWriter,
+                                  RedisCacheConfiguration cacheConfiguration,
+                                  CacheGenerations cacheGenerations,
+                                  StringRedisTemplate redisTemplate) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.cacheGenerations = cacheGenerations;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void clear() {
+        cacheGenerations.advance(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        cacheGenerations.advance(getName());
+        return true;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        List<Object> orderedKeys = new ArrayList<>(keys);
+        byte[][] rawKeys = new byte[orderedKeys.size()][];
+        for (int i = 0; i < rawKeys.length; i++) {
+            rawKeys[i] = serializeCacheKey(createCacheKey(orderedKeys.get(i)));
+        }
+
+        List<byte[]> rawValues = redisTemplate.execute(
+            (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+        if (rawValues == null) {
+            return result;
+        }
+        for (int i = 0; i < rawValues.size(); i++) {
+            byte[] rawValue = rawValues.get(i);
+            if (rawValue == null) {
+                continue;
+            }
+            Object value = fromStoreValue(deserializeCacheValue(rawValue));
+            if (value != null) {
+                result.put(orderedKeys.get(i), value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean putIfNewer(Object key, Object value, long version) {
+        byte[] cacheKey = serializeCacheKey(createCacheKey(key));
+        byte[] cacheValue = serializeCacheValue(toStoreValue(value));
+        long entryTtl = entryTtlMillis(key, value);
+        Long written = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+            PUT_IF_NEWER_SCRIPT, ReturnType.INTEGER, 2,
+            cacheKey, revisionKey(cacheKey), bytes(version), cacheValue,
+            bytes(revisionTtlMillis(entryTtl)), bytes(entryTtl)));
+        return written != null && written == 1L;
+    }
+
+    @Override
+    public void evictVersion(Object key, long version) {
+        byte[] cacheKey = serializeCacheKey(createCacheKey(key));
+        long revisionTtl = revisionTtlMillis(entryTtlMillis(key, null));
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+            EVICT_VERSION_SCRIPT, ReturnType.INTEGER, 2,
+            cacheKey, revisionKey(cacheKey), bytes(version), bytes(revisionTtl)));
+    }
+
+    private long entryTtlMillis(Object key, Object value) {
+        Duration ttl = getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+        return ttl == null || ttl.isNegative() ? 0 : ttl.toMillis();
+    }
+
+    private static long revisionTtlMillis(long entryTtlMillis) {
+        return Math.max(entryTtlMillis, MIN_REVISION_TTL.toMillis());
+    }
+
+    private static byte[] revisionKey(byte[] cacheKey) {
+        byte[] revisionKey = new byte[cacheKey.length + REVISION_SUFFIX.length];
+        System.arraycopy(cacheKey, 0, revisionKey, 0, cacheKey.length);
+        System.arraycopy(REVISION_SUFFIX, 0, revisionKey, cacheKey.length, REVISION_SUFFIX.length);
+        return revisionKey;
+    }
+
+    private static byte[] bytes(long number) {
+        return Long.toString(number).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,256 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import com.cleveronion.blog.common.cache.CacheNames;
+import com.cleveronion.blog.infrastructure.article.persistence.repository.ArticleJpaRepository;
+import com.cleveronion.blog.infrastructure.comment.persistence.repository.CommentJpaRepository;
+import com.cleveronion.blog.infrastructure.common.transaction.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * ID 存在性过滤器
+ *
+ * <p>为文章和评论ID提供两层防护，拦截对不存在ID的探测：
+ * <ul>
+ *   <li>布隆过滤器：启动时从数据库全量构建，新建数据在事务提交后追加；判定不存在则一定不存在</li>
+ *   <li>负缓存：数据库确认不存在的ID写入 {@link CacheNames#ID_ABSENT}（短 TTL），
+ *       覆盖已删除ID在布隆过滤器中的误判</li>
+ * </ul>
+ *
+ * <p>布隆过滤器保存在各节点内存中。新建的ID经 Redis 频道广播，所有节点（包括发布节点）收到后追加；
+ * 发布节点在广播前先写入本地，Redis 不可用时至少本节点可见。
+ * 追加在事务提交后进行：提交前并发读取查不到该ID会写入负缓存，提交后的追加会清除它。
+ * 通知丢失的节点会把新ID误判为不存在，定时全量重建限定了这一窗口
+ *
+ * <p>布隆过滤器构建完成前只使用负缓存，不做拦截。
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class IdExistenceFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdExistenceFilter.class);
+
+    /**
+     * 布隆过滤器最小容量（为构建后的新增数据预留空间）
+     */
+    private static final long MIN_EXPECTED_INSERTIONS = 10_000;
+
+    /**
+     * 布隆过滤器误判率
+     */
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private static final String ARTICLE = "article";
+    private static final String COMMENT = "comment";
+
+    /**
+     * 新建ID广播频道
+     */
+    private static final String CHANNEL = "cleveronion:id-existence:created";
+
+    private final ArticleJpaRepository articleJpaRepository;
+    private final CommentJpaRepository commentJpaRepository;
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Guard articleGuard = new Guard(ARTICLE);
+    private final Guard commentGuard = new Guard(COMMENT);
+
+    public IdExistenceFilter(ArticleJpaRepository articleJpaRepository,
+                             CommentJpaRepository commentJpaRepository,
+                             CacheManager cacheManager,
+                             StringRedisTemplate redisTemplate,
+                             RedisMessageListenerContainer listenerContainer) {
+        this.articleJpaRepository = articleJpaRepository;
+        this.commentJpaRepository = commentJpaRepository;
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(
+            (message, pattern) -> onCreated(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(CHANNEL)
+        );
+    }
+
+    /**
+     * 应用启动完成后构建布隆过滤器，此后定时重建，
+     * 补上丢失的新建通知，并清出已删除的ID
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${cache.id-filter.rebuild-interval-ms:3600000}",
+        fixedDelayString = "${cache.id-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        articleGuard.rebuild(articleJpaRepository::count, articleJpaRepository::findAllIds);
+        commentGuard.rebuild(commentJpaRepository::count, commentJpaRepository::findAllIds);
+    }
+
+    public boolean mightExistArticle(String articleId) {
+        return articleGuard.mightExist(articleId);
+    }
+
+    public void markArticleAbsent(String articleId) {
+        articleGuard.markAbsent(articleId);
+    }
+
+    public void recordArticleCreated(String articleId) {
+        AfterCommit.run(() -> {
+            articleGuard.recordCreated(articleId);
+            broadcast(ARTICLE, articleId);
+        });
+    }
+
+    public boolean mightExistComment(Long commentId) {
+        return commentGuard.mightExist(String.valueOf(commentId));
+    }
+
+    public void markCommentAbsent(Long commentId) {
+        commentGuard.markAbsent(String.valueOf(commentId));
+    }
+
+    public void recordCommentCreated(Long commentId) {
+        AfterCommit.run(() -> {
+            commentGuard.recordCreated(String.valueOf(commentId));
+            broadcast(COMMENT, String.valueOf(commentId));
+        });
+    }
+
+    /**
+     * 通知所有节点追加新建的ID
+     */
+    private void broadcast(String type, String id) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, type + ":" + id);
+        } catch (DataAccessException e) {
+            logger.warn("新建ID广播失败，其他节点将在下次重建后可见: type={}, id={}", type, id, e);
+        }
+    }
+
+    /**
+     * 处理新建ID通知，消息格式为 {type}:{id}
+     *
+     * @param payload 通知内容
+     */
+    void onCreated(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator <= 0) {
+            logger.warn("忽略无法解析的新建ID通知: {}", payload);
+            return;
+        }
+        String type = payload.substring(0, separator);
+        String id = payload.substring(separator + 1);
+        if (ARTICLE.equals(type)) {
+            articleGuard.add(id);
+        } else if (COMMENT.equals(type)) {
+            commentGuard.add(id);
+        }
+    }
+
+    /**
+     * 单一实体类型的布隆过滤器 + 负缓存
+     */
+    private final class Guard {
+
+        private final String type;
+        private final Object addLock = new Object();
+        private volatile BloomFilter active;
+
+        /**
+         * 重建期间追加的ID，切换前合并进新的过滤器；不在重建时为null，由 addLock 保护
+         */
+        private Set<String> addedDuringRebuild;
+
+        private Guard(String type) {
+            this.type = type;
+        }
+
+        boolean mightExist(String id) {
+            BloomFilter filter = active;
+            if (filter != null && !filter.mightContain(id)) {
+                logger.debug("布隆过滤器判定ID不存在: type={}, id={}", type, id);
+                return false;
+            }
+            Cache absent = cacheManager.getCache(CacheNames.ID_ABSENT);
+            if (absent != null && absent.get(key(id)) != null) {
+                logger.debug("负缓存命中: type={}, id={}", type, id);
+                return false;
+            }
+            return true;
+        }
+
+        void markAbsent(String id) {
+            Cache absent = cacheManager.getCache(CacheNames.ID_ABSENT);
+            if (absent != null) {
+                absent.put(key(id), Boolean.TRUE);
+            }
+        }
+
+        void recordCreated(String id) {
+            add(id);
+            Cache absent = cacheManager.getCache(CacheNames.ID_ABSENT);
+            if (absent != null) {
+                absent.evict(key(id));
+            }
+        }
+
+        void add(String id) {
+            synchronized (addLock) {
+                if (addedDuringRebuild != null) {
+                    addedDuringRebuild.add(id);
+                }
+                BloomFilter filter = active;
+                if (filter != null) {
+                    filter.put(id);
+                }
+            }
+        }
+
+        /**
+         * 开始记录追加的ID后再读取数据库，切换时把记录的ID合并进新过滤器：
+         * 读取开始前追加的ID已提交，必在快照中；之后追加的ID必在记录中
+         */
+        synchronized void rebuild(LongSupplier counter, Supplier<List<Long>> idLoader) {
+            synchronized (addLock) {
+                addedDuringRebuild = new HashSet<>();
+            }
+            try {
+                BloomFilter filter = new BloomFilter(
+                    Math.max(counter.getAsLong() * 2, MIN_EXPECTED_INSERTIONS), FALSE_POSITIVE_RATE);
+                List<Long> ids = idLoader.get();
+                ids.forEach(id -> filter.put(String.valueOf(id)));
+                synchronized (addLock) {
+                    addedDuringRebuild.forEach(filter::put);
+                    active = filter;
+                }
+                logger.info("ID存在性布隆过滤器构建完成: type={}, count={}", type, ids.size());
+            } catch (RuntimeException e) {
+                logger.error("ID存在性布隆过滤器构建失败，仅使用负缓存: type={}", type, e);
+            } finally {
+                synchronized (addLock) {
+                    addedDuringRebuild = null;
+                }
+            }
+        }
+
+        private String key(String id) {
+            return type + ":" + id;
+        }
+    }
+}
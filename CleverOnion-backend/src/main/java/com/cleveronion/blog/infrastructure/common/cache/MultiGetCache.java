@@ -0,0 +1,52 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 支持批量读取的缓存
+ *
+ * <p>Redis 缓存以一次 MGET 读取多个 Key，用于列表页按ID批量装配条目，
+ * 避免逐个 GET 的往返开销
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public interface MultiGetCache {
+
+    /**
+     * 批量读取
+     *
+     * @param keys 缓存 Key 集合
+     * @return 命中的 Key 与值（可修改的新 Map），未命中的 Key 不在结果中
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+
+    /**
+     * 批量读取任意缓存
+     *
+     * <p>读取不受事务影响，跳过事务感知包装；不支持批量读取的缓存逐个读取
+     *
+     * @param cache 缓存
+     * @param keys 缓存 Key 集合
+     * @return 命中的 Key 与值，未命中的 Key 不在结果中
+     */
+    static Map<Object, Object> getAll(Cache cache, Collection<?> keys) {
+        Cache target = cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+        if (target instanceof MultiGetCache multiGetCache) {
+            return multiGetCache.getAll(keys);
+        }
+        Map<Object, Object> result = new HashMap<>();
+        for (Object key : keys) {
+            Cache.ValueWrapper wrapper = target.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                result.put(key, wrapper.get());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis 熔断器
+ *
+ * <p>连续失败达到阈值后熔断，熔断期间缓存操作不再访问 Redis，直接走本地兜底或数据库；
+ * 熔断到期后只放行一个探测请求，探测成功则恢复，失败则重新计时。
+ * 所有缓存共用同一个熔断器，因为它们背后是同一个 Redis
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class RedisCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCircuitBreaker.class);
+
+    /**
+     * 熔断器状态
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final LongSupplier clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+
+    public RedisCircuitBreaker(int failureThreshold, long openDurationMs) {
+        this(failureThreshold, openDurationMs, System::currentTimeMillis);
+    }
+
+    RedisCircuitBreaker(int failureThreshold, long openDurationMs, LongSupplier clock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("熔断失败阈值必须大于0");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+    }
+
+    /**
+     * 判断本次操作是否可以访问 Redis
+     *
+     * @return 未熔断或获得探测资格时返回true
+     */
+    public boolean allowRequest() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationMs) {
+                return false;
+            }
+            synchronized (this) {
+                if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationMs) {
+                    state = State.HALF_OPEN;
+                    probeInFlight.set(false);
+                    logger.info("Redis 熔断到期，放行探测请求");
+                }
+            }
+        }
+        return state == State.CLOSED || probeInFlight.compareAndSet(false, true);
+    }
+
+    /**
+     * 记录一次成功的 Redis 操作
+     */
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state != State.CLOSED) {
+            synchronized (this) {
+                if (state != State.CLOSED) {
+                    state = State.CLOSED;
+                    probeInFlight.set(false);
+                    logger.info("Redis 已恢复，缓存熔断关闭");
+                }
+            }
+        }
+    }
+
+    /**
+     * 记录一次失败的 Redis 操作
+     */
+    public void recordFailure() {
+        if (state == State.HALF_OPEN) {
+            trip("探测请求失败");
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && state == State.CLOSED) {
+            trip("连续失败 " + consecutiveFailures.get() + " 次");
+        }
+    }
+
+    /**
+     * 获取当前状态
+     *
+     * @return 熔断器状态
+     */
+    public State getState() {
+        return state;
+    }
+
+    private synchronized void trip(String reason) {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        probeInFlight.set(false);
+        logger.warn("Redis 缓存熔断开启（{}），{}ms 内缓存操作直接降级", reason, openDurationMs);
+    }
+}
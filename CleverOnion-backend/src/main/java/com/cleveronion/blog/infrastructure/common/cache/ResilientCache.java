@@ -0,0 +1,417 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Redis 故障容错的缓存装饰器
+ *
+ * <p>Redis 异常不再让请求失败，而是降级：
+ * <ul>
+ *   <li>熔断：由 {@link RedisCircuitBreaker} 判断，熔断期间不访问 Redis，避免每个请求都等到超时</li>
+ *   <li>兜底：读取落到数据库（加载函数），结果暂存在本地有界缓存中，供熔断期间的后续请求使用</li>
+ *   <li>重试：连接类失败重试有限次数；命令超时不重试，避免延迟翻倍</li>
+ *   <li>补偿：Redis 不可用期间未能执行的清除（包括按版本写入），在恢复后的首次操作前整体清空该缓存，防止读到旧数据</li>
+ * </ul>
+ *
+ * <p>Redis 恢复后本地兜底条目随即清空，正常路径不占用本地内存。
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class ResilientCache implements Cache, MultiGetCache, VersionedCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientCache.class);
+
+    private final Cache delegate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+    private final long localTtlMs;
+    private final int localMaxEntries;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<Object, LocalEntry> local = new ConcurrentHashMap<>();
+
+    /**
+     * Redis 中可能残留应被清除的条目
+     */
+    private volatile boolean pendingClear;
+
+    public ResilientCache(Cache delegate, RedisCircuitBreaker circuitBreaker, int maxRetries, long retryBackoffMs,
+                          long localTtlMs, int localMaxEntries, MeterRegistry meterRegistry) {
+        this(delegate, circuitBreaker, maxRetries, retryBackoffMs, localTtlMs, localMaxEntries, meterRegistry,
+            System::currentTimeMillis);
+    }
+
+    ResilientCache(Cache delegate, RedisCircuitBreaker circuitBreaker, int maxRetries, long retryBackoffMs,
+                   long localTtlMs, int localMaxEntries, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMs = retryBackoffMs;
+        this.localTtlMs = localTtlMs;
+        this.localMaxEntries = localMaxEntries;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (circuitBreaker.allowRequest()) {
+            try {
+                return execute("get", () -> delegate.get(key));
+            } catch (DataAccessException e) {
+                logger.debug("读取缓存失败，降级为本地兜底: cache={}, key={}", getName(), key);
+            }
+        }
+        recordFallback("get");
+        return getLocal(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("缓存值类型不匹配，期望: " + type.getName() + "，实际: " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    /**
+     * 读取或加载；加载之后的回填失败时直接返回已加载的值，不再重复回源
+     */
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (circuitBreaker.allowRequest()) {
+            TrackingLoader<T> loader = new TrackingLoader<>(valueLoader);
+            try {
+                // 加载函数有副作用，整体不重试
+                return executeOnce("get", () -> delegate.get(key, loader));
+            } catch (DataAccessException e) {
+                if (loader.loaded) {
+                    logger.debug("回填缓存失败，返回已加载的值: cache={}, key={}", getName(), key);
+                    recordFallback("put");
+                    putLocal(key, loader.value);
+                    return loader.value;
+                }
+                logger.debug("读取缓存失败，直接回源: cache={}, key={}", getName(), key);
+            }
+        }
+        recordFallback("load");
+        return loadLocally(key, valueLoader);
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        if (circuitBreaker.allowRequest()) {
+            try {
+                return execute("getAll", () -> MultiGetCache.getAll(delegate, keys));
+            } catch (DataAccessException e) {
+                logger.debug("批量读取缓存失败，降级为本地兜底: cache={}, keys={}", getName(), keys.size());
+            }
+        }
+        recordFallback("getAll");
+        Map<Object, Object> result = new HashMap<>();
+        for (Object key : keys) {
+            ValueWrapper cached = getLocal(key);
+            if (cached != null) {
+                result.put(key, cached.get());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (circuitBreaker.allowRequest()) {
+            try {
+                execute("put", () -> {
+                    delegate.put(key, value);
+                    return null;
+                });
+                return;
+            } catch (DataAccessException e) {
+                logger.debug("写入缓存失败，仅写入本地兜底: cache={}, key={}", getName(), key);
+            }
+        }
+        recordFallback("put");
+        putLocal(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (circuitBreaker.allowRequest()) {
+            try {
+                return execute("putIfAbsent", () -> delegate.putIfAbsent(key, value));
+            } catch (DataAccessException e) {
+                logger.debug("写入缓存失败，仅写入本地兜底: cache={}, key={}", getName(), key);
+            }
+        }
+        recordFallback("putIfAbsent");
+        ValueWrapper existing = getLocal(key);
+        if (existing == null) {
+            putLocal(key, value);
+        }
+        return existing;
+    }
+
+    /**
+     * 按版本写入；Redis 不可用时无法比较版本，按清除处理
+     */
+    @Override
+    public boolean putIfNewer(Object key, Object value, long version) {
+        local.remove(key);
+        if (circuitBreaker.allowRequest()) {
+            try {
+                return execute("putIfNewer", () -> VersionedCache.putIfNewer(delegate, key, value, version));
+            } catch (DataAccessException e) {
+                logger.warn("按版本写入缓存失败，Redis 恢复后将整体清空: cache={}, key={}", getName(), key);
+            }
+        }
+        recordFallback("putIfNewer");
+        pendingClear = true;
+        return false;
+    }
+
+    @Override
+    public void evictVersion(Object key, long version) {
+        local.remove(key);
+        if (circuitBreaker.allowRequest()) {
+            try {
+                execute("evict", () -> {
+                    VersionedCache.evictVersion(delegate, key, version);
+                    return null;
+                });
+                return;
+            } catch (DataAccessException e) {
+                logger.warn("清除缓存失败，Redis 恢复后将整体清空: cache={}, key={}", getName(), key);
+            }
+        }
+        recordFallback("evict");
+        pendingClear = true;
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean removedLocally = local.remove(key) != null;
+        if (circuitBreaker.allowRequest()) {
+            try {
+                return execute("evict", () -> delegate.evictIfPresent(key)) || removedLocally;
+            } catch (DataAccessException e) {
+                logger.warn("清除缓存失败，Redis 恢复后将整体清空: cache={}, key={}", getName(), key);
+            }
+        }
+        recordFallback("evict");
+        pendingClear = true;
+        return removedLocally;
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean hadLocal = !local.isEmpty();
+        local.clear();
+        if (circuitBreaker.allowRequest()) {
+            try {
+                boolean invalidated = execute("clear", delegate::invalidate);
+                pendingClear = false;
+                return invalidated || hadLocal;
+            } catch (DataAccessException e) {
+                logger.warn("清空缓存失败，Redis 恢复后将重试: cache={}", getName());
+            }
+        }
+        recordFallback("clear");
+        pendingClear = true;
+        return hadLocal;
+    }
+
+    /**
+     * 判断是否有待补偿的清除
+     *
+     * @return Redis 中可能残留旧条目时返回true
+     */
+    public boolean isPendingClear() {
+        return pendingClear;
+    }
+
+    /**
+     * 执行 Redis 操作，连接类失败时有限重试
+     */
+    private <T> T execute(String operation, Supplier<T> redisCall) {
+        int attempt = 0;
+        while (true) {
+            try {
+                return executeOnce(operation, redisCall);
+            } catch (QueryTimeoutException e) {
+                throw e;
+            } catch (DataAccessException e) {
+                if (attempt >= maxRetries || !circuitBreaker.allowRequest()) {
+                    throw e;
+                }
+                attempt++;
+                meterRegistry.counter("cache.resilience.retry", "cache", getName(), "operation", operation).increment();
+                if (!sleep(retryBackoffMs)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 执行一次 Redis 操作并记录结果；执行前先补偿未完成的清除
+     */
+    private <T> T executeOnce(String operation, Supplier<T> redisCall) {
+        try {
+            if (pendingClear) {
+                delegate.invalidate();
+                pendingClear = false;
+                logger.info("Redis 已可用，补偿清空缓存: cache={}", getName());
+            }
+            T result = redisCall.get();
+            onRedisAvailable();
+            return result;
+        } catch (DataAccessException e) {
+            circuitBreaker.recordFailure();
+            meterRegistry.counter("cache.resilience.failure", "cache", getName(), "operation", operation).increment();
+            throw e;
+        } catch (RuntimeException e) {
+            // 加载函数异常、序列化异常等不代表 Redis 不可用
+            onRedisAvailable();
+            throw e;
+        }
+    }
+
+    private void onRedisAvailable() {
+        circuitBreaker.recordSuccess();
+        if (!local.isEmpty()) {
+            local.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadLocally(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = getLocal(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        putLocal(key, value);
+        return value;
+    }
+
+    private ValueWrapper getLocal(Object key) {
+        LocalEntry entry = local.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.getAsLong()) {
+            local.remove(key, entry);
+            return null;
+        }
+        return new SimpleValueWrapper(entry.value);
+    }
+
+    private void putLocal(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        if (local.size() >= localMaxEntries) {
+            local.values().removeIf(entry -> entry.expiresAt <= now);
+            if (local.size() >= localMaxEntries) {
+                return;
+            }
+        }
+        local.put(key, new LocalEntry(value, now + localTtlMs));
+    }
+
+    private void recordFallback(String operation) {
+        meterRegistry.counter("cache.resilience.fallback", "cache", getName(), "operation", operation).increment();
+    }
+
+    private static boolean sleep(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 记录加载结果的加载函数，用于区分读取失败与加载后的回填失败
+     */
+    private static final class TrackingLoader<T> implements Callable<T> {
+
+        private final Callable<T> delegate;
+        private volatile boolean loaded;
+        private volatile T value;
+
+        private TrackingLoader(Callable<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T call() throws Exception {
+            T result = delegate.call();
+            value = result;
+            loaded = true;
+            return result;
+        }
+    }
+
+    /**
+     * 本地兜底条目
+     */
+    private record LocalEntry(Object value, long expiresAt) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import com.cleveronion.blog.infrastructure.common.transaction.AfterCommit;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Hibernate 二级缓存跨节点失效
+ *
+ * <p>二级缓存区域只存在于各节点内存中。本组件在缓存实体提交后，
+ * 通过 Redis 频道广播实体与 ID，其他节点收到后清除对应条目以及查询结果缓存。
+ * 绕过实体事件的批量 JPQL 删除需要调用 {@link #evictEntityRegionAfterCommit(Class)} 广播整区清除
+ *
+ * <p>消息格式：{节点ID}|{实体名}|{ID 或 *}，节点忽略自己发出的消息
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class SecondLevelCacheInvalidator implements SmartInitializingSingleton,
+        PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheInvalidator.class);
+
+    /**
+     * 失效通知频道
+     */
+    private static final String CHANNEL = "cleveronion:l2cache:invalidate";
+
+    private static final String ALL_IDS = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SessionFactoryImplementor sessionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                       StringRedisTemplate redisTemplate,
+                                       RedisMessageListenerContainer listenerContainer) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+
+        listenerContainer.addMessageListener(
+            (message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(CHANNEL)
+        );
+        logger.info("已注册二级缓存跨节点失效，节点: {}", nodeId);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (!event.getPersister().canWriteToCache()) {
+            return;
+        }
+        // 新实体不在其他节点的实体缓存中，但可能让其查询结果（如按名称查找）过期
+        publish(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!event.getPersister().canWriteToCache()) {
+            return;
+        }
+        publish(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (!event.getPersister().canWriteToCache()) {
+            return;
+        }
+        publish(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    /**
+     * 事务提交后清除整个实体区域（本节点与其他节点）
+     * 用于批量 JPQL 更新、删除等不触发实体事件的写入
+     *
+     * @param entityClass 实体类型
+     */
+    public void evictEntityRegionAfterCommit(Class<?> entityClass) {
+        Runnable evict = () -> {
+            sessionFactory.getCache().evictEntityData(entityClass);
+            sessionFactory.getCache().evictDefaultQueryRegion();
+            publish(entityClass.getName(), ALL_IDS);
+        };
+        AfterCommit.run(evict);
+    }
+
+    private void publish(String entityName, Object id) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + entityName + "|" + id);
+        } catch (DataAccessException e) {
+            logger.warn("发送二级缓存失效通知失败，其他节点将在过期后刷新: entity={}, id={}", entityName, id, e);
+        }
+    }
+
+    /**
+     * 处理其他节点的失效通知
+     *
+     * @param payload 通知内容
+     */
+    void onInvalidation(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        String entityName = parts[1];
+        String id = parts[2];
+        try {
+            if (ALL_IDS.equals(id)) {
+                sessionFactory.getCache().evictEntityData(entityName);
+            } else {
+                sessionFactory.getCache().evictEntityData(entityName, Long.valueOf(id));
+            }
+            sessionFactory.getCache().evictDefaultQueryRegion();
+        } catch (RuntimeException e) {
+            logger.warn("处理二级缓存失效通知失败: {}", payload, e);
+        }
+    }
+}
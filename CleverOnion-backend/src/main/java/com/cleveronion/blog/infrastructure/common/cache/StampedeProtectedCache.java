@@ -0,0 +1,404 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import com.cleveronion.blog.infrastructure.common.datasource.PrimaryReads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 防缓存击穿的缓存装饰器
+ *
+ * <p>作用于 {@code @Cacheable(sync = true)} 的加载路径（{@link #get(Object, Callable)}）：
+ * <ul>
+ *   <li>JVM 内单飞：同一 Key 同时只有一个线程回源，其余线程等待同一结果</li>
+ *   <li>Redis 租约：跨节点同一 Key 只有一个节点回源，其余节点短暂等待其写入缓存</li>
+ *   <li>XFetch 提前刷新：条目临近过期时由单个请求触发后台重新加载，触发者和其余请求都直接使用旧值；
+ *       后台刷新同样持有 Redis 租约，跨节点同一 Key 只刷新一次</li>
+ *   <li>原地刷新：{@link CacheRefreshScope} 内对指定条目跳过读取，回源后直接覆盖旧值</li>
+ * </ul>
+ *
+ * <p>加载结果为 null 时不写入缓存（与 disableCachingNullValues 保持一致）。
+ * 配置了版本解析函数的缓存按加载结果的版本回填（{@link VersionedCache#fill}），
+ * 提交前读到的旧数据不会覆盖提交后写入的新版本。
+ * 未配置版本解析函数的缓存回源时在 {@link PrimaryReads} 作用域内执行，启用读写分离时读主库，
+ * 不会把从库延迟期间的旧数据写入缓存；按版本回填的缓存已能拒绝旧数据，回源仍读从库。
+ * Redis 不可用时租约降级为仅 JVM 内单飞，不影响正常读取。
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class StampedeProtectedCache implements Cache, MultiGetCache, VersionedCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(StampedeProtectedCache.class);
+
+    /**
+     * 租约 Key 前缀
+     */
+    private static final String LEASE_KEY_PREFIX = "cleveronion:lease:";
+
+    /**
+     * 租约有效期（防止持有者宕机导致死锁）
+     */
+    private static final Duration LEASE_TTL = Duration.ofSeconds(10);
+
+    /**
+     * 未拿到租约时等待其他节点写入缓存的最长时间
+     */
+    private static final long LEASE_WAIT_MILLIS = 2000;
+
+    /**
+     * 等待期间轮询缓存的间隔
+     */
+    private static final long LEASE_POLL_MILLIS = 50;
+
+    /**
+     * XFetch 系数
+     */
+    private static final double XFETCH_BETA = 1.0;
+
+    /**
+     * 仅在值匹配时删除租约，避免误删其他节点续上的租约
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final Cache delegate;
+    private final BiFunction<Object, Object, Duration> ttlResolver;
+    private final Function<Object, Long> versionResolver;
+    private final StringRedisTemplate redisTemplate;
+    private final Executor refreshExecutor;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate 被装饰的缓存
+     * @param ttlResolver 根据 Key 和值计算 TTL，用于记录逻辑过期时间
+     * @param redisTemplate 用于跨节点租约
+     *
+     * <p>不指定刷新执行器时，提前刷新在触发请求的线程内完成
+     */
+    public StampedeProtectedCache(Cache delegate,
+                                  BiFunction<Object, Object, Duration> ttlResolver,
+                                  StringRedisTemplate redisTemplate) {
+        this(delegate, ttlResolver, null, redisTemplate, Runnable::run);
+    }
+
+    /**
+     * @param delegate 被装饰的缓存
+     * @param ttlResolver 根据 Key 和值计算 TTL，用于记录逻辑过期时间
+     * @param versionResolver 取加载结果的数据版本，返回null或为null时不按版本回填
+     * @param redisTemplate 用于跨节点租约
+     * @param refreshExecutor 执行提前刷新；拒绝任务时放弃本次刷新
+     */
+    public StampedeProtectedCache(Cache delegate,
+                                  BiFunction<Object, Object, Duration> ttlResolver,
+                                  Function<Object, Long> versionResolver,
+                                  StringRedisTemplate redisTemplate,
+                                  Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.ttlResolver = ttlResolver;
+        this.versionResolver = versionResolver;
+        this.redisTemplate = redisTemplate;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (CacheRefreshScope.isRefreshing(getName(), key)) {
+            return null;
+        }
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null && wrapper.get() instanceof CacheEnvelope envelope) {
+            return new SimpleValueWrapper(envelope.getValue());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("缓存值类型不匹配，期望: " + type.getName() + "，实际: " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (CacheRefreshScope.isRefreshing(getName(), key)) {
+            return (T) loadAndPut(key, valueLoader);
+        }
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            Object stored = wrapper.get();
+            if (stored instanceof CacheEnvelope envelope) {
+                if (envelope.shouldRefreshEarly(XFETCH_BETA)) {
+                    refreshEarly(key, envelope.getValue(), valueLoader);
+                }
+                return (T) envelope.getValue();
+            }
+            return (T) stored;
+        }
+        return (T) loadOnMiss(key, valueLoader);
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> values = MultiGetCache.getAll(delegate, keys);
+        values.replaceAll((key, value) -> value instanceof CacheEnvelope envelope ? envelope.getValue() : value);
+        return values;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    /**
+     * 按版本写入，与加载路径一样包装逻辑过期时间，写入的条目同样参与提前刷新
+     */
+    @Override
+    public boolean putIfNewer(Object key, Object value, long version) {
+        long now = System.currentTimeMillis();
+        Duration ttl = ttlResolver.apply(key, value);
+        long expireAt = ttl == null || ttl.isZero() || ttl.isNegative() ? 0 : now + ttl.toMillis();
+        return VersionedCache.putIfNewer(delegate, key, new CacheEnvelope(value, 0, expireAt), version);
+    }
+
+    @Override
+    public void evictVersion(Object key, long version) {
+        VersionedCache.evictVersion(delegate, key, version);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /**
+     * 缓存未命中：JVM 内单飞 + Redis 租约回源
+     */
+    private Object loadOnMiss(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            // 双重检查：上一轮加载可能刚刚完成并移除了飞行记录
+            ValueWrapper cached = get(key);
+            Object value = cached != null ? cached.get() : loadWithLease(key, valueLoader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 提前刷新：提交到刷新执行器后立即返回，调用方继续使用旧值
+     * 本节点已有线程在加载时不再提交；执行器已满时放弃本次刷新，条目在过期前仍可再次触发。
+     * 刷新未进行或失败时，等待同一飞行记录的线程拿到的也是旧值
+     */
+    private void refreshEarly(Object key, Object staleValue, Callable<?> valueLoader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, flight) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> refreshUnderLease(key, staleValue, valueLoader, flight));
+        } catch (RejectedExecutionException e) {
+            logger.debug("提前刷新任务已满，放弃本次刷新: cache={}, key={}", getName(), key);
+            flight.complete(staleValue);
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 持有租约时回源并覆盖条目；其他节点持有租约时说明它正在刷新，直接结束
+     */
+    private void refreshUnderLease(Object key, Object staleValue, Callable<?> valueLoader,
+                                   CompletableFuture<Object> flight) {
+        String leaseToken = null;
+        try {
+            leaseToken = tryAcquireLease(key);
+            if (leaseToken == null) {
+                flight.complete(staleValue);
+                return;
+            }
+            logger.debug("缓存条目临近过期，提前刷新: cache={}, key={}", getName(), key);
+            flight.complete(loadAndPut(key, valueLoader));
+        } catch (RuntimeException e) {
+            // 提前刷新失败不影响本次读取，旧值仍然有效
+            logger.warn("缓存提前刷新失败: cache={}, key={}", getName(), key, e);
+            flight.complete(staleValue);
+        } finally {
+            releaseLease(key, leaseToken);
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 获取租约后回源；未获取到时等待持有租约的节点写入缓存，超时后自行回源
+     */
+    private Object loadWithLease(Object key, Callable<?> valueLoader) {
+        String leaseToken = tryAcquireLease(key);
+        if (leaseToken == null) {
+            ValueWrapper loaded = waitForPeer(key);
+            if (loaded != null) {
+                return loaded.get();
+            }
+            logger.debug("等待其他节点加载缓存超时，自行回源: cache={}, key={}", getName(), key);
+        }
+
+        try {
+            return loadAndPut(key, valueLoader);
+        } finally {
+            releaseLease(key, leaseToken);
+        }
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        long start = System.currentTimeMillis();
+        Object value;
+        try {
+            // 按版本回填的缓存会拒绝从库读到的旧版本，其余缓存回源读主库
+            value = versionResolver != null ? valueLoader.call() : PrimaryReads.call(valueLoader);
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        if (value != null) {
+            long now = System.currentTimeMillis();
+            Duration ttl = ttlResolver.apply(key, value);
+            long expireAt = ttl == null || ttl.isZero() || ttl.isNegative() ? 0 : now + ttl.toMillis();
+            CacheEnvelope envelope = new CacheEnvelope(value, now - start, expireAt);
+            Long version = versionResolver != null ? versionResolver.apply(value) : null;
+            if (version == null) {
+                delegate.put(key, envelope);
+            } else if (!VersionedCache.fill(delegate, key, envelope, version)) {
+                logger.debug("缓存中已有更新的版本，跳过回填: cache={}, key={}, version={}", getName(), key, version);
+            }
+        }
+        return value;
+    }
+
+    private ValueWrapper waitForPeer(Object key) {
+        long deadline = System.currentTimeMillis() + LEASE_WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper wrapper = get(key);
+            if (wrapper != null) {
+                return wrapper;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 尝试获取租约
+     *
+     * @return 租约令牌；其他节点持有租约时返回null。Redis 异常时视为获取成功（降级为仅 JVM 内单飞）
+     */
+    private String tryAcquireLease(Object key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey(key), token, LEASE_TTL);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            logger.warn("获取缓存租约失败，降级为本地单飞: cache={}, key={}", getName(), key, e);
+            return token;
+        }
+    }
+
+    private void releaseLease(Object key, String token) {
+        if (token == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(key)), token);
+        } catch (RuntimeException e) {
+            logger.warn("释放缓存租约失败，将等待自动过期: cache={}, key={}", getName(), key, e);
+        }
+    }
+
+    private String leaseKey(Object key) {
+        return LEASE_KEY_PREFIX + getName() + "::" + key;
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
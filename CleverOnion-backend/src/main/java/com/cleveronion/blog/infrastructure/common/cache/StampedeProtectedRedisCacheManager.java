@@ -0,0 +1,102 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import com.cleveronion.blog.infrastructure.common.config.CacheResilienceConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 带击穿保护的 Redis 缓存管理器
+ *
+ * <p>为每个 Redis 缓存包装 {@link StampedeProtectedCache}，外层再包装 {@link ResilientCache}
+ * 做熔断与降级，最后交由父类做事务感知包装，因此写入与清除仍在事务提交后执行。
+ * 底层缓存为 {@link GenerationalRedisCache}，清空缓存只递增代际。
+ * 配置了版本解析函数的缓存在读取未命中时按数据版本回填。
+ * 所有缓存共用一个有界线程池执行提前刷新，线程数即提前刷新对数据库的最大并发，队列满时放弃刷新。
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class StampedeProtectedRedisCacheManager extends RedisCacheManager {
+
+    private final Map<String, Function<Object, Long>> versionResolvers;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheGenerations cacheGenerations;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final CacheResilienceConfig resilienceConfig;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public StampedeProtectedRedisCacheManager(RedisCacheWriter cacheWriter,
+                                              RedisCacheConfiguration defaultCacheConfiguration,
+                                              Map<String, RedisCacheConfiguration> initialCacheConfigurations,
+                                              Map<String, Function<Object, Long>> versionResolvers,
+                                              StringRedisTemplate redisTemplate,
+                                              CacheGenerations cacheGenerations,
+                                              RedisCircuitBreaker circuitBreaker,
+                                              CacheResilienceConfig resilienceConfig,
+                                              MeterRegistry meterRegistry) {
+        super(cacheWriter, defaultCacheConfiguration, initialCacheConfigurations);
+        this.versionResolvers = versionResolvers;
+        this.redisTemplate = redisTemplate;
+        this.cacheGenerations = cacheGenerations;
+        this.circuitBreaker = circuitBreaker;
+        this.resilienceConfig = resilienceConfig;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(
+            resilienceConfig.getRefreshThreads(),
+            resilienceConfig.getRefreshThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(resilienceConfig.getRefreshQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        RedisCacheConfiguration resolved = cacheConfiguration != null ? cacheConfiguration : getDefaultCacheConfiguration();
+        return new GenerationalRedisCache(name, getCacheWriter(), resolved, cacheGenerations, redisTemplate);
+    }
+
+    @Override
+    protected Cache decorateCache(Cache cache) {
+        if (cache instanceof RedisCache redisCache) {
+            RedisCacheWriter.TtlFunction ttlFunction = redisCache.getCacheConfiguration().getTtlFunction();
+            cache = new StampedeProtectedCache(redisCache, ttlFunction::getTimeToLive,
+                versionResolvers.get(cache.getName()), redisTemplate, refreshExecutor);
+            cache = new ResilientCache(
+                cache,
+                circuitBreaker,
+                resilienceConfig.getMaxRetries(),
+                resilienceConfig.getRetryBackoffMs(),
+                resilienceConfig.getLocalTtlMs(),
+                resilienceConfig.getLocalMaxEntries(),
+                meterRegistry
+            );
+        }
+        return super.decorateCache(cache);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,99 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+/**
+ * 支持按版本写入的缓存
+ *
+ * <p>每个 Key 记录已写入或清除过的最高版本，版本低于记录的写入被拒绝。
+ * 用于事务提交后直接写入最新数据：多个写事务的提交后回调乱序执行时，
+ * 较旧的数据不会覆盖较新的数据，也不会在较新的清除之后重新写回
+ *
+ * <p>读取未命中时的回填同样按读到的版本写入：提交前读到的旧数据不会覆盖提交后写穿的条目，
+ * 也不会在按版本清除之后被写回。同一版本的数据相同，因此允许按同一版本重复写入
+ * （清除之后的首次回填、临近过期的提前刷新）
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public interface VersionedCache {
+
+    /**
+     * 版本不低于已记录版本时写入
+     *
+     * @param key 缓存 Key
+     * @param value 缓存值
+     * @param version 数据版本
+     * @return 写入成功返回true，存在更高版本时返回false
+     */
+    boolean putIfNewer(Object key, Object value, long version);
+
+    /**
+     * 清除条目并记录版本，之后低于该版本的写入被拒绝
+     *
+     * @param key 缓存 Key
+     * @param version 数据版本
+     */
+    void evictVersion(Object key, long version);
+
+    /**
+     * 按版本写入任意缓存
+     *
+     * <p>写入在调用时立即执行，跳过事务感知包装，调用方应在事务提交后调用；
+     * 不支持版本的缓存退化为清除，保证不会写入旧数据
+     *
+     * @param cache 缓存
+     * @param key 缓存 Key
+     * @param value 缓存值
+     * @param version 数据版本
+     * @return 写入成功返回true
+     */
+    static boolean putIfNewer(Cache cache, Object key, Object value, long version) {
+        Cache target = cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+        if (target instanceof VersionedCache versionedCache) {
+            return versionedCache.putIfNewer(key, value, version);
+        }
+        target.evict(key);
+        return false;
+    }
+
+    /**
+     * 按读到的版本回填任意缓存
+     *
+     * <p>与 {@link #putIfNewer(Cache, Object, Object, long)} 的区别在于不支持版本的缓存：
+     * 这类缓存没有写穿，回填退化为普通写入
+     *
+     * @param cache 缓存
+     * @param key 缓存 Key
+     * @param value 缓存值
+     * @param version 读到的数据版本
+     * @return 写入成功返回true，存在更高版本时返回false
+     */
+    static boolean fill(Cache cache, Object key, Object value, long version) {
+        Cache target = cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+        if (target instanceof VersionedCache versionedCache) {
+            return versionedCache.putIfNewer(key, value, version);
+        }
+        target.put(key, value);
+        return true;
+    }
+
+    /**
+     * 按版本清除任意缓存的条目
+     *
+     * <p>清除在调用时立即执行，跳过事务感知包装，调用方应在事务提交后调用
+     *
+     * @param cache 缓存
+     * @param key 缓存 Key
+     * @param version 数据版本
+     */
+    static void evictVersion(Cache cache, Object key, long version) {
+        Cache target = cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+        if (target instanceof VersionedCache versionedCache) {
+            versionedCache.evictVersion(key, version);
+        } else {
+            target.evict(key);
+        }
+    }
+}
@@ -1,25 +1,55 @@
 package com.cleveronion.blog.infrastructure.common.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 管理员配置类
  * 从配置文件中读取管理员GitHub ID列表
  * 
+ * <p>管理员判断基于内存中的不可变集合，判断过程不涉及任何I/O。
+ * 启动时绑定一次，此后定时（{@code admin.reload-interval-ms}，默认 30 秒）从 Environment 重新绑定，
+ * 列表变化时整体替换集合：运行时修改的属性源（系统属性、运行时加入或替换的属性源）无需重启即可生效
+ * 
  * @author CleverOnion
  * @since 1.0.0
  */
 @Configuration
 @ConfigurationProperties(prefix = "admin")
-public class AdminConfig {
+public class AdminConfig implements EnvironmentAware {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdminConfig.class);
+    
+    private static final String GITHUB_IDS_PROPERTY = "admin.github-ids";
     
     /**
      * 管理员GitHub ID列表
      */
-    private List<Long> githubIds;
+    private volatile List<Long> githubIds;
+    
+    /**
+     * 管理员GitHub ID集合快照（用于O(1)判断），重新绑定时整体替换
+     */
+    private volatile Set<Long> adminIdSet = Set.of();
+    
+    private Environment environment;
+    
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
     
     /**
      * 获取管理员GitHub ID列表
@@ -37,6 +67,26 @@ public class AdminConfig {
      */
     public void setGithubIds(List<Long> githubIds) {
         this.githubIds = githubIds;
+        this.adminIdSet = toIdSet(githubIds);
+    }
+    
+    /**
+     * 从当前 Environment 重新绑定管理员列表，与生效的集合不同时替换
+     */
+    @Scheduled(initialDelayString = "${admin.reload-interval-ms:30000}",
+        fixedDelayString = "${admin.reload-interval-ms:30000}")
+    public void reload() {
+        if (environment == null) {
+            return;
+        }
+        List<Long> reloaded = Binder.get(environment)
+            .bind(GITHUB_IDS_PROPERTY, Bindable.listOf(Long.class))
+            .orElse(List.of());
+        Set<Long> reloadedIdSet = toIdSet(reloaded);
+        if (!reloadedIdSet.equals(adminIdSet)) {
+            setGithubIds(reloaded);
+            logger.info("管理员列表已重新加载，管理员数量: {}", reloadedIdSet.size());
+        }
     }
     
     /**
@@ -46,9 +96,15 @@ public class AdminConfig {
      * @return true如果是管理员，false否则
      */
     public boolean isAdmin(Long githubId) {
-        if (githubId == null || githubIds == null || githubIds.isEmpty()) {
+        if (githubId == null) {
             return false;
         }
-        return githubIds.contains(githubId);
+        return adminIdSet.contains(githubId);
+    }
+    
+    private static Set<Long> toIdSet(List<Long> githubIds) {
+        return githubIds == null ? Set.of() : githubIds.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableSet());
     }
 }
\ No newline at end of file
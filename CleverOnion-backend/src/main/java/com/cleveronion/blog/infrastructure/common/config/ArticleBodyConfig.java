@@ -0,0 +1,43 @@
+package com.cleveronion.blog.infrastructure.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 文章正文存储配置类
+ * 控制正文写入 article_bodies 时是否在应用层压缩
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "article.body")
+public class ArticleBodyConfig {
+    
+    /**
+     * 是否启用应用层压缩
+     * 压缩后的正文无法参与数据库内的正文关键词搜索
+     */
+    private boolean compressionEnabled = false;
+    
+    /**
+     * 启用压缩时，UTF-8 编码后达到该字节数的正文才压缩
+     */
+    private int compressionThreshold = 8192;
+    
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+    
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+    
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+    
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+}
@@ -0,0 +1,133 @@
+package com.cleveronion.blog.infrastructure.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 缓存容错配置类
+ * 控制缓存的 Redis 命令超时、熔断、重试、提前刷新的并发以及熔断期间的本地兜底缓存
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "cache.resilience")
+public class CacheResilienceConfig {
+
+    /**
+     * 连续失败达到该次数后熔断
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * 熔断持续时间（毫秒），到期后放行一个探测请求
+     */
+    private long openDurationMs = 30000;
+
+    /**
+     * 缓存操作的 Redis 命令超时（毫秒），远短于全局连接超时，Redis 卡顿时尽快熔断回源
+     */
+    private long commandTimeoutMs = 250;
+
+    /**
+     * 单次缓存操作失败后的最大重试次数
+     */
+    private int maxRetries = 1;
+
+    /**
+     * 重试前的等待时间（毫秒）
+     */
+    private long retryBackoffMs = 50;
+
+    /**
+     * 熔断期间本地兜底缓存的有效期（毫秒）
+     */
+    private long localTtlMs = 60000;
+
+    /**
+     * 每个缓存的本地兜底条目上限
+     */
+    private int localMaxEntries = 1000;
+
+    /**
+     * 后台执行 XFetch 提前刷新的线程数，同时也是提前刷新对数据库的最大并发
+     */
+    private int refreshThreads = 4;
+
+    /**
+     * 等待执行的提前刷新任务上限，超出时放弃本次刷新，条目在过期前仍可继续触发
+     */
+    private int refreshQueueCapacity = 256;
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public long getOpenDurationMs() {
+        return openDurationMs;
+    }
+
+    public void setOpenDurationMs(long openDurationMs) {
+        this.openDurationMs = openDurationMs;
+    }
+
+    public long getCommandTimeoutMs() {
+        return commandTimeoutMs;
+    }
+
+    public void setCommandTimeoutMs(long commandTimeoutMs) {
+        this.commandTimeoutMs = commandTimeoutMs;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public long getRetryBackoffMs() {
+        return retryBackoffMs;
+    }
+
+    public void setRetryBackoffMs(long retryBackoffMs) {
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    public long getLocalTtlMs() {
+        return localTtlMs;
+    }
+
+    public void setLocalTtlMs(long localTtlMs) {
+        this.localTtlMs = localTtlMs;
+    }
+
+    public int getLocalMaxEntries() {
+        return localMaxEntries;
+    }
+
+    public void setLocalMaxEntries(int localMaxEntries) {
+        this.localMaxEntries = localMaxEntries;
+    }
+
+    public int getRefreshThreads() {
+        return refreshThreads;
+    }
+
+    public void setRefreshThreads(int refreshThreads) {
+        this.refreshThreads = refreshThreads;
+    }
+
+    public int getRefreshQueueCapacity() {
+        return refreshQueueCapacity;
+    }
+
+    public void setRefreshQueueCapacity(int refreshQueueCapacity) {
+        this.refreshQueueCapacity = refreshQueueCapacity;
+    }
+}
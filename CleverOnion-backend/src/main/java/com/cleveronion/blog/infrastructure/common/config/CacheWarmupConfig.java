@@ -0,0 +1,94 @@
+package com.cleveronion.blog.infrastructure.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 缓存预热配置类
+ * 控制启动预热与定时刷新的范围
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "cache.warmup")
+public class CacheWarmupConfig {
+    
+    /**
+     * 是否启用缓存预热
+     */
+    private boolean enabled = true;
+    
+    /**
+     * 预热的已发布文章列表页数（从第0页开始）
+     */
+    private int listPages = 3;
+    
+    /**
+     * 预热的每页大小，需与前端默认分页大小一致才能命中
+     */
+    private int pageSize = 10;
+    
+    /**
+     * 预热的最近发布、热门文章数量
+     */
+    private int highlightLimit = 10;
+    
+    /**
+     * 启动预热最长等待时间（毫秒），超时后不再阻塞就绪状态
+     */
+    private long timeoutMs = 60000;
+    
+    /**
+     * 定时刷新间隔（毫秒），需小于预热条目中最短的 TTL；刷新租约的有效期据此计算
+     */
+    private long refreshIntervalMs = 240000;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public int getListPages() {
+        return listPages;
+    }
+    
+    public void setListPages(int listPages) {
+        this.listPages = listPages;
+    }
+    
+    public int getPageSize() {
+        return pageSize;
+    }
+    
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+    
+    public int getHighlightLimit() {
+        return highlightLimit;
+    }
+    
+    public void setHighlightLimit(int highlightLimit) {
+        this.highlightLimit = highlightLimit;
+    }
+    
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+    
+    public void setTimeoutMs(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+    
+    public long getRefreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+    
+    public void setRefreshIntervalMs(long refreshIntervalMs) {
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+}
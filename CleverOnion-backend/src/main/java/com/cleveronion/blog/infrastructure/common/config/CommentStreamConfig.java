@@ -0,0 +1,94 @@
+package com.cleveronion.blog.infrastructure.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 评论实时推送配置类
+ * 控制文章评论 SSE 订阅的缓冲、超时、心跳与订阅者上限
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "comment.stream")
+public class CommentStreamConfig {
+
+    /**
+     * 每个订阅者待发送事件的缓冲上限，写满后丢弃积压并通知客户端重新同步
+     */
+    private int bufferSize = 64;
+
+    /**
+     * 单个连接的最长保持时间，到期后由客户端自动重连
+     */
+    private long timeoutMs = 1800000;
+
+    /**
+     * 心跳间隔，用于穿过代理空闲超时并及时发现已断开的连接
+     */
+    private long heartbeatIntervalMs = 25000;
+
+    /**
+     * 客户端断线后的重连等待时间
+     */
+    private long reconnectMs = 3000;
+
+    /**
+     * 单个节点的订阅者上限，达到后拒绝新订阅（503），客户端按重连间隔重试，由负载均衡分配到其他节点
+     */
+    private int maxSubscribers = 10000;
+
+    /**
+     * 单个客户端地址在单个节点上的订阅者上限，达到后拒绝新订阅（429）
+     */
+    private int maxSubscribersPerClient = 8;
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public void setTimeoutMs(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    public long getHeartbeatIntervalMs() {
+        return heartbeatIntervalMs;
+    }
+
+    public void setHeartbeatIntervalMs(long heartbeatIntervalMs) {
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+
+    public long getReconnectMs() {
+        return reconnectMs;
+    }
+
+    public void setReconnectMs(long reconnectMs) {
+        this.reconnectMs = reconnectMs;
+    }
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    public void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public int getMaxSubscribersPerClient() {
+        return maxSubscribersPerClient;
+    }
+
+    public void setMaxSubscribersPerClient(int maxSubscribersPerClient) {
+        this.maxSubscribersPerClient = maxSubscribersPerClient;
+    }
+}
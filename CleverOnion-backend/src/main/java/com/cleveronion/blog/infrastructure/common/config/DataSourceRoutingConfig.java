@@ -0,0 +1,146 @@
+package com.cleveronion.blog.infrastructure.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 读写分离数据源配置类
+ * 只读事务路由到从库，写事务及读己之写窗口内的读取走主库
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingConfig {
+    
+    /**
+     * 是否启用读写分离，未启用时使用 spring.datasource 单数据源
+     */
+    private boolean enabled = false;
+    
+    /**
+     * 读己之写窗口（毫秒）：用户写入提交后，该用户在窗口内的读取走主库，避免读到复制延迟前的旧数据
+     */
+    private long readYourWritesWindowMs = 3000;
+    
+    /**
+     * 从库健康检查间隔（毫秒）
+     */
+    private long healthCheckIntervalMs = 5000;
+    
+    /**
+     * 允许的最大复制延迟（毫秒），超过则暂停向该从库路由
+     */
+    private long maxReplicationLagMs = 10000;
+    
+    /**
+     * 从库列表
+     */
+    private List<Replica> replicas = new ArrayList<>();
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public long getReadYourWritesWindowMs() {
+        return readYourWritesWindowMs;
+    }
+    
+    public void setReadYourWritesWindowMs(long readYourWritesWindowMs) {
+        this.readYourWritesWindowMs = readYourWritesWindowMs;
+    }
+    
+    public long getHealthCheckIntervalMs() {
+        return healthCheckIntervalMs;
+    }
+    
+    public void setHealthCheckIntervalMs(long healthCheckIntervalMs) {
+        this.healthCheckIntervalMs = healthCheckIntervalMs;
+    }
+    
+    public long getMaxReplicationLagMs() {
+        return maxReplicationLagMs;
+    }
+    
+    public void setMaxReplicationLagMs(long maxReplicationLagMs) {
+        this.maxReplicationLagMs = maxReplicationLagMs;
+    }
+    
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+    
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+    
+    /**
+     * 从库连接配置
+     */
+    public static class Replica {
+        
+        /**
+         * 从库名称，用于连接池命名和日志
+         */
+        private String name;
+        
+        private String url;
+        
+        private String username;
+        
+        private String password;
+        
+        /**
+         * 连接池最大连接数
+         */
+        private int maximumPoolSize = 10;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public String getUrl() {
+            return url;
+        }
+        
+        public void setUrl(String url) {
+            this.url = url;
+        }
+        
+        public String getUsername() {
+            return username;
+        }
+        
+        public void setUsername(String username) {
+            this.username = username;
+        }
+        
+        public String getPassword() {
+            return password;
+        }
+        
+        public void setPassword(String password) {
+            this.password = password;
+        }
+        
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+        
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
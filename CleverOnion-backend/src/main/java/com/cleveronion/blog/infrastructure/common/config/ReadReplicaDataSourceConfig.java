@@ -0,0 +1,129 @@
+package com.cleveronion.blog.infrastructure.common.config;
+
+import com.cleveronion.blog.infrastructure.common.datasource.PrimaryReadInterceptor;
+import com.cleveronion.blog.infrastructure.common.datasource.ReadWriteRoutingDataSource;
+import com.cleveronion.blog.infrastructure.common.datasource.ReadYourWritesInterceptor;
+import com.cleveronion.blog.infrastructure.common.datasource.ReadYourWritesTracker;
+import com.cleveronion.blog.infrastructure.common.datasource.ReplicaSelector;
+import com.cleveronion.blog.infrastructure.common.datasource.UnversionedCacheablePointcut;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 读写分离数据源装配
+ * 仅在 datasource.routing.enabled=true 时生效，替换 Spring Boot 自动配置的单数据源：
+ * 主库沿用 spring.datasource 配置，从库来自 datasource.routing.replicas。
+ * 回填没有版本保护的缓存时读主库，缓存中不会写入从库延迟期间的旧数据；
+ * 按版本回填的缓存（文章详情、摘要）拒绝旧版本，回源仍读从库
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig implements WebMvcConfigurer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaDataSourceConfig.class);
+    
+    private final DataSourceRoutingConfig routingConfig;
+    
+    public ReadReplicaDataSourceConfig(DataSourceRoutingConfig routingConfig) {
+        this.routingConfig = routingConfig;
+    }
+    
+    /**
+     * 主库连接池，绑定 spring.datasource.hikari 配置
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    /**
+     * 从库选择器，持有各从库连接池
+     */
+    @Bean
+    public ReplicaSelector replicaSelector() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < routingConfig.getReplicas().size(); i++) {
+            DataSourceRoutingConfig.Replica replica = routingConfig.getReplicas().get(i);
+            if (replica.getUrl() == null || replica.getUrl().isBlank()) {
+                throw new IllegalStateException("从库连接地址不能为空: index=" + i);
+            }
+            String name = replica.getName() != null ? replica.getName() : "replica-" + i;
+            
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            // 从库启动时不可用不应阻止应用启动，由健康检查摘除
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.put(name, dataSource);
+        }
+        logger.info("读写分离已启用: replicas={}, readYourWritesWindow={}ms",
+            replicas.keySet(), routingConfig.getReadYourWritesWindowMs());
+        return new ReplicaSelector(replicas, routingConfig.getMaxReplicationLagMs());
+    }
+    
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(routingConfig.getReadYourWritesWindowMs());
+    }
+    
+    /**
+     * 应用使用的数据源：延迟获取连接 + 读写路由
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaSelector replicaSelector,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        return new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(primaryDataSource, replicaSelector, readYourWritesTracker));
+    }
+    
+    /**
+     * 回填没有版本保护的缓存的 {@code @Cacheable} 方法在读主库的作用域内执行
+     *
+     * <p>排在缓存拦截器之内（见 {@link RedisCacheConfig#CACHE_ADVISOR_ORDER}），只有未命中回源时才生效
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor cacheFillPrimaryReadAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            new UnversionedCacheablePointcut(RedisCacheConfig.VERSIONED_CACHES), new PrimaryReadInterceptor());
+        advisor.setOrder(RedisCacheConfig.CACHE_ADVISOR_ORDER + 1);
+        return advisor;
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor()).addPathPatterns("/**");
+    }
+}
@@ -1,21 +1,34 @@
 package com.cleveronion.blog.infrastructure.common.config;
 
 import com.cleveronion.blog.common.cache.CacheNames;
+import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
+import com.cleveronion.blog.infrastructure.common.cache.CacheGenerations;
+import com.cleveronion.blog.infrastructure.common.cache.CacheRedisConnection;
+import com.cleveronion.blog.infrastructure.common.cache.RedisCircuitBreaker;
+import com.cleveronion.blog.infrastructure.common.cache.StampedeProtectedRedisCacheManager;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -23,6 +36,8 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Redis 缓存配置类
@@ -33,21 +48,32 @@ import java.util.Map;
  *   <li>配置 Redis 序列化策略（Key: String, Value: JSON）</li>
  *   <li>为不同类型的缓存设置不同的过期时间（TTL）</li>
  *   <li>启用事务感知，确保缓存一致性</li>
+ *   <li>Redis 故障时熔断降级，缓存异常只影响延迟，不影响可用性</li>
  * </ul>
  * 
- * <p>缓存 Key 格式：{key-prefix}::{cacheName}::{key}
- * <p>示例：cleveronion:cache::article:detail::123
+ * <p>缓存 Key 格式：{key-prefix}{cacheName}::v{generation}::{key}
+ * <p>示例：cleveronion:cache:article:detail::v1718000000000::123
  * 
  * @author CleverOnion
  * @since 2.0.0
  * @see CacheNames
  */
 @Configuration
-@EnableCaching
-public class RedisCacheConfig {
+@EnableCaching(order = RedisCacheConfig.CACHE_ADVISOR_ORDER)
+public class RedisCacheConfig implements CachingConfigurer {
     
     private static final Logger logger = LoggerFactory.getLogger(RedisCacheConfig.class);
     
+    /**
+     * 缓存拦截器的顺序，排在事务等默认顺序的拦截器之外，命中缓存时不进入内层拦截器
+     */
+    public static final int CACHE_ADVISOR_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+    
+    /**
+     * 按数据版本回填的缓存，旧版本数据不会覆盖已记录的新版本
+     */
+    public static final Set<String> VERSIONED_CACHES = Set.of(CacheNames.ARTICLE_DETAIL, CacheNames.ARTICLE_SUMMARY);
+    
     /**
      * 默认缓存配置
      * 
@@ -57,13 +83,14 @@ public class RedisCacheConfig {
      *   <li>Key 序列化：StringRedisSerializer（字符串）</li>
      *   <li>Value 序列化：GenericJackson2JsonRedisSerializer（JSON）</li>
      *   <li>不缓存 null 值</li>
-     *   <li>Key 前缀：cleveronion:cache::{cacheName}::</li>
+     *   <li>Key 前缀：cleveronion:cache:{cacheName}::v{generation}::，代际变化即整体清空</li>
      * </ul>
      * 
+     * @param cacheGenerations 缓存代际计数器
      * @return 默认缓存配置
      */
     @Bean
-    public RedisCacheConfiguration defaultCacheConfig() {
+    public RedisCacheConfiguration defaultCacheConfig(CacheGenerations cacheGenerations) {
         logger.info("初始化默认 Redis 缓存配置");
         
         // 创建 ObjectMapper 用于 JSON 序列化
@@ -111,8 +138,69 @@ public class RedisCacheConfig {
             )
             // 不缓存 null 值（避免缓存穿透）
             .disableCachingNullValues()
-            // 配置 key 前缀计算方式（使用 :: 作为分隔符）
-            .computePrefixWith(cacheName -> "cleveronion:cache:" + cacheName + "::");
+            // 配置 key 前缀计算方式（使用 :: 作为分隔符，嵌入缓存代际）
+            .computePrefixWith(cacheName ->
+                "cleveronion:cache:" + cacheName + "::v" + cacheGenerations.current(cacheName) + "::");
+    }
+    
+    /**
+     * 缓存代际计数器
+     * 
+     * @param stringRedisTemplate 用于读取和递增代际
+     * @param redisMessageListenerContainer 用于接收其他节点的代际变更通知
+     * @return 缓存代际计数器
+     */
+    @Bean
+    public CacheGenerations cacheGenerations(StringRedisTemplate stringRedisTemplate,
+                                             RedisMessageListenerContainer redisMessageListenerContainer) {
+        return new CacheGenerations(stringRedisTemplate, redisMessageListenerContainer);
+    }
+    
+    /**
+     * 缓存专用的 Redis 连接，使用较短的命令超时
+     * 
+     * @param connectionFactory 应用的 Redis 连接工厂，提供连接参数
+     * @param resilienceConfig 缓存容错配置，提供命令超时
+     * @return 缓存专用连接
+     */
+    @Bean
+    public CacheRedisConnection cacheRedisConnection(RedisConnectionFactory connectionFactory,
+                                                     CacheResilienceConfig resilienceConfig) {
+        return new CacheRedisConnection(connectionFactory, Duration.ofMillis(resilienceConfig.getCommandTimeoutMs()));
+    }
+    
+    /**
+     * 缓存异常处理器
+     * 
+     * <p>Redis 异常已由缓存装饰器降级处理，这里兜住其余异常（如反序列化失败）：
+     * 记录日志后按未命中处理，不让缓存问题中断业务请求
+     * 
+     * @return 缓存异常处理器
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler(true);
+    }
+    
+    /**
+     * Redis 熔断器（所有缓存共用）
+     * 
+     * @param resilienceConfig 缓存容错配置
+     * @param meterRegistry 指标注册表，用于暴露熔断状态
+     * @return 熔断器
+     */
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker(CacheResilienceConfig resilienceConfig,
+                                                   MeterRegistry meterRegistry) {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(
+            resilienceConfig.getFailureThreshold(),
+            resilienceConfig.getOpenDurationMs()
+        );
+        // 0=关闭，1=半开，2=熔断
+        Gauge.builder("cache.resilience.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+            .description("Redis 缓存熔断器状态")
+            .register(meterRegistry);
+        return circuitBreaker;
     }
     
     /**
@@ -130,17 +218,28 @@ public class RedisCacheConfig {
      * <ul>
      *   <li>事务感知：在事务提交后才清除缓存，确保数据一致性</li>
      *   <li>差异化 TTL：根据数据特点设置合适的过期时间</li>
+     *   <li>击穿保护：JVM 内单飞、Redis 租约、XFetch 提前刷新（配合 {@code @Cacheable(sync = true)}）</li>
+     *   <li>版本回填：文章详情与摘要按修订号回填，旧读取不会覆盖新写入</li>
+     *   <li>故障容错：短命令超时、熔断、有限重试、回源数据库并暂存本地兜底</li>
      * </ul>
      * 
-     * @param connectionFactory Redis 连接工厂
+     * @param cacheRedisConnection 缓存专用的 Redis 连接（读写、批量读取、按版本写入、加载租约）
+     * @param cacheGenerations 缓存代际计数器
+     * @param redisCircuitBreaker Redis 熔断器
+     * @param resilienceConfig 缓存容错配置
+     * @param meterRegistry 指标注册表
      * @return 缓存管理器
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(CacheRedisConnection cacheRedisConnection,
+                                     CacheGenerations cacheGenerations,
+                                     RedisCircuitBreaker redisCircuitBreaker,
+                                     CacheResilienceConfig resilienceConfig,
+                                     MeterRegistry meterRegistry) {
         logger.info("初始化 Redis 缓存管理器");
         
         // 获取默认配置
-        RedisCacheConfiguration defaultConfig = defaultCacheConfig();
+        RedisCacheConfiguration defaultConfig = defaultCacheConfig(cacheGenerations);
         
         // 为不同的缓存配置不同的过期时间
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
@@ -161,6 +260,13 @@ public class RedisCacheConfig {
         );
         logger.debug("配置缓存: {} - TTL: 10分钟", CacheNames.ARTICLE_LIST);
         
+        // 文章摘要 - 30 分钟（列表按ID装配，单篇变更只失效自身）
+        cacheConfigurations.put(
+            CacheNames.ARTICLE_SUMMARY,
+            defaultConfig.entryTtl(Duration.ofMinutes(30))
+        );
+        logger.debug("配置缓存: {} - TTL: 30分钟", CacheNames.ARTICLE_SUMMARY);
+        
         // 文章统计 - 5 分钟（高更新频率，统计数据实时性要求较高）
         cacheConfigurations.put(
             CacheNames.ARTICLE_COUNT,
@@ -168,6 +274,13 @@ public class RedisCacheConfig {
         );
         logger.debug("配置缓存: {} - TTL: 5分钟", CacheNames.ARTICLE_COUNT);
         
+        // 文章渲染结果 - 24 小时（按内容哈希寻址，内容不变结果不变）
+        cacheConfigurations.put(
+            CacheNames.ARTICLE_RENDER,
+            defaultConfig.entryTtl(Duration.ofHours(24))
+        );
+        logger.debug("配置缓存: {} - TTL: 24小时", CacheNames.ARTICLE_RENDER);
+        
         // ==================== 分类相关缓存 ====================
         
         // 分类详情 - 1 小时（低更新频率，分类信息相对稳定）
@@ -222,7 +335,14 @@ public class RedisCacheConfig {
             defaultConfig.entryTtl(Duration.ofMinutes(30))
         );
         logger.debug("配置缓存: {} - TTL: 30分钟", CacheNames.USER_DETAIL);
-        
+
+        // GitHub 用户映射 - 30 分钟（登录热路径）
+        cacheConfigurations.put(
+            CacheNames.USER_GITHUB,
+            defaultConfig.entryTtl(Duration.ofMinutes(30))
+        );
+        logger.debug("配置缓存: {} - TTL: 30分钟", CacheNames.USER_GITHUB);
+
         // 用户列表 - 30 分钟（批量查询）
         cacheConfigurations.put(
             CacheNames.USER_LIST,
@@ -246,17 +366,38 @@ public class RedisCacheConfig {
         );
         logger.debug("配置缓存: {} - TTL: 5分钟", CacheNames.COMMENT_COUNT);
         
+        // ==================== 通用缓存 ====================
+        
+        // 不存在ID负缓存 - 1 分钟（防止探测不存在的ID穿透到数据库）
+        cacheConfigurations.put(
+            CacheNames.ID_ABSENT,
+            defaultConfig.entryTtl(Duration.ofMinutes(1))
+        );
+        logger.debug("配置缓存: {} - TTL: 1分钟", CacheNames.ID_ABSENT);
+        
         logger.info("已配置 {} 个缓存，启用事务感知模式", cacheConfigurations.size());
         
-        // 构建缓存管理器
-        return RedisCacheManager.builder(connectionFactory)
-            // 设置默认缓存配置
-            .cacheDefaults(defaultConfig)
-            // 设置特定缓存的配置
-            .withInitialCacheConfigurations(cacheConfigurations)
-            // 启用事务感知（在事务提交后才清除缓存，保证数据一致性）
-            .transactionAware()
-            .build();
+        // 文章详情与摘要按读到的修订号回填，与提交后的写穿共用版本记录
+        Function<Object, Long> articleRevision = value ->
+            value instanceof ArticleAggregate article ? article.getRevision() : null;
+        Map<String, Function<Object, Long>> versionResolvers = new HashMap<>();
+        VERSIONED_CACHES.forEach(cacheName -> versionResolvers.put(cacheName, articleRevision));
+        
+        // 构建缓存管理器（每个缓存包装击穿保护）
+        StampedeProtectedRedisCacheManager cacheManager = new StampedeProtectedRedisCacheManager(
+            RedisCacheWriter.nonLockingRedisCacheWriter(cacheRedisConnection.getConnectionFactory()),
+            defaultConfig,
+            cacheConfigurations,
+            versionResolvers,
+            cacheRedisConnection.getRedisTemplate(),
+            cacheGenerations,
+            redisCircuitBreaker,
+            resilienceConfig,
+            meterRegistry
+        );
+        // 启用事务感知（在事务提交后才清除缓存，保证数据一致性）
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
     }
 }
 
@@ -0,0 +1,30 @@
+package com.cleveronion.blog.infrastructure.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis 发布订阅配置类
+ * 提供节点间广播通知共用的消息监听容器，各订阅方自行注册频道
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    /**
+     * Redis 消息监听容器
+     *
+     * @param connectionFactory Redis 连接工厂
+     * @return 消息监听容器
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
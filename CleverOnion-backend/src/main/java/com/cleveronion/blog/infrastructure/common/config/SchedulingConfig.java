@@ -0,0 +1,16 @@
+package com.cleveronion.blog.infrastructure.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定时任务配置类
+ * 启用 {@code @Scheduled} 注解支持
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,81 @@
+package com.cleveronion.blog.infrastructure.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 登录态本地缓存配置类
+ * 控制 Sa-Token 的 token、会话、最近活跃时间在本节点内存中的缓存
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "auth.token-cache")
+public class TokenCacheConfig {
+
+    /**
+     * 是否启用本地缓存
+     */
+    private boolean enabled = true;
+
+    /**
+     * 本地缓存有效期（毫秒），也是未收到失效通知时的最大不一致时间
+     */
+    private long ttlMs = 10000;
+
+    /**
+     * 本地缓存最大条目数，超出后不再缓存新条目
+     */
+    private int maxEntries = 10000;
+
+    /**
+     * 最近活跃时间写回 Redis 的最小间隔（毫秒），必须远小于 sa-token.active-timeout
+     */
+    private long lastActiveFlushIntervalMs = 60000;
+
+    /**
+     * 失效通知的 Redis 频道
+     */
+    private String channel = "cleveronion:auth:token-invalidate";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getLastActiveFlushIntervalMs() {
+        return lastActiveFlushIntervalMs;
+    }
+
+    public void setLastActiveFlushIntervalMs(long lastActiveFlushIntervalMs) {
+        this.lastActiveFlushIntervalMs = lastActiveFlushIntervalMs;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+}
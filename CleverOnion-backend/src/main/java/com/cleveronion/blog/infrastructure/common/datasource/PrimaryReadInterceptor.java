@@ -0,0 +1,26 @@
+package com.cleveronion.blog.infrastructure.common.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 在 {@link PrimaryReads} 作用域内执行被拦截的方法
+ *
+ * <p>用于 {@code @Cacheable} 方法：缓存命中时方法体不执行、不访问数据库，
+ * 只有未命中回源时作用域才生效，回填缓存的查询因此总是读主库
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class PrimaryReadInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        PrimaryReads.enter();
+        try {
+            return invocation.proceed();
+        } finally {
+            PrimaryReads.exit();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.cleveronion.blog.infrastructure.common.datasource;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 强制读主库的作用域
+ *
+ * <p>作用域内获取的连接一律路由到主库，用于回填缓存的查询：从库复制延迟期间读到的旧数据一旦写入缓存，
+ * 会在整个 TTL 内替代已提交的新数据，而不只是一次请求读到旧值。
+ * 连接由 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 在第一条语句执行时获取，
+ * 作用域只需覆盖查询本身，不必包住事务的开启
+ *
+ * <p>作用域绑定在当前线程，可以嵌套
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Integer> DEPTH = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    /**
+     * 在读主库的作用域内执行
+     *
+     * @param task 查询
+     * @return 查询结果
+     * @throws Exception 查询抛出的异常
+     */
+    public static <T> T call(Callable<T> task) throws Exception {
+        enter();
+        try {
+            return task.call();
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * 在读主库的作用域内执行
+     *
+     * @param task 查询
+     * @return 查询结果
+     */
+    public static <T> T get(Supplier<T> task) {
+        enter();
+        try {
+            return task.get();
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * 当前线程是否处于读主库的作用域内
+     *
+     * @return 处于作用域内返回true
+     */
+    public static boolean isActive() {
+        return DEPTH.get() != null;
+    }
+
+    static void enter() {
+        Integer depth = DEPTH.get();
+        DEPTH.set(depth == null ? 1 : depth + 1);
+    }
+
+    static void exit() {
+        Integer depth = DEPTH.get();
+        if (depth == null || depth <= 1) {
+            DEPTH.remove();
+        } else {
+            DEPTH.set(depth - 1);
+        }
+    }
+}
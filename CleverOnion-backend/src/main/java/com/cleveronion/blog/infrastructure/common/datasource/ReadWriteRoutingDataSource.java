@@ -0,0 +1,96 @@
+package com.cleveronion.blog.infrastructure.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 读写分离路由数据源
+ * 
+ * <p>路由规则：
+ * <ul>
+ *   <li>只读事务：轮询健康从库；读己之写窗口内、回填缓存的查询（{@link PrimaryReads}）或没有健康从库时走主库</li>
+ *   <li>读写事务、无事务的访问：主库；读写事务提交后为当前客户端开启读己之写窗口</li>
+ *   <li>从库获取连接失败：摘除该从库并回退到主库</li>
+ * </ul>
+ * 
+ * <p>必须包装在 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 中使用：
+ * 事务管理器在事务开始时就会获取连接，此时事务的只读标记尚未绑定到当前线程，
+ * 延迟到第一条语句执行时再获取连接才能按只读标记路由
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+    
+    private final DataSource primary;
+    private final ReplicaSelector replicaSelector;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      ReplicaSelector replicaSelector,
+                                      ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicaSelector = replicaSelector;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        String replica = selectReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        
+        try {
+            return replicaSelector.getDataSource(replica).getConnection();
+        } catch (SQLException e) {
+            replicaSelector.markDown(replica, e);
+            logger.debug("从库不可用，只读事务回退到主库: replica={}", replica);
+            return primary.getConnection();
+        }
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+    
+    /**
+     * 选择本次连接的从库
+     * 
+     * @return 从库名称；应走主库时返回null
+     */
+    private String selectReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteOnCommit();
+            return null;
+        }
+        if (PrimaryReads.isActive() || readYourWritesTracker.shouldReadFromPrimary()) {
+            return null;
+        }
+        return replicaSelector.select();
+    }
+    
+    private void trackWriteOnCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWritesTracker.recordWrite();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.cleveronion.blog.infrastructure.common.datasource;
+
+import cn.dev33.satoken.stp.StpUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 读己之写拦截器
+ * 以请求携带的登录 token 作为客户端标识绑定到当前线程；
+ * 只读取请求头/Cookie 中的 token 值，不访问会话存储
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String tokenValue = StpUtil.getTokenValue();
+        if (tokenValue != null && !tokenValue.isEmpty()) {
+            ReadYourWritesTracker.bindClient(tokenValue);
+        }
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadYourWritesTracker.clearClient();
+    }
+}
@@ -0,0 +1,84 @@
+package com.cleveronion.blog.infrastructure.common.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 读己之写跟踪器
+ * 记录每个客户端（以登录 token 区分）最近一次写事务的提交时间，
+ * 窗口期内该客户端的只读事务改走主库，避免刚写入的数据因复制延迟读不到
+ * 
+ * <p>记录保存在本节点内存中，多节点部署时依赖会话粘滞；未粘滞的请求最多读到窗口期内的复制延迟
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class ReadYourWritesTracker {
+    
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+    
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+    private final long windowMs;
+    
+    public ReadYourWritesTracker(long windowMs) {
+        this.windowMs = windowMs;
+    }
+    
+    /**
+     * 绑定当前线程处理的客户端
+     * 
+     * @param clientKey 客户端标识
+     */
+    public static void bindClient(String clientKey) {
+        CURRENT_CLIENT.set(clientKey);
+    }
+    
+    /**
+     * 解除当前线程的客户端绑定
+     */
+    public static void clearClient() {
+        CURRENT_CLIENT.remove();
+    }
+    
+    /**
+     * 记录当前客户端的一次写入（在写事务提交后调用）
+     */
+    public void recordWrite() {
+        String client = CURRENT_CLIENT.get();
+        if (client != null) {
+            lastWriteAt.put(client, System.currentTimeMillis());
+        }
+    }
+    
+    /**
+     * 判断当前客户端是否处于读己之写窗口内
+     * 
+     * @return 窗口内返回true，读取应走主库
+     */
+    public boolean shouldReadFromPrimary() {
+        String client = CURRENT_CLIENT.get();
+        if (client == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(client);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt < windowMs) {
+            return true;
+        }
+        lastWriteAt.remove(client, writtenAt);
+        return false;
+    }
+    
+    /**
+     * 定时清理过期记录
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long expiredBefore = System.currentTimeMillis() - windowMs;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt < expiredBefore);
+    }
+}
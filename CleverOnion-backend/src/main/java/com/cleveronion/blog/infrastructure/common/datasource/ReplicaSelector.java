@@ -0,0 +1,164 @@
+package com.cleveronion.blog.infrastructure.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 从库选择器
+ * 在健康的从库之间轮询；定时检查连通性和复制延迟，
+ * 连接失败或延迟超限的从库暂停路由，恢复后自动重新加入
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class ReplicaSelector implements AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaSelector.class);
+    
+    /**
+     * 复制延迟（毫秒）：已回放到接收位置时视为无延迟，
+     * 避免主库空闲时 pg_last_xact_replay_timestamp 停滞被误判为延迟
+     */
+    private static final String REPLICATION_LAG_SQL =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+    
+    private final List<ReplicaNode> replicas;
+    private final long maxReplicationLagMs;
+    private final AtomicInteger counter = new AtomicInteger();
+    
+    /**
+     * @param replicas 从库名称到数据源的映射，按配置顺序
+     * @param maxReplicationLagMs 允许的最大复制延迟（毫秒）
+     */
+    public ReplicaSelector(Map<String, DataSource> replicas, long maxReplicationLagMs) {
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> this.replicas.add(new ReplicaNode(name, dataSource)));
+        this.maxReplicationLagMs = maxReplicationLagMs;
+    }
+    
+    /**
+     * 轮询选择一个健康的从库
+     * 
+     * @return 从库名称；没有健康的从库时返回null
+     */
+    public String select() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(counter.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode node = replicas.get((start + i) % size);
+            if (node.healthy) {
+                return node.name;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 获取从库数据源
+     * 
+     * @param name 从库名称
+     * @return 从库数据源
+     */
+    public DataSource getDataSource(String name) {
+        return findNode(name).dataSource;
+    }
+    
+    /**
+     * 判断从库当前是否参与路由
+     * 
+     * @param name 从库名称
+     * @return 健康返回true
+     */
+    public boolean isHealthy(String name) {
+        return findNode(name).healthy;
+    }
+    
+    /**
+     * 获取连接失败时立即摘除从库，等待下一次健康检查恢复
+     * 
+     * @param name 从库名称
+     * @param cause 失败原因
+     */
+    public void markDown(String name, Throwable cause) {
+        ReplicaNode node = findNode(name);
+        if (node.healthy) {
+            node.healthy = false;
+            logger.warn("从库获取连接失败，暂停路由: replica={}", name, cause);
+        }
+    }
+    
+    /**
+     * 定时健康检查
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (ReplicaNode node : replicas) {
+            boolean healthy;
+            try (Connection connection = node.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_SQL)) {
+                long lagMs = resultSet.next() ? resultSet.getLong(1) : 0;
+                healthy = lagMs <= maxReplicationLagMs;
+                if (!healthy && node.healthy) {
+                    logger.warn("从库复制延迟超限，暂停路由: replica={}, lag={}ms", node.name, lagMs);
+                }
+            } catch (SQLException e) {
+                healthy = false;
+                if (node.healthy) {
+                    logger.warn("从库健康检查失败，暂停路由: replica={}, error={}", node.name, e.getMessage());
+                }
+            }
+            if (healthy && !node.healthy) {
+                logger.info("从库恢复，重新参与路由: replica={}", node.name);
+            }
+            node.healthy = healthy;
+        }
+    }
+    
+    /**
+     * 关闭从库连接池
+     */
+    @Override
+    public void close() throws Exception {
+        for (ReplicaNode node : replicas) {
+            if (node.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+    
+    private ReplicaNode findNode(String name) {
+        for (ReplicaNode node : replicas) {
+            if (node.name.equals(name)) {
+                return node;
+            }
+        }
+        throw new IllegalArgumentException("从库不存在: " + name);
+    }
+    
+    private static class ReplicaNode {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        
+        private ReplicaNode(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.cleveronion.blog.infrastructure.common.datasource;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 匹配回填没有版本保护的缓存的 {@code @Cacheable} 方法
+ *
+ * <p>按版本回填的缓存（见 {@link com.cleveronion.blog.infrastructure.common.cache.VersionedCache}）
+ * 会拒绝比已记录版本旧的数据，从库读到的旧值写不进去，回源可以继续读从库；
+ * 其余缓存没有这层保护，由 {@link PrimaryReadInterceptor} 让回源读主库
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class UnversionedCacheablePointcut extends StaticMethodMatcherPointcut {
+
+    private final Set<String> versionedCaches;
+
+    /**
+     * @param versionedCaches 按版本回填的缓存名称
+     */
+    public UnversionedCacheablePointcut(Set<String> versionedCaches) {
+        this.versionedCaches = versionedCaches;
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        Cacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Cacheable.class);
+        if (cacheable == null) {
+            return false;
+        }
+        String[] cacheNames = cacheable.cacheNames();
+        return cacheNames.length == 0 || !versionedCaches.containsAll(List.of(cacheNames));
+    }
+}
@@ -0,0 +1,67 @@
+package com.cleveronion.blog.infrastructure.common.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 带 RETURNING 子句的原生 DML 执行器
+ *
+ * <p>Spring Data 的 {@code @Modifying} 查询只能返回 void 或影响行数，
+ * 写在 {@code @Query} 上的 {@code UPDATE/DELETE ... RETURNING} 会被 Hibernate 当作查询执行。
+ * 需要返回行的写语句统一经由本类用 JdbcTemplate 执行，按 DML 处理
+ *
+ * <p>JdbcTemplate 复用当前 JPA 事务绑定的连接。执行前先刷出持久化上下文，
+ * 使语句能看到本事务中尚未写入数据库的实体变更；语句本身不经过 Hibernate，
+ * 因此只用于没有二级缓存的表
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component
+public class ReturningDmlExecutor {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public ReturningDmlExecutor(NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 执行语句并映射 RETURNING 返回的全部行
+     *
+     * @param sql 带命名参数的 DML 语句
+     * @param params 参数，集合参数会展开为 IN 列表，数组参数整体绑定为一个 SQL 数组（配合 {@code = ANY(:param)}）
+     * @param rowMapper 行映射
+     * @return 返回的行，没有受影响的行时为空
+     */
+    public <T> List<T> queryForList(String sql, Map<String, ?> params, RowMapper<T> rowMapper) {
+        flushPersistenceContext();
+        return jdbcTemplate.query(sql, params, rowMapper);
+    }
+
+    /**
+     * 执行最多影响一行的语句，取 RETURNING 的第一列
+     *
+     * @param sql 带命名参数的 DML 语句
+     * @param params 参数
+     * @return 第一列的值，没有受影响的行时为null
+     */
+    public Long queryForLong(String sql, Map<String, ?> params) {
+        List<Long> values = queryForList(sql, params, (rs, rowNum) -> rs.getLong(1));
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private void flushPersistenceContext() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+    }
+}
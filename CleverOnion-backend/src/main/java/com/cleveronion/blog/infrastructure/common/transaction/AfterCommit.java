@@ -0,0 +1,58 @@
+package com.cleveronion.blog.infrastructure.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 事务提交后执行的任务
+ *
+ * <p>处于事务同步中时注册为提交后回调，事务回滚则不执行；不在事务中时立即执行。
+ * 缓存写穿、失效广播、预渲染等只应作用于已提交数据的副作用统一经由本类调度
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 在当前事务提交后执行任务，不在事务中时立即执行
+     *
+     * @param task 任务
+     */
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new Task(null, task));
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 同 {@link #run}，但同一事务内相同标识的任务只执行第一次注册的那个
+     *
+     * @param id 任务标识
+     * @param task 任务
+     */
+    public static void runOnce(Object id, Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+            .anyMatch(synchronization -> synchronization instanceof Task registeredTask && id.equals(registeredTask.id()));
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new Task(id, task));
+        }
+    }
+
+    private record Task(Object id, Runnable task) implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            task.run();
+        }
+    }
+}
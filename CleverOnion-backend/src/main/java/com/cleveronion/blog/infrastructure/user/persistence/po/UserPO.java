@@ -1,6 +1,8 @@
 package com.cleveronion.blog.infrastructure.user.persistence.po;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -9,13 +11,15 @@ import java.util.Objects;
 
 /**
  * 用户持久化对象
- * 映射数据库users表
+ * 映射数据库users表，启用二级缓存（region: user）
  * 
  * @author CleverOnion
  * @since 1.0.0
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 public class UserPO {
     
     @Id
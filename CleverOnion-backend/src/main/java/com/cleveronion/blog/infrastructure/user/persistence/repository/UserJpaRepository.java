@@ -1,8 +1,11 @@
 package com.cleveronion.blog.infrastructure.user.persistence.repository;
 
 import com.cleveronion.blog.infrastructure.user.persistence.po.UserPO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,12 +22,23 @@ import java.util.Optional;
 @Repository
 public interface UserJpaRepository extends JpaRepository<UserPO, Long> {
     
+    /**
+     * 根据ID集合批量查找用户（启用查询缓存，结果中的实体从二级缓存装载）
+     * 
+     * @param ids 用户ID集合
+     * @return 用户列表
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<UserPO> findAllById(Iterable<Long> ids);
+    
     /**
      * 根据GitHub用户ID查找用户
      * 
      * @param gitHubId GitHub用户ID
      * @return 用户持久化对象的Optional包装
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<UserPO> findByGitHubId(Long gitHubId);
     
     /**
@@ -41,6 +55,7 @@ public interface UserJpaRepository extends JpaRepository<UserPO, Long> {
      * @param gitHubId GitHub用户ID
      * @return 是否存在
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByGitHubId(Long gitHubId);
     
     /**
@@ -4,8 +4,10 @@ import cn.dev33.satoken.stp.StpUtil;
 import com.cleveronion.blog.application.article.command.CreateArticleDraftCommand;
 import com.cleveronion.blog.application.article.command.PublishArticleCommand;
 import com.cleveronion.blog.application.article.command.UpdateArticleCommand;
+import com.cleveronion.blog.application.article.dto.ArticlePage;
 import com.cleveronion.blog.application.article.service.ArticleCommandService;
 import com.cleveronion.blog.application.article.service.ArticleQueryService;
+import com.cleveronion.blog.application.article.service.ArticleRenderService;
 import com.cleveronion.blog.application.category.service.CategoryQueryService;
 import com.cleveronion.blog.application.tag.command.FindOrCreateTagsCommand;
 import com.cleveronion.blog.application.tag.service.TagCommandService;
@@ -18,28 +20,39 @@ import com.cleveronion.blog.domain.user.aggregate.UserAggregate;
 import com.cleveronion.blog.domain.user.valueobject.UserId;
 import com.cleveronion.blog.domain.article.valueobject.*;
 import com.cleveronion.blog.presentation.api.dto.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 文章控制器
@@ -56,25 +69,38 @@ public class ArticleController {
     
     private static final Logger logger = LoggerFactory.getLogger(ArticleController.class);
     
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    
+    /**
+     * 流式导出时每批读取并写出的文章数量
+     */
+    private static final int STREAM_BATCH_SIZE = 100;
+    
     private final ArticleCommandService articleCommandService;  // CQRS命令服务
     private final ArticleQueryService articleQueryService;      // CQRS查询服务
     private final CategoryQueryService categoryQueryService;    // CQRS查询服务
     private final TagCommandService tagCommandService;          // CQRS命令服务
     private final TagQueryService tagQueryService;              // CQRS查询服务
     private final UserQueryService userQueryService;            // CQRS查询服务
+    private final ArticleRenderService articleRenderService;
+    private final ObjectMapper objectMapper;
     
     public ArticleController(ArticleCommandService articleCommandService,
                            ArticleQueryService articleQueryService,
                            CategoryQueryService categoryQueryService,
                            TagCommandService tagCommandService,
                            TagQueryService tagQueryService,
-                           UserQueryService userQueryService) {
+                           UserQueryService userQueryService,
+                           ArticleRenderService articleRenderService,
+                           ObjectMapper objectMapper) {
         this.articleCommandService = articleCommandService;
         this.articleQueryService = articleQueryService;
         this.categoryQueryService = categoryQueryService;
         this.tagCommandService = tagCommandService;
         this.tagQueryService = tagQueryService;
         this.userQueryService = userQueryService;
+        this.articleRenderService = articleRenderService;
+        this.objectMapper = objectMapper;
     }
     
     /**
@@ -229,7 +255,7 @@ public class ArticleController {
         // 构建新的内容（合并原有值和新值）
         ArticleContent newContent = new ArticleContent(
             request.getTitle() != null ? request.getTitle() : article.getContent().getTitle(),
-            request.getContent() != null ? request.getContent() : article.getContent().getContent(),
+            request.getContent() != null ? request.getContent() : article.loadContent().getContent(),
             request.getSummary() != null ? request.getSummary() : article.getContent().getSummary()
         );
         
@@ -405,8 +431,7 @@ public class ArticleController {
         
         logger.debug("接收到查询文章列表请求，页码: {}, 每页大小: {}, 状态: {}, 分类ID: {}, 标签ID: {}", page, size, status, categoryId, tagId);
         
-        List<ArticleAggregate> articles;
-        long totalCount;
+        ArticlePage<ArticleAggregate> articlePage;
         
         // 解析状态参数
         ArticleStatus statusEnum = null;
@@ -417,41 +442,34 @@ public class ArticleController {
         // 使用CQRS查询服务
         if (statusEnum == null && categoryId == null && tagId == null) {
             // 无过滤条件，查询所有文章
-            articles = articleQueryService.findAllArticles(page, size);
-            totalCount = articleQueryService.countAllArticles();
+            articlePage = articleQueryService.findAllArticles(page, size);
         } else if (statusEnum != null && categoryId == null && tagId == null) {
             // 仅按状态过滤
-            articles = articleQueryService.findByStatus(statusEnum, page, size);
-            totalCount = articleQueryService.countByStatus(statusEnum);
+            articlePage = articleQueryService.findByStatus(statusEnum, page, size);
         } else if (statusEnum == ArticleStatus.PUBLISHED && categoryId != null && tagId == null) {
             // 按分类过滤已发布文章
-            articles = articleQueryService.findPublishedByCategoryId(new CategoryId(categoryId), page, size);
-            totalCount = articleQueryService.countByCategoryId(new CategoryId(categoryId));
+            articlePage = articleQueryService.findPublishedByCategoryId(new CategoryId(categoryId), page, size);
         } else if (statusEnum == ArticleStatus.PUBLISHED && tagId != null && categoryId == null) {
             // 按标签过滤已发布文章
-            articles = articleQueryService.findPublishedByTagId(new TagId(tagId), page, size);
-            totalCount = articleQueryService.countByTagId(new TagId(tagId));
+            articlePage = articleQueryService.findPublishedByTagId(new TagId(tagId), page, size);
         } else if (statusEnum == null || statusEnum == ArticleStatus.PUBLISHED) {
             // 默认查询已发布文章
-            articles = articleQueryService.findPublishedArticles(page, size);
-            totalCount = articleQueryService.countPublishedArticles();
+            articlePage = articleQueryService.findPublishedArticles(page, size);
         } else {
             // 复杂过滤暂时使用旧服务（待优化）
             CategoryId categoryIdVO = categoryId != null ? new CategoryId(categoryId) : null;
             TagId tagIdVO = tagId != null ? new TagId(tagId) : null;
             if (categoryIdVO != null && tagIdVO != null) {
-                articles = articleQueryService.findPublishedByCategoryAndTag(categoryIdVO, tagIdVO, page, size);
-                totalCount = articleQueryService.countByCategoryId(categoryIdVO);
+                articlePage = articleQueryService.findPublishedByCategoryAndTag(categoryIdVO, tagIdVO, page, size);
             } else {
-                articles = articleQueryService.findAllArticles(page, size);
-                totalCount = articleQueryService.countAllArticles();
+                articlePage = articleQueryService.findAllArticles(page, size);
             }
         }
         
         // 构造响应对象，包含完整的实体信息（使用批量查询优化N+1问题）
-        List<ArticleResponse> articleResponses = buildArticleResponsesWithEntitiesBatch(articles);
+        List<ArticleResponse> articleResponses = buildArticleResponsesWithEntitiesBatch(articlePage.getItems());
         
-        ArticleListResponse response = new ArticleListResponse(articleResponses, totalCount, page, size);
+        ArticleListResponse response = new ArticleListResponse(articleResponses, articlePage.getTotalCount(), page, size);
         
         return Result.success(response);
     }
@@ -460,19 +478,21 @@ public class ArticleController {
      * 根据ID查询文章
      * 
      * @param id 文章ID
+     * @param rendered 是否附带服务端渲染结果
      * @return 文章信息
      */
     @GetMapping("/{id}")
-    @Operation(summary = "查询文章详情", description = "根据文章ID查询文章详细信息")
+    @Operation(summary = "查询文章详情", description = "根据文章ID查询文章详细信息，rendered=true 时附带服务端渲染的 HTML 与目录")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "查询成功"),
         @ApiResponse(responseCode = "404", description = "文章不存在"),
         @ApiResponse(responseCode = "500", description = "服务器内部错误")
     })
     public Result<ArticleResponse> getArticleById(
-            @Parameter(description = "文章ID") @PathVariable @NotNull Long id) {
+            @Parameter(description = "文章ID") @PathVariable @NotNull Long id,
+            @Parameter(description = "是否附带服务端渲染结果") @RequestParam(defaultValue = "false") boolean rendered) {
         
-        logger.debug("接收到查询文章请求，文章ID: {}", id);
+        logger.debug("接收到查询文章请求，文章ID: {}, 附带渲染结果: {}", id, rendered);
         
         ArticleId articleId = new ArticleId(id.toString());
         
@@ -484,6 +504,10 @@ public class ArticleController {
         }
         
         ArticleResponse response = buildArticleResponseWithEntities(articleOpt.get());
+        if (rendered) {
+            response.setRendered(RenderedContentResponse.from(
+                articleRenderService.getOrRender(articleOpt.get().loadContent().getContent())));
+        }
         return Result.success(response);
     }
     
@@ -497,7 +521,7 @@ public class ArticleController {
         // 获取分类信息
         CategoryResponse categoryResponse = null;
         if (article.getCategoryId() != null) {
-            Optional<CategoryAggregate> categoryOpt = categoryQueryService.findById(article.getCategoryId());
+            Optional<CategoryAggregate> categoryOpt = categoryQueryService.lookupById(article.getCategoryId());
             if (categoryOpt.isPresent()) {
                 categoryResponse = new CategoryResponse(categoryOpt.get());
             }
@@ -517,8 +541,8 @@ public class ArticleController {
         // 获取标签信息
         Set<TagResponse> tagResponses = new HashSet<>();
         if (article.getTagIds() != null && !article.getTagIds().isEmpty()) {
-            List<TagAggregate> tags = tagQueryService.findByIds(article.getTagIds());
-            tagResponses = tags.stream()
+            Map<TagId, TagAggregate> tags = tagQueryService.lookupByIds(article.getTagIds());
+            tagResponses = tags.values().stream()
                 .map(TagResponse::from)
                 .collect(Collectors.toSet());
         }
@@ -576,11 +600,8 @@ public class ArticleController {
             .flatMap(article -> article.getTagIds().stream())
             .collect(Collectors.toSet());
         
-        // 批量查询关联数据
-        Map<CategoryId, CategoryAggregate> categoryMap = categoryIds.isEmpty() ? 
-            Map.of() : 
-            categoryQueryService.findByIds(categoryIds).stream()
-                .collect(Collectors.toMap(CategoryAggregate::getId, Function.identity()));
+        // 批量查询关联数据（分类、标签优先读取内存快照）
+        Map<CategoryId, CategoryAggregate> categoryMap = categoryQueryService.lookupByIds(categoryIds);
         
         logger.debug("准备批量查询用户，用户ID集合: {}", userIds);
         Map<UserId, UserAggregate> userMap = userIds.isEmpty() ? 
@@ -589,10 +610,7 @@ public class ArticleController {
                 .collect(Collectors.toMap(UserAggregate::getId, Function.identity()));
         logger.debug("用户批量查询结果，userMap: {}", userMap);
                 
-        Map<TagId, TagAggregate> tagMap = allTagIds.isEmpty() ? 
-            Map.of() : 
-            tagQueryService.findByIds(allTagIds).stream()
-                .collect(Collectors.toMap(TagAggregate::getId, Function.identity()));
+        Map<TagId, TagAggregate> tagMap = tagQueryService.lookupByIds(allTagIds);
         
         logger.debug("批量查询完成，分类数量: {}, 用户数量: {}, 标签数量: {}", 
             categoryMap.size(), userMap.size(), tagMap.size());
@@ -665,8 +683,7 @@ public class ArticleController {
         
         logger.debug("接收到查询所有文章列表请求，页码: {}, 每页大小: {}, 状态: {}, 分类ID: {}, 标签ID: {}", page, size, status, categoryId, tagId);
         
-        List<ArticleAggregate> articles;
-        long totalCount;
+        ArticlePage<ArticleAggregate> articlePage;
         
         // 解析状态参数
         ArticleStatus statusEnum = null;
@@ -681,45 +698,39 @@ public class ArticleController {
             TagId tagIdVO = new TagId(tagId);
             // 使用CQRS查询服务
             if (statusEnum == ArticleStatus.PUBLISHED || statusEnum == null) {
-                articles = articleQueryService.findPublishedByCategoryAndTag(categoryIdVO, tagIdVO, page, size);
-                totalCount = articleQueryService.countByCategoryId(categoryIdVO);
+                articlePage = articleQueryService.findPublishedByCategoryAndTag(categoryIdVO, tagIdVO, page, size);
             } else {
                 // 非已发布状态的复杂查询，简化为基础查询
-                articles = articleQueryService.findByStatus(statusEnum, page, size);
-                totalCount = articleQueryService.countByStatus(statusEnum);
+                articlePage = articleQueryService.findByStatus(statusEnum, page, size);
             }
         } else if (categoryId != null) {
             // 按分类过滤 - 使用CQRS查询服务
             CategoryId categoryIdVO = new CategoryId(categoryId);
             if (statusEnum == ArticleStatus.PUBLISHED || statusEnum == null) {
-                articles = articleQueryService.findPublishedByCategoryId(categoryIdVO, page, size);
+                articlePage = articleQueryService.findPublishedByCategoryId(categoryIdVO, page, size);
             } else {
-                articles = articleQueryService.findByStatus(statusEnum, page, size);
+                articlePage = articleQueryService.findByStatus(statusEnum, page, size);
             }
-            totalCount = articleQueryService.countByCategoryId(categoryIdVO);
         } else if (tagId != null) {
             // 按标签过滤 - 使用CQRS查询服务
             TagId tagIdVO = new TagId(tagId);
             if (statusEnum == ArticleStatus.PUBLISHED || statusEnum == null) {
-                articles = articleQueryService.findPublishedByTagId(tagIdVO, page, size);
+                articlePage = articleQueryService.findPublishedByTagId(tagIdVO, page, size);
             } else {
-                articles = articleQueryService.findByStatus(statusEnum, page, size);
+                articlePage = articleQueryService.findByStatus(statusEnum, page, size);
             }
-            totalCount = articleQueryService.countByTagId(tagIdVO);
         } else if (statusEnum != null) {
             // 仅按状态过滤 - 使用CQRS查询服务
-            articles = articleQueryService.findByStatus(statusEnum, page, size);
-            totalCount = articleQueryService.countByStatus(statusEnum);
+            articlePage = articleQueryService.findByStatus(statusEnum, page, size);
         } else {
             // 无过滤条件，查询所有文章 - 使用CQRS查询服务
-            articles = articleQueryService.findAllArticles(page, size);
-            totalCount = articleQueryService.countAllArticles();
+            articlePage = articleQueryService.findAllArticles(page, size);
         }
         
         // 构造响应对象，包含完整的实体信息（使用批量查询优化N+1问题）
-        List<ArticleResponse> articleResponses = buildArticleResponsesWithEntitiesBatch(articles);
+        List<ArticleResponse> articleResponses = buildArticleResponsesWithEntitiesBatch(articlePage.getItems());
 
-        ArticleListResponse response = new ArticleListResponse(articleResponses, totalCount, page, size);
+        ArticleListResponse response = new ArticleListResponse(articleResponses, articlePage.getTotalCount(), page, size);
 
         return Result.success(response);
     }
@@ -749,50 +760,123 @@ public class ArticleController {
         AuthorId authorIdVO = new AuthorId(authorId);
         
         // 使用CQRS查询服务
-        List<ArticleAggregate> articles = articleQueryService.findByAuthorId(authorIdVO, page, size);
-        long totalCount = articleQueryService.countByAuthorId(authorIdVO);
+        ArticlePage<ArticleAggregate> articlePage = articleQueryService.findByAuthorId(authorIdVO, page, size);
         
         // 构造响应对象，包含完整的实体信息（使用批量查询优化N+1问题）
-        List<ArticleResponse> articleResponses = buildArticleResponsesWithEntitiesBatch(articles);
+        List<ArticleResponse> articleResponses = buildArticleResponsesWithEntitiesBatch(articlePage.getItems());
 
-        ArticleListResponse response = new ArticleListResponse(articleResponses, totalCount, page, size);
+        ArticleListResponse response = new ArticleListResponse(articleResponses, articlePage.getTotalCount(), page, size);
 
         return Result.success(response);
     }
     
     /**
-     * 根据分类ID查询文章列表
+     * 根据分类ID查询文章列表（分页）
      * 
      * @param categoryId 分类ID
+     * @param page 页码（从0开始）
+     * @param size 每页大小
      * @return 文章列表
      */
     @GetMapping("/category/{categoryId}")
-    @Operation(summary = "查询分类文章列表", description = "查询指定分类下的文章列表")
+    @Operation(summary = "查询分类文章列表", description = "分页查询指定分类下的文章列表，需要完整结果集时使用 /articles/stream")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "查询成功"),
         @ApiResponse(responseCode = "400", description = "请求参数错误"),
         @ApiResponse(responseCode = "500", description = "服务器内部错误")
     })
     public Result<ArticleListResponse> getArticlesByCategory(
-            @Parameter(description = "分类ID") @PathVariable @NotNull Long categoryId) {
+            @Parameter(description = "分类ID") @PathVariable @NotNull Long categoryId,
+            @Parameter(description = "页码（从0开始）") @RequestParam(defaultValue = "0") @Min(0) Integer page,
+            @Parameter(description = "每页大小") @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer size) {
         
-        logger.debug("接收到查询分类文章列表请求，分类ID: {}", categoryId);
+        logger.debug("接收到查询分类文章列表请求，分类ID: {}, 页码: {}, 每页大小: {}", categoryId, page, size);
         
         CategoryId categoryIdVO = new CategoryId(categoryId);
         
         // 使用CQRS查询服务
-        List<ArticleAggregate> articles = articleQueryService.findByCategoryId(categoryIdVO);
-        long totalCount = articleQueryService.countByCategoryId(categoryIdVO);
+        ArticlePage<ArticleAggregate> articlePage = articleQueryService.findByCategoryId(categoryIdVO, page, size);
         
         // 构造响应对象，包含完整的实体信息（使用批量查询优化N+1问题）
-        List<ArticleResponse> articleResponses = buildArticleResponsesWithEntitiesBatch(articles);
+        List<ArticleResponse> articleResponses = buildArticleResponsesWithEntitiesBatch(articlePage.getItems());
 
-        ArticleListResponse response = new ArticleListResponse(articleResponses, totalCount, 0, articles.size());
+        ArticleListResponse response = new ArticleListResponse(articleResponses, articlePage.getTotalCount(), page, size);
 
         return Result.success(response);
     }
     
-
+    /**
+     * 流式导出文章列表（NDJSON）
+     * 
+     * <p>按分类、作者、标签三者之一（可叠加状态）或仅按状态筛选，每行输出一篇文章的 JSON。
+     * 服务端通过数据库游标分批读取并逐批写出，内存占用与结果集大小无关。
+     * 
+     * @param categoryId 分类ID（可选）
+     * @param authorId 作者ID（可选）
+     * @param tagId 标签ID（可选）
+     * @param status 文章状态（可选）
+     * @return NDJSON 响应流
+     */
+    @GetMapping(value = "/stream", produces = NDJSON_MEDIA_TYPE)
+    @Operation(summary = "流式导出文章列表", description = "以 NDJSON 格式流式输出分类、作者、标签或状态下的全部文章")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "查询成功"),
+        @ApiResponse(responseCode = "400", description = "请求参数错误"),
+        @ApiResponse(responseCode = "500", description = "服务器内部错误")
+    })
+    public ResponseEntity<StreamingResponseBody> streamArticles(
+            @Parameter(description = "分类ID（可选）") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "作者ID（可选）") @RequestParam(required = false) Long authorId,
+            @Parameter(description = "标签ID（可选）") @RequestParam(required = false) Long tagId,
+            @Parameter(description = "文章状态（可选）：DRAFT-草稿，PUBLISHED-已发布，ARCHIVED-已归档") @RequestParam(required = false) String status) {
+        
+        logger.debug("接收到流式导出文章请求，分类ID: {}, 作者ID: {}, 标签ID: {}, 状态: {}", categoryId, authorId, tagId, status);
+        
+        long filterCount = Stream.of(categoryId, authorId, tagId).filter(Objects::nonNull).count();
+        if (filterCount > 1) {
+            throw new IllegalArgumentException("分类ID、作者ID、标签ID只能指定其中一个");
+        }
+        ArticleStatus statusEnum = null;
+        if (status != null && !status.trim().isEmpty()) {
+            statusEnum = ArticleStatus.valueOf(status.toUpperCase());
+        }
+        if (filterCount == 0 && statusEnum == null) {
+            throw new IllegalArgumentException("必须指定分类ID、作者ID、标签ID或文章状态");
+        }
+        
+        ArticleStatus finalStatus = statusEnum;
+        StreamingResponseBody body = outputStream -> {
+            Consumer<List<ArticleAggregate>> writer = batch -> writeNdjson(outputStream, batch);
+            if (categoryId != null) {
+                articleQueryService.streamByCategoryId(new CategoryId(categoryId), finalStatus, STREAM_BATCH_SIZE, writer);
+            } else if (authorId != null) {
+                articleQueryService.streamByAuthorId(new AuthorId(authorId), finalStatus, STREAM_BATCH_SIZE, writer);
+            } else if (tagId != null) {
+                articleQueryService.streamByTagId(new TagId(tagId), finalStatus, STREAM_BATCH_SIZE, writer);
+            } else {
+                articleQueryService.streamByStatus(finalStatus, STREAM_BATCH_SIZE, writer);
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+            .body(body);
+    }
+    
+    /**
+     * 将一批文章按 NDJSON 格式写出并刷新，使客户端可以边读边处理
+     */
+    private void writeNdjson(OutputStream outputStream, List<ArticleAggregate> batch) {
+        try {
+            for (ArticleResponse articleResponse : buildArticleResponsesWithEntitiesBatch(batch)) {
+                outputStream.write(objectMapper.writeValueAsBytes(articleResponse));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("写出文章流失败", e);
+        }
+    }
     
     /**
      * 根据标题关键词搜索文章
@@ -1,16 +1,23 @@
 package com.cleveronion.blog.presentation.api.controller;
 
+import com.cleveronion.blog.application.comment.dto.CommentCursorPage;
+import com.cleveronion.blog.application.comment.dto.CommentTreeNode;
 import com.cleveronion.blog.application.comment.dto.CommentWithRepliesDTO;
 import com.cleveronion.blog.application.comment.service.CommentCommandService;
 import com.cleveronion.blog.application.comment.service.CommentQueryService;
 import com.cleveronion.blog.application.comment.command.CreateCommentCommand;
 import com.cleveronion.blog.application.comment.command.DeleteCommentCommand;
+import com.cleveronion.blog.application.article.service.ArticleQueryService;
 import com.cleveronion.blog.application.user.service.UserQueryService;
+import com.cleveronion.blog.common.exception.ResourceNotFoundException;
 import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
+import com.cleveronion.blog.domain.comment.valueobject.CommentCursor;
 import com.cleveronion.blog.domain.comment.valueobject.CommentId;
 import com.cleveronion.blog.domain.user.aggregate.UserAggregate;
 import com.cleveronion.blog.domain.user.valueobject.UserId;
+import com.cleveronion.blog.infrastructure.comment.stream.CommentStreamHub;
+import com.cleveronion.blog.infrastructure.comment.stream.SubscriberLimitExceededException;
 import com.cleveronion.blog.presentation.api.dto.comment.CreateCommentRequest;
 import com.cleveronion.blog.presentation.api.dto.comment.CommentResponse;
 import com.cleveronion.blog.presentation.api.dto.comment.CommentListResponse;
@@ -21,8 +28,13 @@ import cn.dev33.satoken.stp.StpUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
@@ -46,13 +58,19 @@ public class CommentController {
     private final CommentCommandService commentCommandService;
     private final CommentQueryService commentQueryService;
     private final UserQueryService userQueryService;
+    private final ArticleQueryService articleQueryService;
+    private final CommentStreamHub commentStreamHub;
     
     public CommentController(CommentCommandService commentCommandService,
                            CommentQueryService commentQueryService,
-                           UserQueryService userQueryService) {
+                           UserQueryService userQueryService,
+                           ArticleQueryService articleQueryService,
+                           CommentStreamHub commentStreamHub) {
         this.commentCommandService = commentCommandService;
         this.commentQueryService = commentQueryService;
         this.userQueryService = userQueryService;
+        this.articleQueryService = articleQueryService;
+        this.commentStreamHub = commentStreamHub;
     }
     
     /**
@@ -118,10 +136,14 @@ public class CommentController {
      * 查询文章的顶级评论列表（带回复信息）
      * 支持懒加载子评论，每个顶级评论包含回复统计和最新回复列表
      * 
+     * <p>传入 cursor 时按游标续读（键集分页，忽略 page），否则按页码查询；
+     * 两种方式都返回 next_cursor 供下一次请求使用
+     * 
      * @param articleId 文章ID
      * @param page 页码（从0开始）
      * @param size 每页大小
      * @param replyLimit 每个评论返回的最新回复数（默认3条）
+     * @param cursor 上一页返回的续页游标
      * @return 顶级评论列表（包含回复统计和最新回复）
      * @since 2.0.0
      */
@@ -130,33 +152,44 @@ public class CommentController {
             @RequestParam Long articleId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "3") int replyLimit) {
+            @RequestParam(defaultValue = "3") int replyLimit,
+            @RequestParam(required = false) String cursor) {
         
-        logger.debug("查询文章顶级评论（带回复），文章ID: {}, 页码: {}, 每页: {}, 回复数: {}", 
-            articleId, page, size, replyLimit);
+        logger.debug("查询文章顶级评论（带回复），文章ID: {}, 页码: {}, 每页: {}, 回复数: {}, 游标: {}", 
+            articleId, page, size, replyLimit, cursor);
         
-        // 执行查询
         ArticleId articleIdVO = new ArticleId(articleId.toString());
-        List<CommentWithRepliesDTO> commentsWithReplies = 
-            commentQueryService.findTopLevelCommentsWithLatestReplies(articleIdVO, page, size, replyLimit);
-        
-        // 转换为响应DTO
-        List<CommentResponse> commentResponses = commentsWithReplies.stream()
-            .map(this::convertToCommentResponseWithReplies)
-            .collect(Collectors.toList());
         
         // 获取顶级评论总数
         long totalComments = commentQueryService.countTopLevelByArticleId(articleIdVO);
         
-        CommentListResponse response = new CommentListResponse(
-            commentResponses,
-            totalComments,
-            page,
-            size
-        );
+        CommentListResponse response;
+        if (cursor != null) {
+            CommentCursorPage<CommentWithRepliesDTO> slice = commentQueryService
+                .findTopLevelCommentsWithLatestRepliesAfter(articleIdVO, CommentCursor.decode(cursor), size, replyLimit);
+            response = new CommentListResponse(
+                slice.getItems().stream().map(this::convertToCommentResponseWithReplies).collect(Collectors.toList()),
+                totalComments,
+                size,
+                encode(slice.getNextCursor())
+            );
+        } else {
+            List<CommentWithRepliesDTO> commentsWithReplies = 
+                commentQueryService.findTopLevelCommentsWithLatestReplies(articleIdVO, page, size, replyLimit);
+            response = new CommentListResponse(
+                commentsWithReplies.stream().map(this::convertToCommentResponseWithReplies).collect(Collectors.toList()),
+                totalComments,
+                page,
+                size
+            );
+            if (response.isHasNext() && !commentsWithReplies.isEmpty()) {
+                response.setNextCursor(encode(CommentCursor.after(
+                    commentsWithReplies.get(commentsWithReplies.size() - 1).getComment())));
+            }
+        }
         
         logger.debug("成功查询文章顶级评论（带回复），文章ID: {}, 返回评论数: {}", 
-            articleId, commentResponses.size());
+            articleId, response.getComments().size());
         
         return Result.success(response);
     }
@@ -164,43 +197,123 @@ public class CommentController {
     /**
      * 查询评论的回复列表
      * 
+     * <p>传入 cursor 时按游标续读（键集分页，忽略 page），否则按页码查询；
+     * 两种方式都返回 next_cursor 供下一次请求使用
+     * 
      * @param parentId 父评论ID
      * @param page 页码（从0开始）
      * @param size 每页大小
+     * @param cursor 上一页返回的续页游标
      * @return 回复列表
      */
     @GetMapping("/replies")
     public Result<CommentListResponse> getReplies(
             @RequestParam Long parentId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "5") int size) {
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(required = false) String cursor) {
         
-        logger.debug("查询评论回复，父评论ID: {}, 页码: {}, 每页大小: {}", parentId, page, size);
+        logger.debug("查询评论回复，父评论ID: {}, 页码: {}, 每页大小: {}, 游标: {}", parentId, page, size, cursor);
         
-        // 执行查询回复业务逻辑
         CommentId parentIdVO = new CommentId(parentId);
-        List<CommentAggregate> replies = commentQueryService.findRepliesByParentId(parentIdVO, page, size);
-        
-        // 转换为响应DTO
-        List<CommentResponse> replyResponses = replies.stream()
-            .map(this::convertToCommentResponse)
-            .collect(Collectors.toList());
         
         // 获取回复总数
         long totalReplies = commentQueryService.countRepliesByParentId(parentIdVO);
         
-        CommentListResponse response = new CommentListResponse(
-            replyResponses,
-            totalReplies,
-            page,
-            size
-        );
+        CommentListResponse response;
+        if (cursor != null) {
+            CommentCursorPage<CommentAggregate> slice = commentQueryService
+                .findRepliesByParentIdAfter(parentIdVO, CommentCursor.decode(cursor), size);
+            response = new CommentListResponse(
+                slice.getItems().stream().map(this::convertToCommentResponse).collect(Collectors.toList()),
+                totalReplies,
+                size,
+                encode(slice.getNextCursor())
+            );
+        } else {
+            List<CommentAggregate> replies = commentQueryService.findRepliesByParentId(parentIdVO, page, size);
+            response = new CommentListResponse(
+                replies.stream().map(this::convertToCommentResponse).collect(Collectors.toList()),
+                totalReplies,
+                page,
+                size
+            );
+            if (response.isHasNext() && !replies.isEmpty()) {
+                response.setNextCursor(encode(CommentCursor.after(replies.get(replies.size() - 1))));
+            }
+        }
         
-        logger.debug("成功查询评论回复，父评论ID: {}, 返回回复数: {}", parentId, replyResponses.size());
+        logger.debug("成功查询评论回复，父评论ID: {}, 返回回复数: {}", parentId, response.getComments().size());
         
         return Result.success(response);
     }
     
+    /**
+     * 订阅文章的评论实时变更（Server-Sent Events）
+     * 事件 comment-created / comment-deleted 只携带评论ID，客户端据此增量拉取；
+     * 收到 resync 时说明推送积压被丢弃，应重新拉取评论列表
+     * 
+     * <p>SSE 客户端只接受 text/event-stream，拒绝时只返回状态码：
+     * 文章不存在返回 404，该客户端订阅过多返回 429，本节点订阅者已满返回 503
+     * 
+     * @param articleId 文章ID
+     * @param request HTTP请求，按客户端地址限制订阅数
+     * @return SSE 连接
+     * @since 2.0.0
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamComments(@RequestParam Long articleId, HttpServletRequest request) {
+        logger.debug("订阅文章评论实时变更，文章ID: {}", articleId);
+        
+        ArticleId articleIdVO = new ArticleId(articleId.toString());
+        if (articleQueryService.findById(articleIdVO).isEmpty()) {
+            logger.debug("拒绝订阅不存在的文章，文章ID: {}", articleId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        
+        try {
+            return ResponseEntity.ok(commentStreamHub.subscribe(articleIdVO, request.getRemoteAddr()));
+        } catch (SubscriberLimitExceededException e) {
+            logger.warn("拒绝评论推送订阅: {}, 客户端: {}", e.getMessage(), request.getRemoteAddr());
+            return ResponseEntity.status(e.getScope() == SubscriberLimitExceededException.Scope.CLIENT
+                ? HttpStatus.TOO_MANY_REQUESTS
+                : HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    /**
+     * 查询评论线程：根评论及其任意深度的后代回复
+     * 
+     * @param commentId 根评论ID
+     * @param maxDepth 相对根评论的最大层级（不传返回整棵线程）
+     * @return 树形评论，子回复位于 children 中
+     * @since 2.0.0
+     */
+    @GetMapping("/{commentId}/thread")
+    public Result<CommentResponse> getThread(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Integer maxDepth) {
+        
+        logger.debug("查询评论线程，根评论ID: {}, 层级限制: {}", commentId, maxDepth);
+        
+        Optional<CommentTreeNode> thread = commentQueryService.findThread(new CommentId(commentId), maxDepth);
+        if (thread.isEmpty()) {
+            throw new ResourceNotFoundException("评论不存在，ID: " + commentId);
+        }
+        
+        return Result.success(convertToCommentTree(thread.get()));
+    }
+    
+    /**
+     * 编码续页游标
+     * 
+     * @param cursor 游标，可为null
+     * @return 令牌，游标为null时返回null
+     */
+    private static String encode(CommentCursor cursor) {
+        return cursor != null ? cursor.encode() : null;
+    }
+    
     /**
      * 将CommentAggregate转换为CommentResponse
      * 
@@ -233,6 +346,20 @@ public class CommentController {
         return response;
     }
     
+    /**
+     * 递归转换评论树节点
+     * 
+     * @param node 评论树节点
+     * @return 评论响应DTO（包含子回复）
+     */
+    private CommentResponse convertToCommentTree(CommentTreeNode node) {
+        CommentResponse response = convertToCommentResponse(node.getComment());
+        response.setChildren(node.getChildren().stream()
+            .map(this::convertToCommentTree)
+            .collect(Collectors.toList()));
+        return response;
+    }
+    
     /**
      * 转换带回复信息的评论（新版评论系统）
      * 
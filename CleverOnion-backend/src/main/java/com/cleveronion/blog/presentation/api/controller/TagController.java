@@ -3,11 +3,14 @@ package com.cleveronion.blog.presentation.api.controller;
 import com.cleveronion.blog.application.tag.command.CreateTagCommand;
 import com.cleveronion.blog.application.tag.command.DeleteTagCommand;
 import com.cleveronion.blog.application.tag.command.UpdateTagCommand;
+import com.cleveronion.blog.application.tag.dto.UnusedTagCleanupProgress;
 import com.cleveronion.blog.application.tag.service.TagCommandService;
 import com.cleveronion.blog.application.tag.service.TagQueryService;
+import com.cleveronion.blog.application.tag.service.UnusedTagCleanupJob;
 import com.cleveronion.blog.domain.article.aggregate.TagAggregate;
 import com.cleveronion.blog.domain.article.valueobject.TagId;
 import com.cleveronion.blog.presentation.api.dto.CreateTagRequest;
+import com.cleveronion.blog.presentation.api.dto.TagCleanupProgressResponse;
 import com.cleveronion.blog.presentation.api.dto.TagListResponse;
 import com.cleveronion.blog.presentation.api.dto.TagResponse;
 import com.cleveronion.blog.presentation.api.dto.TagWithCountListResponse;
@@ -45,10 +48,13 @@ public class TagController {
     
     private final TagCommandService tagCommandService;
     private final TagQueryService tagQueryService;
+    private final UnusedTagCleanupJob unusedTagCleanupJob;
     
-    public TagController(TagCommandService tagCommandService, TagQueryService tagQueryService) {
+    public TagController(TagCommandService tagCommandService, TagQueryService tagQueryService,
+                         UnusedTagCleanupJob unusedTagCleanupJob) {
         this.tagCommandService = tagCommandService;
         this.tagQueryService = tagQueryService;
+        this.unusedTagCleanupJob = unusedTagCleanupJob;
     }
     
     /**
@@ -134,6 +140,35 @@ public class TagController {
         return Result.success();
     }
     
+    /**
+     * 启动未使用标签清理任务
+     * 任务在后台分块执行，已在运行时直接返回当前进度
+     * 
+     * @return 任务进度
+     */
+    @PostMapping("/cleanup-unused")
+    @Operation(summary = "清理未使用的标签", description = "在后台分块删除未被任何文章使用的标签")
+    @ApiResponse(responseCode = "200", description = "任务已启动或正在运行")
+    public Result<TagCleanupProgressResponse> cleanupUnusedTags() {
+        
+        UnusedTagCleanupProgress progress = unusedTagCleanupJob.start();
+        return Result.success(TagCleanupProgressResponse.from(progress));
+    }
+    
+    /**
+     * 查询未使用标签清理任务进度
+     * 
+     * @return 任务进度
+     */
+    @GetMapping("/cleanup-unused")
+    @Operation(summary = "查询标签清理进度", description = "查询未使用标签清理任务的进度")
+    @ApiResponse(responseCode = "200", description = "查询成功")
+    public Result<TagCleanupProgressResponse> getCleanupProgress() {
+        
+        UnusedTagCleanupProgress progress = unusedTagCleanupJob.getProgress();
+        return Result.success(TagCleanupProgressResponse.from(progress));
+    }
+    
     /**
      * 根据ID查询标签详情
      * 
@@ -3,9 +3,11 @@ package com.cleveronion.blog.presentation.api.dto;
 import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
 import com.cleveronion.blog.domain.article.valueobject.TagId;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -54,6 +56,35 @@ public class ArticleResponse {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime publishedAt;
     
+    /**
+     * 写入时派生的元数据，历史文章未计算时为null
+     */
+    @JsonProperty("word_count")
+    private Integer wordCount;
+    
+    @JsonProperty("reading_minutes")
+    private Integer readingMinutes;
+    
+    @JsonProperty("outline")
+    private List<RenderedContentResponse.TocItem> outline;
+    
+    /**
+     * 评论统计，随文章行读取，不额外查询评论表
+     */
+    @JsonProperty("comment_count")
+    private Integer commentCount;
+    
+    @JsonProperty("last_commented_at")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime lastCommentedAt;
+    
+    /**
+     * 服务端渲染结果，仅在请求时显式要求才返回
+     */
+    @JsonProperty("rendered")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private RenderedContentResponse rendered;
+    
     /**
      * 默认构造函数
      */
@@ -75,6 +106,15 @@ public class ArticleResponse {
             this.summary = articleAggregate.getContent() != null ? articleAggregate.getContent().getSummary() : null;
             this.status = articleAggregate.getStatus() != null ? articleAggregate.getStatus().name() : null;
             this.publishedAt = articleAggregate.getPublishedAt();
+            if (articleAggregate.getMetadata() != null) {
+                this.wordCount = articleAggregate.getMetadata().getWordCount();
+                this.readingMinutes = articleAggregate.getMetadata().getReadingMinutes();
+                this.outline = articleAggregate.getMetadata().getOutline().stream()
+                    .map(RenderedContentResponse.TocItem::from)
+                    .collect(Collectors.toList());
+            }
+            this.commentCount = articleAggregate.getCommentStats().getCommentCount();
+            this.lastCommentedAt = articleAggregate.getCommentStats().getLastCommentedAt();
             // Note: createdAt and updatedAt are not available in ArticleAggregate
             // These fields will be null unless set through the full constructor
         }
@@ -318,6 +358,114 @@ public class ArticleResponse {
         this.publishedAt = publishedAt;
     }
     
+    /**
+     * 获取字数
+     * 
+     * @return 字数
+     */
+    public Integer getWordCount() {
+        return wordCount;
+    }
+    
+    /**
+     * 设置字数
+     * 
+     * @param wordCount 字数
+     */
+    public void setWordCount(Integer wordCount) {
+        this.wordCount = wordCount;
+    }
+    
+    /**
+     * 获取预计阅读时长
+     * 
+     * @return 阅读时长（分钟）
+     */
+    public Integer getReadingMinutes() {
+        return readingMinutes;
+    }
+    
+    /**
+     * 设置预计阅读时长
+     * 
+     * @param readingMinutes 阅读时长（分钟）
+     */
+    public void setReadingMinutes(Integer readingMinutes) {
+        this.readingMinutes = readingMinutes;
+    }
+    
+    /**
+     * 获取标题大纲
+     * 
+     * @return 标题大纲
+     */
+    public List<RenderedContentResponse.TocItem> getOutline() {
+        return outline;
+    }
+    
+    /**
+     * 设置标题大纲
+     * 
+     * @param outline 标题大纲
+     */
+    public void setOutline(List<RenderedContentResponse.TocItem> outline) {
+        this.outline = outline;
+    }
+    
+    /**
+     * 获取评论数
+     * 
+     * @return 评论数（含回复）
+     */
+    public Integer getCommentCount() {
+        return commentCount;
+    }
+    
+    /**
+     * 设置评论数
+     * 
+     * @param commentCount 评论数
+     */
+    public void setCommentCount(Integer commentCount) {
+        this.commentCount = commentCount;
+    }
+    
+    /**
+     * 获取最近评论时间
+     * 
+     * @return 最近评论时间，没有评论时为null
+     */
+    public LocalDateTime getLastCommentedAt() {
+        return lastCommentedAt;
+    }
+    
+    /**
+     * 设置最近评论时间
+     * 
+     * @param lastCommentedAt 最近评论时间
+     */
+    public void setLastCommentedAt(LocalDateTime lastCommentedAt) {
+        this.lastCommentedAt = lastCommentedAt;
+    }
+    
+    /**
+     * 获取服务端渲染结果
+     * 
+     * @return 渲染结果，未请求时为null
+     */
+    public RenderedContentResponse getRendered() {
+        return rendered;
+    }
+    
+    /**
+     * 设置服务端渲染结果
+     * 
+     * @param rendered 渲染结果
+     */
+    public void setRendered(RenderedContentResponse rendered) {
+        this.rendered = rendered;
+    }
+    
     @Override
     public String toString() {
         return "ArticleResponse{" +
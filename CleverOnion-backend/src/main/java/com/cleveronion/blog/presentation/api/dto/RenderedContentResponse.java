@@ -0,0 +1,128 @@
+package com.cleveronion.blog.presentation.api.dto;
+
+import com.cleveronion.blog.domain.article.valueobject.RenderedContent;
+import com.cleveronion.blog.domain.article.valueobject.TocEntry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 文章渲染结果响应DTO
+ * 客户端可直接插入 html，公式节点（.math-inline / .math-display）按需交给 KaTeX
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class RenderedContentResponse {
+    
+    @JsonProperty("content_hash")
+    private String contentHash;
+    
+    @JsonProperty("html")
+    private String html;
+    
+    @JsonProperty("toc")
+    private List<TocItem> toc;
+    
+    public RenderedContentResponse() {
+    }
+    
+    public RenderedContentResponse(String contentHash, String html, List<TocItem> toc) {
+        this.contentHash = contentHash;
+        this.html = html;
+        this.toc = toc;
+    }
+    
+    /**
+     * 从渲染结果值对象构造响应
+     * 
+     * @param renderedContent 渲染结果
+     * @return 渲染结果响应DTO
+     */
+    public static RenderedContentResponse from(RenderedContent renderedContent) {
+        if (renderedContent == null) {
+            return null;
+        }
+        
+        List<TocItem> toc = renderedContent.getToc().stream()
+            .map(TocItem::from)
+            .toList();
+        return new RenderedContentResponse(renderedContent.getContentHash(), renderedContent.getHtml(), toc);
+    }
+    
+    public String getContentHash() {
+        return contentHash;
+    }
+    
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+    
+    public String getHtml() {
+        return html;
+    }
+    
+    public void setHtml(String html) {
+        this.html = html;
+    }
+    
+    public List<TocItem> getToc() {
+        return toc;
+    }
+    
+    public void setToc(List<TocItem> toc) {
+        this.toc = toc;
+    }
+    
+    /**
+     * 目录条目
+     */
+    public static class TocItem {
+        
+        @JsonProperty("level")
+        private int level;
+        
+        @JsonProperty("text")
+        private String text;
+        
+        @JsonProperty("anchor")
+        private String anchor;
+        
+        public TocItem() {
+        }
+        
+        public TocItem(int level, String text, String anchor) {
+            this.level = level;
+            this.text = text;
+            this.anchor = anchor;
+        }
+        
+        public static TocItem from(TocEntry tocEntry) {
+            return new TocItem(tocEntry.getLevel(), tocEntry.getText(), tocEntry.getAnchor());
+        }
+        
+        public int getLevel() {
+            return level;
+        }
+        
+        public void setLevel(int level) {
+            this.level = level;
+        }
+        
+        public String getText() {
+            return text;
+        }
+        
+        public void setText(String text) {
+            this.text = text;
+        }
+        
+        public String getAnchor() {
+            return anchor;
+        }
+        
+        public void setAnchor(String anchor) {
+            this.anchor = anchor;
+        }
+    }
+}
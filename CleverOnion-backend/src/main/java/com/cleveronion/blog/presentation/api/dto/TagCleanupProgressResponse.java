@@ -0,0 +1,126 @@
+package com.cleveronion.blog.presentation.api.dto;
+
+import com.cleveronion.blog.application.tag.dto.UnusedTagCleanupProgress;
+
+import java.time.LocalDateTime;
+
+/**
+ * 未使用标签清理任务进度响应DTO
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+public class TagCleanupProgressResponse {
+    
+    /**
+     * 任务状态：IDLE、RUNNING、COMPLETED、FAILED
+     */
+    private String status;
+    
+    /**
+     * 已删除的标签数量
+     */
+    private long deletedCount;
+    
+    /**
+     * 已处理的块数
+     */
+    private long chunkCount;
+    
+    /**
+     * 已处理到的最大标签ID
+     */
+    private Long cursor;
+    
+    /**
+     * 开始时间
+     */
+    private LocalDateTime startedAt;
+    
+    /**
+     * 最近更新时间
+     */
+    private LocalDateTime updatedAt;
+    
+    /**
+     * 失败原因
+     */
+    private String errorMessage;
+    
+    public TagCleanupProgressResponse() {
+    }
+    
+    /**
+     * 从任务进度构造响应
+     * 
+     * @param progress 任务进度
+     * @return 进度响应DTO
+     */
+    public static TagCleanupProgressResponse from(UnusedTagCleanupProgress progress) {
+        TagCleanupProgressResponse response = new TagCleanupProgressResponse();
+        response.status = progress.getStatus().name();
+        response.deletedCount = progress.getDeletedCount();
+        response.chunkCount = progress.getChunkCount();
+        response.cursor = progress.getCursor();
+        response.startedAt = progress.getStartedAt();
+        response.updatedAt = progress.getUpdatedAt();
+        response.errorMessage = progress.getErrorMessage();
+        return response;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+    
+    public void setDeletedCount(long deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+    
+    public long getChunkCount() {
+        return chunkCount;
+    }
+    
+    public void setChunkCount(long chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+    
+    public Long getCursor() {
+        return cursor;
+    }
+    
+    public void setCursor(Long cursor) {
+        this.cursor = cursor;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+    
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
@@ -38,6 +38,10 @@ public class CommentListResponse {
     @JsonProperty("has_previous")
     private boolean hasPrevious;
     
+    @Schema(description = "续页游标，作为下一次请求的 cursor 参数；没有下一页时为null")
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+    
     /**
      * 默认构造函数
      */
@@ -61,6 +65,23 @@ public class CommentListResponse {
         this.hasPrevious = page > 0;
     }
     
+    /**
+     * 构造函数（游标分页）
+     * 
+     * @param comments 评论列表
+     * @param totalCount 总数量
+     * @param size 每页大小
+     * @param nextCursor 续页游标，没有下一页时为null
+     */
+    public CommentListResponse(List<CommentResponse> comments, long totalCount, int size, String nextCursor) {
+        this.comments = comments;
+        this.totalCount = totalCount;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.hasPrevious = true;
+    }
+    
     // Getters and Setters
     
     public List<CommentResponse> getComments() {
@@ -111,6 +132,14 @@ public class CommentListResponse {
         this.hasPrevious = hasPrevious;
     }
     
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
     @Override
     public String toString() {
         return "CommentListResponse{" +
@@ -120,6 +149,7 @@ public class CommentListResponse {
                 ", size=" + size +
                 ", hasNext=" + hasNext +
                 ", hasPrevious=" + hasPrevious +
+                ", nextCursor='" + nextCursor + '\'' +
                 '}';
     }
 }
\ No newline at end of file
@@ -54,6 +54,10 @@ public class CommentResponse {
     @JsonProperty("latest_replies")
     private List<CommentResponse> latestReplies;
     
+    @Schema(description = "直接回复（仅评论线程查询有效，按发表先后排序）")
+    @JsonProperty("children")
+    private List<CommentResponse> children;
+    
     /**
      * 默认构造函数
      */
@@ -154,6 +158,14 @@ public class CommentResponse {
         this.latestReplies = latestReplies;
     }
     
+    public List<CommentResponse> getChildren() {
+        return children;
+    }
+    
+    public void setChildren(List<CommentResponse> children) {
+        this.children = children;
+    }
+    
     @Override
     public String toString() {
         return "CommentResponse{" +
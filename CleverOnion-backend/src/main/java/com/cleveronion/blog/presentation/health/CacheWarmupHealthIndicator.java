@@ -0,0 +1,31 @@
+package com.cleveronion.blog.presentation.health;
+
+import com.cleveronion.blog.application.common.service.CacheWarmupService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 缓存预热健康检查
+ * 启动预热结束前返回 OUT_OF_SERVICE，纳入 readiness 分组后实例在预热完成前不接收流量
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@Component("cacheWarmup")
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+    
+    private final CacheWarmupService cacheWarmupService;
+    
+    public CacheWarmupHealthIndicator(CacheWarmupService cacheWarmupService) {
+        this.cacheWarmupService = cacheWarmupService;
+    }
+    
+    @Override
+    public Health health() {
+        if (cacheWarmupService.isCompleted()) {
+            return Health.up().build();
+        }
+        return Health.outOfService().withDetail("reason", "缓存预热进行中").build();
+    }
+}
@@ -42,14 +42,19 @@ CREATE UNIQUE INDEX idx_tags_name ON tags(name);
 CREATE TABLE articles (
     id BIGSERIAL PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
-    content TEXT NOT NULL,
     summary TEXT,
     status VARCHAR(50) NOT NULL DEFAULT 'DRAFT',
     category_id BIGINT,
     author_id BIGINT NOT NULL,
+    word_count INTEGER,
+    reading_minutes INTEGER,
+    outline TEXT,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     published_at TIMESTAMP,
+    revision BIGINT NOT NULL DEFAULT 0,
+    comment_count INTEGER NOT NULL DEFAULT 0,
+    last_commented_at TIMESTAMP,
     CONSTRAINT fk_articles_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE SET NULL,
     CONSTRAINT fk_articles_author FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE,
     CONSTRAINT chk_articles_status CHECK (status IN ('DRAFT', 'PUBLISHED', 'ARCHIVED'))
@@ -68,6 +73,16 @@ CREATE INDEX idx_articles_status_created_at ON articles(status, created_at DESC)
 CREATE INDEX idx_articles_category_status_published_at ON articles(category_id, status, published_at DESC);
 CREATE INDEX idx_articles_author_status_published_at ON articles(author_id, status, published_at DESC);
 
+-- 4.1 创建文章正文表（与文章一对一，列表查询不读取正文）
+CREATE TABLE article_bodies (
+    article_id BIGINT PRIMARY KEY,
+    content TEXT,
+    compressed_content BYTEA,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_article_bodies_article FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE,
+    CONSTRAINT chk_article_bodies_content CHECK ((content IS NULL) <> (compressed_content IS NULL))
+);
+
 -- 5. 创建文章标签关联表
 CREATE TABLE article_tags (
     article_id BIGINT NOT NULL,
@@ -88,6 +103,7 @@ CREATE TABLE comments (
     article_id BIGINT NOT NULL,
     user_id BIGINT NOT NULL,
     parent_id BIGINT,
+    path VARCHAR(2000) COLLATE "C" NOT NULL DEFAULT '',
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     CONSTRAINT fk_comments_article FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE,
@@ -98,8 +114,22 @@ CREATE TABLE comments (
 -- 为评论表创建索引
 CREATE INDEX idx_comments_article_id ON comments(article_id);
 CREATE INDEX idx_comments_user_id ON comments(user_id);
-CREATE INDEX idx_comments_parent_id ON comments(parent_id);
 CREATE INDEX idx_comments_created_at ON comments(created_at);
+CREATE INDEX idx_comments_article_created_at ON comments(article_id, created_at);
+-- 键集分页：回复按 (created_at, id) 续读，顶级评论使用部分索引
+CREATE INDEX idx_comments_parent_created_at ON comments(parent_id, created_at, id);
+CREATE INDEX idx_comments_top_level_created_at ON comments(article_id, created_at, id) WHERE parent_id IS NULL;
+-- 物化路径按字节序比较，子树查询为一次索引范围扫描
+CREATE INDEX idx_comments_path ON comments(path, id);
+
+-- 6.1 创建文章渲染结果表（按 Markdown 内容哈希存储，同一内容只渲染一次）
+CREATE TABLE article_renders (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    renderer_version INTEGER NOT NULL,
+    html TEXT NOT NULL,
+    toc TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
 
 -- 7. 创建触发器函数，用于自动更新 updated_at 字段
 CREATE OR REPLACE FUNCTION update_updated_at_column()
@@ -120,8 +150,12 @@ CREATE TRIGGER update_categories_updated_at BEFORE UPDATE ON categories
 CREATE TRIGGER update_tags_updated_at BEFORE UPDATE ON tags
     FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
 
+-- 评论统计的维护不算文章更新
 CREATE TRIGGER update_articles_updated_at BEFORE UPDATE ON articles
-    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+    FOR EACH ROW
+    WHEN (OLD.comment_count IS NOT DISTINCT FROM NEW.comment_count
+        AND OLD.last_commented_at IS NOT DISTINCT FROM NEW.last_commented_at)
+    EXECUTE FUNCTION update_updated_at_column();
 
 CREATE TRIGGER update_comments_updated_at BEFORE UPDATE ON comments
     FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
@@ -154,12 +188,24 @@ COMMENT ON TABLE tags IS '文章标签表';
 
 COMMENT ON COLUMN categories.icon IS '分类图标，可以是图标类名或图标URL';
 COMMENT ON TABLE articles IS '文章表，存储博客文章内容';
+COMMENT ON COLUMN articles.revision IS '修订号，每次写入递增，用于提交后按版本写入缓存';
+COMMENT ON COLUMN articles.comment_count IS '评论数（含回复），随评论写入维护，定时对账修复偏差';
+COMMENT ON COLUMN articles.last_commented_at IS '最近评论时间，没有评论时为NULL';
 COMMENT ON TABLE article_tags IS '文章标签关联表，多对多关系';
 COMMENT ON TABLE comments IS '评论表，支持层级回复';
+COMMENT ON TABLE article_bodies IS '文章正文表，与文章一对一，正文按需加载';
+COMMENT ON TABLE article_renders IS '文章渲染结果表，按内容哈希缓存 Markdown 渲染后的 HTML 和目录';
 
 COMMENT ON COLUMN users.github_id IS 'GitHub用户唯一ID';
 COMMENT ON COLUMN users.username IS 'GitHub用户名';
 COMMENT ON COLUMN users.avatar_url IS 'GitHub头像链接';
 COMMENT ON COLUMN articles.status IS '文章状态：DRAFT-草稿，PUBLISHED-已发布，ARCHIVED-已归档';
-COMMENT ON COLUMN articles.content IS '文章正文，Markdown格式';
-COMMENT ON COLUMN comments.parent_id IS '父评论ID，用于层级回复，NULL表示顶级评论';
\ No newline at end of file
+COMMENT ON COLUMN articles.word_count IS '字数，写入时由正文派生';
+COMMENT ON COLUMN articles.reading_minutes IS '预计阅读时长（分钟），写入时由正文派生';
+COMMENT ON COLUMN articles.outline IS '标题大纲，JSON数组，写入时由正文派生';
+COMMENT ON COLUMN article_bodies.content IS '文章正文，Markdown格式，未压缩时使用';
+COMMENT ON COLUMN article_bodies.compressed_content IS 'GZIP 压缩后的 UTF-8 正文，启用应用层压缩且正文较大时使用';
+COMMENT ON COLUMN article_renders.content_hash IS '渲染器版本与 Markdown 原文的 SHA-256 十六进制摘要';
+COMMENT ON COLUMN article_renders.toc IS '目录，JSON 数组';
+COMMENT ON COLUMN comments.parent_id IS '父评论ID，用于层级回复，NULL表示顶级评论';
+COMMENT ON COLUMN comments.path IS '祖先路径，由根到父逐级的19位补零评论ID加"/"组成，顶级评论为空串';
\ No newline at end of file
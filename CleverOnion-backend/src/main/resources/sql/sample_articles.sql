@@ -2,7 +2,21 @@
 -- 注意：执行前请确保已有用户、分类和标签数据
 
 -- 插入示例文章数据
-INSERT INTO articles (title, content, summary, status, category_id, author_id, created_at, updated_at, published_at) VALUES 
+-- 正文单独存放在 article_bodies，先写入临时表再拆分到两张表
+CREATE TEMP TABLE seed_articles (
+    seq BIGSERIAL,
+    title VARCHAR(255),
+    content TEXT,
+    summary TEXT,
+    status VARCHAR(50),
+    category_id BIGINT,
+    author_id BIGINT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP
+);
+
+INSERT INTO seed_articles (title, content, summary, status, category_id, author_id, created_at, updated_at, published_at) VALUES 
 -- 1. Spring Boot 微服务架构实践
 ('Spring Boot 微服务架构实践', 
 '# Spring Boot 微服务架构实践
@@ -612,6 +626,16 @@ DDD 帮助我们构建更贴近业务的软件模型，通过合理的分层和
 '微服务架构设计的思考和实践，包括拆分原则、技术选型、挑战与解决方案。', 
 'DRAFT', 4, 1, NOW(), NOW(), NULL);
 
+INSERT INTO articles (title, summary, status, category_id, author_id, created_at, updated_at, published_at)
+SELECT title, summary, status, category_id, author_id, created_at, updated_at, published_at
+FROM seed_articles ORDER BY seq;
+
+INSERT INTO article_bodies (article_id, content, updated_at)
+SELECT a.id, s.content, s.updated_at
+FROM seed_articles s JOIN articles a ON a.title = s.title;
+
+DROP TABLE seed_articles;
+
 -- 插入文章标签关联数据
 INSERT INTO article_tags (article_id, tag_id, created_at) VALUES 
 -- Spring Boot 微服务架构实践 (文章ID需要根据实际插入后的ID调整)
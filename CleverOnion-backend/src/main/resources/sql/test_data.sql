@@ -36,7 +36,21 @@ INSERT INTO tags (name) VALUES
     ('Linux');
 
 -- 4. 插入测试文章
-INSERT INTO articles (title, content, summary, status, category_id, author_id, published_at) VALUES 
+-- 正文单独存放在 article_bodies，先写入临时表再拆分到两张表
+CREATE TEMP TABLE seed_articles (
+    seq BIGSERIAL,
+    title VARCHAR(255),
+    content TEXT,
+    summary TEXT,
+    status VARCHAR(50),
+    category_id BIGINT,
+    author_id BIGINT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP
+);
+
+INSERT INTO seed_articles (title, content, summary, status, category_id, author_id, published_at) VALUES 
     (
         'Spring Boot 项目搭建指南',
         '# Spring Boot 项目搭建指南\n\n## 1. 环境准备\n\n在开始之前，请确保你的开发环境已经安装了以下工具：\n\n- JDK 17 或更高版本\n- Maven 3.6+ 或 Gradle 7+\n- IDE（推荐 IntelliJ IDEA 或 Eclipse）\n\n## 2. 创建项目\n\n使用 Spring Initializr 创建项目...\n\n## 3. 添加依赖\n\n在 pom.xml 中添加必要的依赖...\n\n## 4. 配置文件\n\n配置 application.yml 文件...\n\n## 总结\n\n通过以上步骤，我们成功搭建了一个基础的 Spring Boot 项目。',
@@ -74,6 +88,16 @@ INSERT INTO articles (title, content, summary, status, category_id, author_id, p
         NULL
     );
 
+INSERT INTO articles (title, summary, status, category_id, author_id, created_at, updated_at, published_at)
+SELECT title, summary, status, category_id, author_id, created_at, updated_at, published_at
+FROM seed_articles ORDER BY seq;
+
+INSERT INTO article_bodies (article_id, content, updated_at)
+SELECT a.id, s.content, s.updated_at
+FROM seed_articles s JOIN articles a ON a.title = s.title;
+
+DROP TABLE seed_articles;
+
 -- 5. 为文章添加标签关联
 INSERT INTO article_tags (article_id, tag_id) VALUES 
     -- Spring Boot 项目搭建指南
@@ -128,5 +152,5 @@ INSERT INTO comments (content, article_id, user_id, parent_id) VALUES
     );
 
 -- 添加注释
-COMMENT ON COLUMN articles.content IS '文章内容使用 Markdown 格式编写';
+COMMENT ON COLUMN article_bodies.content IS '文章内容使用 Markdown 格式编写';
 COMMENT ON COLUMN comments.parent_id IS '父评论ID，NULL表示顶级评论，非NULL表示回复评论';
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.cleveronion.blog.application.admin.service;
+
+import cn.dev33.satoken.session.SaSession;
+import cn.dev33.satoken.stp.StpUtil;
+import com.cleveronion.blog.application.auth.service.AuthApplicationService;
+import com.cleveronion.blog.application.user.service.UserQueryService;
+import com.cleveronion.blog.domain.user.aggregate.UserAggregate;
+import com.cleveronion.blog.domain.user.valueobject.GitHubId;
+import com.cleveronion.blog.domain.user.valueobject.UserId;
+import com.cleveronion.blog.infrastructure.common.config.AdminConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AdminApplicationService 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdminApplicationService 单元测试")
+class AdminApplicationServiceTest {
+
+    private static final Long ADMIN_GITHUB_ID = 1001L;
+    private static final Long USER_GITHUB_ID = 2002L;
+
+    @Mock
+    private UserQueryService userQueryService;
+
+    @Mock
+    private SaSession session;
+
+    private MockedStatic<StpUtil> stpUtil;
+    private AdminApplicationService adminApplicationService;
+
+    @BeforeEach
+    void setUp() {
+        AdminConfig adminConfig = new AdminConfig();
+        adminConfig.setGithubIds(List.of(ADMIN_GITHUB_ID));
+        adminApplicationService = new AdminApplicationService(adminConfig, userQueryService);
+        stpUtil = mockStatic(StpUtil.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stpUtil.close();
+    }
+
+    @Test
+    @DisplayName("会话中有GitHub ID时直接判断，不查询用户")
+    void shouldUseGitHubIdFromSession() {
+        // Given
+        login(1L);
+        when(session.getModel(AuthApplicationService.SESSION_KEY_GITHUB_ID, Long.class)).thenReturn(ADMIN_GITHUB_ID);
+
+        // When
+        boolean result = adminApplicationService.isCurrentUserAdmin();
+
+        // Then
+        assertTrue(result);
+        verifyNoInteractions(userQueryService);
+    }
+
+    @Test
+    @DisplayName("会话中的GitHub ID不在管理员列表时不是管理员")
+    void shouldRejectNonAdminFromSession() {
+        // Given
+        login(2L);
+        when(session.getModel(AuthApplicationService.SESSION_KEY_GITHUB_ID, Long.class)).thenReturn(USER_GITHUB_ID);
+
+        // When
+        boolean result = adminApplicationService.isCurrentUserAdmin();
+
+        // Then
+        assertFalse(result);
+        verifyNoInteractions(userQueryService);
+    }
+
+    @Test
+    @DisplayName("会话中没有GitHub ID时查询用户并回填会话")
+    void shouldLookUpUserAndBackfillSession() {
+        // Given
+        login(1L);
+        UserAggregate user = mock(UserAggregate.class);
+        when(user.getGitHubId()).thenReturn(GitHubId.of(ADMIN_GITHUB_ID));
+        when(userQueryService.findById(UserId.of(1L))).thenReturn(Optional.of(user));
+
+        // When
+        boolean result = adminApplicationService.isCurrentUserAdmin();
+
+        // Then
+        assertTrue(result);
+        verify(session).set(AuthApplicationService.SESSION_KEY_GITHUB_ID, ADMIN_GITHUB_ID);
+    }
+
+    @Test
+    @DisplayName("会话中没有GitHub ID且用户不存在时不是管理员")
+    void shouldRejectWhenUserNotFound() {
+        // Given
+        login(3L);
+        when(userQueryService.findById(UserId.of(3L))).thenReturn(Optional.empty());
+
+        // When
+        boolean result = adminApplicationService.isCurrentUserAdmin();
+
+        // Then
+        assertFalse(result);
+        verify(session, never()).set(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("未登录时不是管理员")
+    void shouldRejectWhenNotLoggedIn() {
+        // Given
+        stpUtil.when(StpUtil::isLogin).thenReturn(false);
+
+        // When
+        boolean result = adminApplicationService.isCurrentUserAdmin();
+
+        // Then
+        assertFalse(result);
+        stpUtil.verify(StpUtil::getSession, never());
+        verifyNoInteractions(userQueryService);
+    }
+
+    @Test
+    @DisplayName("按GitHub ID判断管理员")
+    void shouldCheckAdminByGitHubId() {
+        assertTrue(adminApplicationService.isAdminByGitHubId(ADMIN_GITHUB_ID));
+        assertFalse(adminApplicationService.isAdminByGitHubId(USER_GITHUB_ID));
+        assertFalse(adminApplicationService.isAdminByGitHubId(null));
+    }
+
+    private void login(Long userId) {
+        stpUtil.when(StpUtil::isLogin).thenReturn(true);
+        stpUtil.when(StpUtil::getLoginIdAsString).thenReturn(String.valueOf(userId));
+        stpUtil.when(StpUtil::getSession).thenReturn(session);
+    }
+}
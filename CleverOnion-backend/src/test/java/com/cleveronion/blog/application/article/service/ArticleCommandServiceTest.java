@@ -7,20 +7,26 @@ import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
 import com.cleveronion.blog.domain.article.repository.ArticleRepository;
 import com.cleveronion.blog.domain.article.valueobject.*;
 import com.cleveronion.blog.domain.common.event.DomainEventPublisher;
+import com.cleveronion.blog.infrastructure.common.cache.IdExistenceFilter;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,9 +44,24 @@ class ArticleCommandServiceTest {
     @Mock(lenient = true)
     private DomainEventPublisher eventPublisher;
     
+    @Mock(lenient = true)
+    private IdExistenceFilter idExistenceFilter;
+    
+    @Mock(lenient = true)
+    private ArticleRenderService articleRenderService;
+    
+    @Mock(lenient = true)
+    private ArticleWriteThroughCache articleWriteThroughCache;
+    
     @InjectMocks
     private ArticleCommandService commandService;
     
+    @BeforeEach
+    void setUp() {
+        when(articleRenderService.analyze(anyString()))
+            .thenReturn(new ArticleMetadata(2, 1, List.of()));
+    }
+    
     @Nested
     @DisplayName("创建文章草稿测试")
     class CreateDraftTests {
@@ -94,6 +115,61 @@ class ArticleCommandServiceTest {
             // Then
             verify(articleRepository).save(any(ArticleAggregate.class));
         }
+        
+        @Test
+        @DisplayName("未填写摘要时应该抽取摘要并派生元数据")
+        void should_derive_summary_and_metadata_when_summary_missing() {
+            // Given
+            CreateArticleDraftCommand command = new CreateArticleDraftCommand(
+                new ArticleContent("标题", "# 引言\n\n第一段正文。", null),
+                new CategoryId(1L),
+                new AuthorId(1L),
+                null
+            );
+            ArticleMetadata metadata = new ArticleMetadata(7, 1, List.of(new TocEntry(1, "引言", "引言")));
+            when(articleRenderService.analyze("# 引言\n\n第一段正文。")).thenReturn(metadata);
+            when(articleRenderService.extractSummary("# 引言\n\n第一段正文。")).thenReturn("第一段正文。");
+            
+            ArticleAggregate mockArticle = mock(ArticleAggregate.class);
+            when(mockArticle.getId()).thenReturn(new ArticleId("1"));
+            when(mockArticle.getContent()).thenReturn(command.getContent());
+            when(articleRepository.save(any())).thenReturn(mockArticle);
+            
+            // When
+            commandService.createDraft(command);
+            
+            // Then
+            ArgumentCaptor<ArticleAggregate> captor = ArgumentCaptor.forClass(ArticleAggregate.class);
+            verify(articleRepository).save(captor.capture());
+            assertThat(captor.getValue().getContent().getSummary()).isEqualTo("第一段正文。");
+            assertThat(captor.getValue().getMetadata()).isEqualTo(metadata);
+        }
+        
+        @Test
+        @DisplayName("作者填写的摘要不应被抽取摘要覆盖")
+        void should_keep_author_summary() {
+            // Given
+            CreateArticleDraftCommand command = new CreateArticleDraftCommand(
+                new ArticleContent("标题", "正文内容", "作者摘要"),
+                new CategoryId(1L),
+                new AuthorId(1L),
+                null
+            );
+            when(articleRenderService.extractSummary("正文内容")).thenReturn("正文内容");
+            
+            ArticleAggregate mockArticle = mock(ArticleAggregate.class);
+            when(mockArticle.getId()).thenReturn(new ArticleId("1"));
+            when(mockArticle.getContent()).thenReturn(command.getContent());
+            when(articleRepository.save(any())).thenReturn(mockArticle);
+            
+            // When
+            commandService.createDraft(command);
+            
+            // Then
+            ArgumentCaptor<ArticleAggregate> captor = ArgumentCaptor.forClass(ArticleAggregate.class);
+            verify(articleRepository).save(captor.capture());
+            assertThat(captor.getValue().getContent().getSummary()).isEqualTo("作者摘要");
+        }
     }
     
     @Nested
@@ -114,6 +190,7 @@ class ArticleCommandServiceTest {
             ArticleAggregate mockArticle = mock(ArticleAggregate.class);
             when(mockArticle.getId()).thenReturn(new ArticleId("1"));
             when(mockArticle.getContent()).thenReturn(command.getContent());
+            when(mockArticle.loadContent()).thenReturn(command.getContent());
             when(mockArticle.hasDomainEvents()).thenReturn(false);
             when(articleRepository.save(any())).thenReturn(mockArticle);
             
@@ -124,6 +201,32 @@ class ArticleCommandServiceTest {
             assertThat(result).isNotNull();
             verify(articleRepository).save(any(ArticleAggregate.class));
         }
+        
+        @Test
+        @DisplayName("发布后应该预渲染正文，渲染失败不影响发布")
+        void should_prerender_content_after_publish() {
+            // Given
+            PublishArticleCommand command = new PublishArticleCommand(
+                new ArticleContent("标题", "# 内容", "摘要"),
+                new CategoryId(1L),
+                new AuthorId(1L),
+                null
+            );
+            
+            ArticleAggregate mockArticle = mock(ArticleAggregate.class);
+            when(mockArticle.getId()).thenReturn(new ArticleId("1"));
+            when(mockArticle.getContent()).thenReturn(command.getContent());
+            when(mockArticle.loadContent()).thenReturn(command.getContent());
+            when(articleRepository.save(any())).thenReturn(mockArticle);
+            when(articleRenderService.getOrRender("# 内容")).thenThrow(new IllegalStateException("渲染失败"));
+            
+            // When
+            ArticleAggregate result = commandService.createAndPublish(command);
+            
+            // Then
+            assertThat(result).isNotNull();
+            verify(articleRenderService).getOrRender("# 内容");
+        }
     }
     
     @Nested
@@ -144,6 +247,7 @@ class ArticleCommandServiceTest {
             ArticleAggregate mockArticle = mock(ArticleAggregate.class);
             when(mockArticle.belongsToAuthor(authorId)).thenReturn(true);
             when(mockArticle.getId()).thenReturn(articleId);
+            when(mockArticle.loadContent()).thenReturn(newContent);
             when(mockArticle.hasDomainEvents()).thenReturn(false);
             when(articleRepository.findById(articleId)).thenReturn(Optional.of(mockArticle));
             when(articleRepository.save(any())).thenReturn(mockArticle);
@@ -158,6 +262,55 @@ class ArticleCommandServiceTest {
             verify(articleRepository).save(any());
         }
         
+        @Test
+        @DisplayName("正文变化时应该重新抽取上次自动生成的摘要")
+        void should_rederive_auto_summary_when_content_changes() {
+            // Given
+            ArticleId articleId = new ArticleId("1");
+            AuthorId authorId = new AuthorId(1L);
+            ArticleAggregate article = ArticleAggregate.rebuild(articleId,
+                new ArticleContent("标题", "旧正文。", "旧正文。"),
+                ArticleStatus.DRAFT, new CategoryId(1L), authorId, null, null);
+            // 控制器合并请求时会带上原有摘要
+            UpdateArticleCommand command = new UpdateArticleCommand(
+                articleId, new ArticleContent("标题", "新正文。", "旧正文。"), null, null, authorId);
+            when(articleRenderService.extractSummary("旧正文。")).thenReturn("旧正文。");
+            when(articleRenderService.extractSummary("新正文。")).thenReturn("新正文。");
+            when(articleRenderService.analyze("新正文。")).thenReturn(new ArticleMetadata(4, 1, List.of()));
+            when(articleRepository.findById(articleId)).thenReturn(Optional.of(article));
+            when(articleRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+            
+            // When
+            ArticleAggregate result = commandService.updateContent(command);
+            
+            // Then
+            assertThat(result.getContent().getSummary()).isEqualTo("新正文。");
+        }
+        
+        @Test
+        @DisplayName("正文变化时应该保留作者改写过的摘要")
+        void should_keep_author_summary_when_content_changes() {
+            // Given
+            ArticleId articleId = new ArticleId("1");
+            AuthorId authorId = new AuthorId(1L);
+            ArticleAggregate article = ArticleAggregate.rebuild(articleId,
+                new ArticleContent("标题", "旧正文。", "作者摘要"),
+                ArticleStatus.DRAFT, new CategoryId(1L), authorId, null, null);
+            UpdateArticleCommand command = new UpdateArticleCommand(
+                articleId, new ArticleContent("标题", "新正文。", "作者摘要"), null, null, authorId);
+            when(articleRenderService.extractSummary("旧正文。")).thenReturn("旧正文。");
+            when(articleRenderService.extractSummary("新正文。")).thenReturn("新正文。");
+            when(articleRenderService.analyze("新正文。")).thenReturn(new ArticleMetadata(4, 1, List.of()));
+            when(articleRepository.findById(articleId)).thenReturn(Optional.of(article));
+            when(articleRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+            
+            // When
+            ArticleAggregate result = commandService.updateContent(command);
+            
+            // Then
+            assertThat(result.getContent().getSummary()).isEqualTo("作者摘要");
+        }
+        
         @Test
         @DisplayName("更新不存在的文章应该抛出异常")
         void should_throw_exception_when_article_not_found() {
@@ -220,6 +373,7 @@ class ArticleCommandServiceTest {
             ArticleAggregate mockArticle = mock(ArticleAggregate.class);
             when(mockArticle.belongsToAuthor(authorId)).thenReturn(true);
             when(mockArticle.getId()).thenReturn(articleId);
+            when(mockArticle.loadContent()).thenReturn(new ArticleContent("标题", "内容", "摘要"));
             when(mockArticle.hasDomainEvents()).thenReturn(false);
             when(articleRepository.findById(articleId)).thenReturn(Optional.of(mockArticle));
             when(articleRepository.save(any())).thenReturn(mockArticle);
@@ -233,6 +387,29 @@ class ArticleCommandServiceTest {
             verify(articleRepository).save(any());
         }
         
+        @Test
+        @DisplayName("发布后应该按新修订号写入缓存")
+        void should_write_through_with_new_revision_after_publish() {
+            // Given
+            ArticleId articleId = new ArticleId("1");
+            AuthorId authorId = new AuthorId(1L);
+            
+            ArticleAggregate mockArticle = mock(ArticleAggregate.class);
+            when(mockArticle.belongsToAuthor(authorId)).thenReturn(true);
+            when(mockArticle.getId()).thenReturn(articleId);
+            when(mockArticle.loadContent()).thenReturn(new ArticleContent("标题", "内容", "摘要"));
+            when(mockArticle.hasDomainEvents()).thenReturn(false);
+            when(articleRepository.findById(articleId)).thenReturn(Optional.of(mockArticle));
+            when(articleRepository.save(any())).thenReturn(mockArticle);
+            when(articleRepository.nextRevision(articleId)).thenReturn(7L);
+            
+            // When
+            commandService.publish(articleId, authorId);
+            
+            // Then
+            verify(articleWriteThroughCache).putAfterCommit(mockArticle, 7L);
+        }
+        
         @Test
         @DisplayName("发布不存在的文章应该抛出异常")
         void should_throw_exception_when_publish_non_existing_article() {
@@ -297,6 +474,7 @@ class ArticleCommandServiceTest {
             
             // Then
             verify(articleRepository).deleteById(articleId);
+            verify(articleWriteThroughCache).evictAfterCommit(eq(articleId), anyLong());
         }
         
         @Test
@@ -1,8 +1,12 @@
 package com.cleveronion.blog.application.article.service;
 
+import com.cleveronion.blog.application.article.dto.ArticlePage;
+import com.cleveronion.blog.common.cache.CacheNames;
 import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
 import com.cleveronion.blog.domain.article.repository.ArticleRepository;
 import com.cleveronion.blog.domain.article.valueobject.*;
+import com.cleveronion.blog.infrastructure.common.cache.IdExistenceFilter;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,13 +14,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,9 +39,20 @@ class ArticleQueryServiceTest {
     @Mock(lenient = true)
     private ArticleRepository articleRepository;
     
+    @Mock(lenient = true)
+    private IdExistenceFilter idExistenceFilter;
+    
+    @Mock(lenient = true)
+    private CacheManager cacheManager;
+    
     @InjectMocks
     private ArticleQueryService queryService;
     
+    @BeforeEach
+    void setUp() {
+        when(idExistenceFilter.mightExistArticle(anyString())).thenReturn(true);
+    }
+    
     @Nested
     @DisplayName("基础查询测试")
     class BasicQueryTests {
@@ -94,10 +113,10 @@ class ArticleQueryServiceTest {
             when(articleRepository.findPublishedArticles(0, 10)).thenReturn(mockArticles);
             
             // When
-            List<ArticleAggregate> result = queryService.findPublishedArticles(0, 10);
+            ArticlePage<ArticleAggregate> result = queryService.findPublishedArticles(0, 10);
             
             // Then
-            assertThat(result).hasSize(2);
+            assertThat(result.getItems()).hasSize(2);
             verify(articleRepository).findPublishedArticles(0, 10);
         }
         
@@ -192,5 +211,88 @@ class ArticleQueryServiceTest {
             verify(articleRepository).countByAuthorId(authorId);
         }
     }
+    
+    @Nested
+    @DisplayName("两级列表缓存测试")
+    class TwoLevelListCacheTests {
+        
+        private ConcurrentMapCacheManager listCacheManager;
+        private ArticleQueryService cachedQueryService;
+        
+        @BeforeEach
+        void setUp() {
+            listCacheManager = new ConcurrentMapCacheManager(CacheNames.ARTICLE_LIST, CacheNames.ARTICLE_SUMMARY);
+            cachedQueryService = new ArticleQueryService(articleRepository, idExistenceFilter, listCacheManager);
+        }
+        
+        @Test
+        @DisplayName("列表缓存只保存文章ID和总数，命中时从摘要缓存装配")
+        void should_cache_ids_and_hydrate_from_summaries() {
+            // Given
+            ArticleAggregate first = articleWithId("1");
+            ArticleAggregate second = articleWithId("2");
+            when(articleRepository.findPublishedArticles(0, 10)).thenReturn(List.of(first, second));
+            when(articleRepository.countPublishedArticles()).thenReturn(12L);
+            
+            // When
+            ArticlePage<ArticleAggregate> loaded = cachedQueryService.findPublishedArticles(0, 10);
+            ArticlePage<ArticleAggregate> cached = cachedQueryService.findPublishedArticles(0, 10);
+            
+            // Then
+            assertThat(loaded.getItems()).containsExactly(first, second);
+            assertThat(cached.getItems()).containsExactly(first, second);
+            assertThat(cached.getTotalCount()).isEqualTo(12L);
+            ArticlePage<?> entry = (ArticlePage<?>) listCacheManager.getCache(CacheNames.ARTICLE_LIST)
+                .get("published:page:0:size:10").get();
+            assertThat(entry.getItems()).isEqualTo(List.of("1", "2"));
+            assertThat(entry.getTotalCount()).isEqualTo(12L);
+            verify(articleRepository, times(1)).findPublishedArticles(0, 10);
+            verify(articleRepository, times(1)).countPublishedArticles();
+            verify(articleRepository, never()).findByIds(any());
+        }
+        
+        @Test
+        @DisplayName("摘要未命中时只查询缺失的文章，并保持列表顺序")
+        void should_load_only_missing_summaries() {
+            // Given
+            ArticleAggregate first = articleWithId("1");
+            ArticleAggregate second = articleWithId("2");
+            when(articleRepository.findPublishedArticles(0, 10)).thenReturn(List.of(first, second));
+            cachedQueryService.findPublishedArticles(0, 10);
+            listCacheManager.getCache(CacheNames.ARTICLE_SUMMARY).evict("1");
+            when(articleRepository.findByIds(Set.of(new ArticleId("1")))).thenReturn(List.of(first));
+            
+            // When
+            ArticlePage<ArticleAggregate> result = cachedQueryService.findPublishedArticles(0, 10);
+            
+            // Then
+            assertThat(result.getItems()).containsExactly(first, second);
+            verify(articleRepository).findByIds(Set.of(new ArticleId("1")));
+            verify(articleRepository, times(1)).findPublishedArticles(0, 10);
+        }
+        
+        @Test
+        @DisplayName("已删除的文章从列表中跳过")
+        void should_skip_deleted_articles() {
+            // Given
+            ArticleAggregate first = articleWithId("1");
+            ArticleAggregate second = articleWithId("2");
+            when(articleRepository.findPublishedArticles(0, 10)).thenReturn(List.of(first, second));
+            cachedQueryService.findPublishedArticles(0, 10);
+            listCacheManager.getCache(CacheNames.ARTICLE_SUMMARY).evict("2");
+            when(articleRepository.findByIds(any())).thenReturn(List.of());
+            
+            // When
+            ArticlePage<ArticleAggregate> result = cachedQueryService.findPublishedArticles(0, 10);
+            
+            // Then
+            assertThat(result.getItems()).containsExactly(first);
+        }
+        
+        private ArticleAggregate articleWithId(String id) {
+            ArticleAggregate article = mock(ArticleAggregate.class);
+            when(article.getId()).thenReturn(new ArticleId(id));
+            return article;
+        }
+    }
 }
-
@@ -4,6 +4,7 @@ import com.cleveronion.blog.domain.article.aggregate.CategoryAggregate;
 import com.cleveronion.blog.domain.article.repository.ArticleRepository;
 import com.cleveronion.blog.domain.article.repository.CategoryRepository;
 import com.cleveronion.blog.domain.article.valueobject.CategoryId;
+import com.cleveronion.blog.infrastructure.common.cache.DimensionSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,11 +35,14 @@ class CategoryQueryServiceTest {
     @Mock
     private ArticleRepository articleRepository;
     
+    @Mock
+    private DimensionSnapshot dimensionSnapshot;
+    
     private CategoryQueryService queryService;
     
     @BeforeEach
     void setUp() {
-        queryService = new CategoryQueryService(categoryRepository, articleRepository);
+        queryService = new CategoryQueryService(categoryRepository, articleRepository, dimensionSnapshot);
     }
     
     @Test
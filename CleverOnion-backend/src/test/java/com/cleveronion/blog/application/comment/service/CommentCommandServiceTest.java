@@ -8,6 +8,7 @@ import com.cleveronion.blog.domain.comment.event.CommentCreatedEvent;
 import com.cleveronion.blog.domain.comment.event.CommentDeletedEvent;
 import com.cleveronion.blog.domain.comment.repository.CommentRepository;
 import com.cleveronion.blog.domain.comment.valueobject.CommentId;
+import com.cleveronion.blog.domain.comment.valueobject.CommentPath;
 import com.cleveronion.blog.domain.common.event.DomainEvent;
 import com.cleveronion.blog.domain.common.event.DomainEventPublisher;
 import com.cleveronion.blog.domain.user.valueobject.UserId;
@@ -79,6 +80,7 @@ class CommentCommandServiceTest {
         CommentAggregate replyComment = mock(CommentAggregate.class);
         
         when(parentComment.getArticleId()).thenReturn(new ArticleId("1"));
+        when(parentComment.getPath()).thenReturn(CommentPath.root());
         when(commentRepository.findById(new CommentId(10L))).thenReturn(Optional.of(parentComment));
         when(replyComment.getId()).thenReturn(new CommentId(2L));
         when(replyComment.getArticleId()).thenReturn(new ArticleId("1"));
@@ -91,7 +93,9 @@ class CommentCommandServiceTest {
         // Then
         assertNotNull(result);
         verify(commentRepository).findById(new CommentId(10L));
-        verify(commentRepository).save(any(CommentAggregate.class));
+        ArgumentCaptor<CommentAggregate> captor = ArgumentCaptor.forClass(CommentAggregate.class);
+        verify(commentRepository).save(captor.capture());
+        assertEquals("0000000000000000010/", captor.getValue().getPath().getValue());
         verify(eventPublisher).publish(any(CommentCreatedEvent.class));
     }
     
@@ -142,14 +146,14 @@ class CommentCommandServiceTest {
         when(comment.getUserId()).thenReturn(UserId.of(100L));
         when(comment.getArticleId()).thenReturn(new ArticleId("1"));
         when(commentRepository.findById(new CommentId(1L))).thenReturn(Optional.of(comment));
-        when(commentRepository.findByParentId(new CommentId(1L))).thenReturn(List.of());
+        when(commentRepository.deleteSubtree(new CommentId(1L))).thenReturn(List.of(new CommentId(1L)));
         
         // When
         commandService.deleteComment(command);
         
         // Then
         verify(commentRepository).findById(new CommentId(1L));
-        verify(commentRepository).deleteById(new CommentId(1L));
+        verify(commentRepository).deleteSubtree(new CommentId(1L));
         verify(eventPublisher).publish(any(CommentDeletedEvent.class));
     }
     
@@ -167,7 +171,7 @@ class CommentCommandServiceTest {
         );
         
         assertTrue(exception.getMessage().contains("评论不存在"));
-        verify(commentRepository, never()).deleteById(any());
+        verify(commentRepository, never()).deleteSubtree(any());
     }
     
     @Test
@@ -187,34 +191,51 @@ class CommentCommandServiceTest {
         );
         
         assertTrue(exception.getMessage().contains("无权限删除该评论"));
-        verify(commentRepository, never()).deleteById(any());
+        verify(commentRepository, never()).deleteSubtree(any());
     }
     
     @Test
-    @DisplayName("删除评论时应该递归删除子评论")
-    void shouldDeleteCommentWithRepliesRecursively() {
+    @DisplayName("删除评论时应该一次删除整棵回复子树")
+    void shouldDeleteCommentWithRepliesInOneStatement() {
         // Given
         DeleteCommentCommand command = new DeleteCommentCommand(1L, 100L);
         CommentAggregate comment = mock(CommentAggregate.class);
-        CommentAggregate reply1 = mock(CommentAggregate.class);
-        CommentAggregate reply2 = mock(CommentAggregate.class);
         
         when(comment.getUserId()).thenReturn(UserId.of(100L));
         when(comment.getArticleId()).thenReturn(new ArticleId("1"));
-        when(reply1.getId()).thenReturn(new CommentId(2L));
-        when(reply2.getId()).thenReturn(new CommentId(3L));
+        when(commentRepository.findById(new CommentId(1L))).thenReturn(Optional.of(comment));
+        when(commentRepository.deleteSubtree(new CommentId(1L)))
+            .thenReturn(List.of(new CommentId(1L), new CommentId(2L), new CommentId(3L)));
+        
+        // When
+        commandService.deleteComment(command);
         
+        // Then
+        verify(commentRepository, never()).findByParentId(any());
+        verify(commentRepository, never()).deleteById(any());
+        ArgumentCaptor<CommentDeletedEvent> eventCaptor = ArgumentCaptor.forClass(CommentDeletedEvent.class);
+        verify(eventPublisher).publish(eventCaptor.capture());
+        assertEquals(3, eventCaptor.getValue().getDeletedCount()); // 1个父+2个子
+        assertEquals(List.of(new CommentId(1L), new CommentId(2L), new CommentId(3L)),
+            eventCaptor.getValue().getDeletedCommentIds());
+    }
+    
+    @Test
+    @DisplayName("评论已被并发删除时不发布事件")
+    void shouldNotPublishEventWhenAlreadyDeleted() {
+        // Given
+        DeleteCommentCommand command = new DeleteCommentCommand(1L, 100L);
+        CommentAggregate comment = mock(CommentAggregate.class);
+        
+        when(comment.getUserId()).thenReturn(UserId.of(100L));
         when(commentRepository.findById(new CommentId(1L))).thenReturn(Optional.of(comment));
-        when(commentRepository.findByParentId(new CommentId(1L))).thenReturn(List.of(reply1, reply2));
-        when(commentRepository.findByParentId(new CommentId(2L))).thenReturn(List.of());
-        when(commentRepository.findByParentId(new CommentId(3L))).thenReturn(List.of());
+        when(commentRepository.deleteSubtree(new CommentId(1L))).thenReturn(List.of());
         
         // When
         commandService.deleteComment(command);
         
         // Then
-        verify(commentRepository, times(3)).deleteById(any()); // 删除3个评论（1个父+2个子）
-        verify(eventPublisher).publish(any(CommentDeletedEvent.class));
+        verify(eventPublisher, never()).publish(any());
     }
     
     @Test
@@ -253,7 +274,7 @@ class CommentCommandServiceTest {
         when(comment.getUserId()).thenReturn(UserId.of(100L));
         when(comment.getArticleId()).thenReturn(new ArticleId("1"));
         when(commentRepository.findById(new CommentId(1L))).thenReturn(Optional.of(comment));
-        when(commentRepository.findByParentId(new CommentId(1L))).thenReturn(List.of());
+        when(commentRepository.deleteSubtree(new CommentId(1L))).thenReturn(List.of(new CommentId(1L)));
         
         ArgumentCaptor<DomainEvent> eventCaptor = ArgumentCaptor.forClass(DomainEvent.class);
         
@@ -267,6 +288,7 @@ class CommentCommandServiceTest {
         assertTrue(publishedEvent instanceof CommentDeletedEvent);
         CommentDeletedEvent deletedEvent = (CommentDeletedEvent) publishedEvent;
         assertEquals(new CommentId(1L), deletedEvent.getCommentId());
+        assertEquals(1, deletedEvent.getDeletedCount());
     }
 }
 
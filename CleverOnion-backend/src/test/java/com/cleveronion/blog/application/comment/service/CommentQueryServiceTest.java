@@ -1,17 +1,31 @@
 package com.cleveronion.blog.application.comment.service;
 
+import com.cleveronion.blog.application.comment.dto.CommentCursorPage;
+import com.cleveronion.blog.application.comment.dto.CommentTreeNode;
 import com.cleveronion.blog.application.comment.dto.CommentWithRepliesDTO;
+import com.cleveronion.blog.application.comment.eventhandler.CommentCacheEventHandler;
+import com.cleveronion.blog.common.cache.CacheNames;
 import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
+import com.cleveronion.blog.domain.comment.event.CommentCreatedEvent;
+import com.cleveronion.blog.domain.comment.event.CommentDeletedEvent;
 import com.cleveronion.blog.domain.comment.repository.CommentRepository;
+import com.cleveronion.blog.domain.comment.valueobject.CommentCursor;
 import com.cleveronion.blog.domain.comment.valueobject.CommentId;
+import com.cleveronion.blog.domain.comment.valueobject.CommentPath;
+import com.cleveronion.blog.domain.user.valueobject.UserId;
+import com.cleveronion.blog.infrastructure.common.cache.IdExistenceFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +33,8 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,11 +50,19 @@ class CommentQueryServiceTest {
     @Mock
     private CommentRepository commentRepository;
     
+    @Mock
+    private IdExistenceFilter idExistenceFilter;
+    
+    @Mock(lenient = true)
+    private CacheManager cacheManager;
+    
     private CommentQueryService queryService;
     
     @BeforeEach
     void setUp() {
-        queryService = new CommentQueryService(commentRepository);
+        lenient().when(idExistenceFilter.mightExistArticle(anyString())).thenReturn(true);
+        lenient().when(idExistenceFilter.mightExistComment(anyLong())).thenReturn(true);
+        queryService = new CommentQueryService(commentRepository, idExistenceFilter, cacheManager);
     }
     
     @Test
@@ -357,5 +381,158 @@ class CommentQueryServiceTest {
         // 验证没有查询最新回复（replyLimit=0）
         verify(commentRepository, never()).findByParentId(any(), anyInt(), anyInt());
     }
+    
+    @Test
+    @DisplayName("应该将按路径排序的线程组装为任意深度的树")
+    void shouldAssembleThreadTree() {
+        // Given: 1 <- 2 <- 4，1 <- 3，按路径排序
+        CommentAggregate root = threadComment(1L, null, CommentPath.root());
+        CommentPath level1 = CommentPath.root().child(new CommentId(1L));
+        CommentAggregate reply2 = threadComment(2L, 1L, level1);
+        CommentAggregate reply3 = threadComment(3L, 1L, level1);
+        CommentAggregate reply4 = threadComment(4L, 2L, level1.child(new CommentId(2L)));
+        
+        // When
+        Optional<CommentTreeNode> tree = CommentQueryService.assembleThread(
+            new CommentId(1L), List.of(root, reply2, reply3, reply4));
+        
+        // Then
+        assertTrue(tree.isPresent());
+        List<CommentTreeNode> children = tree.get().getChildren();
+        assertEquals(List.of(new CommentId(2L), new CommentId(3L)),
+            children.stream().map(node -> node.getComment().getId()).toList());
+        assertEquals(new CommentId(4L), children.get(0).getChildren().get(0).getComment().getId());
+        assertTrue(children.get(1).getChildren().isEmpty());
+    }
+    
+    @Test
+    @DisplayName("应该按层级限制查询评论线程")
+    void shouldFindThreadWithDepthLimit() {
+        // Given
+        CommentId rootId = new CommentId(1L);
+        when(commentRepository.findThread(rootId, 1))
+            .thenReturn(List.of(threadComment(1L, null, CommentPath.root())));
+        
+        // When
+        Optional<CommentTreeNode> tree = queryService.findThread(rootId, 1);
+        
+        // Then
+        assertTrue(tree.isPresent());
+        verify(commentRepository).findThread(rootId, 1);
+        verify(commentRepository, never()).findThread(rootId);
+        assertThrows(IllegalArgumentException.class, () -> queryService.findThread(rootId, -1));
+    }
+    
+    @Test
+    @DisplayName("应该按游标分页查询回复并返回续页游标")
+    void shouldPageRepliesByCursor() {
+        // Given: 每页2条，仓储多取一条判断下一页
+        CommentId parentId = new CommentId(1L);
+        CommentPath level1 = CommentPath.root().child(parentId);
+        CommentAggregate reply2 = threadComment(2L, 1L, level1);
+        CommentAggregate reply3 = threadComment(3L, 1L, level1);
+        CommentAggregate reply4 = threadComment(4L, 1L, level1);
+        when(commentRepository.findRepliesByParentIdAfter(parentId, null, 3))
+            .thenReturn(List.of(reply2, reply3, reply4));
+        CommentCursor expectedCursor = CommentCursor.after(reply3);
+        when(commentRepository.findRepliesByParentIdAfter(parentId, expectedCursor, 3))
+            .thenReturn(List.of(reply4));
+        
+        // When
+        CommentCursorPage<CommentAggregate> first = queryService.findRepliesByParentIdAfter(parentId, null, 2);
+        CommentCursor next = CommentCursor.decode(first.getNextCursor().encode());
+        CommentCursorPage<CommentAggregate> second = queryService.findRepliesByParentIdAfter(parentId, next, 2);
+        
+        // Then
+        assertEquals(List.of(reply2, reply3), first.getItems());
+        assertEquals(expectedCursor, next);
+        assertEquals(List.of(reply4), second.getItems());
+        assertNull(second.getNextCursor());
+    }
+    
+    private static CommentAggregate threadComment(Long id, Long parentId, CommentPath path) {
+        return CommentAggregate.rebuild(new CommentId(id), "content", new ArticleId("1"), UserId.of(100L),
+            parentId != null ? new CommentId(parentId) : null, path, LocalDateTime.now());
+    }
+    
+    @Nested
+    @DisplayName("按文章版本缓存")
+    class VersionedCacheTests {
+        
+        private final ArticleId articleId = new ArticleId("1");
+        private final ArticleId otherArticleId = new ArticleId("2");
+        
+        private CommentQueryService cachedQueryService;
+        private CommentCacheEventHandler cacheEventHandler;
+        
+        @BeforeEach
+        void setUp() {
+            ConcurrentMapCacheManager commentCacheManager =
+                new ConcurrentMapCacheManager(CacheNames.COMMENT_LIST, CacheNames.COMMENT_COUNT);
+            cachedQueryService = new CommentQueryService(commentRepository, idExistenceFilter, commentCacheManager);
+            cacheEventHandler = new CommentCacheEventHandler(commentCacheManager);
+        }
+        
+        @Test
+        @DisplayName("评论页与评论数命中缓存时不再查询数据库")
+        void should_cache_pages_and_counts() {
+            // Given
+            when(commentRepository.findTopLevelCommentsByArticleId(articleId, 0, 10)).thenReturn(new ArrayList<>());
+            when(commentRepository.countTopLevelCommentsByArticleId(articleId)).thenReturn(4L);
+            
+            // When
+            cachedQueryService.findTopLevelCommentsWithLatestReplies(articleId, 0, 10, 3);
+            cachedQueryService.findTopLevelCommentsWithLatestReplies(articleId, 0, 10, 3);
+            long first = cachedQueryService.countTopLevelByArticleId(articleId);
+            long second = cachedQueryService.countTopLevelByArticleId(articleId);
+            
+            // Then
+            assertEquals(4L, first);
+            assertEquals(4L, second);
+            verify(commentRepository, times(1)).findTopLevelCommentsByArticleId(articleId, 0, 10);
+            verify(commentRepository, times(1)).countTopLevelCommentsByArticleId(articleId);
+        }
+        
+        @Test
+        @DisplayName("评论创建只失效所属文章的缓存")
+        void should_invalidate_only_affected_article() {
+            // Given
+            when(commentRepository.countTopLevelCommentsByArticleId(articleId)).thenReturn(4L, 5L);
+            when(commentRepository.countTopLevelCommentsByArticleId(otherArticleId)).thenReturn(7L);
+            cachedQueryService.countTopLevelByArticleId(articleId);
+            cachedQueryService.countTopLevelByArticleId(otherArticleId);
+            
+            // When
+            cacheEventHandler.handleCommentCreated(
+                new CommentCreatedEvent(this, new CommentId(10L), articleId, UserId.of(1L), false));
+            
+            // Then
+            assertEquals(5L, cachedQueryService.countTopLevelByArticleId(articleId));
+            assertEquals(7L, cachedQueryService.countTopLevelByArticleId(otherArticleId));
+            verify(commentRepository, times(2)).countTopLevelCommentsByArticleId(articleId);
+            verify(commentRepository, times(1)).countTopLevelCommentsByArticleId(otherArticleId);
+        }
+        
+        @Test
+        @DisplayName("回复页按父评论所属文章的版本缓存，评论删除后失效")
+        void should_cache_reply_pages_under_article_version() {
+            // Given
+            CommentId parentId = new CommentId(1L);
+            CommentAggregate parent = mock(CommentAggregate.class);
+            when(parent.getArticleId()).thenReturn(articleId);
+            when(commentRepository.findById(parentId)).thenReturn(Optional.of(parent));
+            when(commentRepository.countRepliesByParentId(parentId)).thenReturn(2L, 1L);
+            
+            // When
+            cachedQueryService.countRepliesByParentId(parentId);
+            cachedQueryService.countRepliesByParentId(parentId);
+            cacheEventHandler.handleCommentDeleted(new CommentDeletedEvent(this, new CommentId(11L), articleId));
+            long afterDelete = cachedQueryService.countRepliesByParentId(parentId);
+            
+            // Then
+            assertEquals(1L, afterDelete);
+            verify(commentRepository, times(2)).countRepliesByParentId(parentId);
+            verify(commentRepository, times(1)).findById(parentId);
+        }
+    }
 }
-
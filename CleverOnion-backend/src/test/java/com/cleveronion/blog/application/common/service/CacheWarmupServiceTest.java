@@ -0,0 +1,178 @@
+package com.cleveronion.blog.application.common.service;
+
+import com.cleveronion.blog.application.article.dto.ArticlePage;
+import com.cleveronion.blog.application.article.service.ArticleQueryService;
+import com.cleveronion.blog.application.category.service.CategoryQueryService;
+import com.cleveronion.blog.application.tag.service.TagQueryService;
+import com.cleveronion.blog.application.user.service.UserQueryService;
+import com.cleveronion.blog.common.cache.CacheNames;
+import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
+import com.cleveronion.blog.domain.article.valueobject.AuthorId;
+import com.cleveronion.blog.domain.user.valueobject.UserId;
+import com.cleveronion.blog.infrastructure.common.config.CacheWarmupConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CacheWarmupService 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheWarmupService 单元测试")
+class CacheWarmupServiceTest {
+
+    private static final String LEASE_KEY = "cleveronion:job:cache-warmup:lease";
+
+    @Mock
+    private ArticleQueryService articleQueryService;
+
+    @Mock
+    private TagQueryService tagQueryService;
+
+    @Mock
+    private CategoryQueryService categoryQueryService;
+
+    @Mock
+    private UserQueryService userQueryService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CacheWarmupConfig warmupConfig;
+    private CacheWarmupService cacheWarmupService;
+
+    @BeforeEach
+    void setUp() {
+        warmupConfig = new CacheWarmupConfig();
+        warmupConfig.setListPages(2);
+        cacheWarmupService = new CacheWarmupService(articleQueryService, tagQueryService,
+            categoryQueryService, userQueryService, warmupConfig, redisTemplate);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        ArticleAggregate article = mock(ArticleAggregate.class);
+        lenient().when(article.getAuthorId()).thenReturn(AuthorId.of(1L));
+        lenient().when(articleQueryService.findPublishedArticles(anyInt(), anyInt())).thenReturn(new ArticlePage<>(List.of(article), 1));
+        lenient().when(articleQueryService.findRecentlyPublished(anyInt())).thenReturn(List.of(article));
+        lenient().when(articleQueryService.findPopularArticles(anyInt())).thenThrow(new IllegalStateException("数据库不可用"));
+        lenient().when(userQueryService.findById(any(UserId.class))).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheWarmupService.shutdown();
+    }
+
+    @Test
+    @DisplayName("启动预热加载全部热点条目，单个条目失败不影响就绪")
+    void shouldWarmUpAllEntriesOnStartup() throws Exception {
+        // When
+        assertFalse(cacheWarmupService.isCompleted());
+        cacheWarmupService.warmUpOnStartup();
+        waitUntilCompleted();
+
+        // Then
+        verify(articleQueryService).findPublishedArticles(0, 10);
+        verify(articleQueryService).findPublishedArticles(1, 10);
+        verify(articleQueryService).findRecentlyPublished(10);
+        verify(articleQueryService).countPublishedArticles();
+        verify(tagQueryService).findAll();
+        verify(categoryQueryService).findAll();
+        verify(userQueryService, times(1)).findById(UserId.of(1L));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("禁用预热时直接就绪")
+    void shouldBeCompletedWhenDisabled() {
+        // Given
+        warmupConfig.setEnabled(false);
+
+        // When
+        cacheWarmupService.warmUpOnStartup();
+
+        // Then
+        assertTrue(cacheWarmupService.isCompleted());
+        verifyNoInteractions(articleQueryService, tagQueryService, categoryQueryService, userQueryService);
+    }
+
+    @Test
+    @DisplayName("定时刷新在持有租约时重新加载全部条目")
+    void shouldReloadWhenRefreshLeaseAcquired() throws Exception {
+        // Given
+        cacheWarmupService.warmUpOnStartup();
+        waitUntilCompleted();
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), eq(Duration.ofMillis(216000)))).thenReturn(true);
+
+        // When
+        cacheWarmupService.refreshAheadOfTtl();
+
+        // Then
+        verify(articleQueryService, times(2)).findPublishedArticles(0, 10);
+        verify(articleQueryService, times(2)).findRecentlyPublished(10);
+        verify(tagQueryService, times(2)).findAll();
+        verify(userQueryService, times(2)).findById(UserId.of(1L));
+    }
+
+    @Test
+    @DisplayName("其他节点已在本周期刷新时跳过")
+    void shouldSkipRefreshWhenLeaseHeldElsewhere() throws Exception {
+        // Given
+        cacheWarmupService.warmUpOnStartup();
+        waitUntilCompleted();
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When
+        cacheWarmupService.refreshAheadOfTtl();
+
+        // Then
+        verify(articleQueryService, times(1)).findPublishedArticles(0, 10);
+        verify(tagQueryService, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Redis 不可用时由本节点刷新")
+    void shouldRefreshLocallyWhenRedisUnavailable() throws Exception {
+        // Given
+        cacheWarmupService.warmUpOnStartup();
+        waitUntilCompleted();
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class)))
+            .thenThrow(new QueryTimeoutException("Redis 超时"));
+
+        // When
+        cacheWarmupService.refreshAheadOfTtl();
+
+        // Then
+        verify(tagQueryService, times(2)).findAll();
+    }
+
+    private void waitUntilCompleted() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!cacheWarmupService.isCompleted() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(cacheWarmupService.isCompleted());
+    }
+}
@@ -5,10 +5,13 @@ import com.cleveronion.blog.domain.article.aggregate.TagAggregate;
 import com.cleveronion.blog.domain.article.event.TagCreatedEvent;
 import com.cleveronion.blog.domain.article.event.TagDeletedEvent;
 import com.cleveronion.blog.domain.article.event.TagUpdatedEvent;
+import com.cleveronion.blog.domain.article.event.TagsDeletedEvent;
 import com.cleveronion.blog.domain.article.repository.TagRepository;
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.article.valueobject.TagId;
 import com.cleveronion.blog.domain.common.event.DomainEvent;
 import com.cleveronion.blog.domain.common.event.DomainEventPublisher;
+import com.cleveronion.blog.infrastructure.common.cache.DimensionSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -41,11 +45,14 @@ class TagCommandServiceTest {
     @Mock
     private DomainEventPublisher eventPublisher;
     
+    @Mock
+    private DimensionSnapshot dimensionSnapshot;
+    
     private TagCommandService commandService;
     
     @BeforeEach
     void setUp() {
-        commandService = new TagCommandService(tagRepository, eventPublisher);
+        commandService = new TagCommandService(tagRepository, eventPublisher, dimensionSnapshot);
     }
     
     @Test
@@ -176,46 +183,50 @@ class TagCommandServiceTest {
     }
     
     @Test
-    @DisplayName("应该成功批量删除标签")
+    @DisplayName("批量删除标签应该一次移除关联并只发布一次批量事件")
     void shouldDeleteTags() {
         // Given
         Set<TagId> tagIds = Set.of(TagId.of(1L), TagId.of(2L));
         DeleteTagsCommand command = DeleteTagsCommand.of(tagIds);
-        List<TagAggregate> tags = List.of(
-            TagAggregate.rebuild(TagId.of(1L), "Java"),
-            TagAggregate.rebuild(TagId.of(2L), "Python")
-        );
+        Set<ArticleId> affectedArticleIds = Set.of(ArticleId.of("100"));
         
-        when(tagRepository.findByIds(tagIds)).thenReturn(tags);
+        when(tagRepository.detachFromArticles(tagIds)).thenReturn(affectedArticleIds);
         
         // When
         commandService.deleteTags(command);
         
         // Then
-        verify(tagRepository).findByIds(tagIds);
+        verify(tagRepository).detachFromArticles(tagIds);
         verify(tagRepository).deleteByIds(tagIds);
-        verify(eventPublisher, times(2)).publish(any(TagDeletedEvent.class));
+        verify(tagRepository, never()).findByIds(any());
+        ArgumentCaptor<TagsDeletedEvent> eventCaptor = ArgumentCaptor.forClass(TagsDeletedEvent.class);
+        verify(eventPublisher, times(1)).publish(eventCaptor.capture());
+        assertEquals(tagIds, eventCaptor.getValue().getTagIds());
+        assertEquals(affectedArticleIds, eventCaptor.getValue().getAffectedArticleIds());
     }
     
     @Test
-    @DisplayName("应该成功清理未使用的标签")
+    @DisplayName("应该分块清理未使用的标签并只发布一次批量事件")
     void shouldCleanupUnusedTags() {
         // Given
         CleanupUnusedTagsCommand command = CleanupUnusedTagsCommand.create();
-        List<TagAggregate> unusedTags = List.of(
-            TagAggregate.rebuild(TagId.of(1L), "Unused1"),
-            TagAggregate.rebuild(TagId.of(2L), "Unused2")
-        );
+        Set<TagId> candidates = Set.of(TagId.of(1L), TagId.of(2L));
         
-        when(tagRepository.findUnusedTags()).thenReturn(unusedTags);
+        when(tagRepository.findUnusedTagIds(null, TagCommandService.CLEANUP_CHUNK_SIZE))
+            .thenReturn(List.of(TagId.of(1L), TagId.of(2L)));
+        when(tagRepository.findUnusedTagIds(TagId.of(2L), TagCommandService.CLEANUP_CHUNK_SIZE))
+            .thenReturn(List.of());
+        when(tagRepository.deleteUnusedByIds(candidates)).thenReturn(2);
         
         // When
         int result = commandService.cleanupUnusedTags(command);
         
         // Then
         assertEquals(2, result);
-        verify(tagRepository).deleteByIds(any());
-        verify(eventPublisher, times(2)).publish(any(TagDeletedEvent.class));
+        ArgumentCaptor<TagsDeletedEvent> eventCaptor = ArgumentCaptor.forClass(TagsDeletedEvent.class);
+        verify(eventPublisher, times(1)).publish(eventCaptor.capture());
+        assertEquals(candidates, eventCaptor.getValue().getTagIds());
+        verify(eventPublisher, never()).publish(any(TagDeletedEvent.class));
     }
     
     @Test
@@ -223,17 +234,32 @@ class TagCommandServiceTest {
     void shouldReturnZeroWhenNoUnusedTags() {
         // Given
         CleanupUnusedTagsCommand command = CleanupUnusedTagsCommand.create();
-        when(tagRepository.findUnusedTags()).thenReturn(List.of());
+        when(tagRepository.findUnusedTagIds(null, TagCommandService.CLEANUP_CHUNK_SIZE)).thenReturn(List.of());
         
         // When
         int result = commandService.cleanupUnusedTags(command);
         
         // Then
         assertEquals(0, result);
-        verify(tagRepository, never()).deleteByIds(any());
+        verify(tagRepository, never()).deleteUnusedByIds(any());
         verify(eventPublisher, never()).publish(any());
     }
     
+    @Test
+    @DisplayName("删除前被引用的候选标签应该被保留")
+    void shouldKeepCandidatesUsedBeforeDeletion() {
+        // Given
+        Set<TagId> candidates = Set.of(TagId.of(1L), TagId.of(2L));
+        when(tagRepository.deleteUnusedByIds(candidates)).thenReturn(1);
+        when(tagRepository.findByIds(candidates)).thenReturn(List.of(TagAggregate.rebuild(TagId.of(2L), "Used")));
+        
+        // When
+        Set<TagId> deleted = commandService.deleteUnusedTags(candidates);
+        
+        // Then
+        assertEquals(Set.of(TagId.of(1L)), deleted);
+    }
+    
     @Test
     @DisplayName("应该成功查找或创建标签")
     void shouldFindOrCreateTags() {
@@ -262,6 +288,25 @@ class TagCommandServiceTest {
         verify(eventPublisher).publish(any(TagCreatedEvent.class)); // 只发布1个创建事件
     }
     
+    @Test
+    @DisplayName("查找或创建标签时快照命中的名称不查询数据库")
+    void shouldOnlyQueryDatabaseForSnapshotMisses() {
+        // Given
+        FindOrCreateTagsCommand command = FindOrCreateTagsCommand.of(Set.of("Java", "Python"));
+        when(dimensionSnapshot.findTagsByNames(Set.of("Java", "Python")))
+            .thenReturn(Map.of("Java", TagAggregate.rebuild(TagId.of(1L), "Java")));
+        when(tagRepository.findByNames(Set.of("Python")))
+            .thenReturn(List.of(TagAggregate.rebuild(TagId.of(2L), "Python")));
+        
+        // When
+        List<TagAggregate> result = commandService.findOrCreateByNames(command);
+        
+        // Then
+        assertEquals(2, result.size());
+        verify(tagRepository).findByNames(Set.of("Python"));
+        verify(tagRepository, never()).save(any(TagAggregate.class));
+    }
+    
     @Test
     @DisplayName("创建标签应该发布正确的事件")
     void shouldPublishCorrectEventOnCreate() {
@@ -1,10 +1,10 @@
 package com.cleveronion.blog.application.tag.service;
 
-import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
 import com.cleveronion.blog.domain.article.aggregate.TagAggregate;
 import com.cleveronion.blog.domain.article.repository.ArticleRepository;
 import com.cleveronion.blog.domain.article.repository.TagRepository;
 import com.cleveronion.blog.domain.article.valueobject.TagId;
+import com.cleveronion.blog.infrastructure.common.cache.DimensionSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,11 +35,14 @@ class TagQueryServiceTest {
     @Mock
     private ArticleRepository articleRepository;
     
+    @Mock
+    private DimensionSnapshot dimensionSnapshot;
+    
     private TagQueryService queryService;
     
     @BeforeEach
     void setUp() {
-        queryService = new TagQueryService(tagRepository, articleRepository);
+        queryService = new TagQueryService(tagRepository, articleRepository, dimensionSnapshot);
     }
     
     @Test
@@ -234,11 +237,7 @@ class TagQueryServiceTest {
     void shouldGetUsageCount() {
         // Given
         TagId tagId = TagId.of(123L);
-        when(articleRepository.findByTagId(tagId)).thenReturn(List.of(
-            mock(ArticleAggregate.class),
-            mock(ArticleAggregate.class),
-            mock(ArticleAggregate.class)
-        ));
+        when(articleRepository.countByTagId(tagId)).thenReturn(3L);
         
         // When
         long result = queryService.getTagUsageCount(tagId);
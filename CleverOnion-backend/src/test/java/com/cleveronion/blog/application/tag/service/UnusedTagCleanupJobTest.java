@@ -0,0 +1,115 @@
+package com.cleveronion.blog.application.tag.service;
+
+import com.cleveronion.blog.domain.article.event.TagsDeletedEvent;
+import com.cleveronion.blog.domain.article.repository.TagRepository;
+import com.cleveronion.blog.domain.article.valueobject.TagId;
+import com.cleveronion.blog.domain.common.event.DomainEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * UnusedTagCleanupJob 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnusedTagCleanupJob 单元测试")
+class UnusedTagCleanupJobTest {
+
+    private static final String LEASE_KEY = "cleveronion:job:tag-cleanup:lease";
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private TagCommandService tagCommandService;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private UnusedTagCleanupJob job;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+        job = new UnusedTagCleanupJob(tagRepository, tagCommandService, eventPublisher, redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    @DisplayName("每块完成后用原子脚本按持有者令牌续期租约")
+    @SuppressWarnings("unchecked")
+    void shouldRenewLeaseAtomicallyWithOwnerToken() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), eq(Duration.ofMinutes(2)))).thenReturn(true);
+        TagId tagId = TagId.of(5L);
+        when(tagRepository.findUnusedTagIds(any(), anyInt())).thenReturn(List.of(tagId), List.of());
+        when(tagCommandService.deleteUnusedTags(anySet())).thenReturn(Set.of(tagId));
+
+        // When
+        job.start();
+
+        // Then
+        verify(eventPublisher, timeout(5000)).publish(any(TagsDeletedEvent.class));
+        ArgumentCaptor<String> leaseToken = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(LEASE_KEY), leaseToken.capture(), eq(Duration.ofMinutes(2)));
+
+        ArgumentCaptor<RedisScript<Long>> renewScript = ArgumentCaptor.forClass(RedisScript.class);
+        verify(redisTemplate, timeout(5000)).execute(renewScript.capture(), eq(List.of(LEASE_KEY)),
+            eq(leaseToken.getValue()), eq("120000"));
+        assertTrue(renewScript.getValue().getScriptAsString().contains("pexpire"));
+        verify(valueOperations, never()).get(anyString());
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("其他节点持有租约时不启动")
+    void shouldNotStartWhenLeaseHeldElsewhere() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), eq(Duration.ofMinutes(2)))).thenReturn(false);
+
+        // When
+        job.start();
+
+        // Then
+        verifyNoInteractions(tagRepository, tagCommandService);
+    }
+}
@@ -74,6 +74,8 @@ class UserCommandServiceTest {
         when(existingUser.getGitHubId()).thenReturn(gitHubId);
         when(existingUser.getUsername()).thenReturn("newname");
         
+        when(existingUser.updateProfile("newname", "https://new-avatar.com/test.jpg")).thenReturn(true);
+        
         when(userRepository.findByGitHubId(gitHubId)).thenReturn(Optional.of(existingUser));
         when(userRepository.save(any(UserAggregate.class))).thenReturn(existingUser);
         
@@ -86,5 +88,24 @@ class UserCommandServiceTest {
         verify(existingUser).updateProfile("newname", "https://new-avatar.com/test.jpg");
         verify(userRepository).save(existingUser);
     }
+    
+    @Test
+    @DisplayName("资料未变化时不应写库")
+    void shouldSkipSaveWhenProfileUnchanged() {
+        // Given
+        GitHubId gitHubId = GitHubId.of(12345L);
+        SyncGitHubUserCommand command = SyncGitHubUserCommand.of(gitHubId, "testuser", "https://avatar.com/test.jpg");
+        
+        UserAggregate existingUser = UserAggregate.reconstruct(
+            UserId.of(1L), gitHubId, "testuser", "https://avatar.com/test.jpg");
+        
+        when(userRepository.findByGitHubId(gitHubId)).thenReturn(Optional.of(existingUser));
+        
+        // When
+        UserAggregate result = commandService.syncUserFromGitHub(command);
+        
+        // Then
+        assertSame(existingUser, result);
+        verify(userRepository, never()).save(any(UserAggregate.class));
+    }
 }
-
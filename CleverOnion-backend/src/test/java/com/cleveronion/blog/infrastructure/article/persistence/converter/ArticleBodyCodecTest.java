@@ -0,0 +1,63 @@
+package com.cleveronion.blog.infrastructure.article.persistence.converter;
+
+import com.cleveronion.blog.infrastructure.article.persistence.po.ArticleBodyPO;
+import com.cleveronion.blog.infrastructure.common.config.ArticleBodyConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ArticleBodyCodec 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("ArticleBodyCodec 单元测试")
+class ArticleBodyCodecTest {
+
+    private static ArticleBodyCodec codec(boolean compressionEnabled, int threshold) {
+        ArticleBodyConfig config = new ArticleBodyConfig();
+        config.setCompressionEnabled(compressionEnabled);
+        config.setCompressionThreshold(threshold);
+        return new ArticleBodyCodec(config);
+    }
+
+    @Test
+    @DisplayName("未启用压缩时应该以明文存储")
+    void shouldStorePlainWhenCompressionDisabled() {
+        ArticleBodyPO bodyPO = new ArticleBodyPO(1L);
+        String content = "# 标题\n\n" + "正文内容。".repeat(5000);
+
+        codec(false, 1).encode(bodyPO, content);
+
+        assertEquals(content, bodyPO.getContent());
+        assertNull(bodyPO.getCompressedContent());
+    }
+
+    @Test
+    @DisplayName("超过阈值的正文应该压缩存储并能还原")
+    void shouldCompressLargeBodyAndRestore() {
+        ArticleBodyCodec codec = codec(true, 1024);
+        ArticleBodyPO bodyPO = new ArticleBodyPO(1L);
+        String content = "# 标题\n\n" + "正文内容。".repeat(5000);
+
+        codec.encode(bodyPO, content);
+
+        assertNull(bodyPO.getContent());
+        assertNotNull(bodyPO.getCompressedContent());
+        assertEquals(content, codec.decode(bodyPO));
+    }
+
+    @Test
+    @DisplayName("低于阈值的正文应该以明文存储")
+    void shouldKeepSmallBodyPlain() {
+        ArticleBodyCodec codec = codec(true, 1024);
+        ArticleBodyPO bodyPO = new ArticleBodyPO(1L);
+
+        codec.encode(bodyPO, "短正文");
+
+        assertEquals("短正文", bodyPO.getContent());
+        assertEquals("短正文", codec.decode(bodyPO));
+    }
+}
@@ -0,0 +1,69 @@
+package com.cleveronion.blog.infrastructure.article.persistence.repository;
+
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
+import com.cleveronion.blog.domain.article.valueobject.TagId;
+import com.cleveronion.blog.infrastructure.common.cache.SecondLevelCacheInvalidator;
+import com.cleveronion.blog.infrastructure.common.persistence.ReturningDmlExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * TagRepositoryImpl单元测试类
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TagRepositoryImplTest {
+
+    @Mock
+    private TagJpaRepository tagJpaRepository;
+
+    @Mock
+    private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    @Mock
+    private ReturningDmlExecutor returningDmlExecutor;
+
+    @InjectMocks
+    private TagRepositoryImpl tagRepository;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldBindTagIdsAsSingleArrayParameter() {
+        when(returningDmlExecutor.queryForList(anyString(), anyMap(), any(RowMapper.class)))
+            .thenReturn(List.of(ArticleId.of("1"), ArticleId.of("1"), ArticleId.of("2")));
+
+        Set<ArticleId> articleIds = tagRepository.detachFromArticles(Set.of(TagId.of(3L), TagId.of(4L)));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Map<String, ?>> params = ArgumentCaptor.forClass(Map.class);
+        verify(returningDmlExecutor).queryForList(sql.capture(), params.capture(), any(RowMapper.class));
+        assertThat(sql.getValue()).contains("tag_id = ANY(:tagIds)");
+        assertThat(params.getValue().get("tagIds")).isInstanceOf(Long[].class);
+        assertThat((Long[]) params.getValue().get("tagIds")).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(articleIds).containsExactlyInAnyOrder(ArticleId.of("1"), ArticleId.of("2"));
+    }
+
+    @Test
+    void shouldSkipStatementWhenNoTagIds() {
+        assertThat(tagRepository.detachFromArticles(Set.of())).isEmpty();
+
+        verifyNoInteractions(returningDmlExecutor);
+    }
+}
@@ -0,0 +1,116 @@
+package com.cleveronion.blog.infrastructure.article.render;
+
+import com.cleveronion.blog.domain.article.valueobject.ArticleMetadata;
+import com.cleveronion.blog.domain.article.valueobject.RenderedContent;
+import com.cleveronion.blog.domain.article.valueobject.TocEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MarkdownRenderer 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("MarkdownRenderer 单元测试")
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @Test
+    @DisplayName("应该为标题生成唯一锚点并汇总目录")
+    void shouldBuildTocWithUniqueAnchors() {
+        RenderedContent rendered = renderer.render("# 简介\n\n## Getting Started\n\n## Getting Started\n");
+
+        List<TocEntry> toc = rendered.getToc();
+        assertEquals(3, toc.size());
+        assertEquals(new TocEntry(1, "简介", "简介"), toc.get(0));
+        assertEquals("getting-started", toc.get(1).getAnchor());
+        assertEquals("getting-started-1", toc.get(2).getAnchor());
+        assertTrue(rendered.getHtml().contains("id=\"getting-started-1\""));
+    }
+
+    @Test
+    @DisplayName("公式应该原样保留，不被当作强调语法")
+    void shouldKeepMathIntact() {
+        RenderedContent rendered = renderer.render("行内 $a_1 * b_2$ 公式\n\n$$\n\\sum_{i=1}^n i\n$$\n");
+
+        String html = rendered.getHtml();
+        assertTrue(html.contains("<span class=\"math math-inline\">a_1 * b_2</span>"));
+        assertTrue(html.contains("<div class=\"math math-display\">\\sum_{i=1}^n i</div>"));
+        assertFalse(html.contains("<em>"));
+    }
+
+    @Test
+    @DisplayName("代码中的美元符号不应被识别为公式")
+    void shouldIgnoreDollarsInCode() {
+        RenderedContent rendered = renderer.render("`$x$`\n\n```bash\necho $HOME $PATH\n```\n");
+
+        String html = rendered.getHtml();
+        assertFalse(html.contains("math"));
+        assertTrue(html.contains("<code class=\"language-bash\">"));
+        assertTrue(html.contains("echo $HOME $PATH"));
+    }
+
+    @Test
+    @DisplayName("原始 HTML 和危险链接应该被清洗")
+    void shouldSanitizeHtml() {
+        RenderedContent rendered = renderer.render("<script>alert(1)</script>\n\n[点我](javascript:alert(1))\n");
+
+        String html = rendered.getHtml();
+        assertFalse(html.contains("<script>"));
+        assertFalse(html.contains("javascript:"));
+    }
+
+    @Test
+    @DisplayName("内容哈希应该稳定且随内容变化")
+    void shouldComputeStableContentHash() {
+        String hash = renderer.contentHash("# 标题");
+
+        assertEquals(64, hash.length());
+        assertEquals(hash, renderer.contentHash("# 标题"));
+        assertNotEquals(hash, renderer.contentHash("# 标题2"));
+        assertEquals(hash, renderer.render("# 标题").getContentHash());
+    }
+
+    @Test
+    @DisplayName("字数应该按中文字符和英文单词计算，代码块不计入")
+    void shouldCountWordsExcludingCode() {
+        ArticleMetadata metadata = renderer.analyze(
+            "# 简介\n\n这是一段中文。Hello world, it's fine.\n\n```java\nint a = 1;\n```\n");
+
+        assertEquals(12, metadata.getWordCount());
+        assertEquals(1, metadata.getReadingMinutes());
+        assertEquals(List.of(new TocEntry(1, "简介", "简介")), metadata.getOutline());
+    }
+
+    @Test
+    @DisplayName("抽取式摘要应该跳过标题，超长时在句末截断")
+    void shouldExtractSummaryAtSentenceBoundary() {
+        assertEquals("第一段。 第二段。", renderer.extractSummary("# 标题\n\n第一段。\n\n## 小节\n\n第二段。"));
+
+        String summary = renderer.extractSummary("# 标题\n\n" + "这是一句话。".repeat(50));
+        assertTrue(summary.length() <= 200);
+        assertTrue(summary.endsWith("。"));
+
+        assertNull(renderer.extractSummary("```\ncode\n```"));
+    }
+
+    @Test
+    @DisplayName("正文中与公式占位符相似的文字应该原样保留")
+    void shouldKeepPlaceholderLikeTextVerbatim() {
+        assertEquals("Placeholder text COMATHINLINE3END appears here.",
+            renderer.extractSummary("Placeholder text COMATHINLINE3END appears here."));
+
+        ArticleMetadata metadata = renderer.analyze("# Heading COMATHINLINE0END\n\nbody");
+        assertEquals("Heading COMATHINLINE0END", metadata.getOutline().get(0).getText());
+
+        String html = renderer.render("$x$ and COMATHINLINE7END COMATHBLOCK0END\n\n```\nCOMATHINLINE0END\n```\n").getHtml();
+        assertTrue(html.contains("<span class=\"math math-inline\">x</span> and COMATHINLINE7END COMATHBLOCK0END"));
+        assertTrue(html.contains("<code>COMATHINLINE0END\n</code>"));
+    }
+}
@@ -0,0 +1,163 @@
+package com.cleveronion.blog.infrastructure.auth.token;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+import cn.dev33.satoken.session.SaSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * LocalCachingSaTokenDao 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("登录态本地缓存测试")
+class LocalCachingSaTokenDaoTest {
+
+    private static final String TOKEN_KEY = "Authorization:login:token:abc";
+    private static final String LAST_ACTIVE_KEY = "Authorization:login:last-active:abc";
+    private static final String SESSION_KEY = "Authorization:login:session:1";
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final List<String> published = new ArrayList<>();
+
+    private SaTokenDao redisDao;
+    private LocalCachingSaTokenDao cachingDao;
+
+    @BeforeEach
+    void setUp() {
+        redisDao = mock(SaTokenDao.class);
+        cachingDao = new LocalCachingSaTokenDao(redisDao, 10_000, 100, 60_000, published::add, now::get);
+    }
+
+    @Test
+    @DisplayName("有效期内重复读取 token 只访问一次 Redis")
+    void shouldServeTokenFromMemoryWithinTtl() {
+        when(redisDao.get(TOKEN_KEY)).thenReturn("1");
+
+        assertThat(cachingDao.get(TOKEN_KEY)).isEqualTo("1");
+        assertThat(cachingDao.get(TOKEN_KEY)).isEqualTo("1");
+        verify(redisDao, times(1)).get(TOKEN_KEY);
+
+        now.addAndGet(10_000);
+        assertThat(cachingDao.get(TOKEN_KEY)).isEqualTo("1");
+        verify(redisDao, times(2)).get(TOKEN_KEY);
+    }
+
+    @Test
+    @DisplayName("踢人下线改写 token 时应清除本地缓存并广播失效")
+    void shouldInvalidateAndPublishOnTokenUpdate() {
+        when(redisDao.get(TOKEN_KEY)).thenReturn("1", "-5");
+        cachingDao.get(TOKEN_KEY);
+
+        cachingDao.update(TOKEN_KEY, "-5");
+
+        assertThat(published).containsExactly(TOKEN_KEY);
+        assertThat(cachingDao.get(TOKEN_KEY)).isEqualTo("-5");
+    }
+
+    @Test
+    @DisplayName("收到其他节点的失效通知后应重新读取 Redis")
+    void shouldReloadAfterRemoteInvalidation() {
+        when(redisDao.get(TOKEN_KEY)).thenReturn("1", (String) null);
+        cachingDao.get(TOKEN_KEY);
+
+        cachingDao.invalidate(TOKEN_KEY);
+
+        assertThat(cachingDao.get(TOKEN_KEY)).isNull();
+        verify(redisDao, times(2)).get(TOKEN_KEY);
+    }
+
+    @Test
+    @DisplayName("写回间隔内的活跃时间续写只更新本地值")
+    void shouldCoalesceLastActiveWrites() {
+        cachingDao.update(LAST_ACTIVE_KEY, "t1");
+        now.addAndGet(1_000);
+        cachingDao.update(LAST_ACTIVE_KEY, "t2");
+
+        verify(redisDao).update(LAST_ACTIVE_KEY, "t1");
+        verify(redisDao, never()).update(LAST_ACTIVE_KEY, "t2");
+        assertThat(cachingDao.get(LAST_ACTIVE_KEY)).isEqualTo("t2");
+
+        now.addAndGet(60_000);
+        cachingDao.update(LAST_ACTIVE_KEY, "t3");
+        verify(redisDao).update(LAST_ACTIVE_KEY, "t3");
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("不缓存空值和无关的 key")
+    void shouldNotCacheNullOrUnrelatedKeys() {
+        cachingDao.get(TOKEN_KEY);
+        when(redisDao.get("other:key")).thenReturn("v");
+        cachingDao.get("other:key");
+
+        assertThat(cachingDao.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("有效期内重复读取会话只访问一次 Redis")
+    void shouldServeSessionFromMemoryWithinTtl() {
+        SaSession session = new SaSession(SESSION_KEY);
+        when(redisDao.getSession(SESSION_KEY)).thenReturn(session);
+
+        assertThat(cachingDao.getSession(SESSION_KEY)).isSameAs(session);
+        assertThat(cachingDao.getSession(SESSION_KEY)).isSameAs(session);
+        verify(redisDao, times(1)).getSession(SESSION_KEY);
+    }
+
+    @Test
+    @DisplayName("写入、更新、删除会话时应清除本地缓存并广播失效")
+    void shouldInvalidateAndPublishOnSessionWrites() {
+        SaSession session = new SaSession(SESSION_KEY);
+        when(redisDao.getSession(SESSION_KEY)).thenReturn(session);
+
+        cachingDao.getSession(SESSION_KEY);
+        cachingDao.updateSession(session);
+        verify(redisDao).updateSession(session);
+        assertThat(cachingDao.size()).isZero();
+
+        cachingDao.getSession(SESSION_KEY);
+        cachingDao.setSession(session, 3600);
+        verify(redisDao).setSession(session, 3600);
+        assertThat(cachingDao.size()).isZero();
+
+        cachingDao.getSession(SESSION_KEY);
+        cachingDao.deleteSession(SESSION_KEY);
+        verify(redisDao).deleteSession(SESSION_KEY);
+        assertThat(cachingDao.getSession(SESSION_KEY)).isSameAs(session);
+
+        assertThat(published).containsExactly(SESSION_KEY, SESSION_KEY, SESSION_KEY);
+        verify(redisDao, times(4)).getSession(SESSION_KEY);
+    }
+
+    @Test
+    @DisplayName("会话过期时间的读取与修改直接委托给 Redis")
+    void shouldDelegateSessionTimeout() {
+        when(redisDao.getSessionTimeout(SESSION_KEY)).thenReturn(120L);
+
+        assertThat(cachingDao.getSessionTimeout(SESSION_KEY)).isEqualTo(120L);
+        cachingDao.updateSessionTimeout(SESSION_KEY, 600);
+
+        verify(redisDao).updateSessionTimeout(SESSION_KEY, 600);
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("不存在的会话不缓存")
+    void shouldNotCacheMissingSession() {
+        assertThat(cachingDao.getSession(SESSION_KEY)).isNull();
+        assertThat(cachingDao.getSession(SESSION_KEY)).isNull();
+
+        verify(redisDao, times(2)).getSession(SESSION_KEY);
+        assertThat(cachingDao.size()).isZero();
+    }
+}
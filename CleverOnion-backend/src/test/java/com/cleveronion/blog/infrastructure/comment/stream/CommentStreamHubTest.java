@@ -0,0 +1,90 @@
+package com.cleveronion.blog.infrastructure.comment.stream;
+
+import com.cleveronion.blog.domain.article.valueobject.ArticleId;
+import com.cleveronion.blog.infrastructure.common.config.CommentStreamConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * CommentStreamHub 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("CommentStreamHub 单元测试")
+class CommentStreamHubTest {
+
+    private static final ArticleId ARTICLE_ID = new ArticleId("1");
+
+    private CommentStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        CommentStreamConfig config = new CommentStreamConfig();
+        config.setMaxSubscribers(3);
+        config.setMaxSubscribersPerClient(2);
+        hub = new CommentStreamHub(mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class),
+            new ObjectMapper(), config, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("单个客户端的订阅数达到上限时拒绝，其他客户端不受影响")
+    void shouldLimitSubscribersPerClient() {
+        hub.subscribe(ARTICLE_ID, "10.0.0.1");
+        hub.subscribe(ARTICLE_ID, "10.0.0.1");
+
+        SubscriberLimitExceededException e = assertThrows(SubscriberLimitExceededException.class,
+            () -> hub.subscribe(ARTICLE_ID, "10.0.0.1"));
+
+        assertEquals(SubscriberLimitExceededException.Scope.CLIENT, e.getScope());
+        assertNotNull(hub.subscribe(ARTICLE_ID, "10.0.0.2"));
+        assertEquals(3, hub.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("节点订阅者总数达到上限时拒绝")
+    void shouldLimitSubscribersPerNode() {
+        hub.subscribe(ARTICLE_ID, "10.0.0.1");
+        hub.subscribe(ARTICLE_ID, "10.0.0.2");
+        hub.subscribe(ARTICLE_ID, "10.0.0.3");
+
+        SubscriberLimitExceededException e = assertThrows(SubscriberLimitExceededException.class,
+            () -> hub.subscribe(ARTICLE_ID, "10.0.0.4"));
+
+        assertEquals(SubscriberLimitExceededException.Scope.NODE, e.getScope());
+        assertEquals(3, hub.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("连接结束后释放名额")
+    void shouldReleaseSlotWhenConnectionEnds() throws InterruptedException {
+        SseEmitter first = hub.subscribe(ARTICLE_ID, "10.0.0.1");
+        hub.subscribe(ARTICLE_ID, "10.0.0.1");
+
+        first.completeWithError(new IllegalStateException("客户端断开"));
+        // 下一次写出失败时写出线程结束连接
+        hub.heartbeat();
+        long deadline = System.currentTimeMillis() + 2000;
+        while (hub.subscriberCount() > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, hub.subscriberCount());
+        assertNotNull(hub.subscribe(ARTICLE_ID, "10.0.0.1"));
+    }
+}
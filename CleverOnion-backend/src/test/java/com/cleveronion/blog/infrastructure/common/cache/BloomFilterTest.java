@@ -0,0 +1,47 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BloomFilter 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("BloomFilter 单元测试")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("已添加的元素一定判定为可能存在")
+    void shouldHaveNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.put(String.valueOf(id));
+        }
+
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(filter.mightContain(String.valueOf(id)));
+        }
+    }
+
+    @Test
+    @DisplayName("误判率应接近配置值")
+    void shouldKeepFalsePositiveRateNearConfiguredValue() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.put(String.valueOf(id));
+        }
+
+        int falsePositives = 0;
+        for (long id = 10_001; id <= 110_000; id++) {
+            if (filter.mightContain(String.valueOf(id))) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 3_000, "误判数过高: " + falsePositives);
+    }
+}
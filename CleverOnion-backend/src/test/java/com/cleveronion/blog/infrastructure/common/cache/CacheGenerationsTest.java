@@ -0,0 +1,105 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CacheGenerations 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheGenerations 单元测试")
+class CacheGenerationsTest {
+
+    private static final String GENERATION_KEY = "cleveronion:cache-generation:article:list";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private CacheGenerations generations;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        generations = new CacheGenerations(redisTemplate, 5000, now::get);
+    }
+
+    @Test
+    @DisplayName("刷新间隔内的代际从本地读取")
+    void shouldCacheGenerationWithinRefreshInterval() {
+        when(valueOperations.get(GENERATION_KEY)).thenReturn("7");
+
+        assertEquals(7, generations.current("article:list"));
+        assertEquals(7, generations.current("article:list"));
+        verify(valueOperations, times(1)).get(GENERATION_KEY);
+
+        now.addAndGet(5000);
+        generations.current("article:list");
+        verify(valueOperations, times(2)).get(GENERATION_KEY);
+    }
+
+    @Test
+    @DisplayName("代际不存在时以当前时间戳初始化")
+    void shouldInitializeMissingGenerationWithTimestamp() {
+        when(valueOperations.get(GENERATION_KEY)).thenReturn(null, "1000000");
+
+        assertEquals(1_000_000L, generations.current("article:list"));
+        verify(valueOperations).setIfAbsent(GENERATION_KEY, "1000000");
+    }
+
+    @Test
+    @DisplayName("清空缓存只递增代际并广播通知")
+    @SuppressWarnings("unchecked")
+    void shouldAdvanceGenerationAndPublish() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(GENERATION_KEY)), anyString())).thenReturn(8L);
+
+        assertEquals(8, generations.advance("article:list"));
+        assertEquals(8, generations.current("article:list"));
+        verify(redisTemplate).convertAndSend("cleveronion:cache:generation", "article:list:8");
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("收到其他节点的通知后立即切换代际")
+    void shouldApplyRemoteGenerationChange() {
+        generations.onGenerationChanged("article:list:12");
+
+        assertEquals(12, generations.current("article:list"));
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Redis 不可用时沿用已知代际")
+    void shouldKeepKnownGenerationWhenRedisFails() {
+        when(valueOperations.get(GENERATION_KEY))
+            .thenReturn("3")
+            .thenThrow(new RedisConnectionFailureException("Redis 不可用"));
+        generations.current("article:list");
+        now.addAndGet(5000);
+
+        assertEquals(3, generations.current("article:list"));
+    }
+}
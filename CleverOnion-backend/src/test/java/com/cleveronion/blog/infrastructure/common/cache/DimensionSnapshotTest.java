@@ -0,0 +1,117 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import com.cleveronion.blog.domain.article.aggregate.CategoryAggregate;
+import com.cleveronion.blog.domain.article.aggregate.TagAggregate;
+import com.cleveronion.blog.domain.article.repository.CategoryRepository;
+import com.cleveronion.blog.domain.article.repository.TagRepository;
+import com.cleveronion.blog.domain.article.valueobject.CategoryId;
+import com.cleveronion.blog.domain.article.valueobject.TagId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * DimensionSnapshot 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("分类与标签内存快照测试")
+class DimensionSnapshotTest {
+
+    private CategoryRepository categoryRepository;
+    private TagRepository tagRepository;
+    private StringRedisTemplate redisTemplate;
+    private DimensionSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        tagRepository = mock(TagRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        snapshot = new DimensionSnapshot(categoryRepository, tagRepository, redisTemplate,
+            mock(RedisMessageListenerContainer.class), mock(PlatformTransactionManager.class));
+
+        when(categoryRepository.findAll()).thenReturn(List.of(
+            CategoryAggregate.rebuild(CategoryId.of(1L), "后端")));
+        when(tagRepository.findAll()).thenReturn(List.of(
+            TagAggregate.rebuild(TagId.of(10L), "Java"),
+            TagAggregate.rebuild(TagId.of(11L), "Spring")));
+    }
+
+    @Test
+    @DisplayName("加载前所有查找都未命中")
+    void shouldMissBeforeLoad() {
+        assertFalse(snapshot.isLoaded());
+        assertTrue(snapshot.findCategory(CategoryId.of(1L)).isEmpty());
+        assertTrue(snapshot.findTagsByNames(Set.of("Java")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("加载后可按ID和名称查找")
+    void shouldLookupByIdAndNameAfterLoad() {
+        snapshot.reload();
+
+        assertTrue(snapshot.isLoaded());
+        assertEquals("后端", snapshot.findCategory(CategoryId.of(1L)).orElseThrow().getName());
+        assertEquals(CategoryId.of(1L), snapshot.findCategoryByName("后端").orElseThrow().getId());
+        assertEquals("Java", snapshot.findTag(TagId.of(10L)).orElseThrow().getName());
+
+        Map<TagId, TagAggregate> tags = snapshot.findTags(Set.of(TagId.of(10L), TagId.of(99L)));
+        assertEquals(Set.of(TagId.of(10L)), tags.keySet());
+
+        Map<String, TagAggregate> byName = snapshot.findTagsByNames(Set.of("Spring", "Go"));
+        assertEquals(Set.of("Spring"), byName.keySet());
+        assertEquals(TagId.of(11L), byName.get("Spring").getId());
+    }
+
+    @Test
+    @DisplayName("返回副本，修改不影响快照")
+    void shouldReturnCopies() {
+        snapshot.reload();
+
+        snapshot.findTag(TagId.of(10L)).orElseThrow().updateName("Kotlin");
+
+        assertEquals("Java", snapshot.findTag(TagId.of(10L)).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("加载失败时保留原快照")
+    void shouldKeepPreviousSnapshotOnFailure() {
+        snapshot.reload();
+        when(tagRepository.findAll()).thenThrow(new DataAccessResourceFailureException("db down"));
+
+        snapshot.reload();
+
+        assertTrue(snapshot.findTag(TagId.of(10L)).isPresent());
+    }
+
+    @Test
+    @DisplayName("变更后通知其他节点，并忽略自己发出的通知")
+    void shouldNotifyOtherNodesAndIgnoreOwnNotification() {
+        snapshot.reloadAfterCommit();
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("cleveronion:dimension:refresh"), payload.capture());
+        verify(tagRepository, times(1)).findAll();
+
+        snapshot.onRefreshNotification(payload.getValue());
+        verify(tagRepository, times(1)).findAll();
+
+        snapshot.onRefreshNotification("other-node");
+        verify(tagRepository, times(2)).findAll();
+    }
+}
@@ -0,0 +1,116 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import com.cleveronion.blog.infrastructure.article.persistence.repository.ArticleJpaRepository;
+import com.cleveronion.blog.infrastructure.comment.persistence.repository.CommentJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * IdExistenceFilter 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("IdExistenceFilter 单元测试")
+class IdExistenceFilterTest {
+
+    private static final String CHANNEL = "cleveronion:id-existence:created";
+
+    private ArticleJpaRepository articleJpaRepository;
+    private StringRedisTemplate redisTemplate;
+    private IdExistenceFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        articleJpaRepository = mock(ArticleJpaRepository.class);
+        CommentJpaRepository commentJpaRepository = mock(CommentJpaRepository.class);
+        when(articleJpaRepository.findAllIds()).thenReturn(List.of(1L));
+        when(commentJpaRepository.findAllIds()).thenReturn(List.of(10L));
+        redisTemplate = mock(StringRedisTemplate.class);
+
+        filter = new IdExistenceFilter(articleJpaRepository, commentJpaRepository,
+            new ConcurrentMapCacheManager(), redisTemplate, mock(RedisMessageListenerContainer.class));
+        filter.rebuild();
+    }
+
+    @Test
+    @DisplayName("新建的ID写入本地并广播给其他节点")
+    void shouldBroadcastCreatedIds() {
+        filter.recordArticleCreated("2");
+        filter.recordCommentCreated(11L);
+
+        assertTrue(filter.mightExistArticle("2"));
+        assertTrue(filter.mightExistComment(11L));
+        verify(redisTemplate).convertAndSend(CHANNEL, "article:2");
+        verify(redisTemplate).convertAndSend(CHANNEL, "comment:11");
+    }
+
+    @Test
+    @DisplayName("收到其他节点的新建通知后不再拦截该ID")
+    void shouldAcceptIdsCreatedOnOtherNodes() {
+        assertFalse(filter.mightExistArticle("3"));
+        assertFalse(filter.mightExistComment(12L));
+
+        filter.onCreated("article:3");
+        filter.onCreated("comment:12");
+
+        assertTrue(filter.mightExistArticle("3"));
+        assertTrue(filter.mightExistComment(12L));
+    }
+
+    @Test
+    @DisplayName("事务中新建的ID在提交后才写入和广播")
+    void shouldRecordCreatedIdsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            filter.recordArticleCreated("6");
+
+            assertFalse(filter.mightExistArticle("6"));
+            verifyNoInteractions(redisTemplate);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(filter.mightExistArticle("6"));
+        verify(redisTemplate).convertAndSend(CHANNEL, "article:6");
+    }
+
+    @Test
+    @DisplayName("重建期间追加的ID合并进新的过滤器")
+    void shouldKeepIdsAddedWhileRebuilding() {
+        // 读取快照前追加，快照中不含该ID
+        when(articleJpaRepository.count()).thenAnswer(invocation -> {
+            filter.onCreated("article:5");
+            return 1L;
+        });
+
+        filter.rebuild();
+
+        assertTrue(filter.mightExistArticle("5"));
+        assertFalse(filter.mightExistArticle("7"));
+    }
+
+    @Test
+    @DisplayName("广播失败时本节点仍可见新建的ID")
+    void shouldKeepLocalIdWhenBroadcastFails() {
+        doThrow(new QueryTimeoutException("Redis 超时")).when(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+
+        filter.recordArticleCreated("4");
+
+        assertTrue(filter.mightExistArticle("4"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResilientCache 真实 Redis 测试
+ * 用 {@code CLIENT PAUSE} 让真实 Redis 停止响应，验证短命令超时、回源与回填失败的处理
+ *
+ * <p>需要 Redis 6.2 及以上，通过环境变量 {@code REDIS_TEST_HOST}（可选 {@code REDIS_TEST_PORT}）指定，
+ * 未指定时跳过
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("ResilientCache 真实 Redis 测试")
+@EnabledIfEnvironmentVariable(named = "REDIS_TEST_HOST", matches = ".+")
+class ResilientCacheRedisTest {
+
+    private static final Duration COMMAND_TIMEOUT = Duration.ofMillis(200);
+
+    private LettuceConnectionFactory adminConnectionFactory;
+    private StringRedisTemplate admin;
+    private CacheRedisConnection cacheConnection;
+    private RedisCircuitBreaker circuitBreaker;
+    private ResilientCache cache;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(
+            System.getenv("REDIS_TEST_HOST"),
+            Integer.parseInt(Optional.ofNullable(System.getenv("REDIS_TEST_PORT")).orElse("6379")));
+        adminConnectionFactory = new LettuceConnectionFactory(server,
+            LettuceClientConfiguration.builder().commandTimeout(Duration.ofSeconds(5)).build());
+        adminConnectionFactory.afterPropertiesSet();
+        adminConnectionFactory.start();
+        admin = new StringRedisTemplate(adminConnectionFactory);
+        admin.afterPropertiesSet();
+
+        cacheConnection = new CacheRedisConnection(adminConnectionFactory, COMMAND_TIMEOUT);
+        StringRedisTemplate cacheTemplate = cacheConnection.getRedisTemplate();
+        cacheTemplate.afterPropertiesSet();
+        GenerationalRedisCache redisCache = new GenerationalRedisCache(
+            "resilience-test:" + UUID.randomUUID(),
+            RedisCacheWriter.nonLockingRedisCacheWriter(cacheConnection.getConnectionFactory()),
+            RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(1)),
+            new CacheGenerations(admin, 5000, System::currentTimeMillis),
+            cacheTemplate);
+        circuitBreaker = new RedisCircuitBreaker(3, 30_000, System::currentTimeMillis);
+        cache = new ResilientCache(
+            new StampedeProtectedCache(redisCache, (key, value) -> Duration.ofMinutes(1), cacheTemplate),
+            circuitBreaker, 1, 0, 60_000, 100, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        admin.execute((RedisCallback<Object>) connection -> connection.execute("CLIENT", bytes("UNPAUSE")));
+        cacheConnection.destroy();
+        adminConnectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("Redis 停止响应时按缓存命令超时尽快回源，而不是等满全局超时")
+    void shouldFallBackWithinCommandTimeoutWhenRedisHangs() {
+        pause(2000, "ALL");
+        AtomicInteger loads = new AtomicInteger();
+
+        long start = System.nanoTime();
+        String value = cache.get("k", () -> "article-" + loads.incrementAndGet());
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertEquals("article-1", value);
+        assertEquals(1, loads.get());
+        assertTrue(elapsedMillis < 1500, "回源耗时应受缓存命令超时约束，实际: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("读取成功但回填写入超时时返回已加载的值，不重复回源")
+    void shouldReturnLoadedValueWhenFillTimesOut() {
+        pause(2000, "WRITE");
+        AtomicInteger loads = new AtomicInteger();
+
+        String value = cache.get("k", () -> "article-" + loads.incrementAndGet());
+
+        assertEquals("article-1", value);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Redis 恢复响应后重新写入并命中缓存")
+    void shouldUseRedisAgainAfterPauseEnds() throws InterruptedException {
+        pause(300, "ALL");
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("k", () -> "article-" + loads.incrementAndGet());
+
+        Thread.sleep(500);
+        circuitBreaker.recordSuccess();
+        cache.get("k2", () -> "article-" + loads.incrementAndGet());
+
+        assertEquals("article-2", cache.get("k2", () -> "article-" + loads.incrementAndGet()));
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * 暂停 Redis 处理客户端命令，到期自动恢复
+     */
+    private void pause(long millis, String mode) {
+        admin.execute((RedisCallback<Object>) connection ->
+            connection.execute("CLIENT", bytes("PAUSE"), bytes(String.valueOf(millis)), bytes(mode)));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,220 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResilientCache 单元测试
+ * 使用可暂停的内存缓存模拟 Redis 故障与恢复
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("ResilientCache 单元测试")
+class ResilientCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private PausableRedisCache redis;
+    private RedisCircuitBreaker circuitBreaker;
+    private SimpleMeterRegistry meterRegistry;
+    private ResilientCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redis = new PausableRedisCache("article:detail");
+        circuitBreaker = new RedisCircuitBreaker(3, 30_000, now::get);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ResilientCache(redis, circuitBreaker, 1, 0, 60_000, 100, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("Redis 不可用时回源数据库，连续失败后熔断不再访问 Redis")
+    void shouldFallBackToLoaderAndOpenCircuit() {
+        redis.pause();
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> loader = () -> "article-" + loads.incrementAndGet();
+
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(cache.get("k" + i, loader));
+        }
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        int callsWhenOpened = redis.calls.get();
+        cache.get("k9", loader);
+        assertEquals(callsWhenOpened, redis.calls.get());
+        assertEquals(4, loads.get());
+        assertTrue(meterRegistry.get("cache.resilience.fallback").tag("operation", "load").counter().count() >= 4);
+    }
+
+    @Test
+    @DisplayName("熔断期间同一 Key 由本地兜底缓存命中，只回源一次")
+    void shouldServeRepeatedReadsFromLocalFallback() {
+        redis.pause();
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> loader = () -> "article-" + loads.incrementAndGet();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("article-1", cache.get("hot", loader));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Redis 恢复后探测成功关闭熔断，并补偿故障期间未执行的清除")
+    void shouldReconcileEvictionsAfterRecovery() {
+        cache.put("stale", "old");
+        redis.pause();
+        for (int i = 0; i < 3; i++) {
+            cache.get("miss" + i);
+        }
+        cache.evict("stale");
+        assertTrue(cache.isPendingClear());
+
+        redis.resume();
+        now.addAndGet(30_000);
+
+        assertNull(cache.get("stale"));
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertFalse(cache.isPendingClear());
+    }
+
+    @Test
+    @DisplayName("连接瞬断时重试一次即可成功，不触发降级")
+    void shouldRetryTransientConnectionFailure() {
+        redis.put("k", "v");
+        redis.failNext(1);
+
+        assertEquals("v", cache.get("k").get());
+        assertEquals(1.0, meterRegistry.get("cache.resilience.retry").counter().count());
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("加载函数异常应原样抛出，不计入 Redis 失败")
+    void shouldPropagateLoaderFailure() {
+        Callable<String> failing = () -> {
+            throw new IllegalStateException("数据库异常");
+        };
+
+        assertThrows(RuntimeException.class, () -> cache.get("k", failing));
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("Redis 不可用时按版本写入不落本地，恢复后整体清空")
+    void shouldTreatVersionedPutAsEvictionWhenRedisDown() {
+        cache.put("k", "old");
+        redis.pause();
+
+        assertFalse(cache.putIfNewer("k", "new", 2));
+        assertTrue(cache.isPendingClear());
+
+        redis.resume();
+        assertNull(cache.get("k"));
+        assertFalse(cache.isPendingClear());
+    }
+
+    @Test
+    @DisplayName("加载后回填 Redis 失败时返回已加载的值，不重复回源")
+    void shouldReturnLoadedValueWhenFillFails() {
+        redis.failWrites();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("article-1", cache.get("k", () -> "article-" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+    }
+
+    /**
+     * 可暂停的 Redis 替身：暂停期间所有操作抛出连接失败
+     */
+    private static class PausableRedisCache extends ConcurrentMapCache {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private volatile boolean paused;
+        private volatile boolean writesFailing;
+
+        PausableRedisCache(String name) {
+            super(name, false);
+        }
+
+        void pause() {
+            paused = true;
+        }
+
+        void resume() {
+            paused = false;
+        }
+
+        void failNext(int times) {
+            failuresLeft.set(times);
+        }
+
+        void failWrites() {
+            writesFailing = true;
+        }
+
+        private void check() {
+            calls.incrementAndGet();
+            if (paused || failuresLeft.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new RedisConnectionFailureException("Redis 不可用");
+            }
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            check();
+            return super.lookup(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            check();
+            if (writesFailing) {
+                try {
+                    valueLoader.call();
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(key, valueLoader, e);
+                }
+                throw new QueryTimeoutException("Redis 写入超时");
+            }
+            return super.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            check();
+            super.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            check();
+            super.evict(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            check();
+            return super.evictIfPresent(key);
+        }
+
+        @Override
+        public boolean invalidate() {
+            check();
+            return super.invalidate();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import com.cleveronion.blog.infrastructure.article.persistence.po.TagPO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * SecondLevelCacheInvalidator 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("二级缓存跨节点失效测试")
+class SecondLevelCacheInvalidatorTest {
+
+    private static final String TAG_ENTITY = TagPO.class.getName();
+
+    private CacheImplementor cache;
+    private StringRedisTemplate redisTemplate;
+    private SecondLevelCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        cache = mock(CacheImplementor.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        invalidator = new SecondLevelCacheInvalidator(
+            entityManagerFactory, redisTemplate, mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    @DisplayName("收到其他节点的通知后清除实体条目和查询结果")
+    void shouldEvictEntityAndQueryRegionOnRemoteNotification() {
+        invalidator.onInvalidation("other-node|" + TAG_ENTITY + "|42");
+
+        verify(cache).evictEntityData(TAG_ENTITY, 42L);
+        verify(cache).evictDefaultQueryRegion();
+    }
+
+    @Test
+    @DisplayName("整区清除通知应清除整个实体区域")
+    void shouldEvictWholeRegion() {
+        invalidator.onInvalidation("other-node|" + TAG_ENTITY + "|*");
+
+        verify(cache).evictEntityData(TAG_ENTITY);
+        verify(cache).evictDefaultQueryRegion();
+    }
+
+    @Test
+    @DisplayName("批量删除后本地清除并广播，且忽略自己发出的通知")
+    void shouldBroadcastRegionEvictionAndIgnoreOwnMessage() {
+        invalidator.evictEntityRegionAfterCommit(TagPO.class);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("cleveronion:l2cache:invalidate"), payload.capture());
+        verify(cache).evictEntityData(TagPO.class);
+
+        invalidator.onInvalidation(payload.getValue());
+        verify(cache, never()).evictEntityData(anyString());
+        verify(cache, times(1)).evictDefaultQueryRegion();
+    }
+}
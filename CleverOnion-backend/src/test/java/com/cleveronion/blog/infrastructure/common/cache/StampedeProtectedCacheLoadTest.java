@@ -0,0 +1,177 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * StampedeProtectedCache 压力测试
+ * 一批热点 Key 同时临近过期、未命中或过期淘汰时施加不同规模的并发读，验证回源次数只取决于 Key 数量，不随请求量增长
+ *
+ * <p>回源在所有读请求结束前保持阻塞，读请求全部完成即说明没有请求等待数据库
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("StampedeProtectedCache 压力测试")
+class StampedeProtectedCacheLoadTest {
+
+    private static final int HOT_KEYS = 8;
+    private static final int READS_PER_REQUEST = 20;
+
+    private ConcurrentMapCache delegate;
+    private ExecutorService refreshExecutor;
+    private StampedeProtectedCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        delegate = new ConcurrentMapCache("article:detail", false);
+        refreshExecutor = Executors.newFixedThreadPool(2);
+        cache = new StampedeProtectedCache(
+            delegate, (key, value) -> Duration.ofMinutes(30), null, redisTemplate, refreshExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @ParameterizedTest(name = "{0} 个并发请求")
+    @ValueSource(ints = {50, 500})
+    @DisplayName("热点Key集中过期时回源次数与并发量无关")
+    void shouldKeepDbQueriesFlatWhenHotKeysExpire(int concurrentRequests) throws Exception {
+        // Given
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < HOT_KEYS; i++) {
+            delegate.put("hot-" + i, new CacheEnvelope("old-" + i, 50, now));
+        }
+        Map<Object, AtomicInteger> dbQueriesByKey = new ConcurrentHashMap<>();
+        CountDownLatch readersDone = new CountDownLatch(1);
+
+        // When
+        ExecutorService readers = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int r = 0; r < concurrentRequests; r++) {
+            int offset = r;
+            futures.add(readers.submit(() -> {
+                start.await();
+                int staleReads = 0;
+                for (int i = 0; i < READS_PER_REQUEST; i++) {
+                    String key = "hot-" + (offset + i) % HOT_KEYS;
+                    Object value = cache.get(key, () -> {
+                        dbQueries(dbQueriesByKey, key).incrementAndGet();
+                        readersDone.await(10, TimeUnit.SECONDS);
+                        return "new-" + key;
+                    });
+                    if (value.toString().startsWith("old-")) {
+                        staleReads++;
+                    }
+                }
+                return staleReads;
+            }));
+        }
+        start.countDown();
+        int staleReads = 0;
+        for (Future<Integer> future : futures) {
+            staleReads += future.get(10, TimeUnit.SECONDS);
+        }
+        readersDone.countDown();
+        readers.shutdown();
+        refreshExecutor.shutdown();
+        assertTrue(refreshExecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(concurrentRequests * READS_PER_REQUEST, staleReads);
+        assertEquals(HOT_KEYS, dbQueriesByKey.size());
+        dbQueriesByKey.forEach((key, count) -> assertEquals(1, count.get(), "回源次数: " + key));
+        for (int i = 0; i < HOT_KEYS; i++) {
+            assertEquals("new-hot-" + i, cache.get("hot-" + i).get());
+        }
+    }
+
+    @ParameterizedTest(name = "{0} 个并发请求")
+    @ValueSource(ints = {50, 500})
+    @DisplayName("热点Key未命中或过期淘汰时每个Key只回源一次")
+    void shouldLoadOnceWhenHotKeysMissOrExpire(int concurrentRequests) throws Exception {
+        // Given：一半 Key 从未缓存，另一半已写入后因过期被淘汰
+        for (int i = 0; i < HOT_KEYS; i += 2) {
+            delegate.put("hot-" + i, new CacheEnvelope("old-" + i, 50, System.currentTimeMillis()));
+            delegate.evict("hot-" + i);
+        }
+        Map<Object, AtomicInteger> dbQueriesByKey = new ConcurrentHashMap<>();
+        CountDownLatch releaseLoads = new CountDownLatch(1);
+
+        // When：回源阻塞到所有请求都已发出，未命中的请求只能等待同一次加载
+        ExecutorService readers = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Object>>> futures = new ArrayList<>();
+        for (int r = 0; r < concurrentRequests; r++) {
+            int offset = r;
+            futures.add(readers.submit(() -> {
+                start.await();
+                List<Object> values = new ArrayList<>();
+                for (int i = 0; i < HOT_KEYS; i++) {
+                    String key = "hot-" + (offset + i) % HOT_KEYS;
+                    values.add(key + "=" + cache.get(key, () -> {
+                        dbQueries(dbQueriesByKey, key).incrementAndGet();
+                        releaseLoads.await(10, TimeUnit.SECONDS);
+                        return "new-" + key;
+                    }));
+                }
+                return values;
+            }));
+        }
+        start.countDown();
+        TimeUnit.MILLISECONDS.sleep(200);
+        releaseLoads.countDown();
+        List<Object> values = new ArrayList<>();
+        for (Future<List<Object>> future : futures) {
+            values.addAll(future.get(10, TimeUnit.SECONDS));
+        }
+        readers.shutdown();
+
+        // Then
+        assertEquals(concurrentRequests * HOT_KEYS, values.size());
+        values.forEach(value -> {
+            String[] keyAndValue = value.toString().split("=");
+            assertEquals("new-" + keyAndValue[0], keyAndValue[1]);
+        });
+        assertEquals(HOT_KEYS, dbQueriesByKey.size());
+        dbQueriesByKey.forEach((key, count) -> assertEquals(1, count.get(), "回源次数: " + key));
+    }
+
+    private static AtomicInteger dbQueries(Map<Object, AtomicInteger> dbQueriesByKey, Object key) {
+        return dbQueriesByKey.computeIfAbsent(key, k -> new AtomicInteger());
+    }
+}
+
@@ -0,0 +1,256 @@
+package com.cleveronion.blog.infrastructure.common.cache;
+
+import com.cleveronion.blog.infrastructure.common.datasource.PrimaryReads;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * StampedeProtectedCache 单元测试
+ * 模拟热点 Key 过期瞬间的并发请求，验证回源次数保持为 1
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StampedeProtectedCache 单元测试")
+class StampedeProtectedCacheTest {
+
+    private static final int CONCURRENT_REQUESTS = 200;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ConcurrentMapCache delegate;
+    private StampedeProtectedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ConcurrentMapCache("article:detail", false);
+        cache = new StampedeProtectedCache(delegate, (key, value) -> Duration.ofMinutes(30), redisTemplate);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("热点Key过期时并发请求只回源一次")
+    void shouldLoadOnceWhenHotKeyExpires() throws Exception {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        AtomicInteger dbQueries = new AtomicInteger();
+
+        // 先完成一次正常加载，再模拟过期
+        cache.get("hot", () -> "v" + dbQueries.incrementAndGet());
+        delegate.evict("hot");
+
+        // When
+        List<Object> results = runConcurrently(() -> cache.get("hot", () -> {
+            Thread.sleep(100);
+            return "v" + dbQueries.incrementAndGet();
+        }));
+
+        // Then
+        assertEquals(2, dbQueries.get());
+        results.forEach(result -> assertEquals("v2", result));
+    }
+
+    @Test
+    @DisplayName("其他节点持有租约时等待其结果而不回源")
+    void shouldWaitForPeerWhenLeaseHeldElsewhere() throws Exception {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        AtomicInteger dbQueries = new AtomicInteger();
+
+        ExecutorService peer = Executors.newSingleThreadExecutor();
+        peer.submit(() -> {
+            Thread.sleep(150);
+            delegate.put("hot", new CacheEnvelope("peer", 10, System.currentTimeMillis() + 60_000));
+            return null;
+        });
+
+        // When
+        Object result = cache.get("hot", () -> "local" + dbQueries.incrementAndGet());
+
+        // Then
+        assertEquals("peer", result);
+        assertEquals(0, dbQueries.get());
+        peer.shutdown();
+    }
+
+    @Test
+    @DisplayName("临近过期时提前刷新，其余请求继续使用旧值")
+    void shouldRefreshEarlyNearExpiry() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        delegate.put("hot", new CacheEnvelope("old", 1000, System.currentTimeMillis()));
+
+        // When
+        Object result = cache.get("hot", () -> "new");
+
+        // Then
+        assertEquals("old", result);
+        assertEquals("new", cache.get("hot").get());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("cleveronion:lease:article:detail::hot")), anyString());
+    }
+
+    @Test
+    @DisplayName("提前刷新在后台执行，触发请求不等待回源")
+    void shouldRefreshEarlyInBackground() throws Exception {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        ExecutorService refreshExecutor = Executors.newSingleThreadExecutor();
+        StampedeProtectedCache asyncCache = new StampedeProtectedCache(
+            delegate, (key, value) -> Duration.ofMinutes(30), null, redisTemplate, refreshExecutor);
+        delegate.put("hot", new CacheEnvelope("old", 1000, System.currentTimeMillis()));
+        CountDownLatch loaderRelease = new CountDownLatch(1);
+        CountDownLatch loaded = new CountDownLatch(1);
+
+        // When
+        Object result = asyncCache.get("hot", () -> {
+            loaderRelease.await(5, TimeUnit.SECONDS);
+            loaded.countDown();
+            return "new";
+        });
+
+        // Then
+        assertEquals("old", result);
+        assertEquals("old", asyncCache.get("hot").get());
+        loaderRelease.countDown();
+        assertTrue(loaded.await(5, TimeUnit.SECONDS));
+        refreshExecutor.shutdown();
+        assertTrue(refreshExecutor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals("new", asyncCache.get("hot").get());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("cleveronion:lease:article:detail::hot")), anyString());
+    }
+
+    @Test
+    @DisplayName("刷新执行器已满时放弃提前刷新，继续返回旧值")
+    void shouldSkipRefreshWhenExecutorRejects() {
+        // Given
+        StampedeProtectedCache asyncCache = new StampedeProtectedCache(
+            delegate, (key, value) -> Duration.ofMinutes(30), null, redisTemplate,
+            task -> {
+                throw new RejectedExecutionException("full");
+            });
+        delegate.put("hot", new CacheEnvelope("old", 1000, System.currentTimeMillis()));
+        AtomicInteger dbQueries = new AtomicInteger();
+
+        // When
+        Object first = asyncCache.get("hot", () -> "new" + dbQueries.incrementAndGet());
+        Object second = asyncCache.get("hot", () -> "new" + dbQueries.incrementAndGet());
+
+        // Then
+        assertEquals("old", first);
+        assertEquals("old", second);
+        assertEquals(0, dbQueries.get());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("加载结果为null时不写入缓存")
+    void shouldNotCacheNullValue() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // When
+        Object result = cache.get("missing", () -> null);
+
+        // Then
+        assertNull(result);
+        assertNull(delegate.get("missing"));
+    }
+
+    @Test
+    @DisplayName("原地刷新时跳过读取，回源后覆盖旧值且不影响其他Key")
+    void shouldOverwriteInPlaceWhenRefreshing() {
+        // Given
+        cache.put("hot", "old");
+        cache.put("other", "kept");
+
+        // When
+        Object refreshed = CacheRefreshScope.refresh("article:detail", "hot", () -> cache.get("hot", () -> "new"));
+        Object other = CacheRefreshScope.refresh("article:detail", "hot", () -> cache.get("other", () -> "reloaded"));
+
+        // Then
+        assertEquals("new", refreshed);
+        assertEquals("kept", other);
+        assertEquals("new", cache.get("hot").get());
+        assertNull(CacheRefreshScope.refresh("article:detail", "hot", () -> cache.get("hot")));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("回源查询在读主库的作用域内执行")
+    void shouldLoadWithinPrimaryReadScope() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // When
+        Object result = cache.get("fill", PrimaryReads::isActive);
+
+        // Then
+        assertEquals(true, result);
+        assertFalse(PrimaryReads.isActive());
+    }
+
+    @Test
+    @DisplayName("按版本回填的缓存回源时不强制读主库")
+    void shouldNotForcePrimaryForVersionedCache() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        StampedeProtectedCache versionedCache = new StampedeProtectedCache(
+            delegate, (key, value) -> Duration.ofMinutes(30), value -> 1L, redisTemplate, Runnable::run);
+
+        // When
+        Object result = versionedCache.get("fill", PrimaryReads::isActive);
+
+        // Then
+        assertEquals(false, result);
+    }
+
+    private List<Object> runConcurrently(java.util.concurrent.Callable<Object> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+
+        List<Object> results = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        return results;
+    }
+}
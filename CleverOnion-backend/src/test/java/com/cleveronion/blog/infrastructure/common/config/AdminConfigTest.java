@@ -0,0 +1,94 @@
+package com.cleveronion.blog.infrastructure.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdminConfig 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("AdminConfig 单元测试")
+class AdminConfigTest {
+
+    @Test
+    @DisplayName("按配置的GitHub ID列表判断管理员")
+    void shouldCheckAdminAgainstConfiguredIds() {
+        // Given
+        AdminConfig adminConfig = new AdminConfig();
+        adminConfig.setGithubIds(Arrays.asList(1001L, null, 1002L));
+
+        // Then
+        assertTrue(adminConfig.isAdmin(1001L));
+        assertTrue(adminConfig.isAdmin(1002L));
+        assertFalse(adminConfig.isAdmin(2002L));
+        assertFalse(adminConfig.isAdmin(null));
+    }
+
+    @Test
+    @DisplayName("重新设置GitHub ID列表后整体替换管理员集合")
+    void shouldReplaceIdSetWhenRebound() {
+        // Given
+        AdminConfig adminConfig = new AdminConfig();
+        adminConfig.setGithubIds(List.of(1001L));
+
+        // When
+        adminConfig.setGithubIds(List.of(2002L));
+
+        // Then
+        assertFalse(adminConfig.isAdmin(1001L));
+        assertTrue(adminConfig.isAdmin(2002L));
+        assertEquals(List.of(2002L), adminConfig.getGithubIds());
+    }
+
+    @Test
+    @DisplayName("配置变化后重新加载时替换管理员集合")
+    void shouldSwapIdSetWhenReloaded() {
+        // Given
+        MockEnvironment environment = new MockEnvironment().withProperty("admin.github-ids", "1001,1002");
+        AdminConfig adminConfig = new AdminConfig();
+        adminConfig.setEnvironment(environment);
+        adminConfig.setGithubIds(List.of(1001L, 1002L));
+
+        // When
+        environment.setProperty("admin.github-ids", "2002");
+        adminConfig.reload();
+
+        // Then
+        assertFalse(adminConfig.isAdmin(1001L));
+        assertTrue(adminConfig.isAdmin(2002L));
+        assertEquals(List.of(2002L), adminConfig.getGithubIds());
+    }
+
+    @Test
+    @DisplayName("配置移除后重新加载时不再有管理员")
+    void shouldClearIdSetWhenPropertyRemoved() {
+        // Given
+        AdminConfig adminConfig = new AdminConfig();
+        adminConfig.setEnvironment(new MockEnvironment());
+        adminConfig.setGithubIds(List.of(1001L));
+
+        // When
+        adminConfig.reload();
+
+        // Then
+        assertFalse(adminConfig.isAdmin(1001L));
+    }
+
+    @Test
+    @DisplayName("未配置GitHub ID时没有管理员")
+    void shouldHaveNoAdminWhenUnconfigured() {
+        AdminConfig adminConfig = new AdminConfig();
+        assertFalse(adminConfig.isAdmin(1001L));
+
+        adminConfig.setGithubIds(null);
+        assertFalse(adminConfig.isAdmin(1001L));
+    }
+}
@@ -0,0 +1,124 @@
+package com.cleveronion.blog.infrastructure.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReadWriteRoutingDataSource 单元测试
+ * 
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("读写分离路由数据源测试")
+class ReadWriteRoutingDataSourceTest {
+    
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final Connection replica2Connection = mock(Connection.class);
+    
+    private DataSource replica1;
+    private ReplicaSelector replicaSelector;
+    private ReadYourWritesTracker tracker;
+    private ReadWriteRoutingDataSource routingDataSource;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        DataSource replica2 = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+        
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        replicaSelector = new ReplicaSelector(replicas, 10000);
+        tracker = new ReadYourWritesTracker(60000);
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replicaSelector, tracker);
+        
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        ReadYourWritesTracker.clearClient();
+    }
+    
+    @Test
+    @DisplayName("只读事务应该在从库之间轮询")
+    void should_round_robin_read_only_transactions() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        
+        assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replica2Connection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+    }
+    
+    @Test
+    @DisplayName("读写事务应该使用主库")
+    void should_use_primary_for_write_transactions() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+    
+    @Test
+    @DisplayName("从库连接失败时应该摘除从库并回退主库")
+    void should_fall_back_to_primary_when_replica_fails() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+        
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(replicaSelector.isHealthy("replica-1")).isFalse();
+        assertThat(routingDataSource.getConnection()).isSameAs(replica2Connection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replica2Connection);
+    }
+    
+    @Test
+    @DisplayName("写入提交后窗口期内同一客户端的读取应该走主库")
+    void should_read_own_writes_from_primary() throws SQLException {
+        ReadYourWritesTracker.bindClient("token-1");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routingDataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        
+        ReadYourWritesTracker.bindClient("token-2");
+        assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+    }
+    
+    @Test
+    @DisplayName("回填缓存的查询应该走主库")
+    void should_read_cache_fills_from_primary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        
+        assertThat(PrimaryReads.get(() -> connection())).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+    }
+    
+    private Connection connection() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
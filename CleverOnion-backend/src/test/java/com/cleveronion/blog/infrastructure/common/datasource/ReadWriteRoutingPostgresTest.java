@@ -0,0 +1,115 @@
+package com.cleveronion.blog.infrastructure.common.datasource;
+
+import com.cleveronion.blog.infrastructure.common.cache.StampedeProtectedCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 读写分离真实主从库测试
+ * 暂停从库回放模拟复制延迟，验证回填缓存的查询读主库，普通只读查询仍走从库
+ *
+ * <p>需要一对 PostgreSQL 流复制主从库，通过环境变量 {@code PG_PRIMARY_URL}、{@code PG_REPLICA_URL}、
+ * {@code PG_USERNAME}、{@code PG_PASSWORD} 指定，用户需有权调用 {@code pg_wal_replay_pause()}；
+ * 未指定时跳过
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("读写分离真实主从库测试")
+@EnabledIfEnvironmentVariable(named = "PG_REPLICA_URL", matches = ".+")
+class ReadWriteRoutingPostgresTest {
+
+    private static final String TABLE = "replica_lag_test";
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private JdbcTemplate routingJdbc;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        DataSource primary = dataSource(System.getenv("PG_PRIMARY_URL"));
+        DataSource replica = dataSource(System.getenv("PG_REPLICA_URL"));
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+
+        ReplicaSelector replicaSelector = new ReplicaSelector(Map.of("replica-1", replica), 60000);
+        DataSource routing = new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(primary, replicaSelector, new ReadYourWritesTracker(0)));
+        routingJdbc = new JdbcTemplate(routing);
+        readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        readOnlyTransaction.setReadOnly(true);
+
+        primaryJdbc.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (id BIGINT PRIMARY KEY)");
+        primaryJdbc.update("DELETE FROM " + TABLE);
+        waitForReplicaCount(0);
+        replicaJdbc.execute("SELECT pg_wal_replay_pause()");
+        primaryJdbc.update("INSERT INTO " + TABLE + " (id) VALUES (1)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaJdbc.execute("SELECT pg_wal_replay_resume()");
+        primaryJdbc.execute("DROP TABLE IF EXISTS " + TABLE);
+    }
+
+    @Test
+    @DisplayName("从库延迟时普通只读查询读到旧数据，回填缓存的查询读主库")
+    void should_read_cache_fills_from_primary_while_replica_lags() {
+        assertThat(countInReadOnlyTransaction()).isZero();
+        assertThat(PrimaryReads.get(this::countInReadOnlyTransaction)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("缓存回源不会把从库延迟期间的旧数据写入缓存")
+    void should_not_cache_stale_replica_data() {
+        ConcurrentMapCache delegate = new ConcurrentMapCache("article:count", false);
+        StampedeProtectedCache cache = new StampedeProtectedCache(
+            delegate, (key, value) -> Duration.ofMinutes(5), mock(StringRedisTemplate.class));
+
+        assertThat(cache.get("published", this::countInReadOnlyTransaction)).isEqualTo(1L);
+        assertThat(cache.get("published").get()).isEqualTo(1L);
+    }
+
+    private Long countInReadOnlyTransaction() {
+        return readOnlyTransaction.execute(status ->
+            routingJdbc.queryForObject("SELECT COUNT(*) FROM " + TABLE, Long.class));
+    }
+
+    private void waitForReplicaCount(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Long count = replicaJdbc.queryForObject("SELECT COUNT(*) FROM " + TABLE, Long.class);
+                if (count != null && count == expected) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                // 建表尚未复制到从库
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("从库未在 10 秒内追上主库");
+    }
+
+    private static DataSource dataSource(String url) {
+        return new DriverManagerDataSource(url, System.getenv("PG_USERNAME"), System.getenv("PG_PASSWORD"));
+    }
+}
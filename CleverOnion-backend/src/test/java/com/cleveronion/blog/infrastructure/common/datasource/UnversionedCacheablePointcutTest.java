@@ -0,0 +1,64 @@
+package com.cleveronion.blog.infrastructure.common.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.annotation.Cacheable;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UnversionedCacheablePointcut 单元测试
+ *
+ * @author CleverOnion
+ * @since 2.0.0
+ */
+@DisplayName("UnversionedCacheablePointcut 单元测试")
+class UnversionedCacheablePointcutTest {
+
+    private final UnversionedCacheablePointcut pointcut =
+        new UnversionedCacheablePointcut(Set.of("article:detail", "article:summary"));
+
+    @Test
+    @DisplayName("回填没有版本保护的缓存时匹配")
+    void should_match_unversioned_cache_fills() throws NoSuchMethodException {
+        assertThat(matches("tagDetail")).isTrue();
+        assertThat(matches("articleDetailAndCount")).isTrue();
+    }
+
+    @Test
+    @DisplayName("只回填按版本回填的缓存或没有缓存注解时不匹配")
+    void should_skip_versioned_caches_and_plain_methods() throws NoSuchMethodException {
+        assertThat(matches("articleDetail")).isFalse();
+        assertThat(matches("plainQuery")).isFalse();
+    }
+
+    private boolean matches(String methodName) throws NoSuchMethodException {
+        Method method = QueryService.class.getDeclaredMethod(methodName);
+        return pointcut.getMethodMatcher().matches(method, QueryService.class);
+    }
+
+    static class QueryService {
+
+        @Cacheable(cacheNames = "tag:detail")
+        Object tagDetail() {
+            return null;
+        }
+
+        @Cacheable(cacheNames = "article:detail", sync = true)
+        Object articleDetail() {
+            return null;
+        }
+
+        @Cacheable(cacheNames = {"article:detail", "article:count"})
+        Object articleDetailAndCount() {
+            return null;
+        }
+
+        Object plainQuery() {
+            return null;
+        }
+    }
+}
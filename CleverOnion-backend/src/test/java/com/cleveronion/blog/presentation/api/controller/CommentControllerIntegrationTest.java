@@ -1,20 +1,27 @@
 package com.cleveronion.blog.presentation.api.controller;
 
+import com.cleveronion.blog.application.article.service.ArticleQueryService;
+import com.cleveronion.blog.application.comment.dto.CommentCursorPage;
 import com.cleveronion.blog.application.comment.dto.CommentWithRepliesDTO;
 import com.cleveronion.blog.application.comment.service.CommentCommandService;
 import com.cleveronion.blog.application.comment.service.CommentQueryService;
 import com.cleveronion.blog.application.user.service.UserQueryService;
+import com.cleveronion.blog.domain.article.aggregate.ArticleAggregate;
 import com.cleveronion.blog.domain.article.valueobject.ArticleId;
 import com.cleveronion.blog.domain.comment.aggregate.CommentAggregate;
+import com.cleveronion.blog.domain.comment.valueobject.CommentCursor;
 import com.cleveronion.blog.domain.comment.valueobject.CommentId;
 import com.cleveronion.blog.domain.user.aggregate.UserAggregate;
 import com.cleveronion.blog.domain.user.valueobject.UserId;
+import com.cleveronion.blog.infrastructure.comment.stream.CommentStreamHub;
+import com.cleveronion.blog.infrastructure.comment.stream.SubscriberLimitExceededException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -50,6 +57,12 @@ class CommentControllerIntegrationTest {
     @MockBean
     private CommentCommandService commentCommandService;
     
+    @MockBean
+    private ArticleQueryService articleQueryService;
+    
+    @MockBean
+    private CommentStreamHub commentStreamHub;
+    
     @Test
     @DisplayName("应该成功查询顶级评论及最新回复")
     void shouldGetTopLevelCommentsWithReplies() throws Exception {
@@ -203,6 +216,75 @@ class CommentControllerIntegrationTest {
             .andExpect(status().isOk());
     }
     
+    @Test
+    @DisplayName("应该按游标续读顶级评论并返回续页游标")
+    void shouldPageTopLevelCommentsByCursor() throws Exception {
+        // Given
+        CommentCursor cursor = new CommentCursor(LocalDateTime.of(2025, 1, 1, 12, 0), new CommentId(10L));
+        CommentAggregate topComment = createMockComment(11L, "这是顶级评论", 1L, null, true);
+        CommentCursor next = CommentCursor.after(topComment);
+        
+        when(commentQueryService.findTopLevelCommentsWithLatestRepliesAfter(any(), eq(cursor), eq(1), eq(3)))
+            .thenReturn(new CommentCursorPage<>(
+                List.of(new CommentWithRepliesDTO(topComment, 0L, new ArrayList<>())), next));
+        when(commentQueryService.countTopLevelByArticleId(any())).thenReturn(20L);
+        UserAggregate user = createMockUser(1L, "TestUser");
+        when(userQueryService.findById(any())).thenReturn(Optional.of(user));
+        
+        // When & Then
+        mockMvc.perform(get("/comments/top-level-with-replies")
+                .param("articleId", "1")
+                .param("size", "1")
+                .param("cursor", cursor.encode()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.comments[0].id").value("11"))
+            .andExpect(jsonPath("$.data.has_next").value(true))
+            .andExpect(jsonPath("$.data.next_cursor").value(next.encode()));
+        verify(commentQueryService, never()).findTopLevelCommentsWithLatestReplies(any(), anyInt(), anyInt(), anyInt());
+    }
+    
+    @Test
+    @DisplayName("应该以异步 SSE 连接订阅文章评论变更")
+    void shouldSubscribeToCommentStream() throws Exception {
+        // Given
+        when(articleQueryService.findById(new ArticleId("1"))).thenReturn(Optional.of(mock(ArticleAggregate.class)));
+        when(commentStreamHub.subscribe(eq(new ArticleId("1")), anyString())).thenReturn(new SseEmitter());
+        
+        // When & Then
+        mockMvc.perform(get("/comments/stream").param("articleId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(request().asyncStarted());
+        verify(commentStreamHub).subscribe(eq(new ArticleId("1")), anyString());
+    }
+    
+    @Test
+    @DisplayName("文章不存在时拒绝订阅评论变更")
+    void shouldRejectStreamForMissingArticle() throws Exception {
+        // Given
+        when(articleQueryService.findById(new ArticleId("404"))).thenReturn(Optional.empty());
+        
+        // When & Then
+        mockMvc.perform(get("/comments/stream").param("articleId", "404"))
+            .andExpect(status().isNotFound());
+        verifyNoInteractions(commentStreamHub);
+    }
+    
+    @Test
+    @DisplayName("订阅者达到上限时按上限类型返回 429 或 503")
+    void shouldRejectStreamWhenSubscriberLimitReached() throws Exception {
+        // Given
+        when(articleQueryService.findById(new ArticleId("1"))).thenReturn(Optional.of(mock(ArticleAggregate.class)));
+        when(commentStreamHub.subscribe(eq(new ArticleId("1")), anyString()))
+            .thenThrow(new SubscriberLimitExceededException(SubscriberLimitExceededException.Scope.CLIENT, 8))
+            .thenThrow(new SubscriberLimitExceededException(SubscriberLimitExceededException.Scope.NODE, 10000));
+        
+        // When & Then
+        mockMvc.perform(get("/comments/stream").param("articleId", "1"))
+            .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/comments/stream").param("articleId", "1"))
+            .andExpect(status().isServiceUnavailable());
+    }
+    
     // ========== 辅助方法 ==========
     
     /**